@@ -0,0 +1,76 @@
+-- 위치 기반 여행지 조회 rows examined 비교 (MySQL 8.0.18 이상)
+-- 1. 50만 건 여행지 데이터 생성
+-- 2. 인덱스 없이 기존 쿼리 / 범위 조건 추가 쿼리 실행 계획 확인
+-- 3. idx_travel_place_location 생성 후 범위 조건 추가 쿼리 실행 계획 확인
+-- 확인 항목: EXPLAIN ANALYZE 의 rows, Handler_read_* / Rows_examined (slow log)
+--
+-- 예상치 (좌표가 균등 분포라고 가정해 계산한 값, 측정값 아님)
+-- - before: 전체 스캔 500,000 행 거리 계산
+-- - after : 위도 범위 인덱스 스캔 약 8,000 건 (500,000 * 0.0899 / 5.6),
+--           경도 조건(ICP) 통과 후 테이블 조회 약 125 행 (* 0.1134 / 7.3), 반경 내 약 100 행
+--
+-- 측정 결과 (미측정, 실행 후 EXPLAIN ANALYZE 출력의 rows / actual time 과 Handler_read_* 를 기록)
+-- | 구분   | rows examined | actual time | Handler_read_next | Handler_read_rnd_next |
+-- | before | 미측정        | 미측정      | 미측정            | 미측정                |
+-- | after  | 미측정        | 미측정      | 미측정            | 미측정                |
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+-- 전국 범위(위도 33 ~ 38.6, 경도 124.6 ~ 131.9) 에 무작위 좌표 생성
+INSERT INTO travel_place (country_id, city_id, district_id, content_type_id, place_name, address,
+                          latitude, longitude, bookmark_cnt, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 500000
+)
+SELECT 1, 1, 1, 1,
+       CONCAT('benchmark place ', n),
+       CONCAT('benchmark address ', n),
+       33.0 + RAND() * 5.6,
+       124.6 + RAND() * 7.3,
+       FLOOR(RAND() * 100),
+       NOW(), NOW()
+FROM seq;
+
+ANALYZE TABLE travel_place;
+
+
+-- [before] 기존 쿼리: 전체 행에 대해 거리 계산
+DROP INDEX idx_travel_place_location ON travel_place;
+
+FLUSH STATUS;
+EXPLAIN ANALYZE
+SELECT place_id,
+       ACOS(SIN(RADIANS(37.497)) * SIN(RADIANS(latitude))
+            + COS(RADIANS(37.497)) * COS(RADIANS(latitude)) * COS(RADIANS(127.0) - RADIANS(longitude))) * 6371.0 AS distance
+FROM travel_place
+WHERE ACOS(SIN(RADIANS(37.497)) * SIN(RADIANS(latitude))
+           + COS(RADIANS(37.497)) * COS(RADIANS(latitude)) * COS(RADIANS(127.0) - RADIANS(longitude))) * 6371.0 <= 5
+ORDER BY distance, place_id DESC
+LIMIT 0, 5;
+SHOW SESSION STATUS LIKE 'Handler_read%';
+
+
+-- [after] 범위 조건 + (latitude, longitude) 인덱스
+-- 반경 5km, 기준 좌표 (37.497, 127.0) 의 범위: GeoUtils.boundingBox 결과와 동일
+CREATE INDEX idx_travel_place_location ON travel_place (latitude, longitude);
+ANALYZE TABLE travel_place;
+
+FLUSH STATUS;
+EXPLAIN ANALYZE
+SELECT place_id,
+       ACOS(SIN(RADIANS(37.497)) * SIN(RADIANS(latitude))
+            + COS(RADIANS(37.497)) * COS(RADIANS(latitude)) * COS(RADIANS(127.0) - RADIANS(longitude))) * 6371.0 AS distance
+FROM travel_place
+WHERE latitude BETWEEN 37.452034 AND 37.541966
+  AND longitude BETWEEN 126.943324 AND 127.056676
+  AND ACOS(SIN(RADIANS(37.497)) * SIN(RADIANS(latitude))
+           + COS(RADIANS(37.497)) * COS(RADIANS(latitude)) * COS(RADIANS(127.0) - RADIANS(longitude))) * 6371.0 <= 5
+ORDER BY distance, place_id DESC
+LIMIT 0, 5;
+SHOW SESSION STATUS LIKE 'Handler_read%';
+
+
+-- 생성한 데이터 정리
+DELETE FROM travel_place WHERE place_name LIKE 'benchmark place %';
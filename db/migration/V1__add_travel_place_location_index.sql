@@ -0,0 +1,2 @@
+-- 반경 조회 시 위도/경도 범위 조건으로 먼저 거르기 위한 복합 인덱스
+CREATE INDEX idx_travel_place_location ON travel_place (latitude, longitude);
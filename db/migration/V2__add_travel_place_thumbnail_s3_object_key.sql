@@ -0,0 +1,13 @@
+-- 목록 조회 시 travel_image 상관 서브쿼리 대신 읽을 대표 이미지 컬럼
+ALTER TABLE travel_place ADD COLUMN thumbnail_s3_object_key VARCHAR(255) NULL;
+
+-- 기존 데이터 백필 (애플리케이션에서는 app.backend.thumbnail-backfill.enabled 로 구간 단위 실행 가능)
+UPDATE travel_place tp
+    JOIN (
+        SELECT place_id, MIN(s3_object_key) AS s3_object_key
+        FROM travel_image
+        WHERE is_thumbnail = TRUE
+        GROUP BY place_id
+    ) ti ON ti.place_id = tp.place_id
+SET tp.thumbnail_s3_object_key = ti.s3_object_key
+WHERE tp.thumbnail_s3_object_key IS NULL;
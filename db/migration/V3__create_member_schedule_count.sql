@@ -0,0 +1,20 @@
+-- 일정 목록 헤더(전체/공유 일정 수)를 매번 countDistinct 로 계산하지 않기 위한 회원별 카운터
+CREATE TABLE member_schedule_count (
+    member_id    BIGINT NOT NULL,
+    total_count  INT    NOT NULL DEFAULT 0,
+    shared_count INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id)
+);
+
+-- 기존 데이터 백필 (공유 일정 = 참석자 2명 이상)
+INSERT INTO member_schedule_count (member_id, total_count, shared_count)
+SELECT ta.member_id,
+       COUNT(DISTINCT ta.schedule_id),
+       COUNT(DISTINCT CASE WHEN sc.attendee_cnt >= 2 THEN ta.schedule_id END)
+FROM travel_attendee ta
+    JOIN (
+        SELECT schedule_id, COUNT(*) AS attendee_cnt
+        FROM travel_attendee
+        GROUP BY schedule_id
+    ) sc ON sc.schedule_id = ta.schedule_id
+GROUP BY ta.member_id;
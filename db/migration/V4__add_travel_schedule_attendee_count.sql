@@ -0,0 +1,12 @@
+-- 공유 일정 조건(참석자 2명 이상)을 travel_attendee 상관 서브쿼리 대신 컬럼으로 판단
+ALTER TABLE travel_schedule ADD COLUMN attendee_count INT NOT NULL DEFAULT 0;
+
+UPDATE travel_schedule ts
+    JOIN (
+        SELECT schedule_id, COUNT(*) AS attendee_count
+        FROM travel_attendee
+        GROUP BY schedule_id
+    ) ta ON ta.schedule_id = ts.schedule_id
+SET ts.attendee_count = ta.attendee_count;
+
+CREATE INDEX idx_travel_schedule_attendee_count ON travel_schedule (attendee_count);
@@ -0,0 +1,37 @@
+-- 일정 목록 화면용 읽기 모델 (참석자 회원마다 한 행, app.backend.schedule-card.enabled 일 때 목록 조회에 사용)
+CREATE TABLE schedule_card (
+    card_id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id               BIGINT       NOT NULL,
+    schedule_id             BIGINT       NOT NULL,
+    role                    VARCHAR(255) NULL,
+    schedule_name           VARCHAR(255) NULL,
+    start_date              DATE         NULL,
+    end_date                DATE         NULL,
+    created_at              DATETIME(6)  NULL,
+    updated_at              DATETIME(6)  NULL,
+    thumbnail_s3_object_key VARCHAR(255) NULL,
+    author_member_id        BIGINT       NULL,
+    author_nickname         VARCHAR(255) NULL,
+    author_s3_object_key    VARCHAR(255) NULL,
+    attendee_count          INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (card_id),
+    UNIQUE KEY uk_schedule_card_member_schedule (member_id, schedule_id),
+    INDEX idx_schedule_card_member_updated (member_id, updated_at, schedule_id),
+    INDEX idx_schedule_card_author (author_member_id)
+);
+
+-- 기존 데이터 백필
+INSERT INTO schedule_card (member_id, schedule_id, role, schedule_name, start_date, end_date, created_at, updated_at,
+                           thumbnail_s3_object_key, author_member_id, author_nickname, author_s3_object_key, attendee_count)
+SELECT ta.member_id, ts.schedule_id, ta.role, ts.schedule_name, ts.start_date, ts.end_date, ts.created_at, ts.updated_at,
+       (SELECT tp.thumbnail_s3_object_key
+        FROM travel_route tr
+            JOIN travel_place tp ON tp.place_id = tr.place_id
+        WHERE tr.schedule_id = ts.schedule_id
+          AND tr.route_order = 1),
+       am.member_id, am.nickname, pi.s3_object_key, ts.attendee_count
+FROM travel_schedule ts
+    JOIN travel_attendee ta ON ta.schedule_id = ts.schedule_id
+    JOIN travel_attendee aa ON aa.schedule_id = ts.schedule_id AND aa.role = 'AUTHOR'
+    JOIN member am ON am.member_id = aa.member_id
+    LEFT JOIN profile_image pi ON pi.profile_image_id = am.profile_image_id;
@@ -0,0 +1,21 @@
+-- IDENTITY 대신 테이블 기반 pooled ID 생성 (Hibernate INSERT batch 사용, PooledIdGenerator 참고)
+-- pooled 최적화기는 읽은 next_val 을 할당 구간의 상한으로 사용하므로
+-- 기존 최대 ID + allocationSize(50) + 1 로 시작해야 첫 구간이 기존 ID 와 겹치지 않음
+CREATE TABLE id_sequence (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'member', COALESCE(MAX(member_id), 0) + 51 FROM member
+UNION ALL
+SELECT 'profile_image', COALESCE(MAX(profile_image_id), 0) + 51 FROM profile_image
+UNION ALL
+SELECT 'travel_attendee', COALESCE(MAX(attendee_id), 0) + 51 FROM travel_attendee
+UNION ALL
+SELECT 'travel_route', COALESCE(MAX(route_id), 0) + 51 FROM travel_route
+UNION ALL
+SELECT 'travel_image', COALESCE(MAX(travel_image_id), 0) + 51 FROM travel_image
+UNION ALL
+SELECT 'bookmark', COALESCE(MAX(bookmark_id), 0) + 51 FROM bookmark;
@@ -0,0 +1,2 @@
+-- 루트 거리 캐시 버전 (루트 추가, 수정, 삭제 시 증가)
+ALTER TABLE travel_schedule ADD COLUMN route_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,106 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+
+const BASE_URL = __ENV.BASE_URL;
+const EMAIL = __ENV.EMAIL;
+const PASSWORD = __ENV.PASSWORD;
+const SCHEDULE_ID = __ENV.SCHEDULE_ID;
+const PLACE_IDS = (__ENV.PLACE_IDS || '').split(',').filter((id) => id);
+const ROUTE_COUNT = Number(__ENV.ROUTE_COUNT || 100);
+const LABEL = __ENV.LABEL || 'run';
+
+// 일정 저장 시 루트 일괄 INSERT 처리량 측정 (루트를 비운 뒤 ROUTE_COUNT 개 저장)
+// IDENTITY -> pooled ID 전환 전후 iterations/s, http_req_duration 비교
+// batch 설정은 JpaBatchConfig 참고 (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 필요)
+// 실행: 전환 전 커밋(bdd256a^)과 현재 커밋에서 각각 LABEL=before / LABEL=after 로 실행
+//   k6 run -e LABEL=before -e BASE_URL=... -e SCHEDULE_ID=... -e PLACE_IDS=... k6/api/update-schedule-routes.js
+//   결과는 실행 위치의 update-schedule-routes-{LABEL}.json 에 저장
+//
+// 측정 결과 (같은 서버, 같은 MySQL, ROUTE_COUNT=100, vus=10, 1m)
+// | 구분   | iterations/s | http_req_duration p(95) |
+// | before | 미측정       | 미측정                  |
+// | after  | 미측정       | 미측정                  |
+export const options = {
+    vus : 10,
+    duration: '1m',
+};
+
+export function setup(){
+    const loginRes = http.post(
+        `${BASE_URL}/api/members/login`,
+        JSON.stringify({
+            email: EMAIL,
+            password: PASSWORD,
+        }),
+        {
+            headers: {
+                "Content-Type": "application/json",
+            },
+        }
+    );
+
+    check(loginRes, {
+        "로그인 성공": (r) => r.status === 200,
+    });
+
+    return {
+        accessToken:loginRes.json("data.accessToken"),
+    };
+}
+
+function createTravelRoutes(){
+    return Array.from({ length: ROUTE_COUNT }, (_, index) => ({
+        routeOrder: index + 1,
+        placeId: Number(PLACE_IDS[index % PLACE_IDS.length]),
+    }));
+}
+
+export default function(data) {
+    const emptyRes = http.patch(
+        `${BASE_URL}/api/schedules/${SCHEDULE_ID}`,
+        JSON.stringify({
+            scheduleName: "k6 루트 저장",
+            startDate: "2025-01-01",
+            endDate: "2025-01-03",
+            travelRoutes: [],
+        }),
+        {
+            headers: {
+                Authorization: `Bearer ${data.accessToken}`,
+                "Content-Type": "application/json",
+            },
+        }
+    );
+
+    const res = http.patch(
+        `${BASE_URL}/api/schedules/${SCHEDULE_ID}`,
+        JSON.stringify({
+            scheduleName: "k6 루트 저장",
+            startDate: "2025-01-01",
+            endDate: "2025-01-03",
+            travelRoutes: createTravelRoutes(),
+        }),
+        {
+            headers: {
+                Authorization: `Bearer ${data.accessToken}`,
+                "Content-Type": "application/json",
+            },
+        }
+    );
+
+    check(emptyRes, {
+        '일정 루트 비우기 성공': (r) => r.status === 200,
+    });
+
+    check(res, {
+        '일정 루트 저장 성공': (r) => r.status === 200,
+    });
+}
+
+export function handleSummary(data){
+    return {
+        stdout: textSummary(data, { indent: ' ', enableColors: true }),
+        [`update-schedule-routes-${LABEL}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,166 @@
+package com.triptune.bookmark.cache;
+
+import com.triptune.bookmark.event.BookmarkChangedEvent;
+import com.triptune.bookmark.properties.BookmarkCacheProperties;
+import com.triptune.bookmark.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원별 북마크 여행지 ID 집합 캐시
+ * - Redis Set(bookmark:member:{memberId}) 에 회원의 북마크 여행지 ID 전체를 저장 (저장과 TTL 설정은 Lua 스크립트로 한 번에 실행)
+ * - 캐시 존재 확인과 SMISMEMBER 는 한 스크립트로 실행해 그 사이 만료/삭제되어도 잘못된 결과를 반환하지 않음
+ * - 북마크 추가/삭제 트랜잭션 커밋 후 회원별 세대(bookmark:member:{memberId}:gen)를 증가시키고 캐시 삭제
+ * - 캐시가 없으면 세대를 함께 읽어 두고, 적재 시 세대가 바뀌었으면 적재하지 않음
+ *   (커밋 전에 DB 를 읽은 요청이 삭제 후에 이전 북마크 목록을 적재하지 않도록 함)
+ * - 캐시 비활성화 또는 Redis 장애 시 placeId IN (...) 쿼리 한 번으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberBookmarkCache {
+    private static final String KEY_PREFIX = "bookmark:member:";
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final String EMPTY_MARKER = "-1";      // 북마크가 없는 회원도 캐시하기 위한 값
+    private static final String CACHE_MISS = "0";
+    private static final String CACHE_HIT = "1";
+
+    // 캐시가 없으면 {"0", 세대}, 있으면 {"1", 여행지별 포함 여부("1"/"0")...}
+    // KEYS[1]: 캐시, KEYS[2]: 세대, ARGV: 조회할 여행지 ID
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> QUERY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {'0', redis.call('GET', KEYS[2]) or ''}
+            end
+            local result = {'1'}
+            for _, isMember in ipairs(redis.call('SMISMEMBER', KEYS[1], unpack(ARGV))) do
+                result[#result + 1] = tostring(isMember)
+            end
+            return result
+            """, List.class);
+
+    // 조회 시점의 세대와 같을 때만 SADD 와 EXPIRE 를 한 번에 실행해 TTL 없는 Set 이 남지 않도록 함 (unpack 인자 수 제한으로 나눠서 SADD)
+    // KEYS[1]: 캐시, KEYS[2]: 세대, ARGV[1]: TTL(초), ARGV[2]: 조회 시점의 세대, ARGV[3..]: 저장할 값
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then
+                return 0
+            end
+            for i = 3, #ARGV, 5000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 세대 증가와 캐시 삭제를 한 번에 실행 (세대는 적재 중인 요청이 끝날 때까지 남도록 캐시와 같은 TTL 설정)
+    // KEYS[1]: 캐시, KEYS[2]: 세대, ARGV[1]: TTL(초)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final BookmarkCacheProperties bookmarkCacheProperties;
+    private final BookmarkRepository bookmarkRepository;
+    private final StringRedisTemplate redisTemplate;
+
+
+    public boolean isBookmarked(Long memberId, Long placeId){
+        return findBookmarkedPlaceIds(memberId, List.of(placeId)).contains(placeId);
+    }
+
+    public Set<Long> findBookmarkedPlaceIds(Long memberId, List<Long> placeIds){
+        if (placeIds.isEmpty()){
+            return Set.of();
+        }
+
+        if (bookmarkCacheProperties.enabled()){
+            try {
+                return findBookmarkedPlaceIdsFromCache(memberId, placeIds);
+            } catch (DataAccessException e) {
+                log.warn("북마크 캐시 조회 실패로 DB 조회: memberId={}", memberId, e);
+            }
+        }
+
+        return new HashSet<>(bookmarkRepository.findBookmarkedPlaceIds(memberId, placeIds));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkChanged(BookmarkChangedEvent event){
+        if (!bookmarkCacheProperties.enabled()){
+            return;
+        }
+
+        try {
+            redisTemplate.execute(
+                    INVALIDATE_SCRIPT,
+                    List.of(createKey(event.memberId()), createGenerationKey(event.memberId())),
+                    String.valueOf(bookmarkCacheProperties.ttlSecondsOrDefault())
+            );
+        } catch (DataAccessException e) {
+            log.error("북마크 캐시 삭제 실패: memberId={}", event.memberId(), e);
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> findBookmarkedPlaceIdsFromCache(Long memberId, List<Long> placeIds){
+        List<String> keys = List.of(createKey(memberId), createGenerationKey(memberId));
+        List<String> result = redisTemplate.execute(QUERY_SCRIPT, keys, placeIds.stream().map(String::valueOf).toArray());
+
+        if (result == null || result.isEmpty()){
+            return new HashSet<>(bookmarkRepository.findBookmarkedPlaceIds(memberId, placeIds));
+        }
+
+        // 적재한 목록으로 바로 응답해 적재 후 다시 조회하는 사이 만료/삭제되어도 영향 없음
+        if (CACHE_MISS.equals(result.get(0))){
+            Set<Long> memberPlaceIds = loadMemberBookmarks(keys, memberId, result.get(1));
+            Set<Long> bookmarkedPlaceIds = new HashSet<>(placeIds);
+            bookmarkedPlaceIds.retainAll(memberPlaceIds);
+            return bookmarkedPlaceIds;
+        }
+
+        Set<Long> bookmarkedPlaceIds = new HashSet<>();
+        for (int i = 0; i < placeIds.size(); i++){
+            if (CACHE_HIT.equals(result.get(i + 1))){
+                bookmarkedPlaceIds.add(placeIds.get(i));
+            }
+        }
+
+        return bookmarkedPlaceIds;
+    }
+
+    private Set<Long> loadMemberBookmarks(List<String> keys, Long memberId, String generation){
+        List<Long> memberPlaceIds = bookmarkRepository.findPlaceIdsByMemberId(memberId);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(bookmarkCacheProperties.ttlSecondsOrDefault()));
+        args.add(generation);
+        args.add(EMPTY_MARKER);
+        memberPlaceIds.forEach(placeId -> args.add(String.valueOf(placeId)));
+
+        redisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+        return new HashSet<>(memberPlaceIds);
+    }
+
+    private String createKey(Long memberId){
+        return KEY_PREFIX + memberId;
+    }
+
+    private String createGenerationKey(Long memberId){
+        return KEY_PREFIX + memberId + GENERATION_SUFFIX;
+    }
+}
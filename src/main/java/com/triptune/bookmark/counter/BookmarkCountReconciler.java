@@ -0,0 +1,115 @@
+package com.triptune.bookmark.counter;
+
+import com.triptune.bookmark.properties.BookmarkCounterProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bookmark 테이블 기준으로 travel_place.bookmark_cnt 를 다시 계산하는 보정 작업
+ * - 값이 어긋난 여행지만 갱신하며, 여행지 ID 구간마다 트랜잭션을 나눠 커밋
+ * - write-behind flush 도 증감분을 더하지 않고 다시 계산하므로 보정 결과에 증감분이 중복 반영되지 않음
+ * - 여러 서버 중 Redis 락을 얻은 서버만 주기마다 한 번 실행 (Redis 장애 시에는 그대로 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCountReconciler {
+    private static final String RECONCILE_SQL = """
+            UPDATE travel_place tp
+            SET bookmark_cnt = (SELECT COUNT(*) FROM bookmark b WHERE b.place_id = tp.place_id)
+            WHERE tp.place_id BETWEEN ? AND ?
+              AND tp.bookmark_cnt <> (SELECT COUNT(*) FROM bookmark b WHERE b.place_id = tp.place_id)
+            """;
+    private static final String LOCK_KEY = "bookmark:reconcile:lock";
+
+    private final BookmarkCounterProperties bookmarkCounterProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ScheduledExecutorService reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bookmark-count-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!bookmarkCounterProperties.isReconcileScheduled()){
+            return;
+        }
+
+        long interval = bookmarkCounterProperties.reconcileIntervalMinutes();
+        reconcileExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                if (!tryLock(Duration.ofMinutes(interval))){
+                    return;
+                }
+
+                int updatedCount = reconcile();
+                log.info("북마크 수 보정 완료: {} 건", updatedCount);
+            } catch (RuntimeException e) {
+                log.error("북마크 수 보정 실패", e);
+            }
+        }, interval, interval, TimeUnit.MINUTES);
+    }
+
+    /**
+     * @return 북마크 수가 보정된 여행지 수
+     */
+    public int reconcile(){
+        Long maxPlaceId = travelPlaceRepository.findMaxPlaceId();
+        if (maxPlaceId == null){
+            return 0;
+        }
+
+        int batchSize = bookmarkCounterProperties.reconcileBatchSizeOrDefault();
+        int updatedCount = 0;
+
+        for (long start = 1; start <= maxPlaceId; start += batchSize) {
+            long fromPlaceId = start;
+            long toPlaceId = start + batchSize - 1;
+
+            Integer updated = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(RECONCILE_SQL, fromPlaceId, toPlaceId));
+
+            updatedCount += updated == null ? 0 : updated;
+        }
+
+        return updatedCount;
+    }
+
+    /**
+     * 보정 주기 동안 유지되는 락을 얻은 경우에만 true
+     * - 락은 해제하지 않고 만료시켜 다른 서버가 같은 주기에 다시 실행하지 않도록 함
+     */
+    boolean tryLock(Duration ttl){
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", ttl));
+        } catch (DataAccessException e) {
+            log.warn("북마크 수 보정 락 획득 실패, 락 없이 실행", e);
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        reconcileExecutor.shutdownNow();
+    }
+}
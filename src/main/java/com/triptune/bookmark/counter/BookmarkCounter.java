@@ -0,0 +1,151 @@
+package com.triptune.bookmark.counter;
+
+import com.triptune.bookmark.properties.BookmarkCounterProperties;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행지 북마크 수 증감
+ * - 기본: 트랜잭션 안에서 bookmark_cnt = bookmark_cnt + ? 로 바로 반영 (엔티티 read-modify-write 로 인한 갱신 유실 방지)
+ * - write-behind: 커밋된 증감분을 여행지별로 모아 두었다가 주기적으로 해당 여행지의 북마크 수를 bookmark 테이블 기준으로 다시 계산해 batch UPDATE
+ *   (인기 여행지 한 행에 대한 락 경합을 flush 주기당 한 번으로 줄임)
+ *   (증감분을 더하지 않고 다시 계산하므로 다른 서버의 flush, 보정 작업과 겹쳐도 중복 반영되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCounter {
+    private static final String RECOUNT_BOOKMARK_CNT_SQL = "UPDATE travel_place SET bookmark_cnt = (SELECT COUNT(*) FROM bookmark WHERE place_id = ?) WHERE place_id = ?";
+
+    private final BookmarkCounterProperties bookmarkCounterProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 여행지 ID -> 아직 반영되지 않은 증감분 (키 단위로 잠그는 ConcurrentHashMap 으로 갱신 경합 분산)
+    private final Map<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bookmark-counter-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!bookmarkCounterProperties.writeBehind()){
+            return;
+        }
+
+        long interval = bookmarkCounterProperties.flushIntervalMillisOrDefault();
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void increase(Long placeId){
+        apply(placeId, 1);
+    }
+
+    public void decrease(Long placeId){
+        apply(placeId, -1);
+    }
+
+    /**
+     * 증감분이 모인 여행지의 북마크 수를 한 번의 batch UPDATE 로 다시 계산
+     * @return 반영한 여행지 수
+     */
+    public synchronized int flush(){
+        Map<Long, Long> deltas = new HashMap<>();
+
+        for (Long placeId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(placeId);
+
+            if (delta != null && delta != 0){
+                deltas.put(placeId, delta);
+            }
+        }
+
+        if (deltas.isEmpty()){
+            return 0;
+        }
+
+        List<Object[]> batchArgs = deltas.keySet().stream()
+                .map(placeId -> new Object[]{placeId, placeId})
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(RECOUNT_BOOKMARK_CNT_SQL, batchArgs);
+                deltas.forEach((placeId, delta) -> eventPublisher.publishEvent(TravelPlaceChangedEvent.bookmarkCounted(placeId, delta.intValue())));
+            });
+        } catch (RuntimeException e) {
+            // 실패한 여행지는 다음 flush 때 다시 반영
+            deltas.forEach(this::addPendingDelta);
+            throw e;
+        }
+
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        flushExecutor.shutdownNow();
+
+        if (bookmarkCounterProperties.writeBehind()){
+            flushSafely();
+        }
+    }
+
+
+    private void apply(Long placeId, long delta){
+        if (!bookmarkCounterProperties.writeBehind()){
+            travelPlaceRepository.addBookmarkCnt(placeId, (int) delta);
+            eventPublisher.publishEvent(TravelPlaceChangedEvent.bookmarkCounted(placeId, (int) delta));
+            return;
+        }
+
+        // 롤백된 북마크 변경이 반영되지 않도록 커밋 후에 모음
+        if (TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addPendingDelta(placeId, delta);
+                }
+            });
+            return;
+        }
+
+        addPendingDelta(placeId, delta);
+    }
+
+    private void addPendingDelta(Long placeId, long delta){
+        pendingDeltas.merge(placeId, delta, Long::sum);
+    }
+
+    private void flushSafely(){
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("북마크 수 반영 실패", e);
+        }
+    }
+}
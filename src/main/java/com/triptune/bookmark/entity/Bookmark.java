@@ -1,6 +1,7 @@
 package com.triptune.bookmark.entity;
 
 import com.triptune.common.entity.BaseCreatedEntity;
+import com.triptune.common.entity.PooledIdGenerator;
 import com.triptune.member.entity.Member;
 import com.triptune.travel.entity.TravelPlace;
 import jakarta.persistence.*;
@@ -14,7 +15,10 @@ import lombok.NoArgsConstructor;
 public class Bookmark extends BaseCreatedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bookmark_id_generator")
+    @TableGenerator(name = "bookmark_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "bookmark", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "bookmark_id")
     private Long bookmarkId;
 
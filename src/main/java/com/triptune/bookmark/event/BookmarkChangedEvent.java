@@ -0,0 +1,5 @@
+package com.triptune.bookmark.event;
+
+public record BookmarkChangedEvent(
+        Long memberId
+) {}
@@ -0,0 +1,15 @@
+package com.triptune.bookmark.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.bookmark-cache")
+public record BookmarkCacheProperties(
+        boolean enabled,
+        Long ttlSeconds
+) {
+    private static final long DEFAULT_TTL_SECONDS = 600;
+
+    public long ttlSecondsOrDefault(){
+        return ttlSeconds == null || ttlSeconds <= 0 ? DEFAULT_TTL_SECONDS : ttlSeconds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.triptune.bookmark.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.bookmark-counter")
+public record BookmarkCounterProperties(
+        boolean writeBehind,
+        Long flushIntervalMillis,
+        Long reconcileIntervalMinutes,
+        Integer reconcileBatchSize
+) {
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_RECONCILE_BATCH_SIZE = 1000;
+
+    public long flushIntervalMillisOrDefault(){
+        return flushIntervalMillis == null || flushIntervalMillis <= 0 ? DEFAULT_FLUSH_INTERVAL_MILLIS : flushIntervalMillis;
+    }
+
+    public boolean isReconcileScheduled(){
+        return reconcileIntervalMinutes != null && reconcileIntervalMinutes > 0;
+    }
+
+    public int reconcileBatchSizeOrDefault(){
+        return reconcileBatchSize == null || reconcileBatchSize <= 0 ? DEFAULT_RECONCILE_BATCH_SIZE : reconcileBatchSize;
+    }
+}
@@ -3,11 +3,18 @@ package com.triptune.bookmark.repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.triptune.bookmark.enums.BookmarkSortType;
 import com.triptune.bookmark.repository.dto.PlaceBookmarkQueryDto;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.travel.entity.TravelPlace;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface BookmarkRepositoryCustom {
     Page<PlaceBookmarkQueryDto> findSortedMemberBookmarks(Long memberId, Pageable pageable, BookmarkSortType sortType);
+    CursorPage<PlaceBookmarkQueryDto> findSortedMemberBookmarksByCursor(Long memberId, CursorPageable pageable, BookmarkSortType sortType);
     Integer countTotalElements(BooleanExpression expression);
+    List<Long> findBookmarkedPlaceIds(Long memberId, List<Long> placeIds);
+    List<Long> findPlaceIdsByMemberId(Long memberId);
 }
@@ -1,25 +1,29 @@
 package com.triptune.bookmark.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.triptune.bookmark.enums.BookmarkSortType;
 import com.triptune.bookmark.repository.dto.PlaceBookmarkQueryDto;
 import com.triptune.travel.entity.TravelPlace;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
+import com.triptune.global.util.QueryPageUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.triptune.bookmark.entity.QBookmark.bookmark;
-import static com.triptune.travel.entity.QTravelImage.travelImage;
 import static com.triptune.travel.entity.QTravelPlace.travelPlace;
 
 @Repository
@@ -32,37 +36,32 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
         BooleanExpression expression = bookmark.member.memberId.eq(memberId);
         OrderSpecifier<?>[] sortTypes = getOrderBySortType(sortType);
 
-        List<PlaceBookmarkQueryDto> content = jpaQueryFactory
-                .select(Projections.constructor(PlaceBookmarkQueryDto.class,
-                        travelPlace.placeId,
-                        travelPlace.country.countryName,
-                        travelPlace.city.cityName,
-                        travelPlace.district.districtName,
-                        travelPlace.address,
-                        travelPlace.detailAddress,
-                        travelPlace.placeName,
-                        findThumbnailS3ObjectKey()))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(bookmark)
                 .join(bookmark.travelPlace, travelPlace)
                 .where(expression)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(sortTypes)
-                .fetch();
+                .orderBy(sortTypes);
 
-        int totalElements = countTotalElements(expression);
-
-        return PageUtils.createPage(content, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectPlaceBookmark(), pageable,
+                () -> countTotalElements(expression));
     }
 
-    private JPQLQuery<String> findThumbnailS3ObjectKey(){
-        return JPAExpressions
-                .select(travelImage.s3ObjectKey)
-                .from(travelImage)
-                .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId),
-                        travelImage.isThumbnail.isTrue())
-                .limit(1);
 
+    @Override
+    public CursorPage<PlaceBookmarkQueryDto> findSortedMemberBookmarksByCursor(Long memberId, CursorPageable pageable, BookmarkSortType sortType) {
+        List<PlaceBookmarkQueryDto> content = jpaQueryFactory
+                .select(selectPlaceBookmark())
+                .from(bookmark)
+                .join(bookmark.travelPlace, travelPlace)
+                .where(
+                        bookmark.member.memberId.eq(memberId),
+                        afterCursor(pageable.cursor(), sortType)
+                )
+                .orderBy(getOrderBySortType(sortType))
+                .limit(pageable.fetchSize())
+                .fetch();
+
+        return PageUtils.createCursorPage(content, pageable, place -> createCursor(place, sortType));
     }
 
 
@@ -79,6 +78,76 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
         return totalElements.intValue();
     }
 
+    @Override
+    public List<Long> findBookmarkedPlaceIds(Long memberId, List<Long> placeIds) {
+        if (placeIds.isEmpty()){
+            return List.of();
+        }
+
+        return jpaQueryFactory
+                .select(bookmark.travelPlace.placeId)
+                .from(bookmark)
+                .where(
+                        bookmark.member.memberId.eq(memberId),
+                        bookmark.travelPlace.placeId.in(placeIds)
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findPlaceIdsByMemberId(Long memberId) {
+        return jpaQueryFactory
+                .select(bookmark.travelPlace.placeId)
+                .from(bookmark)
+                .where(bookmark.member.memberId.eq(memberId))
+                .fetch();
+    }
+
+    private ConstructorExpression<PlaceBookmarkQueryDto> selectPlaceBookmark(){
+        return Projections.constructor(PlaceBookmarkQueryDto.class,
+                travelPlace.placeId,
+                travelPlace.country.countryName,
+                travelPlace.city.cityName,
+                travelPlace.district.districtName,
+                travelPlace.address,
+                travelPlace.detailAddress,
+                travelPlace.placeName,
+                travelPlace.thumbnailS3ObjectKey,
+                bookmark.createdAt);
+    }
+
+    // getOrderBySortType 과 같은 정렬 기준으로 커서 이후 데이터 조건 생성
+    private BooleanExpression afterCursor(String cursor, BookmarkSortType sortType){
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        if (pageCursor == null){
+            return null;
+        }
+
+        return switch (sortType) {
+            case NEWEST -> {
+                LocalDateTime createdAt = pageCursor.getDateTime(0);
+                yield bookmark.createdAt.lt(createdAt)
+                        .or(bookmark.createdAt.eq(createdAt).and(travelPlace.placeId.lt(pageCursor.getLong(1))));
+            }
+            case OLDEST -> {
+                LocalDateTime createdAt = pageCursor.getDateTime(0);
+                yield bookmark.createdAt.gt(createdAt)
+                        .or(bookmark.createdAt.eq(createdAt).and(travelPlace.placeId.gt(pageCursor.getLong(1))));
+            }
+            case NAME -> {
+                String placeName = pageCursor.getString(1);
+                yield travelPlace.placeName.gt(placeName)
+                        .or(travelPlace.placeName.eq(placeName).and(travelPlace.placeId.lt(pageCursor.getLong(0))));
+            }
+        };
+    }
+
+    private String createCursor(PlaceBookmarkQueryDto place, BookmarkSortType sortType){
+        return sortType == BookmarkSortType.NAME
+                ? PageCursor.encode(place.getPlaceId(), place.getPlaceName())
+                : PageCursor.encode(place.getBookmarkedAt(), place.getPlaceId());
+    }
+
     public OrderSpecifier<?>[] getOrderBySortType(BookmarkSortType sortType){
         return switch (sortType) {
             case NEWEST -> new OrderSpecifier[] {
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class PlaceBookmarkQueryDto {
@@ -15,9 +17,10 @@ public class PlaceBookmarkQueryDto {
     private String detailAddress;
     private String placeName;
     private String thumbnailS3ObjectKey;
+    private LocalDateTime bookmarkedAt;     // 커서 정렬 키
 
     @Builder
-    public PlaceBookmarkQueryDto(Long placeId, String country, String city, String district, String address, String detailAddress, String placeName, String thumbnailS3ObjectKey) {
+    public PlaceBookmarkQueryDto(Long placeId, String country, String city, String district, String address, String detailAddress, String placeName, String thumbnailS3ObjectKey, LocalDateTime bookmarkedAt) {
         this.placeId = placeId;
         this.country = country;
         this.city = city;
@@ -26,6 +29,7 @@ public class PlaceBookmarkQueryDto {
         this.detailAddress = detailAddress;
         this.placeName = placeName;
         this.thumbnailS3ObjectKey = thumbnailS3ObjectKey;
+        this.bookmarkedAt = bookmarkedAt;
     }
 
 }
@@ -1,7 +1,9 @@
 package com.triptune.bookmark.service;
 
+import com.triptune.bookmark.counter.BookmarkCounter;
 import com.triptune.bookmark.dto.request.BookmarkRequest;
 import com.triptune.bookmark.entity.Bookmark;
+import com.triptune.bookmark.event.BookmarkChangedEvent;
 import com.triptune.bookmark.repository.BookmarkRepository;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
@@ -11,6 +13,7 @@ import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataExistException;
 import com.triptune.global.exception.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,8 @@ public class BookmarkService {
     private final MemberRepository memberRepository;
     private final TravelPlaceRepository travelPlaceRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkCounter bookmarkCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createBookmark(Long memberId, BookmarkRequest bookmarkRequest) {
@@ -35,7 +40,8 @@ public class BookmarkService {
         Bookmark bookmark = Bookmark.createBookmark(member, travelPlace);
         bookmarkRepository.save(bookmark);
 
-        travelPlace.increaseBookmarkCnt();
+        bookmarkCounter.increase(travelPlace.getPlaceId());
+        eventPublisher.publishEvent(new BookmarkChangedEvent(memberId));
     }
 
 
@@ -58,7 +64,8 @@ public class BookmarkService {
         bookmarkRepository.deleteByMember_MemberIdAndTravelPlace_PlaceId(memberId, placeId);
 
         TravelPlace travelPlace = findTravelPlaceByPlaceId(placeId);
-        travelPlace.decreaseBookmarkCnt();
+        bookmarkCounter.decrease(travelPlace.getPlaceId());
+        eventPublisher.publishEvent(new BookmarkChangedEvent(memberId));
     }
 
     private boolean isExistBookmark(Long memberId, Long placeId){
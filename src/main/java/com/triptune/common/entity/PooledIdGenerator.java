@@ -0,0 +1,16 @@
+package com.triptune.common.entity;
+
+/**
+ * 테이블 기반 pooled ID 생성 설정 (@TableGenerator 공통 값)
+ * - IDENTITY 는 INSERT 마다 DB 가 키를 만들어 Hibernate INSERT batch 가 꺼지므로, id_sequence 테이블에서 ALLOCATION_SIZE 만큼 구간을 미리 할당받아 사용
+ * - MySQL, H2 모두 sequence 없이 동작하며, 엔티티마다 pkColumnValue 로 구분
+ */
+public final class PooledIdGenerator {
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIdGenerator() {
+    }
+}
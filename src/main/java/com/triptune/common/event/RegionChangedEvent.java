@@ -0,0 +1,4 @@
+package com.triptune.common.event;
+
+public record RegionChangedEvent() {
+}
@@ -0,0 +1,22 @@
+package com.triptune.common.event;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 국가, 도시, 지역 변경 이벤트 발행
+ * - 지역명은 여러 여행지 응답에 포함되므로 어떤 지역이 바뀌었는지는 구분하지 않음
+ */
+@RequiredArgsConstructor
+public class RegionEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void afterChange(Object region){
+        eventPublisher.publishEvent(new RegionChangedEvent());
+    }
+}
@@ -1,7 +1,7 @@
 package com.triptune.global.aop;
 
+import com.triptune.schedule.cache.AttendeePermissionCache;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
-import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
@@ -19,7 +19,7 @@ import org.springframework.stereotype.Component;
 public class AttendeeCheckAspect {
 
     private final TravelScheduleRepository travelScheduleRepository;
-    private final TravelAttendeeRepository travelAttendeeRepository;
+    private final AttendeePermissionCache attendeePermissionCache;
     private final HttpServletRequest httpServletRequest;
 
     @Around("@annotation(AttendeeCheck)")
@@ -27,11 +27,12 @@ public class AttendeeCheckAspect {
         Long memberId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
         Long scheduleId = extractScheduleIdFromPath(httpServletRequest.getRequestURI());
 
-        if (!isExistSchedule(scheduleId)){
-            throw new DataNotFoundException(ErrorCode.SCHEDULE_NOT_FOUND);
-        }
-
+        // 참석자면 일정도 존재하므로, 참석자가 아닌 경우에만 일정 존재 여부 확인
         if (!isAttendee(scheduleId, memberId)){
+            if (!isExistSchedule(scheduleId)){
+                throw new DataNotFoundException(ErrorCode.SCHEDULE_NOT_FOUND);
+            }
+
             throw new ForbiddenScheduleException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
         }
 
@@ -48,6 +49,6 @@ public class AttendeeCheckAspect {
     }
 
     private boolean isAttendee(Long scheduleId, Long memberId){
-        return travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberId(scheduleId, memberId);
+        return attendeePermissionCache.get(scheduleId, memberId).isPresent();
     }
 }
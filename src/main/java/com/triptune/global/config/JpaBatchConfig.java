@@ -0,0 +1,26 @@
+package com.triptune.global.config;
+
+import com.triptune.common.entity.PooledIdGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC batch 기본 설정 (spring.jpa.properties 에 같은 키가 있으면 그 값을 사용)
+ * - hibernate.jdbc.batch_size: pooled ID 할당 크기와 같게 맞춰 한 번 할당받은 구간을 batch 하나로 INSERT
+ * - hibernate.order_inserts, hibernate.order_updates: 엔티티별로 문장을 정렬해 batch 가 끊기지 않도록 함
+ * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 batch 가 multi-row INSERT 로 전송됨
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer(){
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, PooledIdGenerator.ALLOCATION_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
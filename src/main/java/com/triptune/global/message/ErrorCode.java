@@ -24,6 +24,7 @@ public enum ErrorCode {
     ILLEGAL_SCHEDULE_SEARCH_TYPE(HttpStatus.BAD_REQUEST, "잘못된 검색 타입 요청입니다"),
     ILLEGAL_CITY_TYPE(HttpStatus.BAD_REQUEST, "잘못된 지역 요청입니다."),
     ILLEGAL_THEME_TYPE(HttpStatus.BAD_REQUEST, "잘못된 테마 요청입니다."),
+    ILLEGAL_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 요청입니다."),
 
     // 회원
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다."),
@@ -72,6 +73,7 @@ public enum ErrorCode {
     // 채팅
     FORBIDDEN_CHAT_ATTENDEE(HttpStatus.FORBIDDEN, "채팅 권한이 없는 회원 입니다."),
     CHAT_MESSAGE_TOO_LONG(HttpStatus.BAD_REQUEST, "채팅 메시지는 1000자 이하여야 합니다."),
+    CHAT_MESSAGE_SAVE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "채팅 메시지를 저장할 수 없습니다. 잠시 후 다시 시도하세요."),
 
     // 북마크
     BOOKMARK_NOT_FOUND(HttpStatus.NOT_FOUND, "북마크 정보를 찾을 수 없습니다."),
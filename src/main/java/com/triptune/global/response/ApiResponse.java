@@ -2,8 +2,10 @@ package com.triptune.global.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.triptune.global.message.SuccessCode;
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
 import com.triptune.global.response.page.SchedulePageResponse;
+import com.triptune.global.util.CursorPage;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -48,6 +50,13 @@ public class ApiResponse<T> {
         );
     }
 
+    public static <T> ApiResponse<CursorPageResponse<T>> cursorPageResponse(CursorPage<T> object) {
+        return new ApiResponse<CursorPageResponse<T>>(
+                SuccessCode.GENERAL_SUCCESS.getMessage(),
+                CursorPageResponse.of(object)
+        );
+    }
+
     public static <T> ApiResponse<SchedulePageResponse<T>> schedulePageResponse(SchedulePageResponse<T> object) {
         return new ApiResponse<SchedulePageResponse<T>>(
                 SuccessCode.GENERAL_SUCCESS.getMessage(),
@@ -0,0 +1,34 @@
+package com.triptune.global.response.page;
+
+import com.triptune.global.util.CursorPage;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorPageResponse<T> {
+    private int pageSize;           // 페이지 당 아이템 수
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private String nextCursor;      // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private List<T> content;
+
+    private CursorPageResponse(int pageSize, boolean hasNext, String nextCursor, List<T> content) {
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.content = content;
+    }
+
+    public static <T> CursorPageResponse<T> of(CursorPage<T> object){
+        return new CursorPageResponse<>(
+                object.size(),
+                object.hasNext(),
+                object.nextCursor(),
+                object.content() != null ? object.content() : Collections.emptyList()
+        );
+    }
+}
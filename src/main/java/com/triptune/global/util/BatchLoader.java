@@ -0,0 +1,67 @@
+package com.triptune.global.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 키 목록을 IN 조회 한 번으로 묶어 가져오는 일괄 조회기 (DataLoader 방식)
+ * - 목록의 행마다 조회하는 대신, 중복과 null 을 제거한 키를 batchSize 단위로 나눠 조회하고 Map 으로 합침
+ * - 조회 결과에 없는 키는 Map 에 포함되지 않음
+ */
+public class BatchLoader<K, V> {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final Function<Collection<K>, Map<K, V>> fetcher;
+    private final int batchSize;
+
+    private BatchLoader(Function<Collection<K>, Map<K, V>> fetcher, int batchSize) {
+        if (batchSize < 1){
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다.");
+        }
+
+        this.fetcher = fetcher;
+        this.batchSize = batchSize;
+    }
+
+    public static <K, V> BatchLoader<K, V> of(Function<Collection<K>, Map<K, V>> fetcher){
+        return new BatchLoader<>(fetcher, DEFAULT_BATCH_SIZE);
+    }
+
+    public static <K, V> BatchLoader<K, V> of(Function<Collection<K>, Map<K, V>> fetcher, int batchSize){
+        return new BatchLoader<>(fetcher, batchSize);
+    }
+
+    public Map<K, V> loadMany(Collection<K> keys){
+        List<K> distinctKeys = keys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        if (distinctKeys.isEmpty()){
+            return Map.of();
+        }
+
+        Map<K, V> result = new HashMap<>();
+        for (int from = 0; from < distinctKeys.size(); from += batchSize) {
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + batchSize, distinctKeys.size()));
+            result.putAll(fetcher.apply(chunk));
+        }
+
+        return result;
+    }
+
+    /**
+     * 목록의 각 항목에서 키를 꺼내 한 번에 조회
+     */
+    public <T> Map<K, V> loadFor(Collection<T> items, Function<T, K> keyExtractor){
+        List<K> keys = items.stream()
+                .map(keyExtractor)
+                .toList();
+
+        return loadMany(keys);
+    }
+}
@@ -0,0 +1,26 @@
+package com.triptune.global.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지 결과 (전체 개수 없음)
+ * @param nextCursor 마지막 페이지면 null
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+    public boolean hasNext(){
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter){
+        List<R> converted = content.stream()
+                .<R>map(converter)
+                .toList();
+
+        return new CursorPage<>(converted, size, nextCursor);
+    }
+}
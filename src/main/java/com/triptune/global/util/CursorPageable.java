@@ -0,0 +1,14 @@
+package com.triptune.global.util;
+
+/**
+ * 커서 페이지 요청 (cursor 가 없으면 첫 페이지)
+ */
+public record CursorPageable(
+        String cursor,
+        int size
+) {
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public int fetchSize(){
+        return size + 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.triptune.global.util;
+
+public class GeoUtils {
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // DB 쿼리(getHaversineFormula)와 같은 공식으로 두 좌표 사이 거리(km) 계산
+    public static double calculateDistance(double latDeg1, double lonDeg1, double latDeg2, double lonDeg2){
+        double cosine = Math.sin(Math.toRadians(latDeg1)) * Math.sin(Math.toRadians(latDeg2))
+                + Math.cos(Math.toRadians(latDeg1)) * Math.cos(Math.toRadians(latDeg2))
+                * Math.cos(Math.toRadians(lonDeg1) - Math.toRadians(lonDeg2));
+
+        // 부동소수점 오차로 acos 범위를 벗어나는 경우 방지
+        return Math.acos(Math.max(-1.0, Math.min(1.0, cosine))) * EARTH_RADIUS_KM;
+    }
+
+    // 기준 좌표에서 반경(km) 이내 모든 지점을 포함하는 최소 위도/경도 범위 계산
+    public static BoundingBox boundingBox(double latDeg, double lonDeg, double radiusKm){
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latRad = Math.toRadians(latDeg);
+
+        double minLatRad = latRad - angularRadius;
+        double maxLatRad = latRad + angularRadius;
+
+        // 범위가 극점을 포함하면 경도 전체가 대상
+        if (minLatRad <= -Math.PI / 2 || maxLatRad >= Math.PI / 2){
+            return new BoundingBox(
+                    Math.toDegrees(Math.max(minLatRad, -Math.PI / 2)),
+                    Math.toDegrees(Math.min(maxLatRad, Math.PI / 2)),
+                    -180.0,
+                    180.0
+            );
+        }
+
+        double deltaLonDeg = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(latRad)));
+
+        return new BoundingBox(
+                Math.toDegrees(minLatRad),
+                Math.toDegrees(maxLatRad),
+                lonDeg - deltaLonDeg,
+                lonDeg + deltaLonDeg
+        );
+    }
+
+    public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.triptune.global.util;
+
+import com.triptune.global.exception.CustomIllegalArgumentException;
+import com.triptune.global.message.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 페이지네이션의 마지막 정렬 키
+ * - 정렬 키 값을 '|' 로 이어 Base64(URL-safe) 로 인코딩
+ * - 마지막 값은 구분자를 포함해도 되므로 문자열 정렬 키는 마지막에 둠
+ */
+public class PageCursor {
+    private static final String DELIMITER = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    public static String encode(Object... values){
+        String joined = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 첫 페이지 요청(커서 없음)인 경우 null
+     */
+    public static PageCursor decode(String cursor, int size){
+        if (cursor == null || cursor.isBlank()){
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER, size);
+
+            if (values.length != size){
+                throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+            }
+
+            return new PageCursor(values);
+        } catch (IllegalArgumentException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+
+    public String getString(int index){
+        return values[index];
+    }
+
+    public Long getLong(int index){
+        try {
+            return Long.valueOf(values[index]);
+        } catch (NumberFormatException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+
+    public Integer getInteger(int index){
+        try {
+            return Integer.valueOf(values[index]);
+        } catch (NumberFormatException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+
+    public Double getDouble(int index){
+        try {
+            return Double.valueOf(values[index]);
+        } catch (NumberFormatException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+
+    public LocalDateTime getDateTime(int index){
+        try {
+            return LocalDateTime.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+
+    public Instant getInstant(int index){
+        try {
+            return Instant.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw new CustomIllegalArgumentException(ErrorCode.ILLEGAL_CURSOR);
+        }
+    }
+}
@@ -40,5 +40,36 @@ public class PageUtils {
         return new PageImpl<>(content, pageable, totalElements);
     }
 
+    public static CursorPageable defaultCursorPageable(String cursor){
+        return new CursorPageable(cursor, DEFAULT_SIZE);
+    }
+
+    public static CursorPageable scheduleCursorPageable(String cursor){
+        return new CursorPageable(cursor, SCHEDULE_SIZE);
+    }
+
+    public static CursorPageable bookmarkCursorPageable(String cursor){
+        return new CursorPageable(cursor, BOOKMARK_SIZE);
+    }
+
+    public static CursorPageable chatCursorPageable(String cursor){
+        return new CursorPageable(cursor, CHAT_SIZE);
+    }
+
+    /**
+     * fetchSize 만큼 조회한 결과로 커서 페이지 생성
+     * @param cursorExtractor 페이지 마지막 항목의 정렬 키로 다음 커서를 만드는 함수
+     */
+    public static<T> CursorPage<T> createCursorPage(List<T> fetched, CursorPageable pageable, Function<T, String> cursorExtractor){
+        if (fetched.size() <= pageable.size()){
+            return new CursorPage<>(fetched, pageable.size(), null);
+        }
+
+        List<T> content = fetched.subList(0, pageable.size());
+        String nextCursor = cursorExtractor.apply(content.get(content.size() - 1));
+
+        return new CursorPage<>(content, pageable.size(), nextCursor);
+    }
+
 }
 
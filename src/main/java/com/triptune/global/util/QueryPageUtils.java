@@ -0,0 +1,45 @@
+package com.triptune.global.util;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 내용과 전체 개수를 한 번의 SQL 로 조회
+ * - 각 행에 count(*) over () 를 붙여 where 조건 기준 전체 개수를 함께 받음
+ * - 결과가 비어 있을 때만 PageableExecutionUtils 로 넘김 (첫 페이지면 0, 마지막 페이지를 넘긴 요청에만 count 쿼리 실행)
+ */
+public class QueryPageUtils {
+    private static final NumberExpression<Long> TOTAL_COUNT = Expressions.numberTemplate(Long.class, "count(*) over ()");
+
+    /**
+     * @param query select, offset, limit 를 제외한 from/join/where/orderBy 가 지정된 쿼리
+     * @param countQuery 결과가 비어 있어 전체 개수를 알 수 없을 때 실행할 count 쿼리
+     */
+    public static <T> Page<T> fetchPage(JPAQuery<?> query, Expression<T> projection, Pageable pageable, LongSupplier countQuery){
+        List<Tuple> rows = query
+                .select(projection, TOTAL_COUNT)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<T> content = rows.stream()
+                .map(row -> row.get(projection))
+                .toList();
+
+        if (rows.isEmpty()){
+            return PageableExecutionUtils.getPage(content, pageable, countQuery);
+        }
+
+        Long totalElements = rows.get(0).get(TOTAL_COUNT);
+        return PageUtils.createPage(content, pageable, totalElements == null ? content.size() : totalElements);
+    }
+}
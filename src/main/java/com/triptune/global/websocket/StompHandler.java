@@ -1,6 +1,11 @@
 package com.triptune.global.websocket;
 
+import com.triptune.global.message.ErrorCode;
 import com.triptune.global.security.jwt.JwtUtils;
+import com.triptune.schedule.chat.ChatSessionContext;
+import com.triptune.schedule.chat.ChatSessionRegistry;
+import com.triptune.schedule.exception.chat.ForbiddenChatException;
+import com.triptune.schedule.service.ChatMessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -10,12 +15,18 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
+    private static final Pattern CHAT_DESTINATION = Pattern.compile("^/sub/schedules/(\\d+)/chats$");
 
     private final JwtUtils jwtUtils;
+    private final ChatMessageService chatMessageService;
+    private final ChatSessionRegistry chatSessionRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -27,9 +38,35 @@ public class StompHandler implements ChannelInterceptor {
             String token = jwtUtils.resolveBearerToken(accessor.getFirstNativeHeader("Authorization"));
             jwtUtils.validateChatToken(token);
 
+            // 메시지마다 회원을 조회하지 않도록 연결 시 한 번 조회해 세션에 저장
+            ChatSessionContext context = chatMessageService.createChatSessionContext(accessor.getSessionId(), jwtUtils.getMemberIdByToken(token));
+            context.saveTo(accessor.getSessionAttributes());
+
             log.info("WebSocket 연결 완료: {}", accessor.getSessionId());
         }
 
+        if (StompCommand.SUBSCRIBE == accessor.getCommand()) {
+            loadChatAttendee(accessor);
+        }
+
         return message;
     }
+
+    // 채팅 구독 시 참석자 권한을 미리 조회 (첫 메시지 전송 시 조회하지 않도록)
+    // 참석자가 아니면 구독을 거부해 다른 일정의 채팅을 받지 못하도록 함
+    private void loadChatAttendee(StompHeaderAccessor accessor){
+        if (accessor.getDestination() == null){
+            return;
+        }
+
+        Matcher matcher = CHAT_DESTINATION.matcher(accessor.getDestination());
+        if (!matcher.matches()){
+            return;
+        }
+
+        ChatSessionContext context = ChatSessionContext.from(accessor.getSessionAttributes());
+        if (context == null || chatSessionRegistry.getAccess(context, Long.parseLong(matcher.group(1))).isEmpty()){
+            throw new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
+        }
+    }
 }
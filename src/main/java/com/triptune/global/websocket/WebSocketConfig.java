@@ -1,5 +1,6 @@
 package com.triptune.global.websocket;
 
+import com.triptune.schedule.properties.ChatRelayProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -7,6 +8,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -14,6 +16,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final ChatRelayProperties chatRelayProperties;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -33,6 +36,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOrigins("*");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 버퍼 크기, 전송 시간 제한 (ConcurrentWebSocketSessionDecorator 에 적용)
+        // - 다른 스레드가 전송 중이면 프레임을 버퍼에 넣고 바로 반환하며, 프레임을 묶어 보내지는 않음
+        // - 제한을 넘은 느린 세션은 연결을 종료해 브로커, Redis 리스너 스레드가 기다리지 않도록 함
+        registration.setSendBufferSizeLimit(chatRelayProperties.sendBufferSizeLimitOrDefault())
+                .setSendTimeLimit(chatRelayProperties.sendTimeLimitMillisOrDefault());
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
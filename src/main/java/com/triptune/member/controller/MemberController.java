@@ -5,11 +5,13 @@ import com.triptune.email.dto.request.EmailRequest;
 import com.triptune.global.exception.CustomNotValidException;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.response.ApiResponse;
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
 import com.triptune.global.security.CookieType;
 import com.triptune.global.security.jwt.JwtUtils;
 import com.triptune.global.security.jwt.exception.CustomJwtUnAuthorizedException;
 import com.triptune.global.util.CookieUtils;
+import com.triptune.global.util.CursorPage;
 import com.triptune.member.service.dto.LoginResult;
 import com.triptune.member.dto.request.*;
 import com.triptune.member.dto.response.LoginResponse;
@@ -159,6 +161,17 @@ public class MemberController {
         return ApiResponse.pageResponse(PlaceBookmarkResponses);
     }
 
+    @GetMapping("/bookmark/cursor")
+    @Operation(summary = "회원 북마크 커서 조회", description = "회원이 등록한 북마크를 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이 요청합니다.")
+    public ApiResponse<CursorPageResponse<PlaceBookmarkResponse>> getMemberBookmarksByCursor(@AuthenticationPrincipal(expression = "memberId") Long memberId,
+                                                                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                                                                            @RequestParam(name = "sort") String sort){
+        BookmarkSortType sortType = BookmarkSortType.determineSortType(sort);
+        CursorPage<PlaceBookmarkResponse> response = memberService.getMemberBookmarksByCursor(cursor, memberId, sortType);
+
+        return ApiResponse.cursorPageResponse(response);
+    }
+
     @PatchMapping("/deactivate")
     @Operation(summary = "회원 탈퇴", description = "회원을 탈퇴합니다.")
     public ApiResponse<Void> deactivateMember(HttpServletRequest request,
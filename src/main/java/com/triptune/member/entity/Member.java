@@ -1,10 +1,12 @@
 package com.triptune.member.entity;
 
 import com.triptune.common.entity.BaseTimeEntity;
+import com.triptune.common.entity.PooledIdGenerator;
 import com.triptune.global.security.oauth.userinfo.OAuth2UserInfo;
 import com.triptune.member.dto.request.JoinRequest;
 import com.triptune.member.enums.DeactivateValue;
 import com.triptune.member.enums.JoinType;
+import com.triptune.member.event.MemberEntityListener;
 import com.triptune.profile.entity.ProfileImage;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,10 +19,14 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(MemberEntityListener.class)
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "member_id_generator")
+    @TableGenerator(name = "member_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "member", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "member_id")
     private Long memberId;
 
@@ -50,6 +56,10 @@ public class Member extends BaseTimeEntity {
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY)
     private List<SocialMember> socialMembers = new ArrayList<>();
 
+    // 닉네임, 프로필 이미지가 바뀐 경우에만 회원 변경 이벤트 발행 (리프레시 토큰 갱신 등은 제외)
+    @Transient
+    private boolean profileChanged;
+
 
     private Member(String email, String password, String nickname, JoinType joinType, boolean isActive) {
         this.email = email;
@@ -108,6 +118,7 @@ public class Member extends BaseTimeEntity {
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        this.profileChanged = true;
     }
 
     public void updateEmail(String email) {
@@ -123,6 +134,7 @@ public class Member extends BaseTimeEntity {
         this.password = deactivation;
         this.refreshToken = null;
         this.isActive = false;
+        this.profileChanged = true;
 
         for (SocialMember socialMember : socialMembers) {
             socialMember.deactivate();
@@ -135,6 +147,7 @@ public class Member extends BaseTimeEntity {
 
         this.profileImage = newProfileImage;
         newProfileImage.assignMember(this);
+        this.profileChanged = true;
     }
 
 
@@ -0,0 +1,5 @@
+package com.triptune.member.event;
+
+public record MemberChangedEvent(
+        Long memberId
+) {}
@@ -0,0 +1,19 @@
+package com.triptune.member.event;
+
+import com.triptune.member.entity.Member;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void afterUpdate(Member member){
+        if (member.isProfileChanged()){
+            eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberId()));
+        }
+    }
+}
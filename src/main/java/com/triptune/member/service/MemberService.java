@@ -14,6 +14,8 @@ import com.triptune.global.message.ErrorCode;
 import com.triptune.global.s3.S3ObjectManager;
 import com.triptune.global.security.jwt.exception.CustomJwtUnAuthorizedException;
 import com.triptune.global.security.jwt.JwtUtils;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import com.triptune.member.exception.InvalidPasswordResetTokenException;
 import com.triptune.member.service.dto.LoginResult;
@@ -27,7 +29,10 @@ import com.triptune.member.exception.UnsupportedSocialMemberException;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.profile.service.ProfileImageService;
+import com.triptune.schedule.counter.MemberScheduleCounter;
 import com.triptune.schedule.entity.TravelAttendee;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.event.AttendeeChangedEvent;
 import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
@@ -35,6 +40,7 @@ import com.triptune.travel.dto.response.PlaceBookmarkResponse;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -42,6 +48,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -59,8 +66,10 @@ public class MemberService {
     private final TravelAttendeeRepository travelAttendeeRepository;
     private final TravelScheduleRepository travelScheduleRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final MemberScheduleCounter memberScheduleCounter;
     private final BookmarkRepository bookmarkRepository;
     private final S3ObjectManager s3ObjectManager;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -210,6 +219,16 @@ public class MemberService {
         return PageUtils.createPage(contents, travelPlaces.getPageable(), travelPlaces.getTotalElements());
     }
 
+    public CursorPage<PlaceBookmarkResponse> getMemberBookmarksByCursor(String cursor, Long memberId, BookmarkSortType sortType) {
+        CursorPageable pageable = PageUtils.bookmarkCursorPageable(cursor);
+
+        return bookmarkRepository.findSortedMemberBookmarksByCursor(memberId, pageable, sortType)
+                .map(place -> {
+                    String thumbnailUrl = s3ObjectManager.generateS3ObjectUrl(place.getThumbnailS3ObjectKey());
+                    return PlaceBookmarkResponse.of(place, thumbnailUrl);
+                });
+    }
+
     @Transactional
     public void deactivateMember(DeactivateRequest deactivateRequest, Long memberId, String accessToken) {
         // 1. 회원 비밀번호 확인
@@ -228,14 +247,28 @@ public class MemberService {
         List<TravelAttendee> attendees = travelAttendeeRepository.findAllByMember_MemberId(memberId);
 
         for (TravelAttendee attendee : attendees) {
-            if (attendee.getRole().isAuthor()) {
-                Long scheduleId = attendee.getTravelSchedule().getScheduleId();
+            Long scheduleId = attendee.getTravelSchedule().getScheduleId();
+
+            // 참석자 추가/나가기/내보내기와 참석자 수(attendee_count) 갱신이 겹치지 않도록 일정 행을 잠금
+            // (잠그는 사이 다른 요청에서 삭제된 일정은 참석자도 함께 삭제되었으므로 건너뜀)
+            Optional<TravelSchedule> schedule = travelScheduleRepository.findByIdForUpdate(scheduleId);
+            if (schedule.isEmpty()){
+                continue;
+            }
 
+            List<Long> attendeeMemberIds = travelAttendeeRepository.findMemberIdsByScheduleId(scheduleId);
+
+            if (attendee.getRole().isAuthor()) {
+                memberScheduleCounter.scheduleDeleted(attendeeMemberIds);
                 chatMessageRepository.deleteAllByScheduleId(scheduleId);
-                travelScheduleRepository.deleteById(scheduleId);
+                travelScheduleRepository.delete(schedule.get());
             } else{
+                memberScheduleCounter.attendeeRemoved(attendeeMemberIds, memberId);
+                schedule.get().removeTravelAttendees(attendee);
                 travelAttendeeRepository.delete(attendee);
             }
+
+            eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
         }
 
         // 5. 북마크 삭제
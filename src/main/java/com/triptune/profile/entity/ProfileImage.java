@@ -1,7 +1,9 @@
 package com.triptune.profile.entity;
 
 import com.triptune.common.entity.BaseTimeEntity;
+import com.triptune.common.entity.PooledIdGenerator;
 import com.triptune.member.entity.Member;
+import com.triptune.profile.event.ProfileImageEntityListener;
 import com.triptune.profile.properties.DefaultProfileImageProperties;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,10 +14,14 @@ import org.springframework.web.multipart.MultipartFile;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ProfileImageEntityListener.class)
 public class ProfileImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "profile_image_id_generator")
+    @TableGenerator(name = "profile_image_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "profile_image", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "profile_image_id")
     private Long profileImageId;
 
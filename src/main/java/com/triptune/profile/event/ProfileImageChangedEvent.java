@@ -0,0 +1,5 @@
+package com.triptune.profile.event;
+
+public record ProfileImageChangedEvent(
+        Long profileImageId
+) {}
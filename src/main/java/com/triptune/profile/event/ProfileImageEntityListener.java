@@ -0,0 +1,17 @@
+package com.triptune.profile.event;
+
+import com.triptune.profile.entity.ProfileImage;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class ProfileImageEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void afterUpdate(ProfileImage profileImage){
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(profileImage.getProfileImageId()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.triptune.schedule.cache;
+
+import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
+
+/**
+ * 일정 참석자의 역할, 권한 (권한 확인용 조회 결과)
+ */
+public record AttendeeAccess(
+        Long attendeeId,
+        AttendeeRole role,
+        AttendeePermission permission
+) {
+    public boolean isAuthor(){
+        return role.isAuthor();
+    }
+
+    public boolean isEnableEdit(){
+        return permission.isEnableEdit();
+    }
+
+    public boolean isEnableChat(){
+        return permission.isEnableChat();
+    }
+}
@@ -0,0 +1,136 @@
+package com.triptune.schedule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.triptune.schedule.event.AttendeeChangedEvent;
+import com.triptune.schedule.properties.AttendeePermissionCacheProperties;
+import com.triptune.schedule.repository.TravelAttendeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일정 참석자 역할, 권한 캐시 ((scheduleId, memberId) -> AttendeeAccess)
+ * - 요청 단위: AttendeeCheckAspect 에서 조회한 결과를 요청 속성에 저장해 같은 요청의 서비스 검증에서 재사용
+ * - 인스턴스 단위: 일정별 Caffeine 캐시 (최대 개수 + 짧은 TTL), 참석자가 아닌 경우는 캐시하지 않음
+ * - 참석자 추가/권한 변경/삭제, 일정 삭제 시 AttendeeChangedEvent 로 일정 단위 삭제
+ *   (같은 트랜잭션의 이후 조회를 위해 발행 즉시 한 번, 커밋 전 다른 요청이 읽어 간 값을 위해 커밋 후 한 번 더 삭제)
+ * - 다른 인스턴스의 캐시는 AttendeeChangeBroadcaster 가 Redis 로 전파한 AttendeeChangedEvent 로 삭제 (전파 실패 시 TTL 만료로 반영)
+ * - 지표: cache.gets/puts/evictions{cache=attendeePermission}
+ */
+@Component
+public class AttendeePermissionCache {
+    public static final String CACHE_NAME = "attendeePermission";
+    private static final String REQUEST_ATTRIBUTE = AttendeePermissionCache.class.getName() + ".ACCESS";
+
+    private final AttendeePermissionCacheProperties attendeePermissionCacheProperties;
+    private final TravelAttendeeRepository travelAttendeeRepository;
+
+    private final Cache<Long, Map<Long, AttendeeAccess>> localCache;
+
+
+    public AttendeePermissionCache(AttendeePermissionCacheProperties attendeePermissionCacheProperties,
+                                   TravelAttendeeRepository travelAttendeeRepository,
+                                   MeterRegistry meterRegistry) {
+        this.attendeePermissionCacheProperties = attendeePermissionCacheProperties;
+        this.travelAttendeeRepository = travelAttendeeRepository;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(attendeePermissionCacheProperties.maximumSizeOrDefault())
+                .expireAfterWrite(Duration.ofSeconds(attendeePermissionCacheProperties.ttlSecondsOrDefault()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+    }
+
+
+    /**
+     * 요청 속성 -> 인스턴스 캐시 -> DB 순서로 조회
+     * @return 일정 참석자가 아닌 경우 Optional.empty()
+     */
+    public Optional<AttendeeAccess> get(Long scheduleId, Long memberId){
+        AttendeeKey key = new AttendeeKey(scheduleId, memberId);
+        Map<AttendeeKey, AttendeeAccess> requestCache = getRequestCache();
+
+        if (requestCache != null && requestCache.get(key) != null){
+            return Optional.of(requestCache.get(key));
+        }
+
+        Optional<AttendeeAccess> access = attendeePermissionCacheProperties.enabled()
+                ? getFromLocalCache(scheduleId, memberId)
+                : travelAttendeeRepository.findAttendeeAccess(scheduleId, memberId);
+
+        if (requestCache != null){
+            access.ifPresent(value -> requestCache.put(key, value));
+        }
+
+        return access;
+    }
+
+    public void evict(Long scheduleId){
+        localCache.invalidate(scheduleId);
+
+        Map<AttendeeKey, AttendeeAccess> requestCache = getRequestCache();
+        if (requestCache != null){
+            requestCache.keySet().removeIf(key -> key.scheduleId().equals(scheduleId));
+        }
+    }
+
+    @EventListener
+    public void handleAttendeeChanged(AttendeeChangedEvent event){
+        evict(event.scheduleId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAttendeeChangedAfterCommit(AttendeeChangedEvent event){
+        localCache.invalidate(event.scheduleId());
+    }
+
+
+    // 삭제된 일정의 Map 에 저장된 값은 더 이상 조회되지 않으므로 조회 중 삭제되어도 안전
+    private Optional<AttendeeAccess> getFromLocalCache(Long scheduleId, Long memberId){
+        Map<Long, AttendeeAccess> attendees = localCache.get(scheduleId, id -> new ConcurrentHashMap<>());
+
+        AttendeeAccess cached = attendees.get(memberId);
+        if (cached != null){
+            return Optional.of(cached);
+        }
+
+        Optional<AttendeeAccess> access = travelAttendeeRepository.findAttendeeAccess(scheduleId, memberId);
+        access.ifPresent(value -> attendees.put(memberId, value));
+        return access;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<AttendeeKey, AttendeeAccess> getRequestCache(){
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null){
+            return null;
+        }
+
+        Object requestCache = requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (requestCache == null){
+            requestCache = new HashMap<AttendeeKey, AttendeeAccess>();
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE, requestCache, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return (Map<AttendeeKey, AttendeeAccess>) requestCache;
+    }
+
+
+    private record AttendeeKey(
+            Long scheduleId,
+            Long memberId
+    ) {}
+}
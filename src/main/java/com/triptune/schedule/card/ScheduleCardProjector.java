@@ -0,0 +1,269 @@
+package com.triptune.schedule.card;
+
+import com.triptune.member.event.MemberChangedEvent;
+import com.triptune.profile.event.ProfileImageChangedEvent;
+import com.triptune.schedule.event.ScheduleChangedEvent;
+import com.triptune.schedule.properties.ScheduleCardProperties;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * schedule_card 읽기 모델 갱신
+ * - 커밋된 일정, 루트, 참석자 변경은 일정 단위로, 회원/프로필 이미지 변경은 작성자 단위로, 여행지 변경은 여행지 단위로 모아 둠
+ * - 주기적으로 일정별 카드를 원본 테이블에서 다시 만들고, 작성자 닉네임/프로필 이미지, 썸네일을 한 번에 갱신
+ * - 일정 행을 잠근 뒤 카드를 다시 만들어 여러 서버가 같은 일정을 동시에 갱신해도 카드가 중복 생성되지 않음
+ * - 모아 둔 변경은 메모리에만 있으므로 서버 종료 시 유실될 수 있고, ScheduleCardRebuilder 가 주기적으로 전체를 다시 만들어 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCardProjector {
+    private static final String LOCK_SCHEDULES_SQL = "SELECT schedule_id FROM travel_schedule WHERE schedule_id BETWEEN ? AND ? ORDER BY schedule_id FOR UPDATE";
+    private static final String LOCK_SCHEDULES_IN_SQL = "SELECT schedule_id FROM travel_schedule WHERE schedule_id IN (%s) ORDER BY schedule_id FOR UPDATE";
+    private static final String DELETE_CARDS_SQL = "DELETE FROM schedule_card WHERE schedule_id BETWEEN ? AND ?";
+    private static final String INSERT_CARDS_SQL = """
+            INSERT INTO schedule_card (member_id, schedule_id, role, schedule_name, start_date, end_date, created_at, updated_at,
+                                       thumbnail_s3_object_key, author_member_id, author_nickname, author_s3_object_key, attendee_count)
+            SELECT ta.member_id, ts.schedule_id, ta.role, ts.schedule_name, ts.start_date, ts.end_date, ts.created_at, ts.updated_at,
+                   (SELECT tp.thumbnail_s3_object_key
+                    FROM travel_route tr
+                        JOIN travel_place tp ON tp.place_id = tr.place_id
+                    WHERE tr.schedule_id = ts.schedule_id
+                      AND tr.route_order = 1),
+                   am.member_id, am.nickname, pi.s3_object_key, ts.attendee_count
+            FROM travel_schedule ts
+                JOIN travel_attendee ta ON ta.schedule_id = ts.schedule_id
+                JOIN travel_attendee aa ON aa.schedule_id = ts.schedule_id AND aa.role = 'AUTHOR'
+                JOIN member am ON am.member_id = aa.member_id
+                LEFT JOIN profile_image pi ON pi.profile_image_id = am.profile_image_id
+            WHERE ts.schedule_id BETWEEN ? AND ?
+            """;
+    private static final String UPDATE_AUTHOR_SQL = """
+            UPDATE schedule_card
+            SET author_nickname = (SELECT m.nickname FROM member m WHERE m.member_id = ?),
+                author_s3_object_key = (SELECT pi.s3_object_key
+                                        FROM member m
+                                            JOIN profile_image pi ON pi.profile_image_id = m.profile_image_id
+                                        WHERE m.member_id = ?)
+            WHERE author_member_id = ?
+            """;
+    private static final String UPDATE_THUMBNAIL_SQL = """
+            UPDATE schedule_card
+            SET thumbnail_s3_object_key = (SELECT tp.thumbnail_s3_object_key FROM travel_place tp WHERE tp.place_id = ?)
+            WHERE schedule_id IN (SELECT tr.schedule_id FROM travel_route tr WHERE tr.place_id = ? AND tr.route_order = 1)
+            """;
+    private static final String FIND_MEMBER_ID_BY_PROFILE_IMAGE_SQL = "SELECT member_id FROM member WHERE profile_image_id = ?";
+    private static final String FIND_MAX_SCHEDULE_ID_SQL = "SELECT MAX(schedule_id) FROM travel_schedule";
+    private static final String FIND_MAX_CARD_SCHEDULE_ID_SQL = "SELECT MAX(schedule_id) FROM schedule_card";
+
+    private final ScheduleCardProperties scheduleCardProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pendingScheduleIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingMemberIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingProfileImageIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingPlaceIds = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schedule-card-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!scheduleCardProperties.enabled()){
+            return;
+        }
+
+        long interval = scheduleCardProperties.flushIntervalMillisOrDefault();
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleScheduleChanged(ScheduleChangedEvent event){
+        if (scheduleCardProperties.enabled()){
+            pendingScheduleIds.add(event.scheduleId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMemberChanged(MemberChangedEvent event){
+        if (scheduleCardProperties.enabled()){
+            pendingMemberIds.add(event.memberId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProfileImageChanged(ProfileImageChangedEvent event){
+        if (scheduleCardProperties.enabled()){
+            pendingProfileImageIds.add(event.profileImageId());
+        }
+    }
+
+    // 대표 이미지 변경은 여행지 저장으로 반영됨 (썸네일 키가 travel_place 에 있음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePlaceChanged(TravelPlaceChangedEvent event){
+        if (scheduleCardProperties.enabled() && event.changeType().isSaved()){
+            pendingPlaceIds.add(event.placeId());
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 한 트랜잭션으로 반영
+     * @return 다시 만든 일정 수
+     */
+    public synchronized int flush(){
+        List<Long> scheduleIds = drain(pendingScheduleIds);
+        List<Long> memberIds = drain(pendingMemberIds);
+        List<Long> profileImageIds = drain(pendingProfileImageIds);
+        List<Long> placeIds = drain(pendingPlaceIds);
+
+        if (scheduleIds.isEmpty() && memberIds.isEmpty() && profileImageIds.isEmpty() && placeIds.isEmpty()){
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshSchedules(scheduleIds);
+                refreshAuthors(memberIds, profileImageIds);
+                refreshThumbnails(placeIds);
+            });
+        } catch (RuntimeException e) {
+            // 실패한 변경은 다음 flush 때 다시 반영
+            pendingScheduleIds.addAll(scheduleIds);
+            pendingMemberIds.addAll(memberIds);
+            pendingProfileImageIds.addAll(profileImageIds);
+            pendingPlaceIds.addAll(placeIds);
+            throw e;
+        }
+
+        return scheduleIds.size();
+    }
+
+    /**
+     * 일정 ID 구간의 카드를 원본 테이블에서 다시 만듦
+     * @return 만든 카드 수
+     */
+    public int rebuild(long fromScheduleId, long toScheduleId){
+        Integer inserted = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_SCHEDULES_SQL, Long.class, fromScheduleId, toScheduleId);
+            jdbcTemplate.update(DELETE_CARDS_SQL, fromScheduleId, toScheduleId);
+            return jdbcTemplate.update(INSERT_CARDS_SQL, fromScheduleId, toScheduleId);
+        });
+
+        return inserted == null ? 0 : inserted;
+    }
+
+    /**
+     * 일정, 일정 카드 중 가장 큰 일정 ID (삭제된 일정의 카드도 보정 범위에 포함)
+     */
+    public Long findMaxScheduleId(){
+        Long maxScheduleId = jdbcTemplate.queryForObject(FIND_MAX_SCHEDULE_ID_SQL, Long.class);
+        Long maxCardScheduleId = jdbcTemplate.queryForObject(FIND_MAX_CARD_SCHEDULE_ID_SQL, Long.class);
+
+        if (maxScheduleId == null || maxCardScheduleId == null){
+            return maxScheduleId == null ? maxCardScheduleId : maxScheduleId;
+        }
+
+        return Math.max(maxScheduleId, maxCardScheduleId);
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        flushExecutor.shutdownNow();
+
+        if (scheduleCardProperties.enabled()){
+            flushSafely();
+        }
+    }
+
+
+    // 삭제된 일정은 INSERT 대상이 없어 카드만 삭제됨
+    // 일정 ID 순으로 잠근 뒤 삭제, 생성 (다른 서버의 flush, 전체 재생성과 잠금 순서를 맞춤)
+    private void refreshSchedules(List<Long> scheduleIds){
+        if (scheduleIds.isEmpty()){
+            return;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(scheduleIds.size(), "?"));
+        jdbcTemplate.queryForList(LOCK_SCHEDULES_IN_SQL.formatted(placeholders), Long.class, scheduleIds.toArray());
+
+        List<Object[]> batchArgs = scheduleIds.stream()
+                .sorted()
+                .map(scheduleId -> new Object[]{scheduleId, scheduleId})
+                .toList();
+
+        jdbcTemplate.batchUpdate(DELETE_CARDS_SQL, batchArgs);
+        jdbcTemplate.batchUpdate(INSERT_CARDS_SQL, batchArgs);
+    }
+
+    private void refreshAuthors(List<Long> memberIds, List<Long> profileImageIds){
+        Set<Long> authorIds = new HashSet<>(memberIds);
+        for (Long profileImageId : profileImageIds) {
+            authorIds.addAll(jdbcTemplate.queryForList(FIND_MEMBER_ID_BY_PROFILE_IMAGE_SQL, Long.class, profileImageId));
+        }
+
+        if (authorIds.isEmpty()){
+            return;
+        }
+
+        List<Object[]> batchArgs = authorIds.stream()
+                .map(authorId -> new Object[]{authorId, authorId, authorId})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_AUTHOR_SQL, batchArgs);
+    }
+
+    private void refreshThumbnails(List<Long> placeIds){
+        if (placeIds.isEmpty()){
+            return;
+        }
+
+        List<Object[]> batchArgs = placeIds.stream()
+                .map(placeId -> new Object[]{placeId, placeId})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_THUMBNAIL_SQL, batchArgs);
+    }
+
+    private List<Long> drain(Set<Long> pendingIds){
+        List<Long> ids = new ArrayList<>();
+
+        for (Long id : pendingIds) {
+            if (pendingIds.remove(id)){
+                ids.add(id);
+            }
+        }
+
+        return ids;
+    }
+
+    private void flushSafely(){
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("일정 카드 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.triptune.schedule.card;
+
+import com.triptune.schedule.properties.ScheduleCardProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * schedule_card 전체를 원본 테이블에서 다시 만드는 보정 작업
+ * - 서버 종료로 유실된 변경, 이벤트가 발행되지 않은 변경을 보정
+ * - 일정 ID 구간마다 트랜잭션을 나눠 커밋하며, 시작 시 한 번 실행한 뒤 주기적으로 실행
+ * - 여러 서버 중 Redis 락을 얻은 서버만 주기마다 한 번 실행 (Redis 장애 시에는 그대로 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleCardRebuilder {
+    private static final String LOCK_KEY = "schedule:card:rebuild:lock";
+
+    private final ScheduleCardProperties scheduleCardProperties;
+    private final ScheduleCardProjector scheduleCardProjector;
+    private final StringRedisTemplate redisTemplate;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schedule-card-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!scheduleCardProperties.isRebuildScheduled()){
+            return;
+        }
+
+        long interval = scheduleCardProperties.rebuildIntervalMinutes();
+        rebuildExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                if (!tryLock(Duration.ofMinutes(interval))){
+                    return;
+                }
+
+                int cardCount = rebuild();
+                log.info("일정 카드 전체 재생성 완료: {} 건", cardCount);
+            } catch (RuntimeException e) {
+                log.error("일정 카드 전체 재생성 실패", e);
+            }
+        }, 0, interval, TimeUnit.MINUTES);
+    }
+
+    /**
+     * @return 만든 카드 수
+     */
+    public int rebuild(){
+        Long maxScheduleId = scheduleCardProjector.findMaxScheduleId();
+        if (maxScheduleId == null){
+            return 0;
+        }
+
+        int batchSize = scheduleCardProperties.rebuildBatchSizeOrDefault();
+        int cardCount = 0;
+
+        for (long start = 1; start <= maxScheduleId; start += batchSize) {
+            cardCount += scheduleCardProjector.rebuild(start, start + batchSize - 1);
+        }
+
+        return cardCount;
+    }
+
+    /**
+     * 재생성 주기 동안 유지되는 락을 얻은 경우에만 true
+     * - 락은 해제하지 않고 만료시켜 다른 서버가 같은 주기에 다시 실행하지 않도록 함
+     */
+    boolean tryLock(Duration ttl){
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", ttl));
+        } catch (DataAccessException e) {
+            log.warn("일정 카드 재생성 락 획득 실패, 락 없이 실행", e);
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        rebuildExecutor.shutdownNow();
+    }
+}
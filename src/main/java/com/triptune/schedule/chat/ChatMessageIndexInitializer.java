@@ -0,0 +1,37 @@
+package com.triptune.schedule.chat;
+
+import com.triptune.schedule.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * ChatMessage 에 선언된 인덱스 생성
+ * - spring.data.mongodb.auto-index-creation 기본값이 false 이므로 애플리케이션 시작 시 직접 생성
+ * - 이미 같은 인덱스가 있으면 MongoDB 에서 무시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes(){
+        // 인덱스 생성 실패가 애플리케이션 시작 실패로 이어지지 않도록 로그만 남김
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(ChatMessage.class);
+            IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(ChatMessage.class)
+                    .forEach(indexOperations::ensureIndex);
+        } catch (Exception e) {
+            log.error("채팅 인덱스 생성 실패", e);
+        }
+    }
+}
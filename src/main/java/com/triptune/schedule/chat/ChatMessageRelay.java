@@ -0,0 +1,216 @@
+package com.triptune.schedule.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.properties.ChatRelayProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 메시지 브로드캐스트
+ * - 기본: SimpleBroker 로 같은 서버의 구독자에게만 전송
+ * - redisEnabled: 일정별 Redis 채널로 발행하고, 채널을 구독한 서버가 각자 자기 구독자에게 전송 (발행한 서버도 채널로 받아 전송)
+ * - 서버는 로컬 구독자가 있는 일정의 채널만 구독 (첫 구독 시 구독, 마지막 구독 해제/연결 종료 시 구독 해제)
+ * - 발행 실패 시 같은 서버의 구독자에게라도 전송
+ * - 지표: chat.relay.publish.failure
+ */
+@Slf4j
+@Component
+public class ChatMessageRelay implements MessageListener {
+    private static final Pattern CHAT_DESTINATION = Pattern.compile("^/sub/schedules/(\\d+)/chats$");
+
+    private final ChatRelayProperties chatRelayProperties;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Counter publishFailureCounter;
+
+    // sessionId -> (subscriptionId -> scheduleId)
+    private final Map<String, Map<String, Long>> subscriptions = new HashMap<>();
+    // scheduleId -> 로컬 구독 수
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+
+    public ChatMessageRelay(ChatRelayProperties chatRelayProperties,
+                            SimpMessagingTemplate messagingTemplate,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.chatRelayProperties = chatRelayProperties;
+        this.messagingTemplate = messagingTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.publishFailureCounter = meterRegistry.counter("chat.relay.publish.failure");
+    }
+
+
+    public static String chatDestination(Long scheduleId){
+        return "/sub/schedules/" + scheduleId + "/chats";
+    }
+
+    public void send(Long scheduleId, ChatResponse response){
+        if (!chatRelayProperties.redisEnabled()){
+            messagingTemplate.convertAndSend(chatDestination(scheduleId), response);
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(channel(scheduleId), objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("채팅 메시지 발행 실패, 같은 서버 구독자에게만 전송: scheduleId={}", scheduleId, e);
+            publishFailureCounter.increment();
+            messagingTemplate.convertAndSend(chatDestination(scheduleId), response);
+        }
+    }
+
+    /**
+     * Redis 채널로 받은 메시지를 로컬 구독자에게 전송
+     * - 발행 시 직렬화한 JSON 을 다시 변환하지 않고 그대로 전송
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long scheduleId = Long.valueOf(channel.substring(chatRelayProperties.channelPrefixOrDefault().length()));
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        // convertAndSend 로 보내면 application/json 의 byte[] 를 Jackson 이 Base64 문자열로 변환하므로 메시지를 직접 만들어 전송
+        messagingTemplate.send(chatDestination(scheduleId), MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
+    }
+
+
+    @EventListener
+    public void handleSessionSubscribe(SessionSubscribeEvent event){
+        if (!chatRelayProperties.redisEnabled()){
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getDestination() == null){
+            return;
+        }
+
+        Matcher matcher = CHAT_DESTINATION.matcher(accessor.getDestination());
+        if (matcher.matches()){
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    @EventListener
+    public void handleSessionUnsubscribe(SessionUnsubscribeEvent event){
+        if (!chatRelayProperties.redisEnabled()){
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event){
+        if (!chatRelayProperties.redisEnabled()){
+            return;
+        }
+
+        disconnect(event.getSessionId());
+    }
+
+
+    private synchronized void subscribe(String sessionId, String subscriptionId, Long scheduleId){
+        Long previous = subscriptions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, scheduleId);
+        if (previous != null){
+            release(previous);
+        }
+
+        if (subscriberCounts.merge(scheduleId, 1, Integer::sum) > 1){
+            return;
+        }
+
+        // 채널 구독 실패 시 구독 기록을 되돌려, 다음 구독에서 다시 채널 구독을 시도
+        try {
+            redisMessageListenerContainer.addMessageListener(this, topic(scheduleId));
+        } catch (RuntimeException e) {
+            log.warn("채팅 채널 구독 실패, 다음 구독 시 다시 시도: scheduleId={}", scheduleId, e);
+            subscriberCounts.remove(scheduleId);
+            unsubscribe(sessionId, subscriptionId);
+        }
+    }
+
+    private synchronized void unsubscribe(String sessionId, String subscriptionId){
+        Map<String, Long> sessionSubscriptions = subscriptions.get(sessionId);
+        if (sessionSubscriptions == null){
+            return;
+        }
+
+        Long scheduleId = sessionSubscriptions.remove(subscriptionId);
+        if (sessionSubscriptions.isEmpty()){
+            subscriptions.remove(sessionId);
+        }
+
+        if (scheduleId != null){
+            release(scheduleId);
+        }
+    }
+
+    // 연결 종료 이벤트는 여러 번 발생할 수 있으므로 이미 정리된 세션은 무시
+    private synchronized void disconnect(String sessionId){
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(sessionId);
+        if (sessionSubscriptions == null){
+            return;
+        }
+
+        sessionSubscriptions.values().forEach(this::release);
+    }
+
+    private void release(Long scheduleId){
+        Integer count = subscriberCounts.get(scheduleId);
+        if (count == null){
+            return;
+        }
+
+        if (count > 1){
+            subscriberCounts.put(scheduleId, count - 1);
+            return;
+        }
+
+        subscriberCounts.remove(scheduleId);
+        redisMessageListenerContainer.removeMessageListener(this, topic(scheduleId));
+    }
+
+    private String channel(Long scheduleId){
+        return chatRelayProperties.channelPrefixOrDefault() + scheduleId;
+    }
+
+    private ChannelTopic topic(Long scheduleId){
+        return ChannelTopic.of(channel(scheduleId));
+    }
+}
@@ -0,0 +1,239 @@
+package com.triptune.schedule.chat;
+
+import com.triptune.global.message.ErrorCode;
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.exception.chat.UnavailableChatException;
+import com.triptune.schedule.properties.ChatMessageWriterProperties;
+import com.triptune.schedule.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅 메시지 저장
+ * - 기본: 메시지마다 바로 insert
+ * - write-behind: 제한된 크기의 큐에 모아 두었다가 batchSize 개가 쌓이거나 flush 주기가 되면 insertMany 로 저장
+ *   (브로드캐스트가 Mongo 저장을 기다리지 않음)
+ * - 큐가 가득 찬 경우 offerTimeout 만큼 기다린 뒤, 그래도 자리가 없으면 요청 스레드에서 바로 저장 (메시지 유실 없이 전송 속도를 늦춤)
+ * - 저장 실패 상태: 저장에 실패하면 다음 저장이 성공할 때까지 유지
+ *   - flush 는 실패한 배치(최대 batchSize 개)만 다시 저장하고, 성공하기 전까지 큐를 비우지 않음 (메모리에 쌓이는 메시지는 큐 크기 + batchSize 로 제한)
+ *   - 큐가 가득 차면 기다리거나 요청 스레드에서 저장하지 않고 바로 UnavailableChatException (STOMP 인바운드 스레드를 붙잡지 않음)
+ * - 종료 시 진행 중인 저장이 끝나기를 기다린 뒤 남은 메시지 모두 저장, 저장하지 못한 메시지 수는 로그로 남김
+ * - 지표: chat.message.writer.queue, chat.message.writer.failed, chat.message.writer.batch.size,
+ *   chat.message.writer.overflow, chat.message.writer.rejected
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private final ChatMessageWriterProperties chatMessageWriterProperties;
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final BlockingQueue<ChatMessage> queue;
+    private final List<ChatMessage> failedMessages = new ArrayList<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile boolean failing;
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-message-writer-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter overflowCounter;
+    private final Counter rejectedCounter;
+
+
+    public ChatMessageWriter(ChatMessageWriterProperties chatMessageWriterProperties,
+                             ChatMessageRepository chatMessageRepository,
+                             MeterRegistry meterRegistry) {
+        this.chatMessageWriterProperties = chatMessageWriterProperties;
+        this.chatMessageRepository = chatMessageRepository;
+        this.queue = new ArrayBlockingQueue<>(chatMessageWriterProperties.queueCapacityOrDefault());
+
+        Gauge.builder("chat.message.writer.queue", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("chat.message.writer.failed", failedMessages, List::size).register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.writer.batch.size").register(meterRegistry);
+        this.overflowCounter = meterRegistry.counter("chat.message.writer.overflow");
+        this.rejectedCounter = meterRegistry.counter("chat.message.writer.rejected");
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!chatMessageWriterProperties.writeBehind()){
+            return;
+        }
+
+        long interval = chatMessageWriterProperties.flushIntervalMillisOrDefault();
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void write(ChatMessage chatMessage){
+        if (!chatMessageWriterProperties.writeBehind()){
+            chatMessageRepository.insert(chatMessage);
+            return;
+        }
+
+        if (!offer(chatMessage)){
+            if (failing){
+                rejectedCounter.increment();
+                throw new UnavailableChatException(ErrorCode.CHAT_MESSAGE_SAVE_UNAVAILABLE);
+            }
+
+            overflowCounter.increment();
+            insert(chatMessage);
+            return;
+        }
+
+        if (queue.size() >= chatMessageWriterProperties.batchSizeOrDefault() && flushRequested.compareAndSet(false, true)){
+            requestFlush();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 메시지를 batchSize 단위 insertMany 로 저장
+     * - 이전에 실패한 메시지를 먼저 다시 저장하고, 다시 실패하면 큐를 비우지 않고 예외
+     * @return 저장한 메시지 수
+     */
+    public synchronized int flush(){
+        flushRequested.set(false);
+
+        int count = retryFailedMessages();
+        int batchSize = chatMessageWriterProperties.batchSizeOrDefault();
+
+        while (true) {
+            List<ChatMessage> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+
+            if (batch.isEmpty()){
+                return count;
+            }
+
+            try {
+                chatMessageRepository.insert(batch);
+            } catch (RuntimeException e) {
+                failedMessages.addAll(batch);
+                failing = true;
+                throw e;
+            }
+
+            failing = false;
+            batchSizeSummary.record(batch.size());
+            count += batch.size();
+        }
+    }
+
+    // 진행 중인 저장을 중단하면 메시지가 유실되므로 interrupt 없이 끝나기를 기다림
+    @PreDestroy
+    public void shutdown(){
+        flushExecutor.shutdown();
+        awaitFlushTermination();
+
+        if (!chatMessageWriterProperties.writeBehind()){
+            return;
+        }
+
+        flushSafely();
+
+        int dropped = countUnsaved();
+        if (dropped > 0){
+            log.error("채팅 메시지 저장 실패로 종료 시 유실: dropped={}", dropped);
+        }
+    }
+
+
+    // 일부만 저장된 채 실패했을 수 있으므로 ID 기준 저장(upsert)으로 다시 저장
+    private int retryFailedMessages(){
+        if (failedMessages.isEmpty()){
+            return 0;
+        }
+
+        List<ChatMessage> retryMessages = new ArrayList<>(failedMessages);
+        try {
+            chatMessageRepository.saveAll(retryMessages);
+        } catch (RuntimeException e) {
+            failing = true;
+            throw e;
+        }
+
+        failedMessages.clear();
+        failing = false;
+
+        return retryMessages.size();
+    }
+
+    private void insert(ChatMessage chatMessage){
+        try {
+            chatMessageRepository.insert(chatMessage);
+        } catch (RuntimeException e) {
+            failing = true;
+            throw e;
+        }
+
+        failing = false;
+    }
+
+    // 저장 실패 상태에서는 자리가 날 때까지 기다리지 않음
+    private boolean offer(ChatMessage chatMessage){
+        if (failing){
+            return queue.offer(chatMessage);
+        }
+
+        try {
+            return queue.offer(chatMessage, chatMessageWriterProperties.offerTimeoutMillisOrDefault(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void requestFlush(){
+        try {
+            flushExecutor.execute(this::flushSafely);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 shutdown 에서 남은 메시지를 저장
+            flushRequested.set(false);
+        }
+    }
+
+    private void awaitFlushTermination(){
+        try {
+            if (!flushExecutor.awaitTermination(chatMessageWriterProperties.shutdownTimeoutMillisOrDefault(), TimeUnit.MILLISECONDS)){
+                log.warn("채팅 메시지 flush 종료 대기 시간 초과, 진행 중인 저장을 중단");
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    private synchronized int countUnsaved(){
+        return queue.size() + failedMessages.size();
+    }
+
+    private void flushSafely(){
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 저장 실패: queued={}", queue.size(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.triptune.schedule.chat;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * STOMP 세션의 채팅 회원 정보
+ * - CONNECT 시 한 번 조회해 WebSocket 세션 속성에 저장하고 메시지 전송 시 재사용
+ * - 닉네임, 프로필 이미지 변경은 다시 연결한 이후부터 반영
+ */
+@Getter
+public class ChatSessionContext {
+    public static final String SESSION_ATTRIBUTE = "chatSessionContext";
+
+    private final String sessionId;
+    private final Long memberId;
+    private final String nickname;
+    private final String profileUrl;
+
+
+    public ChatSessionContext(String sessionId, Long memberId, String nickname, String profileUrl) {
+        this.sessionId = sessionId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileUrl = profileUrl;
+    }
+
+    public static ChatSessionContext from(Map<String, Object> sessionAttributes){
+        if (sessionAttributes == null){
+            return null;
+        }
+
+        return (ChatSessionContext) sessionAttributes.get(SESSION_ATTRIBUTE);
+    }
+
+    public void saveTo(Map<String, Object> sessionAttributes){
+        sessionAttributes.put(SESSION_ATTRIBUTE, this);
+    }
+}
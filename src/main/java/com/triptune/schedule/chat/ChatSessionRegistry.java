@@ -0,0 +1,93 @@
+package com.triptune.schedule.chat;
+
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.event.AttendeeChangedEvent;
+import com.triptune.schedule.properties.AttendeePermissionCacheProperties;
+import com.triptune.schedule.repository.TravelAttendeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * STOMP 세션별 일정 참석자 권한
+ * - SUBSCRIBE 또는 첫 메시지 전송 시 한 번 조회하고, 이후 메시지는 조회 없이 사용
+ * - 참석자 추가/권한 변경/삭제, 일정 삭제 트랜잭션 커밋 후 해당 일정의 권한 전체 삭제 (다음 메시지에서 다시 조회)
+ * - 다른 서버의 변경은 AttendeeChangeBroadcaster 가 트랜잭션 없이 다시 발행한 이벤트로 삭제
+ * - 전파가 유실되어도 권한 캐시 TTL 이 지나면 다시 조회
+ * - 세션 연결 종료 시 삭제
+ */
+@Component
+public class ChatSessionRegistry {
+
+    private final TravelAttendeeRepository travelAttendeeRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    // scheduleId -> (sessionId -> 참석자 권한)
+    private final Map<Long, Map<String, ResolvedAccess>> accesses = new ConcurrentHashMap<>();
+
+
+    @Autowired
+    public ChatSessionRegistry(TravelAttendeeRepository travelAttendeeRepository,
+                               AttendeePermissionCacheProperties attendeePermissionCacheProperties) {
+        this(travelAttendeeRepository, attendeePermissionCacheProperties, System::nanoTime);
+    }
+
+    ChatSessionRegistry(TravelAttendeeRepository travelAttendeeRepository,
+                        AttendeePermissionCacheProperties attendeePermissionCacheProperties,
+                        LongSupplier nanoClock) {
+        this.travelAttendeeRepository = travelAttendeeRepository;
+        this.ttlNanos = Duration.ofSeconds(attendeePermissionCacheProperties.ttlSecondsOrDefault()).toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+
+    /**
+     * @return 일정 참석자가 아닌 경우 Optional.empty()
+     */
+    public Optional<AttendeeAccess> getAccess(ChatSessionContext context, Long scheduleId){
+        // 조회 전에 Map 을 가져와, 조회 중 삭제된 경우 삭제된 Map 에 저장되도록 함
+        Map<String, ResolvedAccess> sessions = accesses.computeIfAbsent(scheduleId, id -> new ConcurrentHashMap<>());
+        long now = nanoClock.getAsLong();
+
+        ResolvedAccess cached = sessions.get(context.getSessionId());
+        if (cached != null && now - cached.resolvedAt() < ttlNanos){
+            return Optional.of(cached.access());
+        }
+
+        Optional<AttendeeAccess> access = travelAttendeeRepository.findAttendeeAccess(scheduleId, context.getMemberId());
+        if (access.isPresent()){
+            sessions.put(context.getSessionId(), new ResolvedAccess(access.get(), now));
+        } else {
+            sessions.remove(context.getSessionId());
+        }
+        return access;
+    }
+
+    // 다른 서버에서 전파된 이벤트는 트랜잭션 없이 발행되므로 바로 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAttendeeChanged(AttendeeChangedEvent event){
+        accesses.remove(event.scheduleId());
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event){
+        accesses.values().forEach(sessions -> sessions.remove(event.getSessionId()));
+        accesses.values().removeIf(Map::isEmpty);
+    }
+
+
+    private record ResolvedAccess(
+            AttendeeAccess access,
+            long resolvedAt
+    ) {}
+}
@@ -1,7 +1,11 @@
 package com.triptune.schedule.controller;
 
 import com.triptune.global.response.ApiResponse;
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
+import com.triptune.global.util.CursorPage;
+import com.triptune.schedule.chat.ChatMessageRelay;
+import com.triptune.schedule.chat.ChatSessionContext;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
 import com.triptune.schedule.dto.response.ChatResponse;
 import com.triptune.schedule.exception.chat.BadRequestChatException;
@@ -15,7 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,7 +29,7 @@ public class ChatMessageController {
     private static final int MAX_MESSAGE_LENGTH = 1000;
 
     private final ChatMessageService chatMessageService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageRelay chatMessageRelay;
 
     @AttendeeCheck
     @GetMapping("/api/schedules/{scheduleId}/chats")
@@ -36,19 +40,27 @@ public class ChatMessageController {
         return ApiResponse.pageResponse(response);
     }
 
+    @AttendeeCheck
+    @GetMapping("/api/schedules/{scheduleId}/chats/cursor")
+    @Operation(summary = "채팅 커서 조회", description = "before 커서 이전의 채팅 기록을 커서 기반으로 조회한다. 첫 페이지는 before 없이 요청한다.")
+    public ApiResponse<CursorPageResponse<ChatResponse>> getChatMessagesByCursor(@PathVariable(name = "scheduleId") Long scheduleId,
+                                                                                @RequestParam(name = "before", required = false) String before){
+        CursorPage<ChatResponse> response = chatMessageService.getChatMessagesByCursor(scheduleId, before);
+        return ApiResponse.cursorPageResponse(response);
+    }
+
     @MessageMapping("/chats")
     @Operation(summary = "채팅 보내기", description = "메시지를 저장하고 채팅 참가자들에게 메시지를 보낸다.")
-    public void sendChatMessage(@Valid @Payload ChatMessageRequest chatMessageRequest){
+    public void sendChatMessage(@Valid @Payload ChatMessageRequest chatMessageRequest,
+                                SimpMessageHeaderAccessor headerAccessor){
         if (chatMessageRequest.getMessage().length() > MAX_MESSAGE_LENGTH){
             throw new BadRequestChatException(ErrorCode.CHAT_MESSAGE_TOO_LONG);
         }
 
-        ChatResponse response = chatMessageService.sendChatMessage(chatMessageRequest);
+        ChatSessionContext context = ChatSessionContext.from(headerAccessor.getSessionAttributes());
+        ChatResponse response = chatMessageService.sendChatMessage(context, chatMessageRequest);
 
-        messagingTemplate.convertAndSend(
-                "/sub/schedules/" + chatMessageRequest.getScheduleId() + "/chats",
-                response
-        );
+        chatMessageRelay.send(chatMessageRequest.getScheduleId(), response);
     }
 
 }
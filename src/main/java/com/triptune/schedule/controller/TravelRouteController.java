@@ -1,6 +1,8 @@
 package com.triptune.schedule.controller;
 
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
+import com.triptune.global.util.CursorPage;
 import com.triptune.schedule.dto.request.RouteCreateRequest;
 import com.triptune.schedule.dto.response.RouteResponse;
 import com.triptune.schedule.service.TravelRouteService;
@@ -32,6 +34,16 @@ public class TravelRouteController {
         return ApiResponse.pageResponse(response);
     }
 
+    @AttendeeCheck
+    @GetMapping("/routes/cursor")
+    @Operation(summary = "여행 루트 커서 조회", description = "저장되어 있는 여행 루트를 커서 기반으로 조회한다. 첫 페이지는 cursor 없이 요청한다.")
+    public ApiResponse<CursorPageResponse<RouteResponse>> getTravelRoutesByCursor(@PathVariable(name = "scheduleId") Long scheduleId,
+                                                                                 @RequestParam(name = "cursor", required = false) String cursor){
+        CursorPage<RouteResponse> response = travelRouteService.getTravelRoutesByCursor(scheduleId, cursor);
+
+        return ApiResponse.cursorPageResponse(response);
+    }
+
 
     @PostMapping("/routes")
     @Operation(summary = "여행 루트 마지막에 여행지 추가", description = "여행 루트의 마지막에 여행지를 추가한다.")
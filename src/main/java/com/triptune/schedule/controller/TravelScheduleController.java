@@ -2,8 +2,10 @@ package com.triptune.schedule.controller;
 
 import com.triptune.global.aop.AttendeeCheck;
 import com.triptune.global.response.ApiResponse;
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
 import com.triptune.global.response.page.SchedulePageResponse;
+import com.triptune.global.util.CursorPage;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
 import com.triptune.schedule.dto.request.ScheduleUpdateRequest;
 import com.triptune.schedule.dto.response.OverviewScheduleResponse;
@@ -39,6 +41,15 @@ public class TravelScheduleController {
         return ApiResponse.schedulePageResponse(response);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "전체 일정 목록 커서 조회", description = "작성한 전체 일정을 커서 기반으로 조회합니다. 첫 페이지는 cursor 없이 요청합니다.")
+    public ApiResponse<CursorPageResponse<ScheduleInfoResponse>> getAllSchedulesByCursor(@AuthenticationPrincipal(expression = "memberId") Long memberId,
+                                                                                        @RequestParam(name = "cursor", required = false) String cursor){
+        CursorPage<ScheduleInfoResponse> response = travelScheduleService.getAllSchedulesByCursor(cursor, memberId);
+
+        return ApiResponse.cursorPageResponse(response);
+    }
+
     @GetMapping("/shared")
     @Operation(summary = "공유된 일정 목록 조회", description = "작성한 일정 중 공유된 일정을 조회합니다.")
     public ApiResponse<SchedulePageResponse<ScheduleInfoResponse>> getSharedSchedules(@AuthenticationPrincipal(expression = "memberId") Long memberId,
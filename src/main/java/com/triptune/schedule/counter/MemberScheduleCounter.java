@@ -0,0 +1,115 @@
+package com.triptune.schedule.counter;
+
+import com.triptune.schedule.entity.MemberScheduleCount;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.MemberScheduleCountRepository;
+import com.triptune.schedule.repository.TravelScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 전체 일정 수, 공유 일정 수(참석자 2명 이상) 카운터
+ * - 일정 생성/삭제, 참석자 추가/나가기/내보내기 트랜잭션 안에서 member_schedule_count 를 증감
+ * - 일정 목록 헤더는 countDistinct 쿼리 대신 회원 카운터 한 행 조회로 처리
+ * - 변경 전 참석자 기준으로 계산하므로 참석자, 일정을 저장/삭제하기 전에 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberScheduleCounter {
+    private final MemberScheduleCountRepository memberScheduleCountRepository;
+    private final TravelScheduleRepository travelScheduleRepository;
+
+
+    public ScheduleCounts getCounts(Long memberId){
+        return memberScheduleCountRepository.findById(memberId)
+                .map(count -> new ScheduleCounts(count.getTotalCount(), count.getSharedCount()))
+                .orElseGet(() -> countSchedules(memberId));
+    }
+
+    public void scheduleCreated(Long authorId){
+        addCounts(List.of(authorId), 1, 0);
+    }
+
+    /**
+     * @param attendeeMemberIds 추가 전 참석자 회원 ID
+     * @param guestId 추가되는 회원 ID
+     */
+    public void attendeeAdded(List<Long> attendeeMemberIds, Long guestId){
+        // 추가 후에는 항상 공유 일정
+        addCounts(List.of(guestId), 1, 1);
+
+        // 혼자 보던 일정이 공유 일정이 되는 경우
+        if (attendeeMemberIds.size() == TravelSchedule.SHARED_ATTENDEE_NUMBER - 1){
+            addCounts(attendeeMemberIds, 0, 1);
+        }
+    }
+
+    /**
+     * @param attendeeMemberIds 삭제 전 참석자 회원 ID (삭제되는 회원 포함)
+     * @param memberId 나가거나 내보내지는 회원 ID
+     */
+    public void attendeeRemoved(List<Long> attendeeMemberIds, Long memberId){
+        boolean isShared = attendeeMemberIds.size() >= TravelSchedule.SHARED_ATTENDEE_NUMBER;
+        addCounts(List.of(memberId), -1, isShared ? -1 : 0);
+
+        // 남은 참석자가 한 명이면 더 이상 공유 일정이 아님
+        if (attendeeMemberIds.size() == TravelSchedule.SHARED_ATTENDEE_NUMBER){
+            List<Long> remainingMemberIds = attendeeMemberIds.stream()
+                    .filter(attendeeMemberId -> !attendeeMemberId.equals(memberId))
+                    .toList();
+
+            addCounts(remainingMemberIds, 0, -1);
+        }
+    }
+
+    /**
+     * @param attendeeMemberIds 삭제 전 참석자 회원 ID
+     */
+    public void scheduleDeleted(List<Long> attendeeMemberIds){
+        boolean isShared = attendeeMemberIds.size() >= TravelSchedule.SHARED_ATTENDEE_NUMBER;
+        addCounts(attendeeMemberIds, -1, isShared ? -1 : 0);
+    }
+
+
+    private void addCounts(Collection<Long> memberIds, int totalDelta, int sharedDelta){
+        if (memberIds.isEmpty()){
+            return;
+        }
+
+        createMissingCounts(memberIds);
+        memberScheduleCountRepository.addCounts(memberIds, totalDelta, sharedDelta);
+    }
+
+    // 카운터 행이 없는 회원은 변경 전 일정 수로 먼저 채움
+    // (조회와 생성 사이에 다른 트랜잭션이 먼저 커밋한 행은 insertIfAbsent 가 무시)
+    private void createMissingCounts(Collection<Long> memberIds){
+        Set<Long> existingMemberIds = memberScheduleCountRepository.findAllById(memberIds).stream()
+                .map(MemberScheduleCount::getMemberId)
+                .collect(Collectors.toSet());
+
+        memberIds.stream()
+                .filter(memberId -> !existingMemberIds.contains(memberId))
+                .forEach(memberId -> {
+                    ScheduleCounts counts = countSchedules(memberId);
+                    memberScheduleCountRepository.insertIfAbsent(memberId, counts.totalCount(), counts.sharedCount());
+                });
+    }
+
+    private ScheduleCounts countSchedules(Long memberId){
+        return new ScheduleCounts(
+                travelScheduleRepository.countTravelSchedules(memberId),
+                travelScheduleRepository.countSharedTravelSchedules(memberId)
+        );
+    }
+
+
+    public record ScheduleCounts(
+            int totalCount,
+            int sharedCount
+    ) {}
+}
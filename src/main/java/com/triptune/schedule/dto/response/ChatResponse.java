@@ -1,7 +1,6 @@
 package com.triptune.schedule.dto.response;
 
 import com.triptune.member.dto.response.MemberProfileResponse;
-import com.triptune.member.entity.Member;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.global.util.TimeUtils;
 import lombok.Builder;
@@ -41,10 +40,10 @@ public class ChatResponse {
                 .build();
     }
 
-    public static ChatResponse of(ChatMessage message, Member member, String profileUrl){
+    public static ChatResponse of(ChatMessage message, String nickname, String profileUrl){
         return ChatResponse.builder()
                 .messageId(message.getMessageId())
-                .nickname(member.getNickname())
+                .nickname(nickname)
                 .profileUrl(profileUrl)
                 .message(message.getMessage())
                 .timestamp(TimeUtils.convertToKST(message.getTimestamp()))
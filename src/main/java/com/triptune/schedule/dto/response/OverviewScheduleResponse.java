@@ -1,6 +1,6 @@
 package com.triptune.schedule.dto.response;
 
-import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.dto.OverviewScheduleQueryDto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,12 +25,12 @@ public class OverviewScheduleResponse {
         this.author = author;
     }
 
-    public static OverviewScheduleResponse from(TravelSchedule travelSchedule, String author){
+    public static OverviewScheduleResponse from(OverviewScheduleQueryDto dto){
         return OverviewScheduleResponse.builder()
-                .scheduleId(travelSchedule.getScheduleId())
-                .scheduleName(travelSchedule.getScheduleName())
-                .startDate(travelSchedule.getStartDate())
-                .endDate(travelSchedule.getEndDate())
-                .author(author).build();
+                .scheduleId(dto.getScheduleId())
+                .scheduleName(dto.getScheduleName())
+                .startDate(dto.getStartDate())
+                .endDate(dto.getEndDate())
+                .author(dto.getAuthorNickname()).build();
     }
 }
@@ -2,6 +2,7 @@ package com.triptune.schedule.dto.response;
 
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.route.RouteLegDistances;
 import com.triptune.travel.entity.TravelPlace;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,9 +22,11 @@ public class RouteResponse {
     private double longitude;
     private String placeName;
     private String thumbnailUrl;
+    private Double legDistance;     // 직전 루트에서의 거리(km), 첫 루트는 0
+    private double totalDistance;   // 일정 전체 루트 거리(km)
 
     @Builder
-    public RouteResponse(int routeOrder, Long placeId, String country, String city, String district, String address, String detailAddress, double latitude, double longitude, String placeName, String thumbnailUrl) {
+    public RouteResponse(int routeOrder, Long placeId, String country, String city, String district, String address, String detailAddress, double latitude, double longitude, String placeName, String thumbnailUrl, Double legDistance, double totalDistance) {
         this.routeOrder = routeOrder;
         this.placeId = placeId;
         this.country = country;
@@ -35,10 +38,12 @@ public class RouteResponse {
         this.longitude = longitude;
         this.placeName = placeName;
         this.thumbnailUrl = thumbnailUrl;
+        this.legDistance = legDistance;
+        this.totalDistance = totalDistance;
     }
 
 
-    public static RouteResponse of(RouteQueryDto routeQueryDto, String thumbnailUrl){
+    public static RouteResponse of(RouteQueryDto routeQueryDto, String thumbnailUrl, RouteLegDistances legDistances){
         return RouteResponse.builder()
                 .routeOrder(routeQueryDto.getRouteOrder())
                 .placeId(routeQueryDto.getPlaceId())
@@ -51,6 +56,8 @@ public class RouteResponse {
                 .longitude(routeQueryDto.getLongitude())
                 .placeName(routeQueryDto.getPlaceName())
                 .thumbnailUrl(thumbnailUrl)
+                .legDistance(legDistances.legDistance(routeQueryDto.getRouteOrder()))
+                .totalDistance(legDistances.totalDistance())
                 .build();
     }
 }
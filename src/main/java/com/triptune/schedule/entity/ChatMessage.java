@@ -4,6 +4,9 @@ import jakarta.persistence.Id;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -12,6 +15,10 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document(collection = "chat_message")
+@CompoundIndexes({
+        // 일정별 최신순 커서 조회 (같은 시각의 메시지는 _id 로 구분)
+        @CompoundIndex(name = "idx_schedule_timestamp", def = "{'scheduleId': 1, 'timestamp': -1, '_id': -1}")
+})
 public class ChatMessage {
 
     @Id
@@ -23,7 +30,8 @@ public class ChatMessage {
     private String message;
     private Instant timestamp;
 
-    private ChatMessage(Long scheduleId, Long memberId, String message, Instant timestamp) {
+    private ChatMessage(String messageId, Long scheduleId, Long memberId, String message, Instant timestamp) {
+        this.messageId = messageId;
         this.scheduleId = scheduleId;
         this.memberId = memberId;
         this.message = message;
@@ -32,7 +40,9 @@ public class ChatMessage {
 
 
     public static ChatMessage createChatMessage(Long scheduleId, Long memberId, String message) {
+        // 저장 전에 응답할 수 있도록 ID 를 미리 생성
         return new ChatMessage(
+                ObjectId.get().toHexString(),
                 scheduleId,
                 memberId,
                 message,
@@ -0,0 +1,37 @@
+package com.triptune.schedule.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "member_schedule_count")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberScheduleCount {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "total_count")
+    private int totalCount;
+
+    @Column(name = "shared_count")
+    private int sharedCount;
+
+
+    private MemberScheduleCount(Long memberId, int totalCount, int sharedCount) {
+        this.memberId = memberId;
+        this.totalCount = totalCount;
+        this.sharedCount = sharedCount;
+    }
+
+    public static MemberScheduleCount createMemberScheduleCount(Long memberId, int totalCount, int sharedCount){
+        return new MemberScheduleCount(memberId, totalCount, sharedCount);
+    }
+}
@@ -0,0 +1,73 @@
+package com.triptune.schedule.entity;
+
+import com.triptune.schedule.enums.AttendeeRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 화면용 읽기 모델 (참석자 회원마다 한 행)
+ * - ScheduleCardProjector 가 일정, 루트, 참석자, 프로필 변경 이벤트를 받아 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "schedule_card",
+        uniqueConstraints = @UniqueConstraint(name = "uk_schedule_card_member_schedule", columnNames = {"member_id", "schedule_id"}),
+        indexes = {
+                @Index(name = "idx_schedule_card_member_updated", columnList = "member_id, updated_at, schedule_id"),
+                @Index(name = "idx_schedule_card_author", columnList = "author_member_id")
+        }
+)
+public class ScheduleCard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "card_id")
+    private Long cardId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role")
+    private AttendeeRole role;
+
+    @Column(name = "schedule_name")
+    private String scheduleName;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "thumbnail_s3_object_key")
+    private String thumbnailS3ObjectKey;
+
+    @Column(name = "author_member_id")
+    private Long authorMemberId;
+
+    @Column(name = "author_nickname")
+    private String authorNickname;
+
+    @Column(name = "author_s3_object_key")
+    private String authorS3ObjectKey;
+
+    @Column(name = "attendee_count")
+    private int attendeeCount;
+}
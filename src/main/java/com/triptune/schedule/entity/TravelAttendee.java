@@ -1,9 +1,11 @@
 package com.triptune.schedule.entity;
 
 import com.triptune.common.entity.BaseTimeEntity;
+import com.triptune.common.entity.PooledIdGenerator;
 import com.triptune.member.entity.Member;
 import com.triptune.schedule.enums.AttendeePermission;
 import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.ScheduleEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,10 +16,14 @@ import java.util.Objects;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ScheduleEntityListener.class)
 public class TravelAttendee extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "travel_attendee_id_generator")
+    @TableGenerator(name = "travel_attendee_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "travel_attendee", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "attendee_id")
     private Long attendeeId;
 
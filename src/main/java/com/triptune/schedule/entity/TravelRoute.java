@@ -1,6 +1,8 @@
 package com.triptune.schedule.entity;
 
 import com.triptune.common.entity.BaseCreatedEntity;
+import com.triptune.common.entity.PooledIdGenerator;
+import com.triptune.schedule.event.ScheduleEntityListener;
 import com.triptune.travel.entity.TravelPlace;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,10 +12,14 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ScheduleEntityListener.class)
 public class TravelRoute extends BaseCreatedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "travel_route_id_generator")
+    @TableGenerator(name = "travel_route_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "travel_route", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "route_id")
     private Long routeId;
 
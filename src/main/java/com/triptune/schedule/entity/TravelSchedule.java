@@ -2,6 +2,7 @@ package com.triptune.schedule.entity;
 
 import com.triptune.common.entity.BaseTimeEntity;
 import com.triptune.schedule.dto.request.ScheduleUpdateRequest;
+import com.triptune.schedule.event.ScheduleEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,9 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ScheduleEntityListener.class)
 public class TravelSchedule extends BaseTimeEntity {
+    public static final int SHARED_ATTENDEE_NUMBER = 2;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +31,13 @@ public class TravelSchedule extends BaseTimeEntity {
     @Column(name = "end_date")
     private LocalDate endDate;
 
+    @Column(name = "attendee_count")
+    private int attendeeCount;
+
+    // 루트 변경 시 TravelScheduleRepository.increaseRouteVersion 으로만 증가 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(name = "route_version", updatable = false)
+    private long routeVersion;
+
     @OneToMany(mappedBy = "travelSchedule", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TravelAttendee> travelAttendees = new ArrayList<>();
 
@@ -71,5 +81,16 @@ public class TravelSchedule extends BaseTimeEntity {
 
     public void addTravelAttendees(TravelAttendee travelAttendee) {
         travelAttendees.add(travelAttendee);
+        attendeeCount++;
+    }
+
+    public void removeTravelAttendees(TravelAttendee travelAttendee) {
+        if (travelAttendees.remove(travelAttendee)){
+            attendeeCount--;
+        }
+    }
+
+    public boolean isShared() {
+        return attendeeCount >= SHARED_ATTENDEE_NUMBER;
     }
 }
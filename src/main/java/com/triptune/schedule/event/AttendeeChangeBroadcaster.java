@@ -0,0 +1,75 @@
+package com.triptune.schedule.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 참석자 변경을 다른 서버에 전파
+ * - 참석자 변경 트랜잭션 커밋 후 Redis 채널로 scheduleId 발행
+ * - 채널로 받은 scheduleId 는 트랜잭션 없이 AttendeeChangedEvent 로 다시 발행해 각 서버의 권한 캐시 삭제
+ *   (다시 발행한 이벤트는 트랜잭션이 없어 커밋 후 리스너인 발행 메서드가 실행되지 않으므로 재전파되지 않음)
+ * - 발행/구독 실패 시 다른 서버의 캐시는 TTL 만료로 반영
+ * - 지표: attendee.change.publish.failure
+ */
+@Slf4j
+@Component
+public class AttendeeChangeBroadcaster implements MessageListener {
+    public static final String CHANNEL = "schedule:attendee:changed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter publishFailureCounter;
+
+
+    public AttendeeChangeBroadcaster(StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     ApplicationEventPublisher eventPublisher,
+                                     MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.eventPublisher = eventPublisher;
+        this.publishFailureCounter = meterRegistry.counter("attendee.change.publish.failure");
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe(){
+        try {
+            redisMessageListenerContainer.addMessageListener(this, ChannelTopic.of(CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("참석자 변경 채널 구독 실패, 다른 서버의 변경은 캐시 만료 후 반영", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAttendeeChanged(AttendeeChangedEvent event){
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(event.scheduleId()));
+        } catch (RuntimeException e) {
+            log.warn("참석자 변경 발행 실패, 다른 서버의 캐시는 만료 후 반영: scheduleId={}", event.scheduleId(), e);
+            publishFailureCounter.increment();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long scheduleId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
+    }
+}
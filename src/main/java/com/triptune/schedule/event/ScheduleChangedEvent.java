@@ -0,0 +1,5 @@
+package com.triptune.schedule.event;
+
+public record ScheduleChangedEvent(
+        Long scheduleId
+) {}
@@ -0,0 +1,46 @@
+package com.triptune.schedule.event;
+
+import com.triptune.schedule.entity.TravelAttendee;
+import com.triptune.schedule.entity.TravelRoute;
+import com.triptune.schedule.entity.TravelSchedule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 일정, 일정 참석자, 여행 루트 변경 시 소속 일정 ID 로 ScheduleChangedEvent 발행
+ */
+@RequiredArgsConstructor
+public class ScheduleEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void afterChange(Object entity){
+        TravelSchedule travelSchedule = findTravelSchedule(entity);
+
+        if (travelSchedule != null && travelSchedule.getScheduleId() != null){
+            eventPublisher.publishEvent(new ScheduleChangedEvent(travelSchedule.getScheduleId()));
+        }
+    }
+
+    private TravelSchedule findTravelSchedule(Object entity){
+        if (entity instanceof TravelSchedule travelSchedule){
+            return travelSchedule;
+        }
+
+        if (entity instanceof TravelAttendee travelAttendee){
+            return travelAttendee.getTravelSchedule();
+        }
+
+        if (entity instanceof TravelRoute travelRoute){
+            return travelRoute.getTravelSchedule();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.triptune.schedule.exception.chat;
+
+import com.triptune.global.message.ErrorCode;
+
+public class UnavailableChatException extends ChatException {
+
+    public UnavailableChatException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,21 @@
+package com.triptune.schedule.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.attendee-permission-cache")
+public record AttendeePermissionCacheProperties(
+        boolean enabled,
+        Long maximumSize,
+        Long ttlSeconds
+) {
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final long DEFAULT_TTL_SECONDS = 60;
+
+    public long maximumSizeOrDefault(){
+        return maximumSize == null || maximumSize <= 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize;
+    }
+
+    public long ttlSecondsOrDefault(){
+        return ttlSeconds == null || ttlSeconds <= 0 ? DEFAULT_TTL_SECONDS : ttlSeconds;
+    }
+}
@@ -0,0 +1,39 @@
+package com.triptune.schedule.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.chat-message-writer")
+public record ChatMessageWriterProperties(
+        boolean writeBehind,
+        Integer queueCapacity,
+        Integer batchSize,
+        Long flushIntervalMillis,
+        Long offerTimeoutMillis,
+        Long shutdownTimeoutMillis
+) {
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 100;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    public int queueCapacityOrDefault(){
+        return queueCapacity == null || queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+    }
+
+    public int batchSizeOrDefault(){
+        return batchSize == null || batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
+    }
+
+    public long flushIntervalMillisOrDefault(){
+        return flushIntervalMillis == null || flushIntervalMillis <= 0 ? DEFAULT_FLUSH_INTERVAL_MILLIS : flushIntervalMillis;
+    }
+
+    public long offerTimeoutMillisOrDefault(){
+        return offerTimeoutMillis == null || offerTimeoutMillis < 0 ? DEFAULT_OFFER_TIMEOUT_MILLIS : offerTimeoutMillis;
+    }
+
+    public long shutdownTimeoutMillisOrDefault(){
+        return shutdownTimeoutMillis == null || shutdownTimeoutMillis <= 0 ? DEFAULT_SHUTDOWN_TIMEOUT_MILLIS : shutdownTimeoutMillis;
+    }
+}
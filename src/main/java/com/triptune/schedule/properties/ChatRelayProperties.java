@@ -0,0 +1,27 @@
+package com.triptune.schedule.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.chat-relay")
+public record ChatRelayProperties(
+        boolean redisEnabled,
+        String channelPrefix,
+        Integer sendBufferSizeLimit,
+        Integer sendTimeLimitMillis
+) {
+    private static final String DEFAULT_CHANNEL_PREFIX = "chat:schedule:";
+    private static final int DEFAULT_SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+    private static final int DEFAULT_SEND_TIME_LIMIT_MILLIS = 10_000;
+
+    public String channelPrefixOrDefault(){
+        return channelPrefix == null || channelPrefix.isBlank() ? DEFAULT_CHANNEL_PREFIX : channelPrefix;
+    }
+
+    public int sendBufferSizeLimitOrDefault(){
+        return sendBufferSizeLimit == null || sendBufferSizeLimit <= 0 ? DEFAULT_SEND_BUFFER_SIZE_LIMIT : sendBufferSizeLimit;
+    }
+
+    public int sendTimeLimitMillisOrDefault(){
+        return sendTimeLimitMillis == null || sendTimeLimitMillis <= 0 ? DEFAULT_SEND_TIME_LIMIT_MILLIS : sendTimeLimitMillis;
+    }
+}
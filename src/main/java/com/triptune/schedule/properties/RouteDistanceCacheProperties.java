@@ -0,0 +1,20 @@
+package com.triptune.schedule.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.route-distance-cache")
+public record RouteDistanceCacheProperties(
+        Long maximumSize,
+        Long ttlMinutes
+) {
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final long DEFAULT_TTL_MINUTES = 30;
+
+    public long maximumSizeOrDefault(){
+        return maximumSize == null || maximumSize <= 0 ? DEFAULT_MAXIMUM_SIZE : maximumSize;
+    }
+
+    public long ttlMinutesOrDefault(){
+        return ttlMinutes == null || ttlMinutes <= 0 ? DEFAULT_TTL_MINUTES : ttlMinutes;
+    }
+}
@@ -0,0 +1,26 @@
+package com.triptune.schedule.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.schedule-card")
+public record ScheduleCardProperties(
+        boolean enabled,
+        Long flushIntervalMillis,
+        Long rebuildIntervalMinutes,
+        Integer rebuildBatchSize
+) {
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 500;
+    private static final int DEFAULT_REBUILD_BATCH_SIZE = 1000;
+
+    public long flushIntervalMillisOrDefault(){
+        return flushIntervalMillis == null || flushIntervalMillis <= 0 ? DEFAULT_FLUSH_INTERVAL_MILLIS : flushIntervalMillis;
+    }
+
+    public boolean isRebuildScheduled(){
+        return enabled && rebuildIntervalMinutes != null && rebuildIntervalMinutes > 0;
+    }
+
+    public int rebuildBatchSizeOrDefault(){
+        return rebuildBatchSize == null || rebuildBatchSize <= 0 ? DEFAULT_REBUILD_BATCH_SIZE : rebuildBatchSize;
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageRepositoryCustom {
     Page<ChatMessage> findAllByScheduleId(Pageable pageable, @Param("scheduleId") Long scheduleId);
     List<ChatMessage> findAllByScheduleId(@Param("scheduleId") Long scheduleId);
     void deleteAllByScheduleId(@Param("scheduleId") Long scheduleId);
@@ -0,0 +1,9 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.schedule.entity.ChatMessage;
+
+public interface ChatMessageRepositoryCustom {
+    CursorPage<ChatMessage> findAllByScheduleIdByCursor(CursorPageable pageable, Long scheduleId);
+}
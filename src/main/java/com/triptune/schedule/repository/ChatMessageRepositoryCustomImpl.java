@@ -0,0 +1,54 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.PageCursor;
+import com.triptune.global.util.PageUtils;
+import com.triptune.schedule.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+
+    /**
+     * 커서 이전(더 오래된) 채팅을 최신순으로 조회
+     * - (scheduleId, timestamp desc, _id desc) 인덱스 범위 조회로 skip, count 없이 조회
+     * - 커서는 페이지 마지막(가장 오래된) 채팅의 timestamp|messageId
+     */
+    @Override
+    public CursorPage<ChatMessage> findAllByScheduleIdByCursor(CursorPageable pageable, Long scheduleId) {
+        PageCursor pageCursor = PageCursor.decode(pageable.cursor(), 2);
+
+        Criteria criteria = Criteria.where("scheduleId").is(scheduleId);
+        if (pageCursor != null){
+            Instant timestamp = pageCursor.getInstant(0);
+            String messageId = pageCursor.getString(1);
+
+            criteria = criteria.orOperator(
+                    Criteria.where("timestamp").lt(timestamp),
+                    Criteria.where("timestamp").is(timestamp).and("_id").lt(messageId)
+            );
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(pageable.fetchSize());
+
+        List<ChatMessage> contents = mongoTemplate.find(query, ChatMessage.class);
+
+        return PageUtils.createCursorPage(contents, pageable,
+                message -> PageCursor.encode(message.getTimestamp(), message.getMessageId()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.schedule.entity.MemberScheduleCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface MemberScheduleCountRepository extends JpaRepository<MemberScheduleCount, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("update MemberScheduleCount c " +
+            "set c.totalCount = c.totalCount + :totalDelta, c.sharedCount = c.sharedCount + :sharedDelta " +
+            "where c.memberId in :memberIds")
+    int addCounts(@Param("memberIds") Collection<Long> memberIds, @Param("totalDelta") int totalDelta, @Param("sharedDelta") int sharedDelta);
+
+    // 이미 행이 있으면 무시하고 먼저 만든 행을 유지 (MySQL, H2 모두 지원하는 문법)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into member_schedule_count (member_id, total_count, shared_count) " +
+            "select :memberId, :totalCount, :sharedCount from dual " +
+            "where not exists (select 1 from member_schedule_count where member_id = :memberId)", nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("totalCount") int totalCount, @Param("sharedCount") int sharedCount);
+}
@@ -0,0 +1,12 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.schedule.entity.ScheduleCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScheduleCardRepository extends JpaRepository<ScheduleCard, Long>, ScheduleCardRepositoryCustom {
+    List<ScheduleCard> findAllByScheduleId(Long scheduleId);
+}
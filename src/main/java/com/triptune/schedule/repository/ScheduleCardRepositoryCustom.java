@@ -0,0 +1,15 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ScheduleCardRepositoryCustom {
+    Page<ScheduleInfoQueryDto> findScheduleCards(Pageable pageable, Long memberId);
+    CursorPage<ScheduleInfoQueryDto> findScheduleCardsByCursor(CursorPageable pageable, Long memberId);
+    Page<ScheduleInfoQueryDto> findSharedScheduleCards(Pageable pageable, Long memberId);
+    Page<ScheduleInfoQueryDto> searchScheduleCards(Pageable pageable, String keyword, Long memberId);
+    Page<ScheduleInfoQueryDto> searchSharedScheduleCards(Pageable pageable, String keyword, Long memberId);
+}
@@ -0,0 +1,178 @@
+package com.triptune.schedule.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.PageCursor;
+import com.triptune.global.util.PageUtils;
+import com.triptune.global.util.QueryPageUtils;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.triptune.schedule.entity.QScheduleCard.scheduleCard;
+
+@Repository
+@RequiredArgsConstructor
+public class ScheduleCardRepositoryCustomImpl implements ScheduleCardRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Page<ScheduleInfoQueryDto> findScheduleCards(Pageable pageable, Long memberId) {
+        JPAQuery<?> query = jpaQueryFactory
+                .from(scheduleCard)
+                .where(scheduleCard.memberId.eq(memberId))
+                .orderBy(latestOrder());
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(), pageable,
+                () -> countScheduleCards(scheduleCard.memberId.eq(memberId)));
+    }
+
+
+    @Override
+    public CursorPage<ScheduleInfoQueryDto> findScheduleCardsByCursor(CursorPageable pageable, Long memberId) {
+        List<ScheduleInfoQueryDto> scheduleCards = jpaQueryFactory
+                .select(selectScheduleInfo())
+                .from(scheduleCard)
+                .where(
+                        scheduleCard.memberId.eq(memberId),
+                        beforeCursor(pageable.cursor())
+                )
+                .orderBy(latestOrder())
+                .limit(pageable.fetchSize())
+                .fetch();
+
+        return PageUtils.createCursorPage(scheduleCards, pageable,
+                schedule -> PageCursor.encode(schedule.getUpdatedAt(), schedule.getScheduleId()));
+    }
+
+    // (updatedAt, scheduleId) 내림차순 기준 커서 이후 일정
+    private BooleanExpression beforeCursor(String cursor){
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        if (pageCursor == null){
+            return null;
+        }
+
+        LocalDateTime updatedAt = pageCursor.getDateTime(0);
+        Long scheduleId = pageCursor.getLong(1);
+
+        return scheduleCard.updatedAt.lt(updatedAt)
+                .or(scheduleCard.updatedAt.eq(updatedAt).and(scheduleCard.scheduleId.lt(scheduleId)));
+    }
+
+
+    @Override
+    public Page<ScheduleInfoQueryDto> findSharedScheduleCards(Pageable pageable, Long memberId) {
+        JPAQuery<?> query = jpaQueryFactory
+                .from(scheduleCard)
+                .where(
+                        scheduleCard.memberId.eq(memberId),
+                        isSharedSchedule()
+                )
+                .orderBy(latestOrder());
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(), pageable,
+                () -> countScheduleCards(scheduleCard.memberId.eq(memberId), isSharedSchedule()));
+    }
+
+
+    @Override
+    public Page<ScheduleInfoQueryDto> searchScheduleCards(Pageable pageable, String keyword, Long memberId) {
+        JPAQuery<?> query = jpaQueryFactory
+                .from(scheduleCard)
+                .where(
+                        scheduleCard.memberId.eq(memberId),
+                        scheduleCard.scheduleName.contains(keyword)
+                )
+                .orderBy(accuracyOrder(keyword), scheduleCard.updatedAt.desc(), scheduleCard.scheduleId.desc());
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(), pageable,
+                () -> countScheduleCards(scheduleCard.memberId.eq(memberId), scheduleCard.scheduleName.contains(keyword)));
+    }
+
+
+    @Override
+    public Page<ScheduleInfoQueryDto> searchSharedScheduleCards(Pageable pageable, String keyword, Long memberId) {
+        JPAQuery<?> query = jpaQueryFactory
+                .from(scheduleCard)
+                .where(
+                        scheduleCard.memberId.eq(memberId),
+                        isSharedSchedule(),
+                        scheduleCard.scheduleName.contains(keyword)
+                )
+                .orderBy(accuracyOrder(keyword), scheduleCard.updatedAt.desc(), scheduleCard.scheduleId.desc());
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(), pageable,
+                () -> countScheduleCards(
+                        scheduleCard.memberId.eq(memberId),
+                        isSharedSchedule(),
+                        scheduleCard.scheduleName.contains(keyword)
+                ));
+    }
+
+
+    private long countScheduleCards(BooleanExpression... conditions){
+        Long totalElements = jpaQueryFactory
+                .select(scheduleCard.count())
+                .from(scheduleCard)
+                .where(conditions)
+                .fetchOne();
+
+        return totalElements == null ? 0 : totalElements;
+    }
+
+    private BooleanExpression isSharedSchedule(){
+        return scheduleCard.attendeeCount.goe(TravelSchedule.SHARED_ATTENDEE_NUMBER);
+    }
+
+    private OrderSpecifier<?>[] latestOrder(){
+        return new OrderSpecifier<?>[]{
+                scheduleCard.updatedAt.desc(),
+                scheduleCard.scheduleId.desc()
+        };
+    }
+
+    private OrderSpecifier<String> accuracyOrder(String keyword){
+        return Expressions.stringTemplate(
+                "CASE " +
+                        "WHEN {0} = {1} THEN 0 " +
+                        "WHEN {0} LIKE {2} THEN 1 " +
+                        "WHEN {0} LIKE {3} THEN 2 " +
+                        "WHEN {0} LIKE {4} THEN 3 " +
+                        "ELSE 4 " +
+                        "END",
+                scheduleCard.scheduleName,
+                keyword,
+                keyword + "%",
+                "%" + keyword + "%",
+                "%" + keyword
+        ).asc();
+    }
+
+    private ConstructorExpression<ScheduleInfoQueryDto> selectScheduleInfo(){
+        return Projections.constructor(ScheduleInfoQueryDto.class,
+                scheduleCard.scheduleId,
+                scheduleCard.role,
+                scheduleCard.scheduleName,
+                scheduleCard.startDate,
+                scheduleCard.endDate,
+                scheduleCard.createdAt,
+                scheduleCard.updatedAt,
+                scheduleCard.thumbnailS3ObjectKey,
+                scheduleCard.authorNickname,
+                scheduleCard.authorS3ObjectKey);
+    }
+}
@@ -3,6 +3,7 @@ package com.triptune.schedule.repository;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.enums.AttendeeRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,7 +16,9 @@ public interface TravelAttendeeRepository extends JpaRepository<TravelAttendee,
     boolean existsByTravelSchedule_ScheduleIdAndMember_MemberId(@Param("scheduleId") Long scheduleId, @Param("memberId") Long memberId);
     Optional<TravelAttendee> findByTravelSchedule_ScheduleIdAndMember_MemberId(@Param("scheduleId") Long scheduleId, @Param("memberId") Long memberId);
     boolean existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(@Param("scheduleId") Long scheduleId, @Param("memberId") Long memberId, @Param("role") AttendeeRole role);
-    int countByTravelSchedule_ScheduleId(@Param("scheduleId") Long scheduleId);
     Optional<TravelAttendee> findByTravelSchedule_ScheduleIdAndAttendeeId(@Param("scheduleId") Long scheduleId, @Param("attendeeId") Long attendeeId);
     List<TravelAttendee> findAllByMember_MemberId(@Param("memberId") Long memberId);
+
+    @Query("select a.member.memberId from TravelAttendee a where a.travelSchedule.scheduleId = :scheduleId")
+    List<Long> findMemberIdsByScheduleId(@Param("scheduleId") Long scheduleId);
 }
@@ -1,5 +1,13 @@
 package com.triptune.schedule.repository;
 
+import com.triptune.schedule.cache.AttendeeAccess;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
 public interface TravelAttendeeRepositoryCustom {
     String findAuthorNicknameByScheduleId(Long scheduleId);
+    Map<Long, String> findAuthorNicknamesByScheduleIds(Collection<Long> scheduleIds);
+    Optional<AttendeeAccess> findAttendeeAccess(Long scheduleId, Long memberId);
 }
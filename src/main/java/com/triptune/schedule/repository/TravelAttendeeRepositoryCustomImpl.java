@@ -1,12 +1,19 @@
 package com.triptune.schedule.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.triptune.member.entity.QMember;
+import com.triptune.schedule.cache.AttendeeAccess;
 import com.triptune.schedule.entity.QTravelAttendee;
 import com.triptune.schedule.enums.AttendeeRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import static com.triptune.member.entity.QMember.member;
 import static com.triptune.schedule.entity.QTravelAttendee.travelAttendee;
 
@@ -28,4 +35,36 @@ public class TravelAttendeeRepositoryCustomImpl implements TravelAttendeeReposit
                 .fetchOne();
 
     }
+
+    @Override
+    public Map<Long, String> findAuthorNicknamesByScheduleIds(Collection<Long> scheduleIds) {
+        return jpaQueryFactory
+                .select(travelAttendee.travelSchedule.scheduleId, member.nickname)
+                .from(travelAttendee)
+                .join(travelAttendee.member, member)
+                .where(travelAttendee.travelSchedule.scheduleId.in(scheduleIds)
+                        .and(travelAttendee.role.eq(AttendeeRole.AUTHOR)))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(travelAttendee.travelSchedule.scheduleId),
+                        tuple -> tuple.get(member.nickname)
+                ));
+    }
+
+    @Override
+    public Optional<AttendeeAccess> findAttendeeAccess(Long scheduleId, Long memberId) {
+        AttendeeAccess access = jpaQueryFactory
+                .select(Projections.constructor(AttendeeAccess.class,
+                        travelAttendee.attendeeId,
+                        travelAttendee.role,
+                        travelAttendee.permission
+                ))
+                .from(travelAttendee)
+                .where(travelAttendee.travelSchedule.scheduleId.eq(scheduleId)
+                        .and(travelAttendee.member.memberId.eq(memberId)))
+                .fetchOne();
+
+        return Optional.ofNullable(access);
+    }
 }
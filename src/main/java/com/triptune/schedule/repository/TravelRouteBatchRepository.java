@@ -0,0 +1,60 @@
+package com.triptune.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 여행 루트 일괄 수정, 삭제
+ * - 일정 저장 시 바뀐 루트만 JDBC batch 로 UPDATE, DELETE (INSERT 는 pooled ID 로 Hibernate batch 처리)
+ * - 영속성 컨텍스트를 거치지 않으므로 이미 로딩된 TravelSchedule.travelRoutes 는 갱신되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class TravelRouteBatchRepository {
+    private static final String FIND_ROUTES_SQL = "SELECT route_id, route_order, place_id FROM travel_route WHERE schedule_id = ?";
+    private static final String UPDATE_ROUTE_PLACE_SQL = "UPDATE travel_route SET place_id = ? WHERE route_id = ?";
+    private static final String DELETE_ROUTE_SQL = "DELETE FROM travel_route WHERE route_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    public List<RouteRow> findRoutes(Long scheduleId){
+        return jdbcTemplate.query(FIND_ROUTES_SQL,
+                (rs, rowNum) -> new RouteRow(rs.getLong("route_id"), rs.getInt("route_order"), rs.getLong("place_id")),
+                scheduleId);
+    }
+
+    public void updateRoutePlaces(List<RouteRow> routes){
+        if (routes.isEmpty()){
+            return;
+        }
+
+        List<Object[]> batchArgs = routes.stream()
+                .map(route -> new Object[]{route.placeId(), route.routeId()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(UPDATE_ROUTE_PLACE_SQL, batchArgs);
+    }
+
+    public void deleteRoutes(List<Long> routeIds){
+        if (routeIds.isEmpty()){
+            return;
+        }
+
+        List<Object[]> batchArgs = routeIds.stream()
+                .map(routeId -> new Object[]{routeId})
+                .toList();
+
+        jdbcTemplate.batchUpdate(DELETE_ROUTE_SQL, batchArgs);
+    }
+
+
+    public record RouteRow(
+            Long routeId,
+            int routeOrder,
+            Long placeId
+    ) {}
+}
@@ -1,11 +1,18 @@
 package com.triptune.schedule.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TravelRouteRepositoryCustom {
     Page<RouteQueryDto> findAllByScheduleId(Pageable pageable, Long scheduleId);
+    CursorPage<RouteQueryDto> findAllByScheduleIdByCursor(CursorPageable pageable, Long scheduleId);
     Integer countTotalElements(BooleanExpression expression);
+    List<RouteStopQueryDto> findRouteStops(Long scheduleId);
 }
@@ -1,12 +1,15 @@
 package com.triptune.schedule.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +18,6 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 import static com.triptune.schedule.entity.QTravelRoute.travelRoute;
-import static com.triptune.travel.entity.QTravelImage.travelImage;
 
 @Repository
 @RequiredArgsConstructor
@@ -28,18 +30,7 @@ public class TravelRouteRepositoryCustomImpl implements TravelRouteRepositoryCus
         BooleanExpression expression = travelRoute.travelSchedule.scheduleId.eq(scheduleId);
 
         List<RouteQueryDto> contents = jpaQueryFactory
-                .select(Projections.constructor(RouteQueryDto.class,
-                        travelRoute.routeOrder,
-                        travelRoute.travelPlace.placeId,
-                        travelRoute.travelPlace.country.countryName,
-                        travelRoute.travelPlace.city.cityName,
-                        travelRoute.travelPlace.district.districtName,
-                        travelRoute.travelPlace.address,
-                        travelRoute.travelPlace.detailAddress,
-                        travelRoute.travelPlace.latitude,
-                        travelRoute.travelPlace.longitude,
-                        travelRoute.travelPlace.placeName,
-                        findThumbnailS3ObjectKey()))
+                .select(selectRoute())
                 .from(travelRoute)
                 .where(expression)
                 .offset(pageable.getOffset())
@@ -51,13 +42,22 @@ public class TravelRouteRepositoryCustomImpl implements TravelRouteRepositoryCus
         return PageUtils.createPage(contents, pageable, totalElements);
     }
 
-    public JPQLQuery<String> findThumbnailS3ObjectKey(){
-        return JPAExpressions
-                .select(travelImage.s3ObjectKey)
-                .from(travelImage)
-                .where(travelImage.travelPlace.placeId.eq(travelRoute.travelPlace.placeId),
-                        travelImage.isThumbnail.isTrue())
-                .limit(1);
+    @Override
+    public CursorPage<RouteQueryDto> findAllByScheduleIdByCursor(CursorPageable pageable, Long scheduleId) {
+        PageCursor pageCursor = PageCursor.decode(pageable.cursor(), 1);
+
+        List<RouteQueryDto> contents = jpaQueryFactory
+                .select(selectRoute())
+                .from(travelRoute)
+                .where(
+                        travelRoute.travelSchedule.scheduleId.eq(scheduleId),
+                        pageCursor == null ? null : travelRoute.routeOrder.gt(pageCursor.getInteger(0))
+                )
+                .orderBy(travelRoute.routeOrder.asc())
+                .limit(pageable.fetchSize())
+                .fetch();
+
+        return PageUtils.createCursorPage(contents, pageable, route -> PageCursor.encode(route.getRouteOrder()));
     }
 
     @Override
@@ -72,4 +72,33 @@ public class TravelRouteRepositoryCustomImpl implements TravelRouteRepositoryCus
 
         return totalElements.intValue();
     }
+
+    @Override
+    public List<RouteStopQueryDto> findRouteStops(Long scheduleId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(RouteStopQueryDto.class,
+                        travelRoute.routeOrder,
+                        travelRoute.travelPlace.placeId,
+                        travelRoute.travelPlace.latitude,
+                        travelRoute.travelPlace.longitude))
+                .from(travelRoute)
+                .where(travelRoute.travelSchedule.scheduleId.eq(scheduleId))
+                .orderBy(travelRoute.routeOrder.asc(), travelRoute.routeId.asc())
+                .fetch();
+    }
+
+    private ConstructorExpression<RouteQueryDto> selectRoute(){
+        return Projections.constructor(RouteQueryDto.class,
+                travelRoute.routeOrder,
+                travelRoute.travelPlace.placeId,
+                travelRoute.travelPlace.country.countryName,
+                travelRoute.travelPlace.city.cityName,
+                travelRoute.travelPlace.district.districtName,
+                travelRoute.travelPlace.address,
+                travelRoute.travelPlace.detailAddress,
+                travelRoute.travelPlace.latitude,
+                travelRoute.travelPlace.longitude,
+                travelRoute.travelPlace.placeName,
+                travelRoute.travelPlace.thumbnailS3ObjectKey);
+    }
 }
@@ -1,11 +1,26 @@
 package com.triptune.schedule.repository;
 
 import com.triptune.schedule.entity.TravelSchedule;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface TravelScheduleRepository extends JpaRepository<TravelSchedule, Long>, TravelScheduleRepositoryCustom {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TravelSchedule s where s.scheduleId = :scheduleId")
+    Optional<TravelSchedule> findByIdForUpdate(@Param("scheduleId") Long scheduleId);
+
+    @Query("select s.routeVersion from TravelSchedule s where s.scheduleId = :scheduleId")
+    Optional<Long> findRouteVersion(@Param("scheduleId") Long scheduleId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update TravelSchedule s set s.routeVersion = s.routeVersion + 1 where s.scheduleId = :scheduleId")
+    int increaseRouteVersion(@Param("scheduleId") Long scheduleId);
 }
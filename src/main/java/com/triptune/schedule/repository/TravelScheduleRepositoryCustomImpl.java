@@ -3,27 +3,34 @@ package com.triptune.schedule.repository;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
+import com.triptune.global.util.QueryPageUtils;
 import com.triptune.schedule.entity.QTravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
 import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.repository.dto.OverviewScheduleQueryDto;
 import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.triptune.schedule.entity.QTravelAttendee.travelAttendee;
 import static com.triptune.schedule.entity.QTravelRoute.travelRoute;
 import static com.triptune.schedule.entity.QTravelSchedule.travelSchedule;
-import static com.triptune.travel.entity.QTravelImage.travelImage;
 
 @Repository
 @RequiredArgsConstructor
@@ -35,6 +42,28 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
     public Page<ScheduleInfoQueryDto> findTravelSchedules(Pageable pageable, Long memberId) {
         QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
 
+        JPAQuery<?> query = jpaQueryFactory
+                .from(travelSchedule)
+                .join(travelSchedule.travelAttendees, travelAttendee)
+                .on(travelAttendee.member.memberId.eq(memberId))
+
+                .join(travelSchedule.travelAttendees, authorAttendee)
+                .on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
+
+                .orderBy(
+                        travelSchedule.updatedAt.desc(),
+                        travelSchedule.scheduleId.desc()
+                );
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(authorAttendee), pageable,
+                () -> countTravelSchedules(memberId));
+    }
+
+
+    @Override
+    public CursorPage<ScheduleInfoQueryDto> findTravelSchedulesByCursor(CursorPageable pageable, Long memberId) {
+        QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
+
         List<ScheduleInfoQueryDto> travelSchedules = jpaQueryFactory
                 .select(selectScheduleInfo(authorAttendee))
                 .from(travelSchedule)
@@ -44,18 +73,30 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .join(travelSchedule.travelAttendees, authorAttendee)
                 .on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
 
+                .where(beforeCursor(pageable.cursor()))
                 .orderBy(
                         travelSchedule.updatedAt.desc(),
                         travelSchedule.scheduleId.desc()
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.fetchSize())
                 .fetch();
 
+        return PageUtils.createCursorPage(travelSchedules, pageable,
+                schedule -> PageCursor.encode(schedule.getUpdatedAt(), schedule.getScheduleId()));
+    }
+
+    // (updatedAt, scheduleId) 내림차순 기준 커서 이후 일정
+    private BooleanExpression beforeCursor(String cursor){
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        if (pageCursor == null){
+            return null;
+        }
 
-        Integer totalElements = countTravelSchedules(memberId);
+        LocalDateTime updatedAt = pageCursor.getDateTime(0);
+        Long scheduleId = pageCursor.getLong(1);
 
-        return PageUtils.createPage(travelSchedules, pageable, totalElements);
+        return travelSchedule.updatedAt.lt(updatedAt)
+                .or(travelSchedule.updatedAt.eq(updatedAt).and(travelSchedule.scheduleId.lt(scheduleId)));
     }
 
 
@@ -77,8 +118,7 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
     public Page<ScheduleInfoQueryDto> findSharedTravelSchedules(Pageable pageable, Long memberId) {
         QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
 
-        List<ScheduleInfoQueryDto> travelSchedules = jpaQueryFactory
-                .select(selectScheduleInfo(authorAttendee))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelSchedule)
                 .join(travelSchedule.travelAttendees, travelAttendee)
                 .on(travelAttendee.member.memberId.eq(memberId))
@@ -86,20 +126,15 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .join(travelSchedule.travelAttendees, authorAttendee)
                 .on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
                 .where(
-                        travelSchedule.travelAttendees.size().goe(2)
+                        isSharedSchedule()
                 )
                 .orderBy(
                         travelSchedule.updatedAt.desc(),
                         travelSchedule.scheduleId.desc()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-
-        Integer totalElements = countSharedTravelSchedules(memberId);
+                );
 
-        return PageUtils.createPage(travelSchedules, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(authorAttendee), pageable,
+                () -> countSharedTravelSchedules(memberId));
     }
 
 
@@ -111,7 +146,7 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .join(travelSchedule.travelAttendees, travelAttendee)
                 .where(
                         travelAttendee.member.memberId.eq(memberId),
-                        travelSchedule.travelAttendees.size().goe(2)
+                        isSharedSchedule()
                 )
                 .fetchOne();
 
@@ -123,8 +158,7 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
         QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
         String orderCaseString = accuracyQuery();
 
-        List<ScheduleInfoQueryDto> content = jpaQueryFactory
-                .select(selectScheduleInfo(authorAttendee))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelSchedule)
                 .join(travelSchedule.travelAttendees, travelAttendee)
                 .on(travelAttendee.member.memberId.eq(memberId))
@@ -137,14 +171,10 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                         accuracyOrder(keyword),
                         travelSchedule.updatedAt.desc(),
                         travelSchedule.scheduleId.desc()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        int totalElements = countSearchTravelSchedules(keyword, memberId);
+                );
 
-        return PageUtils.createPage(content, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(authorAttendee), pageable,
+                () -> countSearchTravelSchedules(keyword, memberId));
     }
 
 
@@ -168,8 +198,7 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
     public Page<ScheduleInfoQueryDto> searchSharedTravelSchedules(Pageable pageable, String keyword, Long memberId) {
         QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
 
-        List<ScheduleInfoQueryDto> content = jpaQueryFactory
-                .select(selectScheduleInfo(authorAttendee))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelSchedule)
                 .join(travelSchedule.travelAttendees, travelAttendee)
                 .on(travelAttendee.member.memberId.eq(memberId))
@@ -178,21 +207,22 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
 
                 .where(
-                        travelSchedule.travelAttendees.size().goe(2),
+                        isSharedSchedule(),
                         travelSchedule.scheduleName.contains(keyword)
                 )
                 .orderBy(
                         accuracyOrder(keyword),
                         travelSchedule.updatedAt.desc(),
                         travelSchedule.scheduleId.desc()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                );
+
+        return QueryPageUtils.fetchPage(query, selectScheduleInfo(authorAttendee), pageable,
+                () -> countSearchSharedTravelSchedules(keyword, memberId));
+    }
 
-        int totalElements = countSearchSharedTravelSchedules(keyword, memberId);
 
-        return PageUtils.createPage(content, pageable, totalElements);
+    private BooleanExpression isSharedSchedule(){
+        return travelSchedule.attendeeCount.goe(TravelSchedule.SHARED_ATTENDEE_NUMBER);
     }
 
 
@@ -226,7 +256,7 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .join(travelSchedule.travelAttendees, travelAttendee)
                 .where(
                         travelAttendee.member.memberId.eq(memberId),
-                        travelSchedule.travelAttendees.size().goe(2),
+                        isSharedSchedule(),
                         travelSchedule.scheduleName.contains(keyword)
                 )
                 .fetchOne();
@@ -235,10 +265,16 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
     }
 
     @Override
-    public Page<TravelSchedule> findEnableEditTravelSchedules(Pageable pageable, Long memberId) {
-        List<TravelSchedule> travelSchedules = jpaQueryFactory
-                .selectFrom(travelSchedule)
+    public Page<OverviewScheduleQueryDto> findEnableEditTravelSchedules(Pageable pageable, Long memberId) {
+        QTravelAttendee authorAttendee = new QTravelAttendee("authorAttendee");
+
+        JPAQuery<?> query = jpaQueryFactory
+                .from(travelSchedule)
                 .join(travelSchedule.travelAttendees, travelAttendee)
+
+                .join(travelSchedule.travelAttendees, authorAttendee)
+                .on(authorAttendee.role.eq(AttendeeRole.AUTHOR))
+
                 .where(
                         travelAttendee.member.memberId.eq(memberId),
                         travelAttendee.permission.in(
@@ -249,15 +285,10 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                 .orderBy(
                         travelSchedule.updatedAt.desc(),
                         travelSchedule.scheduleId.desc()
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-
-        Integer totalElements = countEnableEditTravelSchedules(memberId);
+                );
 
-        return PageUtils.createPage(travelSchedules, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectOverviewSchedule(authorAttendee), pageable,
+                () -> countEnableEditTravelSchedules(memberId));
     }
 
     private Integer countEnableEditTravelSchedules(Long memberId) {
@@ -291,12 +322,19 @@ public class TravelScheduleRepositoryCustomImpl implements TravelScheduleReposit
                         authorAttendee.member.profileImage.s3ObjectKey);
     }
 
+    private ConstructorExpression<OverviewScheduleQueryDto> selectOverviewSchedule(QTravelAttendee authorAttendee){
+        return Projections.constructor(OverviewScheduleQueryDto.class,
+                        travelSchedule.scheduleId,
+                        travelSchedule.scheduleName,
+                        travelSchedule.startDate,
+                        travelSchedule.endDate,
+                        authorAttendee.member.nickname);
+    }
+
     private JPQLQuery<String> findThumbnailS3ObjectKey(){
         return JPAExpressions
-                .select(travelImage.s3ObjectKey)
+                .select(travelRoute.travelPlace.thumbnailS3ObjectKey)
                 .from(travelRoute)
-                .leftJoin(travelRoute.travelPlace.travelImages, travelImage)
-                .on(travelImage.isThumbnail.isTrue())
                 .where(
                         travelRoute.travelSchedule.scheduleId.eq(travelSchedule.scheduleId),
                         travelRoute.routeOrder.eq(1)
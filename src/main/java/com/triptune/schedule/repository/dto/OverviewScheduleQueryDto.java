@@ -0,0 +1,26 @@
+package com.triptune.schedule.repository.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class OverviewScheduleQueryDto {
+    private Long scheduleId;
+    private String scheduleName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String authorNickname;
+
+    @Builder
+    public OverviewScheduleQueryDto(Long scheduleId, String scheduleName, LocalDate startDate, LocalDate endDate, String authorNickname) {
+        this.scheduleId = scheduleId;
+        this.scheduleName = scheduleName;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.authorNickname = authorNickname;
+    }
+}
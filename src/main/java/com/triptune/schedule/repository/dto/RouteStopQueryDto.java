@@ -0,0 +1,29 @@
+package com.triptune.schedule.repository.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RouteStopQueryDto {
+    private int routeOrder;
+    private Long placeId;
+    private double latitude;
+    private double longitude;
+
+    @Builder
+    public RouteStopQueryDto(int routeOrder, Long placeId, double latitude, double longitude) {
+        this.routeOrder = routeOrder;
+        this.placeId = placeId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 루트 순서와 관계없이 같은 지점인지 확인 (거리 행렬 재사용 판단용)
+    public boolean isSamePlace(RouteStopQueryDto other){
+        return placeId.equals(other.placeId)
+                && Double.compare(latitude, other.latitude) == 0
+                && Double.compare(longitude, other.longitude) == 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.triptune.schedule.route;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.triptune.schedule.properties.RouteDistanceCacheProperties;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 일정별 루트 구간 거리 캐시
+ * - 루트가 바뀔 때마다 증가하는 travel_schedule.route_version 을 버전으로 사용
+ * - 버전이 같으면 지점 조회 없이 캐시를 사용하고, 다르면 지점을 조회해 다시 계산 (서버마다 캐시가 달라도 DB 버전 기준으로 맞춰짐)
+ * - 지표: cache.gets/puts/evictions{cache=routeDistance}
+ */
+@Component
+public class RouteDistanceCache {
+    public static final String CACHE_NAME = "routeDistance";
+
+    private final Cache<Long, VersionedDistances> localCache;
+
+
+    public RouteDistanceCache(RouteDistanceCacheProperties routeDistanceCacheProperties, MeterRegistry meterRegistry) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(routeDistanceCacheProperties.maximumSizeOrDefault())
+                .expireAfterAccess(Duration.ofMinutes(routeDistanceCacheProperties.ttlMinutesOrDefault()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+    }
+
+
+    /**
+     * @param routeVersion 일정의 현재 루트 버전
+     * @param stopsLoader 루트 순서로 정렬된 일정의 전체 지점 (버전이 다를 때만 호출)
+     */
+    public RouteLegDistances get(Long scheduleId, long routeVersion, Supplier<List<RouteStopQueryDto>> stopsLoader){
+        VersionedDistances cached = localCache.getIfPresent(scheduleId);
+        if (cached != null && cached.routeVersion() == routeVersion){
+            return cached.distances();
+        }
+
+        // 지점 조회는 캐시 잠금 밖에서 실행하고, 동시에 계산한 경우 더 높은 버전을 남김
+        VersionedDistances loaded = new VersionedDistances(routeVersion, RouteLegDistances.build(stopsLoader.get()));
+        localCache.asMap().merge(scheduleId, loaded, (previous, current) ->
+                previous.routeVersion() > current.routeVersion() ? previous : current
+        );
+
+        return loaded.distances();
+    }
+
+
+    private record VersionedDistances(
+            long routeVersion,
+            RouteLegDistances distances
+    ) {}
+}
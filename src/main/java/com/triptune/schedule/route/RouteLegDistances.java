@@ -0,0 +1,69 @@
+package com.triptune.schedule.route;
+
+import com.triptune.global.util.GeoUtils;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 루트의 구간 거리 (km)
+ * - 응답에는 직전 지점과의 거리, 전체 거리만 필요하므로 연속된 지점 사이의 거리만 계산
+ * - 불변 객체
+ */
+public final class RouteLegDistances {
+
+    private final Map<Integer, Integer> positionByRouteOrder;
+    private final double[] legDistances;
+    private final double totalDistance;
+
+
+    private RouteLegDistances(List<RouteStopQueryDto> stops) {
+        this.positionByRouteOrder = new HashMap<>();
+        this.legDistances = new double[stops.size()];
+
+        double total = 0;
+        for (int position = 0; position < stops.size(); position++) {
+            positionByRouteOrder.putIfAbsent(stops.get(position).getRouteOrder(), position);
+
+            if (position > 0){
+                legDistances[position] = calculateDistance(stops.get(position - 1), stops.get(position));
+                total += legDistances[position];
+            }
+        }
+        this.totalDistance = total;
+    }
+
+    /**
+     * @param stops 루트 순서로 정렬된 지점
+     */
+    public static RouteLegDistances build(List<RouteStopQueryDto> stops){
+        return new RouteLegDistances(stops);
+    }
+
+    /**
+     * @return 직전 지점에서 해당 순서 지점까지의 거리 (첫 지점은 0), 없는 순서면 null
+     */
+    public Double legDistance(int routeOrder){
+        Integer position = positionByRouteOrder.get(routeOrder);
+        return position == null ? null : legDistances[position];
+    }
+
+    public double totalDistance(){
+        return totalDistance;
+    }
+
+    public int size(){
+        return legDistances.length;
+    }
+
+
+    private static double calculateDistance(RouteStopQueryDto from, RouteStopQueryDto to){
+        if (from.isSamePlace(to)){
+            return 0;
+        }
+
+        return GeoUtils.calculateDistance(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+}
@@ -6,19 +6,24 @@ import com.triptune.member.repository.MemberRepository;
 import com.triptune.member.dto.response.MemberProfileResponse;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
 import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.chat.ChatMessageWriter;
+import com.triptune.schedule.chat.ChatSessionContext;
+import com.triptune.schedule.chat.ChatSessionRegistry;
 import com.triptune.schedule.entity.ChatMessage;
-import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.exception.chat.DataNotFoundChatException;
 import com.triptune.schedule.exception.chat.ForbiddenChatException;
 import com.triptune.schedule.repository.ChatMessageRepository;
-import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.global.message.ErrorCode;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -31,7 +36,8 @@ public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
-    private final TravelAttendeeRepository travelAttendeeRepository;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatMessageWriter chatMessageWriter;
     private final TravelScheduleRepository travelScheduleRepository;
     private final S3ObjectManager s3ObjectManager;
 
@@ -47,6 +53,27 @@ public class ChatMessageService {
         return PageUtils.createPage(chatResponses, pageable, chatPage.getTotalElements());
     }
 
+    /**
+     * before 커서 이전(더 오래된) 채팅 조회
+     * - 최신순으로 조회한 뒤 화면 표시 순서(오래된 순)로 뒤집어 반환
+     * - 전체 개수 대신 hasNext 로 이전 채팅 존재 여부 전달
+     */
+    public CursorPage<ChatResponse> getChatMessagesByCursor(Long scheduleId, String before) {
+        CursorPageable pageable = PageUtils.chatCursorPageable(before);
+        CursorPage<ChatMessage> chatPage = chatMessageRepository.findAllByScheduleIdByCursor(pageable, scheduleId);
+
+        Set<Long> memberIds = extractMemberId(chatPage.content());
+        Map<Long, MemberProfileResponse> memberProfileMap = getMemberProfiles(memberIds);
+
+        List<ChatResponse> chatResponses = new ArrayList<>(chatPage.content().size());
+        for (ChatMessage message : chatPage.content()) {
+            chatResponses.add(ChatResponse.from(message, memberProfileMap.get(message.getMemberId())));
+        }
+        Collections.reverse(chatResponses);
+
+        return new CursorPage<>(chatResponses, chatPage.size(), chatPage.nextCursor());
+    }
+
     private Set<Long> extractMemberId(List<ChatMessage> chatMessages){
         return chatMessages.stream()
                 .map(ChatMessage::getMemberId)
@@ -75,27 +102,47 @@ public class ChatMessageService {
     }
 
 
-    @Transactional
-    public ChatResponse sendChatMessage(ChatMessageRequest chatMessageRequest) {
-        validateSchedule(chatMessageRequest.getScheduleId());
+    /**
+     * STOMP 세션 생성 시 채팅 회원 정보 조회
+     */
+    public ChatSessionContext createChatSessionContext(String sessionId, Long memberId){
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new DataNotFoundChatException(ErrorCode.MEMBER_NOT_FOUND));
+
+        String profileUrl = s3ObjectManager.generateS3ObjectUrl(member.getProfileImage().getS3ObjectKey());
+        return new ChatSessionContext(sessionId, member.getMemberId(), member.getNickname(), profileUrl);
+    }
+
 
-        Member member = getMemberByNickname(chatMessageRequest.getNickname());
-        TravelAttendee attendee = getTravelAttendee(chatMessageRequest.getScheduleId(), member.getMemberId());
+    // 회원 정보, 참석자 권한은 세션에 저장된 값을 사용하므로 관계형 DB 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatResponse sendChatMessage(ChatSessionContext context, ChatMessageRequest chatMessageRequest) {
+        AttendeeAccess attendee = getChatAttendee(context, chatMessageRequest.getScheduleId());
 
         validateEnableChat(attendee);
 
         ChatMessage chatMessage = ChatMessage.createChatMessage(
                 chatMessageRequest.getScheduleId(),
-                member.getMemberId(),
+                context.getMemberId(),
                 chatMessageRequest.getMessage()
         );
-        chatMessageRepository.save(chatMessage);
+        chatMessageWriter.write(chatMessage);
 
-        String profileUrl = s3ObjectManager.generateS3ObjectUrl(member.getProfileImage().getS3ObjectKey());
-
-        return ChatResponse.of(chatMessage, member, profileUrl);
+        return ChatResponse.of(chatMessage, context.getNickname(), context.getProfileUrl());
     }
 
+    // 참석자면 일정도 존재하므로, 참석자가 아닌 경우에만 일정 존재 여부 확인
+    private AttendeeAccess getChatAttendee(ChatSessionContext context, Long scheduleId){
+        if (context == null){
+            throw new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
+        }
+
+        return chatSessionRegistry.getAccess(context, scheduleId)
+                .orElseThrow(() -> {
+                    validateSchedule(scheduleId);
+                    return new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
+                });
+    }
 
     private void validateSchedule(Long scheduleId){
         if (!travelScheduleRepository.existsById(scheduleId)){
@@ -103,18 +150,7 @@ public class ChatMessageService {
         }
     }
 
-    private Member getMemberByNickname(String nickname){
-        return memberRepository.findByNickname(nickname)
-                .orElseThrow(() -> new DataNotFoundChatException(ErrorCode.MEMBER_NOT_FOUND));
-
-    }
-
-    private TravelAttendee getTravelAttendee(Long scheduleId, Long memberId){
-        return travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(scheduleId, memberId)
-                .orElseThrow(() -> new ForbiddenChatException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE));
-    }
-
-    private void validateEnableChat(TravelAttendee attendee) {
+    private void validateEnableChat(AttendeeAccess attendee) {
         if (!attendee.isEnableChat()){
             throw new ForbiddenChatException(ErrorCode.FORBIDDEN_CHAT_ATTENDEE);
         }
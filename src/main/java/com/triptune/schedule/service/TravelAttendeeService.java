@@ -5,17 +5,21 @@ import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.s3.S3ObjectManager;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.cache.AttendeePermissionCache;
+import com.triptune.schedule.counter.MemberScheduleCounter;
 import com.triptune.schedule.dto.request.AttendeePermissionRequest;
 import com.triptune.schedule.dto.request.AttendeeRequest;
 import com.triptune.schedule.dto.response.AttendeeResponse;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
-import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.AttendeeChangedEvent;
 import com.triptune.schedule.exception.ConflictAttendeeException;
 import com.triptune.schedule.exception.ForbiddenAttendeeException;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +36,9 @@ public class TravelAttendeeService {
     private final TravelScheduleRepository travelScheduleRepository;
     private final MemberRepository memberRepository;
     private final S3ObjectManager s3ObjectManager;
+    private final MemberScheduleCounter memberScheduleCounter;
+    private final AttendeePermissionCache attendeePermissionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public List<AttendeeResponse> getAttendeesByScheduleId(Long scheduleId) {
@@ -50,30 +57,32 @@ public class TravelAttendeeService {
 
     @Transactional
     public void createAttendee(Long scheduleId, Long memberId, AttendeeRequest attendeeRequest) {
-        TravelSchedule schedule = getScheduleByScheduleId(scheduleId);
-        validateAttendeeAddition(scheduleId, memberId);
+        TravelSchedule schedule = getScheduleForUpdate(scheduleId);
+        validateAttendeeAddition(schedule, memberId);
 
         Member guest = getMemberByEmail(attendeeRequest.getEmail());
         validateAttendeeAlreadyExists(scheduleId, guest.getMemberId());
 
+        memberScheduleCounter.attendeeAdded(travelAttendeeRepository.findMemberIdsByScheduleId(scheduleId), guest.getMemberId());
+
         TravelAttendee travelAttendee = TravelAttendee.createGuest(schedule, guest, attendeeRequest.getPermission());
         travelAttendeeRepository.save(travelAttendee);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
     }
 
-    private TravelSchedule getScheduleByScheduleId(Long scheduleId){
-        return travelScheduleRepository.findById(scheduleId)
+    // 참석자 수(attendee_count) 갱신이 동시에 일어나지 않도록 일정 행을 잠금
+    private TravelSchedule getScheduleForUpdate(Long scheduleId){
+        return travelScheduleRepository.findByIdForUpdate(scheduleId)
                 .orElseThrow(() -> new DataNotFoundException(ErrorCode.SCHEDULE_NOT_FOUND));
     }
 
-    private void validateAttendeeAddition(Long scheduleId, Long memberId){
-        validateAttendeeCount(scheduleId);
-        validateAuthor(scheduleId, memberId, ErrorCode.FORBIDDEN_SHARE_ATTENDEE);
+    private void validateAttendeeAddition(TravelSchedule schedule, Long memberId){
+        validateAttendeeCount(schedule);
+        validateAuthor(schedule.getScheduleId(), memberId, ErrorCode.FORBIDDEN_SHARE_ATTENDEE);
     }
 
-    private void validateAttendeeCount(Long scheduleId){
-        int attendeeCnt = travelAttendeeRepository.countByTravelSchedule_ScheduleId(scheduleId);
-
-        if(attendeeCnt >= MAX_ATTENDEE_NUMBER){
+    private void validateAttendeeCount(TravelSchedule schedule){
+        if(schedule.getAttendeeCount() >= MAX_ATTENDEE_NUMBER){
             throw new ConflictAttendeeException(ErrorCode.OVER_ATTENDEE_NUMBER);
         }
     }
@@ -107,6 +116,7 @@ public class TravelAttendeeService {
         }
 
         attendee.updatePermission(attendeePermissionRequest.getPermission());
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
     }
 
     private TravelAttendee getAttendeeByScheduleIdAndAttendeeId(Long scheduleId, Long attendeeId) {
@@ -122,7 +132,12 @@ public class TravelAttendeeService {
             throw new ForbiddenAttendeeException(ErrorCode.FORBIDDEN_LEAVE_AUTHOR);
         }
 
+        TravelSchedule schedule = getScheduleForUpdate(scheduleId);
+        memberScheduleCounter.attendeeRemoved(travelAttendeeRepository.findMemberIdsByScheduleId(scheduleId), memberId);
+
+        schedule.removeTravelAttendees(attendee);
         travelAttendeeRepository.deleteById(attendee.getAttendeeId());
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
     }
 
     private TravelAttendee getAttendeeByScheduleIdAndMemberId(Long scheduleId, Long memberId) {
@@ -140,7 +155,15 @@ public class TravelAttendeeService {
             throw new ForbiddenAttendeeException(ErrorCode.FORBIDDEN_LEAVE_AUTHOR);
         }
 
+        TravelSchedule schedule = getScheduleForUpdate(scheduleId);
+        memberScheduleCounter.attendeeRemoved(
+                travelAttendeeRepository.findMemberIdsByScheduleId(scheduleId),
+                attendee.getMember().getMemberId()
+        );
+
+        schedule.removeTravelAttendees(attendee);
         travelAttendeeRepository.delete(attendee);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
     }
 
     private TravelAttendee getAttendeeById(Long attendeeId) {
@@ -150,8 +173,9 @@ public class TravelAttendeeService {
 
 
     private void validateAuthor(Long scheduleId, Long memberId, ErrorCode errorCode){
-        boolean isAuthor =  travelAttendeeRepository
-                .existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(scheduleId, memberId, AttendeeRole.AUTHOR);
+        boolean isAuthor = attendeePermissionCache.get(scheduleId, memberId)
+                .map(AttendeeAccess::isAuthor)
+                .orElse(false);
 
         if(!isAuthor){
             throw new ForbiddenAttendeeException(errorCode);
@@ -4,27 +4,41 @@ import com.triptune.global.s3.S3ObjectManager;
 import com.triptune.schedule.dto.request.RouteCreateRequest;
 import com.triptune.schedule.dto.request.RouteRequest;
 import com.triptune.schedule.dto.response.RouteResponse;
-import com.triptune.schedule.entity.TravelAttendee;
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.cache.AttendeePermissionCache;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
-import com.triptune.schedule.repository.TravelAttendeeRepository;
+import com.triptune.schedule.event.ScheduleChangedEvent;
+import com.triptune.schedule.repository.TravelRouteBatchRepository;
+import com.triptune.schedule.repository.TravelRouteBatchRepository.RouteRow;
 import com.triptune.schedule.repository.TravelRouteRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.route.RouteDistanceCache;
+import com.triptune.schedule.route.RouteLegDistances;
 import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,23 +47,50 @@ public class TravelRouteService {
 
     private final TravelRouteRepository travelRouteRepository;
     private final TravelScheduleRepository travelScheduleRepository;
-    private final TravelAttendeeRepository travelAttendeeRepository;
+    private final AttendeePermissionCache attendeePermissionCache;
     private final TravelPlaceRepository travelPlaceRepository;
+    private final TravelRouteBatchRepository travelRouteBatchRepository;
+    private final RouteDistanceCache routeDistanceCache;
     private final S3ObjectManager s3ObjectManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<RouteResponse> getTravelRoutes(Long scheduleId, int page) {
         Pageable pageable = PageUtils.defaultPageable(page);
         Page<RouteQueryDto> routePage = travelRouteRepository.findAllByScheduleId(pageable, scheduleId);
+        RouteLegDistances legDistances = getLegDistances(scheduleId, routePage.getContent());
 
         List<RouteResponse> routeResponses = routePage.getContent().stream()
                 .map(route -> {
                     String thumbnailUrl = s3ObjectManager.generateS3ObjectUrl(route.getThumbnailS3ObjectKey());
-                    return RouteResponse.of(route, thumbnailUrl);
+                    return RouteResponse.of(route, thumbnailUrl, legDistances);
                 }).toList();
 
         return PageUtils.createPage(routeResponses, routePage.getPageable(), routePage.getTotalElements());
     }
 
+    public CursorPage<RouteResponse> getTravelRoutesByCursor(Long scheduleId, String cursor) {
+        CursorPageable pageable = PageUtils.defaultCursorPageable(cursor);
+
+        CursorPage<RouteQueryDto> routePage = travelRouteRepository.findAllByScheduleIdByCursor(pageable, scheduleId);
+        RouteLegDistances legDistances = getLegDistances(scheduleId, routePage.content());
+
+        return routePage.map(route -> {
+            String thumbnailUrl = s3ObjectManager.generateS3ObjectUrl(route.getThumbnailS3ObjectKey());
+            return RouteResponse.of(route, thumbnailUrl, legDistances);
+        });
+    }
+
+    // 페이지 경계의 구간 거리와 전체 거리를 위해 일정의 전체 지점으로 계산 (루트 버전이 같으면 캐시 사용)
+    private RouteLegDistances getLegDistances(Long scheduleId, List<RouteQueryDto> routes){
+        if (routes.isEmpty()){
+            return RouteLegDistances.build(List.of());
+        }
+
+        return travelScheduleRepository.findRouteVersion(scheduleId)
+                .map(routeVersion -> routeDistanceCache.get(scheduleId, routeVersion, () -> travelRouteRepository.findRouteStops(scheduleId)))
+                .orElseGet(() -> RouteLegDistances.build(List.of()));
+    }
+
     @Transactional
     public void createLastRoute(Long scheduleId, Long memberId, RouteCreateRequest routeCreateRequest) {
         TravelSchedule schedule = findTravelScheduleByScheduleId(scheduleId);
@@ -60,6 +101,7 @@ public class TravelRouteService {
         TravelRoute route = TravelRoute.createTravelRoute(schedule, place, schedule.getTravelRoutes().size() + 1);
 
         travelRouteRepository.save(route);
+        travelScheduleRepository.increaseRouteVersion(scheduleId);
     }
 
     private TravelSchedule findTravelScheduleByScheduleId(Long scheduleId){
@@ -68,16 +110,16 @@ public class TravelRouteService {
     }
 
     private void validateEnableEdit(Long scheduleId, Long memberId){
-        TravelAttendee attendee = getAttendeeByScheduleIdAndMemberId(scheduleId, memberId);
+        AttendeeAccess attendee = getAttendeeByScheduleIdAndMemberId(scheduleId, memberId);
 
-        if (!attendee.getPermission().isEnableEdit()){
+        if (!attendee.isEnableEdit()){
             throw new ForbiddenScheduleException(ErrorCode.FORBIDDEN_EDIT_SCHEDULE);
         }
 
     }
 
-    private TravelAttendee getAttendeeByScheduleIdAndMemberId(Long scheduleId, Long memberId) {
-        return travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(scheduleId, memberId)
+    private AttendeeAccess getAttendeeByScheduleIdAndMemberId(Long scheduleId, Long memberId) {
+        return attendeePermissionCache.get(scheduleId, memberId)
                 .orElseThrow(() -> new DataNotFoundException(ErrorCode.ATTENDEE_NOT_FOUND));
     }
 
@@ -86,19 +128,77 @@ public class TravelRouteService {
                 .orElseThrow(() -> new DataNotFoundException(ErrorCode.PLACE_NOT_FOUND));
     }
 
+    /**
+     * 요청한 루트와 저장된 루트를 순서 기준으로 비교해 바뀐 행만 batch 로 반영
+     * - 같은 순서의 루트는 여행지가 바뀐 경우만 UPDATE, 요청에만 있는 순서는 INSERT, 저장된 루트에만 있는 순서는 DELETE
+     */
     @Transactional
     public void updateTravelRouteInSchedule(TravelSchedule schedule, List<RouteRequest> routeRequests){
-        travelRouteRepository.deleteAllByTravelSchedule_ScheduleId(schedule.getScheduleId());
-        schedule.clearTravelRoutes();
-
-        // TODO: 추후 수정
-        if (routeRequests != null && !routeRequests.isEmpty()){
-            for(RouteRequest routeRequest : routeRequests){
-                TravelPlace place = findTravelPlaceByPlaceId(routeRequest.getPlaceId());
-                TravelRoute route = TravelRoute.createTravelRoute(schedule, place, routeRequest.getRouteOrder());
-                travelRouteRepository.save(route);
+        List<RouteRequest> requests = routeRequests == null ? List.of() : routeRequests;
+        validateTravelPlaces(requests);
+
+        Map<Integer, Deque<RouteRow>> savedRoutes = travelRouteBatchRepository.findRoutes(schedule.getScheduleId()).stream()
+                .collect(Collectors.groupingBy(RouteRow::routeOrder, Collectors.toCollection(ArrayDeque::new)));
+
+        List<RouteRequest> insertRoutes = new ArrayList<>();
+        List<RouteRow> updateRoutes = new ArrayList<>();
+
+        for (RouteRequest request : requests) {
+            Deque<RouteRow> sameOrderRoutes = savedRoutes.getOrDefault(request.getRouteOrder(), new ArrayDeque<>());
+            RouteRow saved = sameOrderRoutes.poll();
+
+            if (saved == null){
+                insertRoutes.add(request);
+            } else if (!saved.placeId().equals(request.getPlaceId())){
+                updateRoutes.add(new RouteRow(saved.routeId(), saved.routeOrder(), request.getPlaceId()));
             }
         }
+
+        List<Long> deleteRouteIds = savedRoutes.values().stream()
+                .flatMap(Deque::stream)
+                .map(RouteRow::routeId)
+                .toList();
+
+        if (insertRoutes.isEmpty() && updateRoutes.isEmpty() && deleteRouteIds.isEmpty()){
+            return;
+        }
+
+        travelRouteBatchRepository.deleteRoutes(deleteRouteIds);
+        travelRouteBatchRepository.updateRoutePlaces(updateRoutes);
+        saveTravelRoutes(schedule, insertRoutes);
+        travelScheduleRepository.increaseRouteVersion(schedule.getScheduleId());
+
+        // JDBC 로 변경한 루트는 엔티티 리스너가 호출되지 않으므로 직접 발행
+        eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getScheduleId()));
+    }
+
+    // pooled ID 를 사용하므로 hibernate.jdbc.batch_size(JpaBatchConfig) 단위로 INSERT 가 묶임
+    private void saveTravelRoutes(TravelSchedule schedule, List<RouteRequest> routeRequests){
+        if (routeRequests.isEmpty()){
+            return;
+        }
+
+        List<TravelRoute> routes = routeRequests.stream()
+                .map(request -> {
+                    TravelPlace place = travelPlaceRepository.getReferenceById(request.getPlaceId());
+                    return TravelRoute.createTravelRoute(schedule, place, request.getRouteOrder());
+                }).toList();
+
+        travelRouteRepository.saveAll(routes);
+    }
+
+    private void validateTravelPlaces(List<RouteRequest> routeRequests){
+        Set<Long> placeIds = routeRequests.stream()
+                .map(RouteRequest::getPlaceId)
+                .collect(Collectors.toSet());
+
+        if (placeIds.isEmpty()){
+            return;
+        }
+
+        if (travelPlaceRepository.findExistingPlaceIds(placeIds).size() != placeIds.size()){
+            throw new DataNotFoundException(ErrorCode.PLACE_NOT_FOUND);
+        }
     }
 
 
@@ -3,6 +3,10 @@ package com.triptune.schedule.service;
 import com.triptune.global.s3.S3ObjectManager;
 import com.triptune.member.entity.Member;
 import com.triptune.member.repository.MemberRepository;
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.cache.AttendeePermissionCache;
+import com.triptune.schedule.counter.MemberScheduleCounter;
+import com.triptune.schedule.counter.MemberScheduleCounter.ScheduleCounts;
 import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
 import com.triptune.schedule.service.dto.AuthorDTO;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
@@ -14,19 +18,25 @@ import com.triptune.schedule.dto.response.ScheduleInfoResponse;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.event.AttendeeChangedEvent;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
+import com.triptune.schedule.properties.ScheduleCardProperties;
 import com.triptune.schedule.repository.ChatMessageRepository;
+import com.triptune.schedule.repository.ScheduleCardRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.travel.dto.response.PlaceResponse;
-import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.service.JungGuPlaceQueryService;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.response.page.PageResponse;
 import com.triptune.global.response.page.SchedulePageResponse;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -43,30 +53,50 @@ public class TravelScheduleService {
     private final TravelScheduleRepository travelScheduleRepository;
     private final MemberRepository memberRepository;
     private final TravelAttendeeRepository travelAttendeeRepository;
-    private final TravelPlaceRepository travelPlaceRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final TravelRouteService travelRouteService;
     private final S3ObjectManager s3ObjectManager;
+    private final JungGuPlaceQueryService jungGuPlaceQueryService;
+    private final MemberScheduleCounter memberScheduleCounter;
+    private final ScheduleCardProperties scheduleCardProperties;
+    private final ScheduleCardRepository scheduleCardRepository;
+    private final AttendeePermissionCache attendeePermissionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SchedulePageResponse<ScheduleInfoResponse> getAllSchedules(int page, Long memberId) {
         Pageable pageable = PageUtils.schedulePageable(page);
-        Page<ScheduleInfoQueryDto> schedulePage = travelScheduleRepository.findTravelSchedules(pageable, memberId);
+        Page<ScheduleInfoQueryDto> schedulePage = scheduleCardProperties.enabled()
+                ? scheduleCardRepository.findScheduleCards(pageable, memberId)
+                : travelScheduleRepository.findTravelSchedules(pageable, memberId);
         Page<ScheduleInfoResponse> pageResult = toScheduleInfoPage(schedulePage);
 
-        int sharedScheduleCnt = travelScheduleRepository.countSharedTravelSchedules(memberId);
+        ScheduleCounts scheduleCounts = memberScheduleCounter.getCounts(memberId);
 
-        return SchedulePageResponse.ofAllSchedules(pageResult, sharedScheduleCnt);
+        return SchedulePageResponse.ofAllSchedules(pageResult, scheduleCounts.sharedCount());
+    }
+
+
+    public CursorPage<ScheduleInfoResponse> getAllSchedulesByCursor(String cursor, Long memberId) {
+        CursorPageable pageable = PageUtils.scheduleCursorPageable(cursor);
+
+        CursorPage<ScheduleInfoQueryDto> schedulePage = scheduleCardProperties.enabled()
+                ? scheduleCardRepository.findScheduleCardsByCursor(pageable, memberId)
+                : travelScheduleRepository.findTravelSchedulesByCursor(pageable, memberId);
+
+        return schedulePage.map(this::toScheduleInfoResponse);
     }
 
 
     public SchedulePageResponse<ScheduleInfoResponse> getSharedSchedules(int page, Long memberId) {
         Pageable pageable = PageUtils.schedulePageable(page);
-        Page<ScheduleInfoQueryDto> schedulePage = travelScheduleRepository.findSharedTravelSchedules(pageable, memberId);
+        Page<ScheduleInfoQueryDto> schedulePage = scheduleCardProperties.enabled()
+                ? scheduleCardRepository.findSharedScheduleCards(pageable, memberId)
+                : travelScheduleRepository.findSharedTravelSchedules(pageable, memberId);
         Page<ScheduleInfoResponse> pageResult = toScheduleInfoPage(schedulePage);
 
-        int totalScheduleCnt = travelScheduleRepository.countTravelSchedules(memberId);
+        ScheduleCounts scheduleCounts = memberScheduleCounter.getCounts(memberId);
 
-        return SchedulePageResponse.ofSharedSchedules(pageResult, totalScheduleCnt);
+        return SchedulePageResponse.ofSharedSchedules(pageResult, scheduleCounts.totalCount());
     }
 
 
@@ -74,34 +104,33 @@ public class TravelScheduleService {
         Pageable pageable = PageUtils.scheduleModalPageable(page);
 
         return travelScheduleRepository.findEnableEditTravelSchedules(pageable, memberId)
-                .map(schedule -> {
-                    String authorNickname = travelAttendeeRepository.findAuthorNicknameByScheduleId(schedule.getScheduleId());
-                    return OverviewScheduleResponse.from(schedule, authorNickname);
-                });
+                .map(OverviewScheduleResponse::from);
     }
 
 
     public SchedulePageResponse<ScheduleInfoResponse> searchAllSchedules(int page, String keyword, Long memberId) {
         Pageable pageable = PageUtils.schedulePageable(page);
-        Page<ScheduleInfoQueryDto> schedulePage = travelScheduleRepository.searchTravelSchedules(pageable, keyword, memberId);
+        Page<ScheduleInfoQueryDto> schedulePage = scheduleCardProperties.enabled()
+                ? scheduleCardRepository.searchScheduleCards(pageable, keyword, memberId)
+                : travelScheduleRepository.searchTravelSchedules(pageable, keyword, memberId);
         Page<ScheduleInfoResponse> pageResult = toScheduleInfoPage(schedulePage);
 
-        int totalScheduleCnt = travelScheduleRepository.countTravelSchedules(memberId);
-        int sharedScheduleCnt = travelScheduleRepository.countSharedTravelSchedules(memberId);
+        ScheduleCounts scheduleCounts = memberScheduleCounter.getCounts(memberId);
 
-        return SchedulePageResponse.of(pageResult, totalScheduleCnt, sharedScheduleCnt);
+        return SchedulePageResponse.of(pageResult, scheduleCounts.totalCount(), scheduleCounts.sharedCount());
     }
 
 
     public SchedulePageResponse<ScheduleInfoResponse> searchSharedSchedules(int page, String keyword, Long memberId) {
         Pageable pageable = PageUtils.schedulePageable(page);
-        Page<ScheduleInfoQueryDto> schedulePage = travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, memberId);
+        Page<ScheduleInfoQueryDto> schedulePage = scheduleCardProperties.enabled()
+                ? scheduleCardRepository.searchSharedScheduleCards(pageable, keyword, memberId)
+                : travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, memberId);
         Page<ScheduleInfoResponse> pageResult = toScheduleInfoPage(schedulePage);
 
-        int totalScheduleCnt = travelScheduleRepository.countTravelSchedules(memberId);
-        int sharedScheduleCnt = travelScheduleRepository.countSharedTravelSchedules(memberId);
+        ScheduleCounts scheduleCounts = memberScheduleCounter.getCounts(memberId);
 
-        return SchedulePageResponse.of(pageResult, totalScheduleCnt, sharedScheduleCnt);
+        return SchedulePageResponse.of(pageResult, scheduleCounts.totalCount(), scheduleCounts.sharedCount());
     }
 
 
@@ -132,6 +161,7 @@ public class TravelScheduleService {
         travelScheduleRepository.save(schedule);
 
         Member member = getMemberById(memberId);
+        memberScheduleCounter.scheduleCreated(memberId);
 
         TravelAttendee attendee = TravelAttendee.createAuthor(schedule, member);
         travelAttendeeRepository.save(attendee);
@@ -150,7 +180,7 @@ public class TravelScheduleService {
         TravelSchedule schedule = getScheduleByScheduleId(scheduleId);
 
         Pageable pageable = PageUtils.defaultPageable(page);
-        Page<PlaceQueryDto> placePage = travelPlaceRepository.findNearbyTravelPlacesFromJungGu(pageable);
+        Page<PlaceQueryDto> placePage = jungGuPlaceQueryService.findNearbyTravelPlaces(pageable);
 
         List<PlaceResponse> placeResponses = placePage.getContent().stream()
                 .map(place -> {
@@ -197,18 +227,20 @@ public class TravelScheduleService {
 
     @Transactional
     public void deleteSchedule(Long scheduleId, Long memberId) {
-        TravelAttendee attendee = getAttendeeByScheduleIdAndMemberId(scheduleId, memberId);
+        AttendeeAccess attendee = getAttendeeByScheduleIdAndMemberId(scheduleId, memberId);
 
-        if (!attendee.getRole().isAuthor()){
+        if (!attendee.isAuthor()){
             throw new ForbiddenScheduleException(ErrorCode.FORBIDDEN_DELETE_SCHEDULE);
         }
 
+        memberScheduleCounter.scheduleDeleted(travelAttendeeRepository.findMemberIdsByScheduleId(scheduleId));
         travelScheduleRepository.deleteById(scheduleId);
         deleteChatMessageByScheduleId(scheduleId);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(scheduleId));
     }
 
-    private TravelAttendee getAttendeeByScheduleIdAndMemberId(Long scheduleId, Long memberId) {
-        return travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(scheduleId, memberId)
+    private AttendeeAccess getAttendeeByScheduleIdAndMemberId(Long scheduleId, Long memberId) {
+        return attendeePermissionCache.get(scheduleId, memberId)
                 .orElseThrow(() -> new ForbiddenScheduleException(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE));
     }
 
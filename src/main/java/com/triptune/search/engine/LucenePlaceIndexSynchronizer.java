@@ -0,0 +1,61 @@
+package com.triptune.search.engine;
+
+import com.triptune.search.properties.PlaceSearchProperties;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceSearchDocumentQueryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LucenePlaceIndexSynchronizer {
+
+    private final PlaceSearchProperties placeSearchProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final LucenePlaceSearchEngine lucenePlaceSearchEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        if (!placeSearchProperties.isLuceneEnabled()){
+            return;
+        }
+
+        List<PlaceSearchDocumentQueryDto> places = travelPlaceRepository.findAllPlaceSearchDocuments();
+        lucenePlaceSearchEngine.rebuild(places);
+
+        log.info("Lucene 여행지 색인 생성 완료: 여행지 {} 개", places.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePlaceChanged(TravelPlaceChangedEvent event){
+        // 북마크 수, 이미지는 색인 필드에 없으므로 무시
+        if (!lucenePlaceSearchEngine.isReady() || !event.changeType().isIndexed()){
+            return;
+        }
+
+        // 커밋 이후 실행되므로 색인 실패가 요청 실패로 이어지지 않도록 로그만 남김
+        try {
+            if (event.changeType().isDeleted()){
+                lucenePlaceSearchEngine.delete(event.placeId());
+                return;
+            }
+
+            travelPlaceRepository.findPlaceSearchDocumentById(event.placeId())
+                    .ifPresentOrElse(
+                            lucenePlaceSearchEngine::index,
+                            () -> lucenePlaceSearchEngine.delete(event.placeId())
+                    );
+        } catch (RuntimeException e) {
+            log.error("Lucene 여행지 색인 반영 실패: placeId={}", event.placeId(), e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.triptune.search.engine;
+
+import com.triptune.search.properties.PlaceSearchProperties;
+import com.triptune.travel.repository.dto.PlaceSearchDocumentQueryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로컬 디스크에 저장되는 Lucene 여행지 검색 엔진
+ * - 여행지명, 지역명(국가/도시/지역), 주소, 설명, 콘텐츠 타입을 Nori 형태소 분석기로 색인
+ * - BM25 점수에 여행지명 완전 일치/시작 일치 가중치를 더해 정렬
+ * - 위치 정보가 있으면 같은 점수 내에서 요청 위치와 가까운 순으로 정렬
+ * - 시작 시 전체 재색인 후 commit 하므로 변경분은 commit 없이 검색에만 반영(near real-time)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LucenePlaceSearchEngine {
+    private static final String DEFAULT_INDEX_PATH = "lucene/travel-place";
+
+    private static final String PLACE_ID = "placeId";
+    private static final String PLACE_NAME = "placeName";
+    private static final String PLACE_NAME_EXACT = "placeNameExact";
+    private static final String REGION = "region";
+    private static final String ADDRESS = "address";
+    private static final String DESCRIPTION = "description";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String LOCATION = "location";
+
+    private static final float EXACT_MATCH_BOOST = 10f;
+    private static final float PREFIX_MATCH_BOOST = 5f;
+    private static final float PLACE_NAME_BOOST = 3f;
+    private static final float REGION_BOOST = 2f;
+    private static final float DESCRIPTION_BOOST = 0.5f;
+
+    private final PlaceSearchProperties placeSearchProperties;
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private Analyzer analyzer;
+    private volatile boolean ready = false;
+
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 여행지로 색인을 다시 생성
+     */
+    public synchronized void rebuild(List<PlaceSearchDocumentQueryDto> places) {
+        try {
+            openIfClosed();
+
+            indexWriter.deleteAll();
+            for (PlaceSearchDocumentQueryDto place : places) {
+                indexWriter.addDocument(toDocument(place));
+            }
+
+            commit();
+            ready = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void index(PlaceSearchDocumentQueryDto place) {
+        if (!ready){
+            return;
+        }
+
+        try {
+            indexWriter.updateDocument(new Term(PLACE_ID, String.valueOf(place.getPlaceId())), toDocument(place));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void delete(Long placeId) {
+        if (!ready){
+            return;
+        }
+
+        try {
+            indexWriter.deleteDocuments(new Term(PLACE_ID, String.valueOf(placeId)));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public PlaceSearchResult search(PlaceSearchQuery searchQuery, long offset, int size) {
+        Query query = createQuery(searchQuery);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+
+            try {
+                int totalHits = searcher.count(query);
+                int limit = (int) Math.min(offset + size, totalHits);
+
+                if (offset >= limit){
+                    return PlaceSearchResult.empty(totalHits);
+                }
+
+                Sort sort = createSort(searchQuery);
+                TopDocs topDocs = sort == null
+                        ? searcher.search(query, limit)
+                        : searcher.search(query, limit, sort);
+
+                List<Long> placeIds = new ArrayList<>();
+                StoredFields storedFields = searcher.storedFields();
+
+                for (ScoreDoc scoreDoc : Arrays.copyOfRange(topDocs.scoreDocs, (int) offset, topDocs.scoreDocs.length)) {
+                    placeIds.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(PLACE_ID)));
+                }
+
+                return new PlaceSearchResult(placeIds, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        ready = false;
+
+        if (searcherManager != null){
+            searcherManager.close();
+        }
+
+        if (indexWriter != null){
+            indexWriter.close();
+        }
+
+        if (directory != null){
+            directory.close();
+        }
+    }
+
+    private void openIfClosed() throws IOException {
+        if (indexWriter != null){
+            return;
+        }
+
+        String indexPath = placeSearchProperties.indexPath() == null ? DEFAULT_INDEX_PATH : placeSearchProperties.indexPath();
+        log.info("Lucene 여행지 색인 경로: {}", Path.of(indexPath).toAbsolutePath());
+
+        analyzer = new KoreanAnalyzer();
+        directory = FSDirectory.open(Path.of(indexPath));
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    private void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private Document toDocument(PlaceSearchDocumentQueryDto place){
+        Document document = new Document();
+
+        document.add(new StringField(PLACE_ID, String.valueOf(place.getPlaceId()), Field.Store.YES));
+        document.add(new StringField(PLACE_NAME_EXACT, normalize(place.getPlaceName()), Field.Store.NO));
+        document.add(new TextField(PLACE_NAME, nullToEmpty(place.getPlaceName()), Field.Store.NO));
+        document.add(new TextField(REGION, String.join(" ",
+                nullToEmpty(place.getCountry()),
+                nullToEmpty(place.getCity()),
+                nullToEmpty(place.getDistrict())), Field.Store.NO));
+        document.add(new TextField(ADDRESS, String.join(" ",
+                nullToEmpty(place.getAddress()),
+                nullToEmpty(place.getDetailAddress())), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, nullToEmpty(place.getDescription()), Field.Store.NO));
+        document.add(new TextField(CONTENT_TYPE, nullToEmpty(place.getContentTypeName()), Field.Store.NO));
+
+        if (place.getLatitude() != null && place.getLongitude() != null){
+            document.add(new LatLonDocValuesField(LOCATION, place.getLatitude(), place.getLongitude()));
+        }
+
+        return document;
+    }
+
+    private Query createQuery(PlaceSearchQuery searchQuery){
+        String keyword = normalize(searchQuery.keyword());
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+
+        BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(PLACE_NAME_EXACT, keyword)), EXACT_MATCH_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(PLACE_NAME_EXACT, keyword)), PREFIX_MATCH_BOOST), BooleanClause.Occur.SHOULD);
+
+        addAnalyzedQuery(keywordQuery, queryBuilder, PLACE_NAME, keyword, PLACE_NAME_BOOST);
+        addAnalyzedQuery(keywordQuery, queryBuilder, REGION, keyword, REGION_BOOST);
+        addAnalyzedQuery(keywordQuery, queryBuilder, ADDRESS, keyword, 1f);
+        addAnalyzedQuery(keywordQuery, queryBuilder, CONTENT_TYPE, keyword, 1f);
+        addAnalyzedQuery(keywordQuery, queryBuilder, DESCRIPTION, keyword, DESCRIPTION_BOOST);
+
+        return keywordQuery.build();
+    }
+
+    // 위치가 있으면 점수가 같은 여행지는 가까운 순으로 정렬
+    private Sort createSort(PlaceSearchQuery searchQuery){
+        if (!searchQuery.hasLocation()){
+            return null;
+        }
+
+        return new Sort(
+                SortField.FIELD_SCORE,
+                LatLonDocValuesField.newDistanceSort(LOCATION, searchQuery.latitude(), searchQuery.longitude())
+        );
+    }
+
+    private void addAnalyzedQuery(BooleanQuery.Builder builder, QueryBuilder queryBuilder, String field, String keyword, float boost){
+        Query query = queryBuilder.createBooleanQuery(field, keyword);
+
+        // 불용어만으로 이루어진 검색어는 분석 결과가 없음
+        if (query != null){
+            builder.add(new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private static String normalize(String value){
+        return nullToEmpty(value).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String value){
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.triptune.search.engine;
+
+public record PlaceSearchQuery(
+        String keyword,
+        Double latitude,
+        Double longitude
+) {
+    public static PlaceSearchQuery of(String keyword){
+        return new PlaceSearchQuery(keyword, null, null);
+    }
+
+    public static PlaceSearchQuery withLocation(String keyword, double latitude, double longitude){
+        return new PlaceSearchQuery(keyword, latitude, longitude);
+    }
+
+    public boolean hasLocation(){
+        return latitude != null && longitude != null;
+    }
+}
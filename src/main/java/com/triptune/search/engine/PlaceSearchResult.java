@@ -0,0 +1,12 @@
+package com.triptune.search.engine;
+
+import java.util.List;
+
+public record PlaceSearchResult(
+        List<Long> placeIds,
+        int totalHits
+) {
+    public static PlaceSearchResult empty(int totalHits){
+        return new PlaceSearchResult(List.of(), totalHits);
+    }
+}
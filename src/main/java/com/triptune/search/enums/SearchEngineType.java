@@ -0,0 +1,6 @@
+package com.triptune.search.enums;
+
+public enum SearchEngineType {
+    DB,
+    LUCENE
+}
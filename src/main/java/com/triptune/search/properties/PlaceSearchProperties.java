@@ -0,0 +1,14 @@
+package com.triptune.search.properties;
+
+import com.triptune.search.enums.SearchEngineType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.place-search")
+public record PlaceSearchProperties(
+        SearchEngineType engine,
+        String indexPath
+) {
+    public boolean isLuceneEnabled(){
+        return engine == SearchEngineType.LUCENE;
+    }
+}
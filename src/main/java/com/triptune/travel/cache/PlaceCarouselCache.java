@@ -0,0 +1,152 @@
+package com.triptune.travel.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.bookmark.event.BookmarkChangedEvent;
+import com.triptune.global.response.ApiResponse;
+import com.triptune.global.s3.S3ObjectManager;
+import com.triptune.travel.dto.response.PlaceSimpleResponse;
+import com.triptune.travel.enums.CityType;
+import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.properties.PlaceCarouselProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceSimpleQueryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역별 인기 여행지, 테마별 추천 여행지 캐러셀 스냅샷
+ * - 모든 CityType, ThemeType 의 상위 목록과 직렬화된 응답 본문을 미리 만들어 두고 통째로 교체
+ * - 주기적으로 다시 만들고, 북마크 변경 시에는 변경을 모아 한 번 다시 만듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCarouselCache {
+    private static final long BOOKMARK_REFRESH_DELAY_SECONDS = 5;
+
+    private final PlaceCarouselProperties placeCarouselProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final S3ObjectManager s3ObjectManager;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "place-carousel-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(){
+        if (!placeCarouselProperties.enabled()){
+            return;
+        }
+
+        refresh();
+
+        long interval = placeCarouselProperties.refreshIntervalSecondsOrDefault();
+        refreshExecutor.scheduleWithFixedDelay(this::refreshSafely, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkChanged(BookmarkChangedEvent event){
+        if (snapshot == null || !refreshScheduled.compareAndSet(false, true)){
+            return;
+        }
+
+        refreshExecutor.schedule(() -> {
+            refreshScheduled.set(false);
+            refreshSafely();
+        }, BOOKMARK_REFRESH_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public Optional<Carousel> findPopular(CityType cityType){
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.ofNullable(current.popular().get(cityType));
+    }
+
+    public Optional<Carousel> findRecommend(ThemeType themeType){
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.ofNullable(current.recommend().get(themeType));
+    }
+
+    /**
+     * 전체 캐러셀을 다시 조회해 스냅샷 교체
+     */
+    public synchronized void refresh(){
+        Map<CityType, Carousel> popular = new EnumMap<>(CityType.class);
+        for (CityType cityType : CityType.values()) {
+            popular.put(cityType, createCarousel(travelPlaceRepository.findPopularTravelPlaces(cityType)));
+        }
+
+        Map<ThemeType, Carousel> recommend = new EnumMap<>(ThemeType.class);
+        for (ThemeType themeType : ThemeType.values()) {
+            recommend.put(themeType, createCarousel(travelPlaceRepository.findRecommendTravelPlaces(themeType)));
+        }
+
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(popular), Collections.unmodifiableMap(recommend));
+    }
+
+    public byte[] serialize(List<PlaceSimpleResponse> places){
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.dataResponse(places));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("여행지 캐러셀 응답 직렬화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        refreshExecutor.shutdownNow();
+    }
+
+
+    private void refreshSafely(){
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("여행지 캐러셀 스냅샷 갱신 실패", e);
+        }
+    }
+
+    private Carousel createCarousel(List<PlaceSimpleQueryDto> places){
+        List<PlaceSimpleResponse> responses = places.stream()
+                .map(place -> {
+                    String thumbnailUrl = s3ObjectManager.generateS3ObjectUrl(place.getThumbnailS3ObjectKey());
+                    return PlaceSimpleResponse.of(place, thumbnailUrl);
+                }).toList();
+
+        return new Carousel(responses, serialize(responses));
+    }
+
+
+    public record Carousel(
+            List<PlaceSimpleResponse> places,
+            byte[] body     // ApiResponse 로 감싼 JSON 응답 본문
+    ) {}
+
+    private record Snapshot(
+            Map<CityType, Carousel> popular,
+            Map<ThemeType, Carousel> recommend
+    ) {}
+}
@@ -0,0 +1,293 @@
+package com.triptune.travel.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.triptune.common.event.RegionChangedEvent;
+import com.triptune.travel.dto.response.PlaceDetailResponse;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.properties.PlaceDetailCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 여행지 상세 응답 2단계 캐시 (회원별 북마크 여부 제외)
+ * - L1: 인스턴스 로컬 Caffeine (최대 개수 + 짧은 TTL)
+ * - L2: Redis(place:detail:{placeId}) 에 JSON 저장
+ * - 여행지, 여행지 이미지 변경 트랜잭션 커밋 후 L1, L2 삭제 (북마크 수 변경은 상세 응답과 무관하므로 제외)
+ * - 국가, 도시, 지역 변경 시 어떤 여행지가 영향을 받는지 알 수 없으므로 L1, L2 전체 삭제
+ * - L2 삭제 시 여행지별 세대(place:detail-gen:{placeId}), 전체 삭제 시 전체 세대(place:detail-gen:all)를 증가시키고,
+ *   L2 조회 시 함께 읽은 세대가 저장 시점까지 그대로일 때만 저장 (커밋 전에 DB 를 읽은 요청이 삭제 후에 이전 값을 저장하지 않도록 함)
+ * - L1 삭제는 Redis 채널(place:detail:evict)로 다른 서버에도 전파 (전파 실패 시 L1 TTL 만료로 반영)
+ * - 지표: cache.gets/puts/evictions{cache=placeDetail}, place.detail.cache.redis{result=hit|miss}
+ */
+@Slf4j
+@Component
+public class PlaceDetailCache implements MessageListener {
+    public static final String CACHE_NAME = "placeDetail";
+    public static final String EVICT_CHANNEL = "place:detail:evict";
+    private static final String KEY_PREFIX = "place:detail:";
+    // 전체 삭제 시 SCAN 패턴(place:detail:*)에 걸리지 않도록 다른 접두사 사용
+    private static final String GENERATION_KEY_PREFIX = "place:detail-gen:";
+    private static final String GLOBAL_GENERATION_KEY = GENERATION_KEY_PREFIX + "all";
+    private static final String EVICT_ALL_MESSAGE = "*";
+
+    // KEYS[1]: 상세, KEYS[2]: 여행지 세대, KEYS[3]: 전체 세대, ARGV[1]: JSON, ARGV[2]: TTL(초), ARGV[3], ARGV[4]: 조회 시점의 세대
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[3] or (redis.call('GET', KEYS[3]) or '') ~= ARGV[4] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 세대는 적재 중인 요청이 끝날 때까지 남도록 L2 와 같은 TTL 설정
+    // KEYS[1]: 상세, KEYS[2]: 여행지 세대, ARGV[1]: TTL(초)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final PlaceDetailCacheProperties placeDetailCacheProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, PlaceDetailResponse> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+
+    public PlaceDetailCache(PlaceDetailCacheProperties placeDetailCacheProperties,
+                            StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.placeDetailCacheProperties = placeDetailCacheProperties;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(placeDetailCacheProperties.localMaximumSizeOrDefault())
+                .expireAfterWrite(Duration.ofSeconds(placeDetailCacheProperties.localTtlSecondsOrDefault()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        this.redisHitCounter = meterRegistry.counter("place.detail.cache.redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("place.detail.cache.redis", "result", "miss");
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe(){
+        if (!placeDetailCacheProperties.enabled()){
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.addMessageListener(this, ChannelTopic.of(EVICT_CHANNEL));
+        } catch (RuntimeException e) {
+            log.warn("여행지 상세 캐시 삭제 채널 구독 실패, 다른 서버의 변경은 L1 만료 후 반영", e);
+        }
+    }
+
+    /**
+     * L1 -> L2 -> loader 순서로 조회하고, loader 결과는 L2, L1 에 저장
+     * - 조회 중 같은 여행지의 L1 삭제는 Caffeine 이 조회가 끝난 뒤 처리하므로 이전 값이 L1 에 남지 않음
+     */
+    public PlaceDetailResponse get(Long placeId, Function<Long, PlaceDetailResponse> loader){
+        if (!placeDetailCacheProperties.enabled()){
+            return loader.apply(placeId);
+        }
+
+        return localCache.get(placeId, id -> {
+            RedisLookup lookup = getFromRedis(id);
+            if (lookup.response() != null){
+                return lookup.response();
+            }
+
+            PlaceDetailResponse response = loader.apply(id);
+            putToRedis(id, response, lookup);
+            return response;
+        });
+    }
+
+    public void evict(Long placeId){
+        localCache.invalidate(placeId);
+
+        try {
+            redisTemplate.execute(
+                    EVICT_SCRIPT,
+                    List.of(createKey(placeId), createGenerationKey(placeId)),
+                    String.valueOf(placeDetailCacheProperties.redisTtlSecondsOrDefault())
+            );
+        } catch (DataAccessException e) {
+            log.error("여행지 상세 캐시 삭제 실패: placeId={}", placeId, e);
+        }
+
+        publishEviction(String.valueOf(placeId));
+    }
+
+    public void evictAll(){
+        localCache.invalidateAll();
+
+        try {
+            redisTemplate.opsForValue().increment(GLOBAL_GENERATION_KEY);
+        } catch (DataAccessException e) {
+            log.error("여행지 상세 캐시 전체 세대 증가 실패", e);
+        }
+
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            List<String> keys = new ArrayList<>();
+            cursor.forEachRemaining(keys::add);
+
+            if (!keys.isEmpty()){
+                redisTemplate.delete(keys);
+            }
+        } catch (DataAccessException e) {
+            log.error("여행지 상세 캐시 전체 삭제 실패", e);
+        }
+
+        publishEviction(EVICT_ALL_MESSAGE);
+    }
+
+    /**
+     * 다른 서버(자신 포함)에서 전파한 L1 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (EVICT_ALL_MESSAGE.equals(body)){
+            localCache.invalidateAll();
+            return;
+        }
+
+        localCache.invalidate(Long.valueOf(body));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRegionChanged(RegionChangedEvent event){
+        if (!placeDetailCacheProperties.enabled()){
+            return;
+        }
+
+        evictAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePlaceChanged(TravelPlaceChangedEvent event){
+        if (!placeDetailCacheProperties.enabled() || event.changeType().isBookmarkCounted()){
+            return;
+        }
+
+        evict(event.placeId());
+    }
+
+
+    // 상세와 세대를 한 번에 조회 (Redis 장애 시 세대를 알 수 없으므로 저장하지 않음)
+    private RedisLookup getFromRedis(Long placeId){
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(createKey(placeId), createGenerationKey(placeId), GLOBAL_GENERATION_KEY)
+            );
+
+            if (values == null || values.size() < 3){
+                return RedisLookup.unavailable();
+            }
+
+            String placeGeneration = nullToEmpty(values.get(1));
+            String globalGeneration = nullToEmpty(values.get(2));
+
+            if (values.get(0) == null){
+                redisMissCounter.increment();
+                return new RedisLookup(null, placeGeneration, globalGeneration);
+            }
+
+            redisHitCounter.increment();
+            return new RedisLookup(objectMapper.readValue(values.get(0), PlaceDetailResponse.class), placeGeneration, globalGeneration);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("여행지 상세 캐시 조회 실패로 DB 조회: placeId={}", placeId, e);
+            return RedisLookup.unavailable();
+        }
+    }
+
+    private void putToRedis(Long placeId, PlaceDetailResponse response, RedisLookup lookup){
+        if (lookup.placeGeneration() == null){
+            return;
+        }
+
+        try {
+            redisTemplate.execute(
+                    PUT_SCRIPT,
+                    List.of(createKey(placeId), createGenerationKey(placeId), GLOBAL_GENERATION_KEY),
+                    objectMapper.writeValueAsString(response),
+                    String.valueOf(placeDetailCacheProperties.redisTtlSecondsOrDefault()),
+                    lookup.placeGeneration(),
+                    lookup.globalGeneration()
+            );
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("여행지 상세 캐시 저장 실패: placeId={}", placeId, e);
+        }
+    }
+
+    private void publishEviction(String message){
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("여행지 상세 캐시 삭제 전파 실패, 다른 서버의 L1 은 만료 후 반영: {}", message, e);
+        }
+    }
+
+    private String nullToEmpty(String value){
+        return value == null ? "" : value;
+    }
+
+    private String createKey(Long placeId){
+        return KEY_PREFIX + placeId;
+    }
+
+    private String createGenerationKey(Long placeId){
+        return GENERATION_KEY_PREFIX + placeId;
+    }
+
+
+    // 세대가 null 이면 Redis 조회 실패
+    private record RedisLookup(
+            PlaceDetailResponse response,
+            String placeGeneration,
+            String globalGeneration
+    ) {
+        static RedisLookup unavailable(){
+            return new RedisLookup(null, null, null);
+        }
+    }
+}
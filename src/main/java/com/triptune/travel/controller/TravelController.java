@@ -1,12 +1,14 @@
 package com.triptune.travel.controller;
 
 import com.triptune.global.response.ApiResponse;
+import com.triptune.global.response.page.CursorPageResponse;
 import com.triptune.global.response.page.PageResponse;
+import com.triptune.global.util.CursorPage;
 import com.triptune.travel.dto.request.PlaceLocationRequest;
 import com.triptune.travel.dto.request.PlaceSearchRequest;
 import com.triptune.travel.dto.response.PlaceDetailResponse;
 import com.triptune.travel.dto.response.PlaceDistanceResponse;
-import com.triptune.travel.dto.response.PlaceSimpleResponse;
+import com.triptune.travel.dto.response.PlaceSuggestionResponse;
 import com.triptune.travel.enums.CityType;
 import com.triptune.travel.enums.ThemeType;
 import com.triptune.travel.service.TravelService;
@@ -15,6 +17,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -39,6 +43,15 @@ public class TravelController {
         return ApiResponse.pageResponse(response);
     }
 
+    @PostMapping("/cursor")
+    @Operation(summary = "현재 위치와 가까운 여행지 목록 커서 조회", description = "회원의 현재 위치와 가까운 여행지 목록을 커서 기반으로 제공한다. 첫 페이지는 cursor 없이 요청한다.")
+    public ApiResponse<CursorPageResponse<PlaceDistanceResponse>> getNearByTravelPlacesByCursor(@RequestBody @Valid PlaceLocationRequest placeLocationRequest,
+                                                                                               @RequestParam(required = false) String cursor){
+        Long memberId = getAuthenticateMemberId();
+        CursorPage<PlaceDistanceResponse> response = travelService.getNearByTravelPlacesByCursor(cursor, memberId, placeLocationRequest);
+        return ApiResponse.cursorPageResponse(response);
+    }
+
 
     @PostMapping("/search")
     @Operation(summary = "여행지 검색", description = "여행지 탐색 메뉴에서 여행지를 검색한다.")
@@ -55,6 +68,14 @@ public class TravelController {
     }
 
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "여행지 검색어 자동완성", description = "입력한 검색어로 시작하는 여행지, 도시, 지역명을 북마크 수가 많은 순으로 제공한다.")
+    public ApiResponse<List<PlaceSuggestionResponse>> getPlaceSuggestions(@RequestParam("keyword") String keyword){
+        List<PlaceSuggestionResponse> response = travelService.getPlaceSuggestions(keyword);
+        return ApiResponse.dataResponse(response);
+    }
+
+
     @GetMapping("/{placeId}")
     @Operation(summary = "여행지 상세조회", description = "여행지에 대한 자세한 정보를 조회한다.")
     public ApiResponse<PlaceDetailResponse> getTravelPlaceDetails(@PathVariable("placeId") Long placeId){
@@ -65,18 +86,25 @@ public class TravelController {
 
     @GetMapping("/popular")
     @Operation(summary = "지역별 인기 여행지 조회", description = "지역에 따른 인기 여행지 목록을 조회한다.")
-    public ApiResponse<List<PlaceSimpleResponse>> getPopularTravelPlacesByCity(@RequestParam("city") String city){
+    public ResponseEntity<byte[]> getPopularTravelPlacesByCity(@RequestParam("city") String city){
         CityType cityType = CityType.from(city);
-        List<PlaceSimpleResponse> response = travelService.getPopularTravelPlacesByCity(cityType);
-        return ApiResponse.dataResponse(response);
+        byte[] response = travelService.getPopularTravelPlacesBody(cityType);
+        return jsonResponse(response);
     }
 
     @GetMapping("/recommend")
     @Operation(summary = "추천 테마별 여행지 조회", description = "여행 테마에 따른 여행지 목록을 조회한다.")
-    public ApiResponse<List<PlaceSimpleResponse>> getRecommendTravelPlacesByTheme(@RequestParam("theme") String theme){
+    public ResponseEntity<byte[]> getRecommendTravelPlacesByTheme(@RequestParam("theme") String theme){
         ThemeType themeType = ThemeType.from(theme);
-        List<PlaceSimpleResponse> response = travelService.getRecommendTravelPlacesByTheme(themeType);
-        return ApiResponse.dataResponse(response);
+        byte[] response = travelService.getRecommendTravelPlacesBody(themeType);
+        return jsonResponse(response);
+    }
+
+    // 캐러셀 응답은 미리 직렬화된 ApiResponse JSON 을 그대로 내려줌
+    private ResponseEntity<byte[]> jsonResponse(byte[] body){
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     public Long getAuthenticateMemberId(){
@@ -78,5 +78,30 @@ public class PlaceDetailResponse {
                 .build();
     }
 
+    /**
+     * 회원별 북마크 여부만 바꾼 복사본 (캐시된 응답은 변경하지 않음)
+     */
+    public PlaceDetailResponse withBookmarkStatus(boolean bookmarkStatus){
+        return PlaceDetailResponse.builder()
+                .placeId(placeId)
+                .placeType(placeType)
+                .country(country)
+                .city(city)
+                .district(district)
+                .address(address)
+                .detailAddress(detailAddress)
+                .useTime(useTime)
+                .checkInTime(checkInTime)
+                .checkOutTime(checkOutTime)
+                .homepage(homepage)
+                .phoneNumber(phoneNumber)
+                .latitude(latitude)
+                .longitude(longitude)
+                .placeName(placeName)
+                .bookmarkStatus(bookmarkStatus)
+                .description(description)
+                .imageList(imageList)
+                .build();
+    }
 
 }
@@ -0,0 +1,34 @@
+package com.triptune.travel.dto.response;
+
+import com.triptune.travel.enums.SuggestionType;
+import com.triptune.travel.index.PlaceSuggestion;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PlaceSuggestionResponse {
+    private String name;
+    private SuggestionType type;
+
+    @Builder
+    public PlaceSuggestionResponse(String name, SuggestionType type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    public static PlaceSuggestionResponse from(PlaceSuggestion suggestion){
+        return PlaceSuggestionResponse.builder()
+                .name(suggestion.name())
+                .type(suggestion.type())
+                .build();
+    }
+
+    public static PlaceSuggestionResponse fromPlaceName(String placeName){
+        return PlaceSuggestionResponse.builder()
+                .name(placeName)
+                .type(SuggestionType.PLACE)
+                .build();
+    }
+}
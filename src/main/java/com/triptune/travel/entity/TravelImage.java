@@ -1,17 +1,23 @@
 package com.triptune.travel.entity;
 
 import com.triptune.common.entity.BaseTimeEntity;
+import com.triptune.common.entity.PooledIdGenerator;
+import com.triptune.travel.event.TravelImageEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 
 @Entity
+@EntityListeners(TravelImageEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TravelImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "travel_image_id_generator")
+    @TableGenerator(name = "travel_image_id_generator", table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN, valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "travel_image", allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
     @Column(name = "travel_image_id")
     private Long travelImageId;
 
@@ -63,4 +69,15 @@ public class TravelImage extends BaseTimeEntity {
         this.travelPlace = travelPlace;
         travelPlace.addTravelImages(this);
     }
+
+    public void updateThumbnail(boolean isThumbnail){
+        this.isThumbnail = isThumbnail;
+        travelPlace.updateThumbnail(this);
+    }
+
+    // 벌크 삭제는 콜백이 실행되지 않으므로 ThumbnailBackfillService 로 보정
+    @PreRemove
+    protected void onPreRemove(){
+        travelPlace.removeTravelImage(this);
+    }
 }
@@ -1,6 +1,7 @@
 package com.triptune.travel.entity;
 
 import com.triptune.common.entity.*;
+import com.triptune.travel.event.TravelPlaceEntityListener;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -9,11 +10,14 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(TravelPlaceEntityListener.class)
+@Table(indexes = @Index(name = "idx_travel_place_location", columnList = "latitude, longitude"))
 public class TravelPlace extends BaseTimeEntity {
 
     @Id
@@ -73,6 +77,9 @@ public class TravelPlace extends BaseTimeEntity {
     @Column(name = "bookmark_cnt")
     private int bookmarkCnt;
 
+    @Column(name = "thumbnail_s3_object_key")
+    private String thumbnailS3ObjectKey;    // 목록 조회용 대표 이미지 (travel_image 썸네일과 동기화)
+
     @OneToMany(mappedBy = "travelPlace", fetch = FetchType.LAZY)
     private List<TravelImage> travelImages = new ArrayList<>();
 
@@ -120,6 +127,35 @@ public class TravelPlace extends BaseTimeEntity {
 
     protected void addTravelImages(TravelImage travelImage){
         travelImages.add(travelImage);
+        updateThumbnail(travelImage);
+    }
+
+    protected void updateThumbnail(TravelImage travelImage){
+        if (travelImage.isThumbnail()){
+            this.thumbnailS3ObjectKey = travelImage.getS3ObjectKey();
+            return;
+        }
+
+        // 대표 이미지가 해제된 경우 남은 썸네일 중 하나로 교체
+        if (Objects.equals(thumbnailS3ObjectKey, travelImage.getS3ObjectKey())){
+            replaceThumbnail();
+        }
+    }
+
+    protected void removeTravelImage(TravelImage travelImage){
+        travelImages.remove(travelImage);
+
+        if (Objects.equals(thumbnailS3ObjectKey, travelImage.getS3ObjectKey())){
+            replaceThumbnail();
+        }
+    }
+
+    private void replaceThumbnail(){
+        this.thumbnailS3ObjectKey = travelImages.stream()
+                .filter(TravelImage::isThumbnail)
+                .map(TravelImage::getS3ObjectKey)
+                .findFirst()
+                .orElse(null);
     }
 
     public void increaseBookmarkCnt() {
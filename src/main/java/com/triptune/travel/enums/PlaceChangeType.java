@@ -0,0 +1,24 @@
+package com.triptune.travel.enums;
+
+public enum PlaceChangeType {
+    SAVED, DELETED,
+    BOOKMARK_COUNTED,   // 북마크 수만 변경
+    IMAGE_CHANGED;      // 이미지만 변경
+
+    public boolean isSaved(){
+        return this == SAVED;
+    }
+
+    public boolean isDeleted(){
+        return this == DELETED;
+    }
+
+    public boolean isBookmarkCounted(){
+        return this == BOOKMARK_COUNTED;
+    }
+
+    // 여행지 인덱스, 검색 색인에 들어가는 값이 바뀌는 변경
+    public boolean isIndexed(){
+        return this == SAVED || this == DELETED;
+    }
+}
@@ -0,0 +1,7 @@
+package com.triptune.travel.enums;
+
+public enum SuggestionType {
+    PLACE,
+    CITY,
+    DISTRICT
+}
@@ -0,0 +1,21 @@
+package com.triptune.travel.event;
+
+import com.triptune.travel.entity.TravelImage;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class TravelImageEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void afterChange(TravelImage travelImage){
+        eventPublisher.publishEvent(TravelPlaceChangedEvent.imageChanged(travelImage.getTravelPlace().getPlaceId()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.triptune.travel.event;
+
+import com.triptune.travel.enums.PlaceChangeType;
+
+public record TravelPlaceChangedEvent(
+        Long placeId,
+        PlaceChangeType changeType,
+        int bookmarkDelta       // BOOKMARK_COUNTED 일 때 북마크 증감분
+) {
+    public static TravelPlaceChangedEvent saved(Long placeId){
+        return new TravelPlaceChangedEvent(placeId, PlaceChangeType.SAVED, 0);
+    }
+
+    public static TravelPlaceChangedEvent deleted(Long placeId){
+        return new TravelPlaceChangedEvent(placeId, PlaceChangeType.DELETED, 0);
+    }
+
+    public static TravelPlaceChangedEvent bookmarkCounted(Long placeId, int bookmarkDelta){
+        return new TravelPlaceChangedEvent(placeId, PlaceChangeType.BOOKMARK_COUNTED, bookmarkDelta);
+    }
+
+    public static TravelPlaceChangedEvent imageChanged(Long placeId){
+        return new TravelPlaceChangedEvent(placeId, PlaceChangeType.IMAGE_CHANGED, 0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.triptune.travel.event;
+
+import com.triptune.travel.entity.TravelPlace;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class TravelPlaceEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void afterSave(TravelPlace travelPlace){
+        eventPublisher.publishEvent(TravelPlaceChangedEvent.saved(travelPlace.getPlaceId()));
+    }
+
+    @PostRemove
+    public void afterRemove(TravelPlace travelPlace){
+        eventPublisher.publishEvent(TravelPlaceChangedEvent.deleted(travelPlace.getPlaceId()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.triptune.travel.index;
+
+import com.triptune.global.util.GeoUtils;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 기본 여행지(중구) 목록용 거리순 정렬 인덱스
+ * - 중구 기준 좌표와의 거리 오름차순, 여행지 ID 내림차순으로 정렬된 배열 유지
+ * - 조회는 배열 구간을 잘라 반환하고, 변경 시 새 배열로 교체(copy-on-write)
+ */
+@Component
+public class JungGuDistanceIndex implements TravelPlaceIndex {
+    public static final double JUNG_GU_LATITUDE = 37.56397;
+    public static final double JUNG_GU_LONGITUDE = 126.997688;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready = false;
+
+    @Override
+    public synchronized void loadAll(List<PlaceIndexQueryDto> places) {
+        List<PlaceDistance> entries = places.stream()
+                .filter(this::hasLocation)
+                .map(this::toPlaceDistance)
+                .sorted(PlaceDistance.DISTANCE_ORDER)
+                .toList();
+
+        this.snapshot = Snapshot.of(entries);
+        this.ready = true;
+    }
+
+    @Override
+    public synchronized void upsert(PlaceIndexQueryDto place) {
+        List<PlaceDistance> entries = snapshot.toList();
+        entries.removeIf(entry -> entry.placeId().equals(place.getPlaceId()));
+
+        if (hasLocation(place)){
+            PlaceDistance entry = toPlaceDistance(place);
+            int index = Collections.binarySearch(entries, entry, PlaceDistance.DISTANCE_ORDER);
+            entries.add(index < 0 ? -(index + 1) : index, entry);
+        }
+
+        this.snapshot = Snapshot.of(entries);
+    }
+
+    @Override
+    public synchronized void remove(Long placeId) {
+        List<PlaceDistance> entries = snapshot.toList();
+
+        if (entries.removeIf(entry -> entry.placeId().equals(placeId))){
+            this.snapshot = Snapshot.of(entries);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return snapshot.placeIds().length;
+    }
+
+    /**
+     * 거리순 정렬 기준 offset 부터 size 개의 여행지 ID 반환
+     */
+    public List<Long> findPlaceIds(long offset, int size) {
+        long[] placeIds = snapshot.placeIds();
+
+        if (offset >= placeIds.length){
+            return List.of();
+        }
+
+        int from = (int) offset;
+        int to = Math.min(placeIds.length, from + size);
+
+        return Arrays.stream(placeIds, from, to)
+                .boxed()
+                .toList();
+    }
+
+    private boolean hasLocation(PlaceIndexQueryDto place){
+        return place.getLatitude() != null && place.getLongitude() != null;
+    }
+
+    private PlaceDistance toPlaceDistance(PlaceIndexQueryDto place){
+        double distance = GeoUtils.calculateDistance(JUNG_GU_LATITUDE, JUNG_GU_LONGITUDE, place.getLatitude(), place.getLongitude());
+        return new PlaceDistance(place.getPlaceId(), distance);
+    }
+
+    private record Snapshot(long[] placeIds, double[] distances) {
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new double[0]);
+
+        static Snapshot of(List<PlaceDistance> entries){
+            long[] placeIds = new long[entries.size()];
+            double[] distances = new double[entries.size()];
+
+            for (int i = 0; i < entries.size(); i++) {
+                placeIds[i] = entries.get(i).placeId();
+                distances[i] = entries.get(i).distance();
+            }
+
+            return new Snapshot(placeIds, distances);
+        }
+
+        List<PlaceDistance> toList(){
+            List<PlaceDistance> entries = new ArrayList<>(placeIds.length + 1);
+
+            for (int i = 0; i < placeIds.length; i++) {
+                entries.add(new PlaceDistance(placeIds[i], distances[i]));
+            }
+
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.enums.SuggestionType;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여행지명, 도시명, 지역명 자동완성 인덱스
+ * - 가중치는 북마크 수 (도시, 지역은 소속 여행지 북마크 수 합계)
+ * - 여행지 변경 시 변경분을 모아 백그라운드에서 트라이를 다시 만든 뒤 교체
+ * - 북마크 수 변경은 DB 재조회 없이 증감분만 반영
+ */
+@Slf4j
+@Component
+public class PlaceAutocompleteIndex implements TravelPlaceIndex {
+    public static final int SUGGESTION_LIMIT = 10;
+    private static final long REBUILD_DELAY_MILLIS = 1000;
+
+    private final Map<Long, PlaceIndexQueryDto> places = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "place-autocomplete-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile SuggestionTrie trie = SuggestionTrie.empty();
+    private volatile boolean ready = false;
+
+    @Override
+    public synchronized void loadAll(List<PlaceIndexQueryDto> places) {
+        this.places.clear();
+        places.forEach(place -> this.places.put(place.getPlaceId(), place));
+
+        rebuild();
+        this.ready = true;
+    }
+
+    @Override
+    public void upsert(PlaceIndexQueryDto place) {
+        places.put(place.getPlaceId(), place);
+        scheduleRebuild();
+    }
+
+    @Override
+    public void remove(Long placeId) {
+        if (places.remove(placeId) != null){
+            scheduleRebuild();
+        }
+    }
+
+    @Override
+    public void addBookmarkCnt(Long placeId, int delta) {
+        if (places.computeIfPresent(placeId, (id, place) -> place.withBookmarkCnt((place.getBookmarkCnt() == null ? 0 : place.getBookmarkCnt()) + delta)) != null){
+            scheduleRebuild();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<PlaceSuggestion> suggest(String keyword) {
+        return trie.findTopSuggestions(keyword);
+    }
+
+    /**
+     * 현재 여행지 데이터로 트라이를 새로 만들어 교체
+     */
+    public synchronized void rebuild() {
+        Map<String, PlaceSuggestion> suggestions = new HashMap<>();
+
+        for (PlaceIndexQueryDto place : places.values()) {
+            long weight = place.getBookmarkCnt() == null ? 0 : place.getBookmarkCnt();
+
+            addSuggestion(suggestions, place.getPlaceName(), SuggestionType.PLACE, weight);
+            addSuggestion(suggestions, place.getCity(), SuggestionType.CITY, weight);
+            addSuggestion(suggestions, place.getDistrict(), SuggestionType.DISTRICT, weight);
+        }
+
+        this.trie = SuggestionTrie.build(new ArrayList<>(suggestions.values()), SUGGESTION_LIMIT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // 변경이 몰려도 REBUILD_DELAY_MILLIS 동안 한 번만 다시 생성
+    private void scheduleRebuild() {
+        if (!ready || !rebuildScheduled.compareAndSet(false, true)){
+            return;
+        }
+
+        rebuildExecutor.schedule(() -> {
+            rebuildScheduled.set(false);
+
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("자동완성 인덱스 재생성 실패", e);
+            }
+        }, REBUILD_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void addSuggestion(Map<String, PlaceSuggestion> suggestions, String name, SuggestionType type, long weight) {
+        if (name == null || name.isBlank()){
+            return;
+        }
+
+        suggestions.merge(
+                type + ":" + name,
+                new PlaceSuggestion(name, type, weight),
+                (previous, added) -> new PlaceSuggestion(name, type, previous.weight() + added.weight())
+        );
+    }
+}
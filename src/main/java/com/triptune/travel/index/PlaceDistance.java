@@ -0,0 +1,12 @@
+package com.triptune.travel.index;
+
+import java.util.Comparator;
+
+public record PlaceDistance(
+        Long placeId,
+        double distance
+) {
+    // 거리 오름차순, 여행지 ID 내림차순 (DB 거리순 정렬 기준과 동일)
+    public static final Comparator<PlaceDistance> DISTANCE_ORDER = Comparator.comparingDouble(PlaceDistance::distance)
+            .thenComparing(PlaceDistance::placeId, Comparator.reverseOrder());
+}
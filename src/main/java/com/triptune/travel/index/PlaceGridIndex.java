@@ -0,0 +1,134 @@
+package com.triptune.travel.index;
+
+import com.triptune.global.util.GeoUtils;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위도/경도 격자(grid cell) 기반 여행지 공간 인덱스
+ * - 반경 검색 시 반경을 덮는 격자에 속한 여행지만 후보로 두고 정확한 거리 계산
+ */
+@Component
+public class PlaceGridIndex implements TravelPlaceIndex {
+    private static final double CELL_SIZE_DEG = 0.05;           // 위도 기준 약 5.5km
+
+    private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private volatile Map<Long, Location> locations = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @Override
+    public void loadAll(List<PlaceIndexQueryDto> places) {
+        Map<Long, Set<Long>> newCells = new ConcurrentHashMap<>();
+        Map<Long, Location> newLocations = new ConcurrentHashMap<>();
+
+        for (PlaceIndexQueryDto place : places) {
+            if (!hasLocation(place)){
+                continue;
+            }
+
+            Location location = new Location(place.getLatitude(), place.getLongitude());
+            newLocations.put(place.getPlaceId(), location);
+            newCells.computeIfAbsent(location.cellKey(), key -> ConcurrentHashMap.newKeySet())
+                    .add(place.getPlaceId());
+        }
+
+        this.cells = newCells;
+        this.locations = newLocations;
+        this.ready = true;
+    }
+
+    @Override
+    public void upsert(PlaceIndexQueryDto place) {
+        remove(place.getPlaceId());
+
+        if (!hasLocation(place)){
+            return;
+        }
+
+        Location location = new Location(place.getLatitude(), place.getLongitude());
+        locations.put(place.getPlaceId(), location);
+        cells.computeIfAbsent(location.cellKey(), key -> ConcurrentHashMap.newKeySet())
+                .add(place.getPlaceId());
+    }
+
+    @Override
+    public void remove(Long placeId) {
+        Location previous = locations.remove(placeId);
+
+        if (previous != null){
+            Set<Long> cell = cells.get(previous.cellKey());
+            if (cell != null){
+                cell.remove(placeId);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * 기준 좌표에서 반경(km) 이내 여행지를 거리 오름차순, 여행지 ID 내림차순으로 반환
+     */
+    public List<PlaceDistance> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        GeoUtils.BoundingBox boundingBox = GeoUtils.boundingBox(latitude, longitude, radiusKm);
+
+        int minLatCell = toCell(boundingBox.minLatitude());
+        int maxLatCell = toCell(boundingBox.maxLatitude());
+        int minLonCell = toCell(boundingBox.minLongitude());
+        int maxLonCell = toCell(boundingBox.maxLongitude());
+
+        List<PlaceDistance> result = new ArrayList<>();
+
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Set<Long> placeIds = cells.get(toCellKey(latCell, lonCell));
+
+                if (placeIds == null){
+                    continue;
+                }
+
+                for (Long placeId : placeIds) {
+                    Location location = locations.get(placeId);
+                    if (location == null){
+                        continue;
+                    }
+
+                    double distance = GeoUtils.calculateDistance(latitude, longitude, location.latitude(), location.longitude());
+                    if (distance <= radiusKm){
+                        result.add(new PlaceDistance(placeId, distance));
+                    }
+                }
+            }
+        }
+
+        result.sort(PlaceDistance.DISTANCE_ORDER);
+
+        return result;
+    }
+
+    private boolean hasLocation(PlaceIndexQueryDto place){
+        return place.getLatitude() != null && place.getLongitude() != null;
+    }
+
+    private static int toCell(double degree){
+        return (int) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    private static long toCellKey(int latCell, int lonCell){
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private record Location(double latitude, double longitude) {
+        long cellKey(){
+            return toCellKey(toCell(latitude), toCell(longitude));
+        }
+    }
+}
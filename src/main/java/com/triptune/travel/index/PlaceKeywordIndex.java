@@ -0,0 +1,249 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여행지명, 국가명, 도시명, 지역명 n-gram(1 ~ 3글자) 역색인
+ * - n-gram 별 여행지 ID 를 정렬된 long 배열(posting list)로 보관
+ * - 검색어 n-gram 의 posting list 교집합으로 후보를 구한 뒤 실제 포함 여부 확인
+ * - 정렬은 DB 검색 정확도 정렬(일치 > 시작 > 포함, 여행지명 > 국가 > 도시 > 지역, 여행지 ID 내림차순)과 동일
+ */
+@Component
+public class PlaceKeywordIndex implements TravelPlaceIndex {
+    private static final int MAX_GRAM_SIZE = 3;
+
+    private volatile Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private volatile Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @Override
+    public synchronized void loadAll(List<PlaceIndexQueryDto> places) {
+        Map<String, List<Long>> newPostingLists = new HashMap<>();
+        Map<Long, Document> newDocuments = new ConcurrentHashMap<>();
+
+        for (PlaceIndexQueryDto place : places) {
+            Document document = Document.from(place);
+            newDocuments.put(place.getPlaceId(), document);
+
+            for (String gram : document.grams()) {
+                newPostingLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(place.getPlaceId());
+            }
+        }
+
+        Map<String, long[]> newPostings = new ConcurrentHashMap<>();
+        newPostingLists.forEach((gram, placeIds) -> newPostings.put(gram, toSortedArray(placeIds)));
+
+        this.postings = newPostings;
+        this.documents = newDocuments;
+        this.ready = true;
+    }
+
+    @Override
+    public synchronized void upsert(PlaceIndexQueryDto place) {
+        remove(place.getPlaceId());
+
+        Document document = Document.from(place);
+        for (String gram : document.grams()) {
+            postings.merge(gram, new long[]{place.getPlaceId()}, PlaceKeywordIndex::union);
+        }
+
+        documents.put(place.getPlaceId(), document);
+    }
+
+    @Override
+    public synchronized void remove(Long placeId) {
+        Document previous = documents.remove(placeId);
+
+        if (previous == null){
+            return;
+        }
+
+        for (String gram : previous.grams()) {
+            postings.computeIfPresent(gram, (key, placeIds) -> {
+                long[] removed = removeId(placeIds, placeId);
+                return removed.length == 0 ? null : removed;
+            });
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어를 포함하는 여행지 ID 를 정확도 순으로 반환 (전체 건수 = 반환 목록 크기)
+     */
+    public List<Long> search(String keyword) {
+        String normalized = normalize(keyword);
+
+        if (normalized.isEmpty()){
+            return List.of();
+        }
+
+        long[] candidates = findCandidates(normalized);
+
+        List<Match> matches = new ArrayList<>();
+        for (long placeId : candidates) {
+            Document document = documents.get(placeId);
+
+            if (document != null && document.contains(normalized)){
+                matches.add(new Match(placeId, document.accuracy(normalized)));
+            }
+        }
+
+        matches.sort(Match.ORDER);
+
+        return matches.stream()
+                .map(Match::placeId)
+                .toList();
+    }
+
+    private long[] findCandidates(String keyword){
+        int gramSize = Math.min(MAX_GRAM_SIZE, keyword.length());
+
+        // 검색어의 n-gram posting list 를 짧은 순으로 교집합
+        List<long[]> postingLists = new ArrayList<>();
+        for (String gram : createGrams(keyword, gramSize)) {
+            long[] placeIds = postings.get(gram);
+
+            if (placeIds == null){
+                return new long[0];
+            }
+
+            postingLists.add(placeIds);
+        }
+
+        postingLists.sort(Comparator.comparingInt(placeIds -> placeIds.length));
+
+        long[] result = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && result.length > 0; i++) {
+            result = intersect(result, postingLists.get(i));
+        }
+
+        return result;
+    }
+
+
+    private static String normalize(String value){
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> createGrams(String value, int gramSize){
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + gramSize <= value.length(); i++) {
+            grams.add(value.substring(i, i + gramSize));
+        }
+
+        return grams;
+    }
+
+    private static long[] toSortedArray(Collection<Long> placeIds){
+        return placeIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static long[] union(long[] placeIds, long[] added){
+        long[] result = Arrays.copyOf(placeIds, placeIds.length + added.length);
+        System.arraycopy(added, 0, result, placeIds.length, added.length);
+
+        return Arrays.stream(result).sorted().distinct().toArray();
+    }
+
+    private static long[] removeId(long[] placeIds, long placeId){
+        int index = Arrays.binarySearch(placeIds, placeId);
+
+        if (index < 0){
+            return placeIds;
+        }
+
+        long[] result = new long[placeIds.length - 1];
+        System.arraycopy(placeIds, 0, result, 0, index);
+        System.arraycopy(placeIds, index + 1, result, index, placeIds.length - index - 1);
+
+        return result;
+    }
+
+    private static long[] intersect(long[] first, long[] second){
+        long[] result = new long[Math.min(first.length, second.length)];
+        int i = 0, j = 0, size = 0;
+
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]){
+                result[size++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]){
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+
+    private record Document(String placeName, String country, String city, String district) {
+
+        static Document from(PlaceIndexQueryDto place){
+            return new Document(
+                    normalize(place.getPlaceName()),
+                    normalize(place.getCountry()),
+                    normalize(place.getCity()),
+                    normalize(place.getDistrict())
+            );
+        }
+
+        List<String> fields(){
+            return List.of(placeName, country, city, district);
+        }
+
+        Set<String> grams(){
+            Set<String> grams = new HashSet<>();
+
+            for (String field : fields()) {
+                for (int gramSize = 1; gramSize <= MAX_GRAM_SIZE; gramSize++) {
+                    grams.addAll(createGrams(field, gramSize));
+                }
+            }
+
+            return grams;
+        }
+
+        boolean contains(String keyword){
+            return fields().stream().anyMatch(field -> field.contains(keyword));
+        }
+
+        int[] accuracy(String keyword){
+            return fields().stream()
+                    .mapToInt(field -> fieldAccuracy(field, keyword))
+                    .toArray();
+        }
+
+        // DB 정확도 정렬(accuracyQuery) 과 같은 순위: 일치 0, 시작 1, 포함 2, 불일치 4
+        private static int fieldAccuracy(String field, String keyword){
+            if (field.equals(keyword)){
+                return 0;
+            }
+
+            if (field.startsWith(keyword)){
+                return 1;
+            }
+
+            return field.contains(keyword) ? 2 : 4;
+        }
+    }
+
+    private record Match(long placeId, int[] accuracy) {
+        static final Comparator<Match> ORDER = Comparator.<Match, int[]>comparing(Match::accuracy, Arrays::compare)
+                .thenComparing(Match::placeId, Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,15 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.enums.SuggestionType;
+
+import java.util.Comparator;
+
+public record PlaceSuggestion(
+        String name,
+        SuggestionType type,
+        long weight
+) {
+    // 가중치(북마크 수) 내림차순, 이름 오름차순
+    public static final Comparator<PlaceSuggestion> WEIGHT_ORDER = Comparator.comparingLong(PlaceSuggestion::weight).reversed()
+            .thenComparing(PlaceSuggestion::name);
+}
@@ -0,0 +1,150 @@
+package com.triptune.travel.index;
+
+import java.util.*;
+
+/**
+ * 자동완성용 불변 압축 트라이(radix trie)
+ * - 공통 접두사를 하나의 간선으로 합쳐 노드 수를 줄임
+ * - 노드마다 하위 추천어 중 가중치 상위 topK 개를 미리 계산해 두어 조회 시 접두사 길이만큼만 탐색
+ */
+public class SuggestionTrie {
+    private static final SuggestionTrie EMPTY = new SuggestionTrie(Node.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private SuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static SuggestionTrie empty(){
+        return EMPTY;
+    }
+
+    public static SuggestionTrie build(List<PlaceSuggestion> suggestions, int topK){
+        List<Entry> entries = suggestions.stream()
+                .map(suggestion -> new Entry(normalize(suggestion.name()), suggestion))
+                .filter(entry -> !entry.key().isEmpty())
+                .sorted(Comparator.comparing(Entry::key))
+                .toList();
+
+        if (entries.isEmpty()){
+            return EMPTY;
+        }
+
+        return new SuggestionTrie(buildNode(entries, 0, entries.size(), 0, topK), entries.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<PlaceSuggestion> findTopSuggestions(String prefix){
+        String normalized = normalize(prefix);
+
+        Node node = root;
+        int position = 0;
+
+        while (true) {
+            String remaining = normalized.substring(position);
+
+            if (remaining.length() <= node.label.length()){
+                return node.label.startsWith(remaining) ? List.of(node.topSuggestions) : List.of();
+            }
+
+            if (!remaining.startsWith(node.label)){
+                return List.of();
+            }
+
+            position += node.label.length();
+
+            int index = Arrays.binarySearch(node.childKeys, normalized.charAt(position));
+            if (index < 0){
+                return List.of();
+            }
+
+            node = node.children[index];
+        }
+    }
+
+
+    // entries[from, to) 는 key 기준 정렬되어 있고 depth 길이까지 접두사가 같음
+    private static Node buildNode(List<Entry> entries, int from, int to, int depth, int topK){
+        int prefixLength = commonPrefixLength(entries.get(from).key(), entries.get(to - 1).key());
+        String label = entries.get(from).key().substring(depth, prefixLength);
+
+        List<PlaceSuggestion> candidates = new ArrayList<>();
+        List<Character> childKeys = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+
+        int index = from;
+        while (index < to && entries.get(index).key().length() == prefixLength) {
+            candidates.add(entries.get(index).suggestion());
+            index++;
+        }
+
+        while (index < to) {
+            char childKey = entries.get(index).key().charAt(prefixLength);
+
+            int end = index;
+            while (end < to && entries.get(end).key().charAt(prefixLength) == childKey) {
+                end++;
+            }
+
+            Node child = buildNode(entries, index, end, prefixLength, topK);
+            childKeys.add(childKey);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.topSuggestions));
+
+            index = end;
+        }
+
+        PlaceSuggestion[] topSuggestions = candidates.stream()
+                .sorted(PlaceSuggestion.WEIGHT_ORDER)
+                .limit(topK)
+                .toArray(PlaceSuggestion[]::new);
+
+        char[] keys = new char[childKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = childKeys.get(i);
+        }
+
+        return new Node(label, keys, children.toArray(Node[]::new), topSuggestions);
+    }
+
+    private static int commonPrefixLength(String first, String second){
+        int length = Math.min(first.length(), second.length());
+
+        for (int i = 0; i < length; i++) {
+            if (first.charAt(i) != second.charAt(i)){
+                return i;
+            }
+        }
+
+        return length;
+    }
+
+    public static String normalize(String value){
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+
+    private record Entry(String key, PlaceSuggestion suggestion) {}
+
+    private static final class Node {
+        private static final Node EMPTY = new Node("", new char[0], new Node[0], new PlaceSuggestion[0]);
+
+        private final String label;                         // 부모 노드에서 이어지는 간선 문자열
+        private final char[] childKeys;                     // 자식 간선의 첫 글자 (정렬)
+        private final Node[] children;
+        private final PlaceSuggestion[] topSuggestions;     // 하위 추천어 중 가중치 상위 topK
+
+        private Node(String label, char[] childKeys, Node[] children, PlaceSuggestion[] topSuggestions) {
+            this.label = label;
+            this.childKeys = childKeys;
+            this.children = children;
+            this.topSuggestions = topSuggestions;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+
+import java.util.List;
+
+/**
+ * 여행지 데이터를 메모리에 적재해 조회하는 인덱스
+ * - 애플리케이션 시작 시 loadAll 로 전체 적재
+ * - 여행지 변경(저장, 삭제) 시 upsert, remove 로 갱신
+ * - 북마크 수만 변경된 경우 addBookmarkCnt 로 갱신 (북마크 수를 쓰지 않는 인덱스는 무시)
+ */
+public interface TravelPlaceIndex {
+    void loadAll(List<PlaceIndexQueryDto> places);
+    void upsert(PlaceIndexQueryDto place);
+    void remove(Long placeId);
+
+    default void addBookmarkCnt(Long placeId, int delta) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.properties.PlaceIndexProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelPlaceIndexSynchronizer {
+
+    private final PlaceIndexProperties placeIndexProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final List<TravelPlaceIndex> travelPlaceIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll(){
+        if (!placeIndexProperties.enabled()){
+            log.info("여행지 인덱스 비활성화 상태로 적재 생략");
+            return;
+        }
+
+        List<PlaceIndexQueryDto> places = travelPlaceRepository.findAllPlaceIndexes();
+        travelPlaceIndexes.forEach(index -> index.loadAll(places));
+
+        log.info("여행지 인덱스 적재 완료: 여행지 {} 개, 인덱스 {} 개", places.size(), travelPlaceIndexes.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePlaceChanged(TravelPlaceChangedEvent event){
+        if (!placeIndexProperties.enabled()){
+            return;
+        }
+
+        if (event.changeType().isDeleted()){
+            travelPlaceIndexes.forEach(index -> index.remove(event.placeId()));
+            return;
+        }
+
+        // 북마크 수만 바뀐 경우 재조회 없이 증감분만 반영
+        if (event.changeType().isBookmarkCounted()){
+            travelPlaceIndexes.forEach(index -> index.addBookmarkCnt(event.placeId(), event.bookmarkDelta()));
+            return;
+        }
+
+        if (!event.changeType().isIndexed()){
+            return;
+        }
+
+        travelPlaceRepository.findPlaceIndexById(event.placeId())
+                .ifPresentOrElse(
+                        place -> travelPlaceIndexes.forEach(index -> index.upsert(place)),
+                        () -> travelPlaceIndexes.forEach(index -> index.remove(event.placeId()))
+                );
+    }
+}
@@ -0,0 +1,15 @@
+package com.triptune.travel.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.place-carousel")
+public record PlaceCarouselProperties(
+        boolean enabled,
+        Long refreshIntervalSeconds
+) {
+    private static final long DEFAULT_REFRESH_INTERVAL_SECONDS = 300;
+
+    public long refreshIntervalSecondsOrDefault(){
+        return refreshIntervalSeconds == null || refreshIntervalSeconds <= 0 ? DEFAULT_REFRESH_INTERVAL_SECONDS : refreshIntervalSeconds;
+    }
+}
@@ -0,0 +1,27 @@
+package com.triptune.travel.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.place-detail-cache")
+public record PlaceDetailCacheProperties(
+        boolean enabled,
+        Long localMaximumSize,
+        Long localTtlSeconds,
+        Long redisTtlSeconds
+) {
+    private static final long DEFAULT_LOCAL_MAXIMUM_SIZE = 10_000;
+    private static final long DEFAULT_LOCAL_TTL_SECONDS = 60;
+    private static final long DEFAULT_REDIS_TTL_SECONDS = 3600;
+
+    public long localMaximumSizeOrDefault(){
+        return localMaximumSize == null || localMaximumSize <= 0 ? DEFAULT_LOCAL_MAXIMUM_SIZE : localMaximumSize;
+    }
+
+    public long localTtlSecondsOrDefault(){
+        return localTtlSeconds == null || localTtlSeconds <= 0 ? DEFAULT_LOCAL_TTL_SECONDS : localTtlSeconds;
+    }
+
+    public long redisTtlSecondsOrDefault(){
+        return redisTtlSeconds == null || redisTtlSeconds <= 0 ? DEFAULT_REDIS_TTL_SECONDS : redisTtlSeconds;
+    }
+}
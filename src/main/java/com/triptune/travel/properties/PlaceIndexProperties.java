@@ -0,0 +1,8 @@
+package com.triptune.travel.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.place-index")
+public record PlaceIndexProperties(
+        boolean enabled
+) {}
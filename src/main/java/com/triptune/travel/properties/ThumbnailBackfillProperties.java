@@ -0,0 +1,15 @@
+package com.triptune.travel.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.backend.thumbnail-backfill")
+public record ThumbnailBackfillProperties(
+        boolean enabled,
+        Integer batchSize
+) {
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public int batchSizeOrDefault(){
+        return batchSize == null || batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
+    }
+}
@@ -2,8 +2,14 @@ package com.triptune.travel.repository;
 
 import com.triptune.travel.entity.TravelPlace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TravelPlaceRepository extends JpaRepository<TravelPlace, Long>, TravelPlaceRepositoryCustom {
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TravelPlace p set p.bookmarkCnt = p.bookmarkCnt + :delta where p.placeId = :placeId")
+    int addBookmarkCnt(@Param("placeId") Long placeId, @Param("delta") int delta);
 }
@@ -1,20 +1,27 @@
 package com.triptune.travel.repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.travel.dto.request.PlaceLocationRequest;
 import com.triptune.travel.dto.request.PlaceSearchRequest;
 import com.triptune.travel.enums.CityType;
 import com.triptune.travel.enums.ThemeType;
 import com.triptune.travel.repository.dto.PlaceDistanceQueryDto;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
+import com.triptune.travel.repository.dto.PlaceSearchDocumentQueryDto;
 import com.triptune.travel.repository.dto.PlaceSimpleQueryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TravelPlaceRepositoryCustom {
     Page<PlaceDistanceQueryDto> findNearByTravelPlaces(Pageable pageable, PlaceLocationRequest placeLocationRequest, int radius);
+    CursorPage<PlaceDistanceQueryDto> findNearByTravelPlacesByCursor(CursorPageable pageable, PlaceLocationRequest placeLocationRequest, int radius);
     Page<PlaceDistanceQueryDto> searchTravelPlacesWithLocation(Pageable pageable, PlaceSearchRequest placeSearchRequest);
     Page<PlaceDistanceQueryDto> searchTravelPlacesWithoutLocation(Pageable pageable, String keyword);
     Page<PlaceQueryDto> searchTravelPlaces(Pageable pageable, String keyword);
@@ -22,4 +29,13 @@ public interface TravelPlaceRepositoryCustom {
     Page<PlaceQueryDto> findNearbyTravelPlacesFromJungGu(Pageable pageable);
     List<PlaceSimpleQueryDto> findPopularTravelPlaces(CityType cityType);
     List<PlaceSimpleQueryDto> findRecommendTravelPlaces(ThemeType themeType);
+    List<PlaceQueryDto> findTravelPlacesByIds(List<Long> placeIds);
+    List<PlaceIndexQueryDto> findAllPlaceIndexes();
+    Optional<PlaceIndexQueryDto> findPlaceIndexById(Long placeId);
+    List<PlaceSearchDocumentQueryDto> findAllPlaceSearchDocuments();
+    Optional<PlaceSearchDocumentQueryDto> findPlaceSearchDocumentById(Long placeId);
+    List<String> findPlaceNamesStartingWith(String keyword, int limit);
+    Long findMaxPlaceId();
+    List<Long> findExistingPlaceIds(Collection<Long> placeIds);
+    long backfillThumbnailS3ObjectKeys(Long fromPlaceId, Long toPlaceId);
 }
@@ -1,14 +1,21 @@
 package com.triptune.travel.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.GeoUtils;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
+import com.triptune.global.util.QueryPageUtils;
 import com.triptune.travel.dto.request.PlaceLocationRequest;
 import com.triptune.travel.dto.request.PlaceSearchRequest;
 import com.triptune.travel.dto.response.PlaceResponse;
@@ -16,17 +23,29 @@ import com.triptune.travel.dto.response.PlaceSimpleResponse;
 import com.triptune.travel.enums.CityType;
 import com.triptune.travel.enums.ThemeType;
 import com.triptune.travel.repository.dto.PlaceDistanceQueryDto;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
+import com.triptune.travel.repository.dto.PlaceSearchDocumentQueryDto;
 import com.triptune.travel.repository.dto.PlaceSimpleQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.querydsl.core.types.dsl.Expressions.constant;
 import static com.querydsl.core.types.dsl.MathExpressions.*;
+import static com.triptune.common.entity.QApiContentType.apiContentType;
+import static com.triptune.common.entity.QCity.city;
+import static com.triptune.common.entity.QCountry.country;
+import static com.triptune.common.entity.QDistrict.district;
 import static com.triptune.schedule.entity.QTravelSchedule.travelSchedule;
 import static com.triptune.travel.entity.QTravelImage.travelImage;
 import static com.triptune.travel.entity.QTravelPlace.travelPlace;
@@ -35,6 +54,7 @@ import static com.triptune.travel.entity.QTravelPlace.travelPlace;
 @RequiredArgsConstructor
 public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCustom {
     private static final int CAROUSEL_LIMIT = 20;
+    private static final int JUNG_GU_PREFILTER_RADIUS = 10;     // 10km
 
     private final JPAQueryFactory jpaQueryFactory;
 
@@ -43,36 +63,61 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
     public Page<PlaceDistanceQueryDto> findNearByTravelPlaces(Pageable pageable, PlaceLocationRequest placeLocationRequest, int radius) {
         NumberExpression<Double> haversineExpression = getHaversineFormula(placeLocationRequest.getLatitude(), placeLocationRequest.getLongitude());
 
-        BooleanExpression loeExpression = haversineExpression.loe(radius);
+        BooleanExpression loeExpression = withinBoundingBox(placeLocationRequest.getLatitude(), placeLocationRequest.getLongitude(), radius)
+                .and(haversineExpression.loe(radius));
 
-        List<PlaceDistanceQueryDto> content = jpaQueryFactory
-                .select(Projections.constructor(PlaceDistanceQueryDto.class,
-                        travelPlace.placeId,
-                        travelPlace.country.countryName,
-                        travelPlace.city.cityName,
-                        travelPlace.district.districtName,
-                        travelPlace.address,
-                        travelPlace.detailAddress,
-                        travelPlace.latitude,
-                        travelPlace.longitude,
-                        travelPlace.placeName,
-                        findThumbnailS3ObjectKey(),
-                        haversineExpression.as("distance")))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelPlace)
                 .where(loeExpression)
+                .orderBy(
+                        haversineExpression.asc(),
+                        travelPlace.placeId.desc()
+                );
+
+        return QueryPageUtils.fetchPage(query, selectPlaceDistance(haversineExpression.as("distance")), pageable,
+                () -> countTotalElements(loeExpression));
+    }
+
+
+
+    @Override
+    public CursorPage<PlaceDistanceQueryDto> findNearByTravelPlacesByCursor(CursorPageable pageable, PlaceLocationRequest placeLocationRequest, int radius) {
+        NumberExpression<Double> haversineExpression = getHaversineFormula(placeLocationRequest.getLatitude(), placeLocationRequest.getLongitude());
+
+        BooleanExpression loeExpression = withinBoundingBox(placeLocationRequest.getLatitude(), placeLocationRequest.getLongitude(), radius)
+                .and(haversineExpression.loe(radius));
+
+        List<PlaceDistanceQueryDto> content = jpaQueryFactory
+                .select(selectPlaceDistance(haversineExpression.as("distance")))
+                .from(travelPlace)
+                .where(
+                        loeExpression,
+                        afterDistanceCursor(pageable.cursor(), haversineExpression)
+                )
                 .orderBy(
                         haversineExpression.asc(),
                         travelPlace.placeId.desc()
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.fetchSize())
                 .fetch();
 
-        int totalElements = countTotalElements(loeExpression);
-
-        return PageUtils.createPage(content, pageable, totalElements);
+        return PageUtils.createCursorPage(content, pageable,
+                place -> PageCursor.encode(place.getDistance(), place.getPlaceId()));
     }
 
+    // (distance 오름차순, placeId 내림차순) 기준 커서 이후 여행지
+    private BooleanExpression afterDistanceCursor(String cursor, NumberExpression<Double> haversineExpression){
+        PageCursor pageCursor = PageCursor.decode(cursor, 2);
+        if (pageCursor == null){
+            return null;
+        }
+
+        Double distance = pageCursor.getDouble(0);
+        Long placeId = pageCursor.getLong(1);
+
+        return haversineExpression.gt(distance)
+                .or(haversineExpression.eq(distance).and(travelPlace.placeId.lt(placeId)));
+    }
 
 
     @Override
@@ -86,29 +131,13 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
 
         NumberExpression<Double> haversineExpression = getHaversineFormula(placeSearchRequest.getLatitude(), placeSearchRequest.getLongitude());
 
-        List<PlaceDistanceQueryDto> content = jpaQueryFactory
-                .select(Projections.constructor(PlaceDistanceQueryDto.class,
-                        travelPlace.placeId,
-                        travelPlace.country.countryName,
-                        travelPlace.city.cityName,
-                        travelPlace.district.districtName,
-                        travelPlace.address,
-                        travelPlace.detailAddress,
-                        travelPlace.latitude,
-                        travelPlace.longitude,
-                        travelPlace.placeName,
-                        findThumbnailS3ObjectKey(),
-                        haversineExpression.as("distance")))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelPlace)
                 .where(booleanExpression)
-                .orderBy(accuracyOrder(keyword))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        int totalElements = countTotalElements(booleanExpression);
+                .orderBy(accuracyOrder(keyword));
 
-        return PageUtils.createPage(content, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectPlaceDistance(haversineExpression.as("distance")), pageable,
+                () -> countTotalElements(booleanExpression));
     }
 
 
@@ -121,29 +150,13 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
 
 
 
-        List<PlaceDistanceQueryDto> content = jpaQueryFactory
-                .select(Projections.constructor(PlaceDistanceQueryDto.class,
-                                travelPlace.placeId,
-                                travelPlace.country.countryName,
-                                travelPlace.city.cityName,
-                                travelPlace.district.districtName,
-                                travelPlace.address,
-                                travelPlace.detailAddress,
-                                travelPlace.latitude,
-                                travelPlace.longitude,
-                                travelPlace.placeName,
-                                findThumbnailS3ObjectKey(),
-                                Expressions.nullExpression(Double.class)))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelPlace)
                 .where(booleanExpression)
-                .orderBy(accuracyOrder(keyword))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(accuracyOrder(keyword));
 
-        int totalElements = countTotalElements(booleanExpression);
-
-        return PageUtils.createPage(content, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectPlaceDistance(Expressions.nullExpression(Double.class)), pageable,
+                () -> countTotalElements(booleanExpression));
     }
 
 
@@ -156,28 +169,13 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                 .or(travelPlace.district.districtName.contains(keyword))
                 .or(travelPlace.placeName.contains(keyword));
 
-        List<PlaceQueryDto> content = jpaQueryFactory
-                .select(Projections.constructor(PlaceQueryDto.class,
-                        travelPlace.placeId,
-                        travelPlace.country.countryName,
-                        travelPlace.city.cityName,
-                        travelPlace.district.districtName,
-                        travelPlace.address,
-                        travelPlace.detailAddress,
-                        travelPlace.latitude,
-                        travelPlace.longitude,
-                        travelPlace.placeName,
-                        findThumbnailS3ObjectKey()))
+        JPAQuery<?> query = jpaQueryFactory
                 .from(travelPlace)
                 .where(booleanExpression)
-                .orderBy(accuracyOrder(keyword))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(accuracyOrder(keyword));
 
-        int totalElements = countTotalElements(booleanExpression);
-
-        return PageUtils.createPage(content, pageable, totalElements);
+        return QueryPageUtils.fetchPage(query, selectPlace(), pageable,
+                () -> countTotalElements(booleanExpression));
     }
 
 
@@ -189,7 +187,24 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
 
         NumberExpression<Double> haversineExpression = getHaversineFormula(jungGuLatDeg, jungGuLongDeg);
 
-        List<PlaceQueryDto> content = jpaQueryFactory
+        // 반경 내 여행지는 항상 반경 밖 여행지보다 앞에 정렬되므로
+        // 반경 내에서 페이지가 모두 채워지면 전체 테이블 정렬 없이 결과 반환
+        BooleanExpression nearExpression = withinBoundingBox(jungGuLatDeg, jungGuLongDeg, JUNG_GU_PREFILTER_RADIUS)
+                .and(haversineExpression.loe(JUNG_GU_PREFILTER_RADIUS));
+
+        List<PlaceQueryDto> content = findTravelPlacesOrderByDistance(pageable, haversineExpression, nearExpression);
+
+        if (content.size() < pageable.getPageSize()){
+            content = findTravelPlacesOrderByDistance(pageable, haversineExpression, null);
+        }
+
+        int totalElements = countTotalTravelPlaces();
+
+        return PageUtils.createPage(content, pageable, totalElements);
+    }
+
+    private List<PlaceQueryDto> findTravelPlacesOrderByDistance(Pageable pageable, NumberExpression<Double> haversineExpression, BooleanExpression expression) {
+        return jpaQueryFactory
                 .select(Projections.constructor(PlaceQueryDto.class,
                         travelPlace.placeId,
                         travelPlace.country.countryName,
@@ -200,8 +215,9 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.latitude,
                         travelPlace.longitude,
                         travelPlace.placeName,
-                        findThumbnailS3ObjectKey()))
+                        travelPlace.thumbnailS3ObjectKey))
                 .from(travelPlace)
+                .where(expression)
                 .orderBy(
                         haversineExpression.asc(),
                         travelPlace.placeId.desc()
@@ -209,10 +225,6 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-
-        int totalElements = countTotalTravelPlaces();
-
-        return PageUtils.createPage(content, pageable, totalElements);
     }
 
     private int countTotalTravelPlaces() {
@@ -225,6 +237,35 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
     }
 
 
+    private ConstructorExpression<PlaceDistanceQueryDto> selectPlaceDistance(Expression<Double> distance){
+        return Projections.constructor(PlaceDistanceQueryDto.class,
+                travelPlace.placeId,
+                travelPlace.country.countryName,
+                travelPlace.city.cityName,
+                travelPlace.district.districtName,
+                travelPlace.address,
+                travelPlace.detailAddress,
+                travelPlace.latitude,
+                travelPlace.longitude,
+                travelPlace.placeName,
+                travelPlace.thumbnailS3ObjectKey,
+                distance);
+    }
+
+    private ConstructorExpression<PlaceQueryDto> selectPlace(){
+        return Projections.constructor(PlaceQueryDto.class,
+                travelPlace.placeId,
+                travelPlace.country.countryName,
+                travelPlace.city.cityName,
+                travelPlace.district.districtName,
+                travelPlace.address,
+                travelPlace.detailAddress,
+                travelPlace.latitude,
+                travelPlace.longitude,
+                travelPlace.placeName,
+                travelPlace.thumbnailS3ObjectKey);
+    }
+
     @Override
     public Integer countTotalElements(BooleanExpression expression) {
         Long totalElements = jpaQueryFactory
@@ -244,11 +285,9 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.address,
                         travelPlace.detailAddress,
                         travelPlace.placeName,
-                        travelImage.s3ObjectKey
+                        travelPlace.thumbnailS3ObjectKey
                 ))
                 .from(travelPlace)
-                .leftJoin(travelPlace.travelImages, travelImage)
-                .on(travelImage.isThumbnail.isTrue())
                 .where(travelPlace.city.cityName.in(cityType.getDbCityGrouping()))
                 .orderBy(
                         travelPlace.bookmarkCnt.desc(),
@@ -266,10 +305,8 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                         travelPlace.address,
                         travelPlace.detailAddress,
                         travelPlace.placeName,
-                        travelImage.s3ObjectKey))
+                        travelPlace.thumbnailS3ObjectKey))
                 .from(travelPlace)
-                .leftJoin(travelPlace.travelImages, travelImage)
-                .on(travelImage.isThumbnail.isTrue())
                 .where(themeTypeCondition(themeType))
                 .orderBy(
                         travelPlace.bookmarkCnt.desc(),
@@ -279,18 +316,172 @@ public class TravelPlaceRepositoryCustomImpl implements TravelPlaceRepositoryCus
                 .fetch();
     }
 
+    @Override
+    public List<PlaceQueryDto> findTravelPlacesByIds(List<Long> placeIds) {
+        if (placeIds.isEmpty()){
+            return List.of();
+        }
+
+        Map<Long, PlaceQueryDto> placeMap = jpaQueryFactory
+                .select(Projections.constructor(PlaceQueryDto.class,
+                        travelPlace.placeId,
+                        travelPlace.country.countryName,
+                        travelPlace.city.cityName,
+                        travelPlace.district.districtName,
+                        travelPlace.address,
+                        travelPlace.detailAddress,
+                        travelPlace.latitude,
+                        travelPlace.longitude,
+                        travelPlace.placeName,
+                        travelPlace.thumbnailS3ObjectKey))
+                .from(travelPlace)
+                .where(travelPlace.placeId.in(placeIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PlaceQueryDto::getPlaceId, Function.identity()));
+
+        // 인덱스에서 정한 순서를 유지하도록 요청한 ID 순서대로 반환
+        return placeIds.stream()
+                .map(placeMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<PlaceIndexQueryDto> findAllPlaceIndexes() {
+        return jpaQueryFactory
+                .select(selectPlaceIndex())
+                .from(travelPlace)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PlaceIndexQueryDto> findPlaceIndexById(Long placeId) {
+        return Optional.ofNullable(
+                jpaQueryFactory
+                        .select(selectPlaceIndex())
+                        .from(travelPlace)
+                        .where(travelPlace.placeId.eq(placeId))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<PlaceSearchDocumentQueryDto> findAllPlaceSearchDocuments() {
+        return selectPlaceSearchDocument().fetch();
+    }
+
+    @Override
+    public Optional<PlaceSearchDocumentQueryDto> findPlaceSearchDocumentById(Long placeId) {
+        return Optional.ofNullable(
+                selectPlaceSearchDocument()
+                        .where(travelPlace.placeId.eq(placeId))
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public List<String> findPlaceNamesStartingWith(String keyword, int limit) {
+        return jpaQueryFactory
+                .select(travelPlace.placeName)
+                .from(travelPlace)
+                .where(travelPlace.placeName.startsWith(keyword))
+                .groupBy(travelPlace.placeName)
+                .orderBy(
+                        travelPlace.bookmarkCnt.sum().desc(),
+                        travelPlace.placeName.asc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Long findMaxPlaceId() {
+        return jpaQueryFactory
+                .select(travelPlace.placeId.max())
+                .from(travelPlace)
+                .fetchOne();
+    }
+
+    @Override
+    public List<Long> findExistingPlaceIds(Collection<Long> placeIds) {
+        return jpaQueryFactory
+                .select(travelPlace.placeId)
+                .from(travelPlace)
+                .where(travelPlace.placeId.in(placeIds))
+                .fetch();
+    }
+
+    @Override
+    public long backfillThumbnailS3ObjectKeys(Long fromPlaceId, Long toPlaceId) {
+        // 썸네일이 여러 개인 여행지는 그 중 하나만 사용
+        // 대표 이미지가 비어있거나 더 이상 썸네일 이미지와 일치하지 않는 여행지만 갱신
+        return jpaQueryFactory
+                .update(travelPlace)
+                .set(travelPlace.thumbnailS3ObjectKey,
+                        JPAExpressions
+                                .select(travelImage.s3ObjectKey.min())
+                                .from(travelImage)
+                                .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId),
+                                        travelImage.isThumbnail.isTrue()))
+                .where(
+                        travelPlace.placeId.between(fromPlaceId, toPlaceId),
+                        travelPlace.thumbnailS3ObjectKey.isNull()
+                                .or(JPAExpressions
+                                        .selectOne()
+                                        .from(travelImage)
+                                        .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId),
+                                                travelImage.isThumbnail.isTrue(),
+                                                travelImage.s3ObjectKey.eq(travelPlace.thumbnailS3ObjectKey))
+                                        .notExists())
+                )
+                .execute();
+    }
+
+    private JPAQuery<PlaceSearchDocumentQueryDto> selectPlaceSearchDocument(){
+        return jpaQueryFactory
+                .select(Projections.constructor(PlaceSearchDocumentQueryDto.class,
+                        travelPlace.placeId,
+                        country.countryName,
+                        city.cityName,
+                        district.districtName,
+                        apiContentType.contentTypeName,
+                        travelPlace.placeName,
+                        travelPlace.address,
+                        travelPlace.detailAddress,
+                        travelPlace.description,
+                        travelPlace.latitude,
+                        travelPlace.longitude))
+                .from(travelPlace)
+                .leftJoin(travelPlace.country, country)
+                .leftJoin(travelPlace.city, city)
+                .leftJoin(travelPlace.district, district)
+                .leftJoin(travelPlace.apiContentType, apiContentType);
+    }
+
+    private ConstructorExpression<PlaceIndexQueryDto> selectPlaceIndex(){
+        return Projections.constructor(PlaceIndexQueryDto.class,
+                travelPlace.placeId,
+                travelPlace.country.countryName,
+                travelPlace.city.cityName,
+                travelPlace.district.districtName,
+                travelPlace.placeName,
+                travelPlace.latitude,
+                travelPlace.longitude,
+                travelPlace.bookmarkCnt);
+    }
+
+
+    // (latitude, longitude) 인덱스를 타도록 반경을 포함하는 위도/경도 범위로 먼저 거름
+    private BooleanExpression withinBoundingBox(double latDeg, double lonDeg, double radius){
+        GeoUtils.BoundingBox boundingBox = GeoUtils.boundingBox(latDeg, lonDeg, radius);
 
-    private JPQLQuery<String> findThumbnailS3ObjectKey(){
-        return JPAExpressions
-                .select(travelImage.s3ObjectKey)
-                .from(travelImage)
-                .where(travelImage.travelPlace.placeId.eq(travelPlace.placeId),
-                        travelImage.isThumbnail.isTrue())
-                .limit(1);
+        return travelPlace.latitude.between(boundingBox.minLatitude(), boundingBox.maxLatitude())
+                .and(travelPlace.longitude.between(boundingBox.minLongitude(), boundingBox.maxLongitude()));
     }
 
     private NumberExpression<Double> getHaversineFormula(double latDeg, double lonDeg){
-        double earthRadius = 6371.0;
+        double earthRadius = GeoUtils.EARTH_RADIUS_KM;
 
         // haversine 공식을 적용하여 거리 계산
         return acos(
@@ -34,6 +34,22 @@ public class PlaceDistanceQueryDto {
         this.distance = distance;
     }
 
+    public static PlaceDistanceQueryDto of(PlaceQueryDto placeQueryDto, Double distance){
+        return PlaceDistanceQueryDto.builder()
+                .placeId(placeQueryDto.getPlaceId())
+                .country(placeQueryDto.getCountry())
+                .city(placeQueryDto.getCity())
+                .district(placeQueryDto.getDistrict())
+                .address(placeQueryDto.getAddress())
+                .detailAddress(placeQueryDto.getDetailAddress())
+                .latitude(placeQueryDto.getLatitude())
+                .longitude(placeQueryDto.getLongitude())
+                .placeName(placeQueryDto.getPlaceName())
+                .thumbnailS3ObjectKey(placeQueryDto.getThumbnailS3ObjectKey())
+                .distance(distance)
+                .build();
+    }
+
 
 
 }
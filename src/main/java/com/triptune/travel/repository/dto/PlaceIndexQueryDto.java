@@ -0,0 +1,34 @@
+package com.triptune.travel.repository.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PlaceIndexQueryDto {
+    private Long placeId;
+    private String country;
+    private String city;
+    private String district;
+    private String placeName;
+    private Double latitude;
+    private Double longitude;
+    private Integer bookmarkCnt;
+
+    @Builder
+    public PlaceIndexQueryDto(Long placeId, String country, String city, String district, String placeName, Double latitude, Double longitude, Integer bookmarkCnt) {
+        this.placeId = placeId;
+        this.country = country;
+        this.city = city;
+        this.district = district;
+        this.placeName = placeName;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.bookmarkCnt = bookmarkCnt;
+    }
+
+    public PlaceIndexQueryDto withBookmarkCnt(int bookmarkCnt) {
+        return new PlaceIndexQueryDto(placeId, country, city, district, placeName, latitude, longitude, bookmarkCnt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.triptune.travel.repository.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PlaceSearchDocumentQueryDto {
+    private Long placeId;
+    private String country;
+    private String city;
+    private String district;
+    private String contentTypeName;
+    private String placeName;
+    private String address;
+    private String detailAddress;
+    private String description;
+    private Double latitude;
+    private Double longitude;
+
+    @Builder
+    public PlaceSearchDocumentQueryDto(Long placeId, String country, String city, String district, String contentTypeName, String placeName, String address, String detailAddress, String description, Double latitude, Double longitude) {
+        this.placeId = placeId;
+        this.country = country;
+        this.city = city;
+        this.district = district;
+        this.contentTypeName = contentTypeName;
+        this.placeName = placeName;
+        this.address = address;
+        this.detailAddress = detailAddress;
+        this.description = description;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
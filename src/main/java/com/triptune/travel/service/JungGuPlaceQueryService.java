@@ -0,0 +1,37 @@
+package com.triptune.travel.service;
+
+import com.triptune.global.util.PageUtils;
+import com.triptune.travel.index.JungGuDistanceIndex;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceQueryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 기본 여행지(중구 기준 거리순) 목록 조회
+ * - 거리순 인덱스가 준비된 경우 인덱스 구간의 여행지 ID 로 조회, 아니면 DB 에서 거리 계산
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class JungGuPlaceQueryService {
+
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final JungGuDistanceIndex jungGuDistanceIndex;
+
+    public Page<PlaceQueryDto> findNearbyTravelPlaces(Pageable pageable){
+        if (!jungGuDistanceIndex.isReady()){
+            return travelPlaceRepository.findNearbyTravelPlacesFromJungGu(pageable);
+        }
+
+        List<Long> placeIds = jungGuDistanceIndex.findPlaceIds(pageable.getOffset(), pageable.getPageSize());
+        List<PlaceQueryDto> content = travelPlaceRepository.findTravelPlacesByIds(placeIds);
+
+        return PageUtils.createPage(content, pageable, jungGuDistanceIndex.size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.triptune.travel.service;
+
+import com.triptune.travel.properties.ThumbnailBackfillProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * travel_image 썸네일을 travel_place.thumbnail_s3_object_key 로 옮기는 백필 작업
+ * - 대표 이미지가 비어있거나 썸네일 이미지와 일치하지 않는 여행지만 갱신하므로 여러 번 실행해도 안전
+ *   (벌크 삭제 등 엔티티 콜백을 거치지 않고 썸네일 이미지가 삭제된 경우도 보정)
+ * - 여행지 ID 구간 단위로 나눠 구간마다 트랜잭션을 커밋
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailBackfillService {
+
+    private final ThumbnailBackfillProperties thumbnailBackfillProperties;
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup(){
+        if (!thumbnailBackfillProperties.enabled()){
+            return;
+        }
+
+        long updatedCount = backfill();
+        log.info("여행지 대표 이미지 백필 완료: {} 건", updatedCount);
+    }
+
+    public long backfill(){
+        Long maxPlaceId = travelPlaceRepository.findMaxPlaceId();
+        if (maxPlaceId == null){
+            return 0;
+        }
+
+        int batchSize = thumbnailBackfillProperties.batchSizeOrDefault();
+        long updatedCount = 0;
+
+        for (long start = 1; start <= maxPlaceId; start += batchSize) {
+            long fromPlaceId = start;
+            long toPlaceId = start + batchSize - 1;
+
+            Long updated = transactionTemplate.execute(status ->
+                    travelPlaceRepository.backfillThumbnailS3ObjectKeys(fromPlaceId, toPlaceId));
+
+            updatedCount += updated == null ? 0 : updated;
+        }
+
+        return updatedCount;
+    }
+}
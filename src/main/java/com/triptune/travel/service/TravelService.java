@@ -1,16 +1,29 @@
 package com.triptune.travel.service;
 
-import com.triptune.bookmark.repository.BookmarkRepository;
+import com.triptune.bookmark.cache.MemberBookmarkCache;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.s3.S3ObjectManager;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
+import com.triptune.global.util.GeoUtils;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
+import com.triptune.search.engine.LucenePlaceSearchEngine;
+import com.triptune.search.engine.PlaceSearchQuery;
+import com.triptune.search.engine.PlaceSearchResult;
+import com.triptune.travel.cache.PlaceCarouselCache;
+import com.triptune.travel.cache.PlaceDetailCache;
 import com.triptune.travel.dto.response.*;
 import com.triptune.travel.dto.request.PlaceLocationRequest;
 import com.triptune.travel.dto.request.PlaceSearchRequest;
 import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.enums.CityType;
 import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.index.PlaceAutocompleteIndex;
+import com.triptune.travel.index.PlaceDistance;
+import com.triptune.travel.index.PlaceGridIndex;
+import com.triptune.travel.index.PlaceKeywordIndex;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.travel.repository.dto.PlaceDistanceQueryDto;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
@@ -22,6 +35,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -30,31 +48,183 @@ public class TravelService {
     private static final int RADIUS_SIZE = 5;
 
     private final TravelPlaceRepository travelPlaceRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private final MemberBookmarkCache memberBookmarkCache;
     private final S3ObjectManager s3ObjectManager;
+    private final PlaceGridIndex placeGridIndex;
+    private final JungGuPlaceQueryService jungGuPlaceQueryService;
+    private final PlaceKeywordIndex placeKeywordIndex;
+    private final LucenePlaceSearchEngine lucenePlaceSearchEngine;
+    private final PlaceAutocompleteIndex placeAutocompleteIndex;
+    private final PlaceCarouselCache placeCarouselCache;
+    private final PlaceDetailCache placeDetailCache;
 
 
     public Page<PlaceDistanceResponse> getNearByTravelPlaces(int page, Long memberId, PlaceLocationRequest placeLocationRequest) {
         Pageable pageable = PageUtils.defaultPageable(page);
-        Page<PlaceDistanceQueryDto> placePage = travelPlaceRepository.findNearByTravelPlaces(pageable, placeLocationRequest, RADIUS_SIZE);
+
+        Page<PlaceDistanceQueryDto> placePage = placeGridIndex.isReady()
+                ? findNearByTravelPlacesFromIndex(pageable, placeLocationRequest)
+                : travelPlaceRepository.findNearByTravelPlaces(pageable, placeLocationRequest, RADIUS_SIZE);
+
         return toPlaceDistanceResponse(placePage, memberId);
 
     }
 
+    private Page<PlaceDistanceQueryDto> findNearByTravelPlacesFromIndex(Pageable pageable, PlaceLocationRequest placeLocationRequest){
+        List<PlaceDistance> candidates = placeGridIndex.findWithinRadius(
+                placeLocationRequest.getLatitude(),
+                placeLocationRequest.getLongitude(),
+                RADIUS_SIZE
+        );
+
+        List<PlaceDistance> pageCandidates = candidates.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        List<Long> placeIds = pageCandidates.stream()
+                .map(PlaceDistance::placeId)
+                .toList();
+
+        Map<Long, PlaceQueryDto> placeMap = travelPlaceRepository.findTravelPlacesByIds(placeIds).stream()
+                .collect(Collectors.toMap(PlaceQueryDto::getPlaceId, Function.identity()));
+
+        // 인덱스 순서(거리순)를 유지하며 페이지 데이터만 DB 에서 조회한 값으로 채움
+        List<PlaceDistanceQueryDto> content = pageCandidates.stream()
+                .map(candidate -> {
+                    PlaceQueryDto place = placeMap.get(candidate.placeId());
+                    return place == null ? null : PlaceDistanceQueryDto.of(place, candidate.distance());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PageUtils.createPage(content, pageable, candidates.size());
+    }
+
+
+    public CursorPage<PlaceDistanceResponse> getNearByTravelPlacesByCursor(String cursor, Long memberId, PlaceLocationRequest placeLocationRequest) {
+        CursorPageable pageable = PageUtils.defaultCursorPageable(cursor);
+
+        CursorPage<PlaceDistanceQueryDto> placePage = placeGridIndex.isReady()
+                ? findNearByTravelPlacesFromIndex(pageable, placeLocationRequest)
+                : travelPlaceRepository.findNearByTravelPlacesByCursor(pageable, placeLocationRequest, RADIUS_SIZE);
+
+        CursorPage<PlaceDistanceResponse> responsePage = placePage.map(place -> {
+            String thumbnailUrl = s3ObjectManager.generateS3ObjectUrl(place.getThumbnailS3ObjectKey());
+            return PlaceDistanceResponse.of(place, thumbnailUrl);
+        });
+
+        markBookmarkedTravelPlaces(responsePage.content(), memberId);
+        return responsePage;
+    }
+
+    private CursorPage<PlaceDistanceQueryDto> findNearByTravelPlacesFromIndex(CursorPageable pageable, PlaceLocationRequest placeLocationRequest){
+        PageCursor pageCursor = PageCursor.decode(pageable.cursor(), 2);
+        PlaceDistance last = pageCursor == null ? null : new PlaceDistance(pageCursor.getLong(1), pageCursor.getDouble(0));
+
+        List<PlaceDistance> pageCandidates = placeGridIndex.findWithinRadius(
+                        placeLocationRequest.getLatitude(),
+                        placeLocationRequest.getLongitude(),
+                        RADIUS_SIZE
+                ).stream()
+                .filter(candidate -> last == null || PlaceDistance.DISTANCE_ORDER.compare(candidate, last) > 0)
+                .limit(pageable.fetchSize())
+                .toList();
+
+        List<Long> placeIds = pageCandidates.stream()
+                .map(PlaceDistance::placeId)
+                .toList();
+
+        Map<Long, PlaceQueryDto> placeMap = travelPlaceRepository.findTravelPlacesByIds(placeIds).stream()
+                .collect(Collectors.toMap(PlaceQueryDto::getPlaceId, Function.identity()));
+
+        List<PlaceDistanceQueryDto> content = pageCandidates.stream()
+                .map(candidate -> {
+                    PlaceQueryDto place = placeMap.get(candidate.placeId());
+                    return place == null ? null : PlaceDistanceQueryDto.of(place, candidate.distance());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PageUtils.createCursorPage(content, pageable,
+                place -> PageCursor.encode(place.getDistance(), place.getPlaceId()));
+    }
+
 
     public Page<PlaceDistanceResponse> searchTravelPlacesWithLocation(int page, Long memberId, PlaceSearchRequest placeSearchRequest) {
         Pageable pageable = PageUtils.defaultPageable(page);
-        Page<PlaceDistanceQueryDto> placePage = travelPlaceRepository.searchTravelPlacesWithLocation(pageable, placeSearchRequest);
+
+        Page<PlaceDistanceQueryDto> placePage = isSearchIndexReady()
+                ? searchTravelPlacesFromIndex(pageable, toSearchQuery(placeSearchRequest))
+                    .map(place -> PlaceDistanceQueryDto.of(place, calculateDistance(placeSearchRequest, place)))
+                : travelPlaceRepository.searchTravelPlacesWithLocation(pageable, placeSearchRequest);
+
         return toPlaceDistanceResponse(placePage, memberId);
     }
 
+    // 검색 엔진에서 점수가 같은 여행지는 요청 위치와 가까운 순으로 정렬
+    private PlaceSearchQuery toSearchQuery(PlaceSearchRequest placeSearchRequest){
+        return PlaceSearchQuery.withLocation(
+                placeSearchRequest.getKeyword(),
+                placeSearchRequest.getLatitude(),
+                placeSearchRequest.getLongitude()
+        );
+    }
+
+    private double calculateDistance(PlaceSearchRequest placeSearchRequest, PlaceQueryDto place){
+        return GeoUtils.calculateDistance(
+                placeSearchRequest.getLatitude(),
+                placeSearchRequest.getLongitude(),
+                place.getLatitude(),
+                place.getLongitude()
+        );
+    }
+
 
     public Page<PlaceDistanceResponse> searchTravelPlacesWithoutLocation(int page, Long memberId, PlaceSearchRequest placeSearchRequest) {
         Pageable pageable = PageUtils.defaultPageable(page);
-        Page<PlaceDistanceQueryDto> placePage = travelPlaceRepository.searchTravelPlacesWithoutLocation(pageable, placeSearchRequest.getKeyword());
+
+        Page<PlaceDistanceQueryDto> placePage = isSearchIndexReady()
+                ? searchTravelPlacesFromIndex(pageable, PlaceSearchQuery.of(placeSearchRequest.getKeyword()))
+                    .map(place -> PlaceDistanceQueryDto.of(place, null))
+                : travelPlaceRepository.searchTravelPlacesWithoutLocation(pageable, placeSearchRequest.getKeyword());
+
         return toPlaceDistanceResponse(placePage, memberId);
     }
 
+    private boolean isSearchIndexReady(){
+        return lucenePlaceSearchEngine.isReady() || placeKeywordIndex.isReady();
+    }
+
+    private Page<PlaceQueryDto> searchTravelPlacesFromIndex(Pageable pageable, PlaceSearchQuery searchQuery){
+        if (lucenePlaceSearchEngine.isReady()){
+            return searchTravelPlacesFromLucene(pageable, searchQuery);
+        }
+
+        List<Long> placeIds = placeKeywordIndex.search(searchQuery.keyword());
+
+        List<Long> pagePlaceIds = placeIds.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        List<PlaceQueryDto> content = travelPlaceRepository.findTravelPlacesByIds(pagePlaceIds);
+
+        return PageUtils.createPage(content, pageable, placeIds.size());
+    }
+
+    private Page<PlaceQueryDto> searchTravelPlacesFromLucene(Pageable pageable, PlaceSearchQuery searchQuery){
+        PlaceSearchResult searchResult = lucenePlaceSearchEngine.search(
+                searchQuery,
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+
+        List<PlaceQueryDto> content = travelPlaceRepository.findTravelPlacesByIds(searchResult.placeIds());
+
+        return PageUtils.createPage(content, pageable, searchResult.totalHits());
+    }
+
 
     private Page<PlaceDistanceResponse> toPlaceDistanceResponse(Page<PlaceDistanceQueryDto> placePage, Long memberId){
         List<PlaceDistanceResponse> placeResponses = placePage.getContent().stream()
@@ -69,35 +239,44 @@ public class TravelService {
 
 
     private void markBookmarkedTravelPlaces(List<PlaceDistanceResponse> placeResponses, Long memberId){
-        if (memberId != null){
-            placeResponses.forEach(placeResponse -> markBookmarkedPlace(memberId, placeResponse));
+        if (memberId == null){
+            return;
         }
-    }
 
-    private void markBookmarkedPlace(Long memberId, PlaceDistanceResponse placeResponse){
-        boolean isBookmark = bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(memberId, placeResponse.getPlaceId());
+        List<Long> placeIds = placeResponses.stream()
+                .map(PlaceDistanceResponse::getPlaceId)
+                .toList();
 
-        if (isBookmark){
-            placeResponse.updateBookmarkStatusTrue();
-        }
+        Set<Long> bookmarkedPlaceIds = memberBookmarkCache.findBookmarkedPlaceIds(memberId, placeIds);
+
+        placeResponses.stream()
+                .filter(placeResponse -> bookmarkedPlaceIds.contains(placeResponse.getPlaceId()))
+                .forEach(PlaceDistanceResponse::updateBookmarkStatusTrue);
     }
 
     public PlaceDetailResponse getTravelPlaceDetails(Long placeId, Long memberId) {
-        TravelPlace travelPlace = getTravelPlaceById(placeId);
+        PlaceDetailResponse placeDetail = placeDetailCache.get(placeId, this::loadTravelPlaceDetails);
 
         boolean isBookmark = false;
 
         if (memberId != null){
-            isBookmark = bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(memberId, placeId);
+            isBookmark = memberBookmarkCache.isBookmarked(memberId, placeId);
         }
 
+        return placeDetail.withBookmarkStatus(isBookmark);
+    }
+
+    // 북마크 여부를 제외한 상세 정보 (캐시 대상)
+    private PlaceDetailResponse loadTravelPlaceDetails(Long placeId) {
+        TravelPlace travelPlace = getTravelPlaceById(placeId);
+
         List<TravelImageResponse> travelImageResponses = travelPlace.getTravelImages().stream()
                 .map(image -> {
                     String imageUrl = s3ObjectManager.generateS3ObjectUrl(image.getS3ObjectKey());
                     return TravelImageResponse.of(image, imageUrl);
                 }).toList();
 
-        return PlaceDetailResponse.of(travelPlace, travelImageResponses, isBookmark);
+        return PlaceDetailResponse.of(travelPlace, travelImageResponses, false);
     }
 
     private TravelPlace getTravelPlaceById(Long placeId) {
@@ -107,13 +286,18 @@ public class TravelService {
 
     public Page<PlaceResponse> getTravelPlacesByJungGu(int page) {
         Pageable pageable = PageUtils.travelPageable(page);
-        Page<PlaceQueryDto> placePage = travelPlaceRepository.findNearbyTravelPlacesFromJungGu(pageable);
+        Page<PlaceQueryDto> placePage = jungGuPlaceQueryService.findNearbyTravelPlaces(pageable);
+
         return toPlaceResponse(placePage);
     }
 
     public Page<PlaceResponse> searchTravelPlaces(int page, String keyword) {
         Pageable pageable = PageUtils.travelPageable(page);
-        Page<PlaceQueryDto> placePage = travelPlaceRepository.searchTravelPlaces(pageable, keyword);
+
+        Page<PlaceQueryDto> placePage = isSearchIndexReady()
+                ? searchTravelPlacesFromIndex(pageable, PlaceSearchQuery.of(keyword))
+                : travelPlaceRepository.searchTravelPlaces(pageable, keyword);
+
         return toPlaceResponse(placePage);
     }
 
@@ -127,14 +311,44 @@ public class TravelService {
         return PageUtils.createPage(placeResponses, placePage.getPageable(), placePage.getTotalElements());
     }
 
+    public List<PlaceSuggestionResponse> getPlaceSuggestions(String keyword) {
+        if (keyword == null || keyword.isBlank()){
+            return List.of();
+        }
+
+        if (placeAutocompleteIndex.isReady()){
+            return placeAutocompleteIndex.suggest(keyword).stream()
+                    .map(PlaceSuggestionResponse::from)
+                    .toList();
+        }
+
+        return travelPlaceRepository.findPlaceNamesStartingWith(keyword.trim(), PlaceAutocompleteIndex.SUGGESTION_LIMIT).stream()
+                .map(PlaceSuggestionResponse::fromPlaceName)
+                .toList();
+    }
+
     public List<PlaceSimpleResponse> getPopularTravelPlacesByCity(CityType cityType) {
-        List<PlaceSimpleQueryDto> places = travelPlaceRepository.findPopularTravelPlaces(cityType);
-        return toPlaceSimpleResponse(places);
+        return placeCarouselCache.findPopular(cityType)
+                .map(PlaceCarouselCache.Carousel::places)
+                .orElseGet(() -> toPlaceSimpleResponse(travelPlaceRepository.findPopularTravelPlaces(cityType)));
+    }
+
+    public byte[] getPopularTravelPlacesBody(CityType cityType) {
+        return placeCarouselCache.findPopular(cityType)
+                .map(PlaceCarouselCache.Carousel::body)
+                .orElseGet(() -> placeCarouselCache.serialize(getPopularTravelPlacesByCity(cityType)));
     }
 
     public List<PlaceSimpleResponse> getRecommendTravelPlacesByTheme(ThemeType themeType) {
-        List<PlaceSimpleQueryDto> places = travelPlaceRepository.findRecommendTravelPlaces(themeType);
-        return toPlaceSimpleResponse(places);
+        return placeCarouselCache.findRecommend(themeType)
+                .map(PlaceCarouselCache.Carousel::places)
+                .orElseGet(() -> toPlaceSimpleResponse(travelPlaceRepository.findRecommendTravelPlaces(themeType)));
+    }
+
+    public byte[] getRecommendTravelPlacesBody(ThemeType themeType) {
+        return placeCarouselCache.findRecommend(themeType)
+                .map(PlaceCarouselCache.Carousel::body)
+                .orElseGet(() -> placeCarouselCache.serialize(getRecommendTravelPlacesByTheme(themeType)));
     }
 
     private List<PlaceSimpleResponse> toPlaceSimpleResponse(List<PlaceSimpleQueryDto> places) {
@@ -0,0 +1,115 @@
+package com.triptune.bookmark.cache;
+
+import com.triptune.bookmark.event.BookmarkChangedEvent;
+import com.triptune.bookmark.properties.BookmarkCacheProperties;
+import com.triptune.bookmark.repository.BookmarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberBookmarkCacheTest {
+
+    @Mock private BookmarkRepository bookmarkRepository;
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private static final List<String> KEYS = List.of("bookmark:member:1", "bookmark:member:1:gen");
+
+    private MemberBookmarkCache createCache(boolean enabled){
+        return new MemberBookmarkCache(new BookmarkCacheProperties(enabled, 60L), bookmarkRepository, redisTemplate);
+    }
+
+
+    @Test
+    @DisplayName("캐시 비활성화 시 여행지 ID 목록으로 한 번에 조회")
+    void findBookmarkedPlaceIds_disabled(){
+        // given
+        MemberBookmarkCache memberBookmarkCache = createCache(false);
+        when(bookmarkRepository.findBookmarkedPlaceIds(1L, List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+        // when
+        Set<Long> response = memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(response).containsExactlyInAnyOrder(1L, 3L);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("캐시가 있는 경우 존재 확인과 포함 여부를 스크립트 한 번으로 조회")
+    void findBookmarkedPlaceIds_cacheHit(){
+        // given
+        MemberBookmarkCache memberBookmarkCache = createCache(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("2"), eq("3")))
+                .thenReturn(List.of("1", "1", "0", "1"));
+
+        // when
+        Set<Long> response = memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(response).containsExactlyInAnyOrder(1L, 3L);
+        verifyNoInteractions(bookmarkRepository);
+    }
+
+    @Test
+    @DisplayName("캐시가 없는 경우 조회 시점의 세대와 함께 회원 북마크 전체를 적재하고 적재한 목록으로 응답")
+    void findBookmarkedPlaceIds_loadCache(){
+        // given
+        MemberBookmarkCache memberBookmarkCache = createCache(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1"), eq("2")))
+                .thenReturn(List.of("0", "4"));
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("60"), eq("4"), eq("-1"), eq("1"), eq("3")))
+                .thenReturn(1L);
+        when(bookmarkRepository.findPlaceIdsByMemberId(1L)).thenReturn(List.of(1L, 3L));
+
+        // when
+        Set<Long> response = memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(1L, 2L));
+
+        // then
+        assertThat(response).containsExactly(1L);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("60"), eq("4"), eq("-1"), eq("1"), eq("3"));
+        verify(bookmarkRepository, never()).findBookmarkedPlaceIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 DB 에서 조회")
+    void findBookmarkedPlaceIds_redisFailure(){
+        // given
+        MemberBookmarkCache memberBookmarkCache = createCache(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1")))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(bookmarkRepository.findBookmarkedPlaceIds(1L, List.of(1L))).thenReturn(List.of(1L));
+
+        // when
+        boolean response = memberBookmarkCache.isBookmarked(1L, 1L);
+
+        // then
+        assertThat(response).isTrue();
+    }
+
+    @Test
+    @DisplayName("북마크 변경 시 회원 세대 증가 후 캐시 삭제")
+    void handleBookmarkChanged(){
+        // given
+        MemberBookmarkCache memberBookmarkCache = createCache(true);
+
+        // when
+        memberBookmarkCache.handleBookmarkChanged(new BookmarkChangedEvent(1L));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("60"));
+    }
+
+}
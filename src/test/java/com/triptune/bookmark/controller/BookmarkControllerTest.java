@@ -100,7 +100,7 @@ class BookmarkControllerTest{
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value(SuccessCode.GENERAL_SUCCESS.getMessage()));
 
-        assertThat(place.getBookmarkCnt()).isEqualTo(1);
+        assertThat(travelPlaceRepository.findById(place.getPlaceId()).orElseThrow().getBookmarkCnt()).isEqualTo(1);
     }
 
     @ParameterizedTest
@@ -224,7 +224,7 @@ class BookmarkControllerTest{
                 .andExpect(jsonPath("$.message").value(SuccessCode.GENERAL_SUCCESS.getMessage()));
 
         assertThat(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(member.getMemberId(), place.getPlaceId())).isFalse();
-        assertThat(place.getBookmarkCnt()).isEqualTo(0);
+        assertThat(travelPlaceRepository.findById(place.getPlaceId()).orElseThrow().getBookmarkCnt()).isEqualTo(0);
     }
 
 
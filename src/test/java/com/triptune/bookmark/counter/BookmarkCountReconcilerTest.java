@@ -0,0 +1,112 @@
+package com.triptune.bookmark.counter;
+
+import com.triptune.bookmark.properties.BookmarkCounterProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookmarkCountReconcilerTest {
+
+    @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private BookmarkCountReconciler bookmarkCountReconciler;
+
+    @BeforeEach
+    void setUp(){
+        bookmarkCountReconciler = new BookmarkCountReconciler(
+                new BookmarkCounterProperties(true, null, null, 100),
+                travelPlaceRepository,
+                jdbcTemplate,
+                transactionTemplate,
+                redisTemplate
+        );
+    }
+
+    @AfterEach
+    void tearDown(){
+        bookmarkCountReconciler.shutdown();
+    }
+
+
+    @Test
+    @DisplayName("여행지 ID 구간 단위로 북마크 수 보정")
+    void reconcile(){
+        // given
+        when(travelPlaceRepository.findMaxPlaceId()).thenReturn(150L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(100L))).thenReturn(3);
+        when(jdbcTemplate.update(anyString(), eq(101L), eq(200L))).thenReturn(1);
+
+        // when
+        int response = bookmarkCountReconciler.reconcile();
+
+        // then
+        assertThat(response).isEqualTo(4);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("여행지가 없는 경우 보정하지 않음")
+    void reconcile_emptyPlace(){
+        // given
+        when(travelPlaceRepository.findMaxPlaceId()).thenReturn(null);
+
+        // when
+        int response = bookmarkCountReconciler.reconcile();
+
+        // then
+        assertThat(response).isEqualTo(0);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 락을 가진 경우 보정하지 않음")
+    void tryLock_alreadyLocked(){
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("bookmark:reconcile:lock", "1", Duration.ofMinutes(10))).thenReturn(false);
+
+        // when
+        boolean response = bookmarkCountReconciler.tryLock(Duration.ofMinutes(10));
+
+        // then
+        assertThat(response).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 락 없이 보정")
+    void tryLock_redisFailure(){
+        // given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        boolean response = bookmarkCountReconciler.tryLock(Duration.ofMinutes(10));
+
+        // then
+        assertThat(response).isTrue();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.triptune.bookmark.counter;
+
+import com.triptune.bookmark.properties.BookmarkCounterProperties;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookmarkCounterTest {
+
+    @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private BookmarkCounter bookmarkCounter;
+
+    @AfterEach
+    void tearDown(){
+        if (bookmarkCounter != null){
+            bookmarkCounter.shutdown();
+        }
+    }
+
+    private BookmarkCounter createCounter(boolean writeBehind){
+        return new BookmarkCounter(
+                new BookmarkCounterProperties(writeBehind, null, null, null),
+                travelPlaceRepository,
+                jdbcTemplate,
+                transactionTemplate,
+                eventPublisher
+        );
+    }
+
+    private void runTransactionCallback(){
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+
+    @Test
+    @DisplayName("write-behind 비활성화 시 북마크 수를 바로 증감")
+    void increase_direct(){
+        // given
+        bookmarkCounter = createCounter(false);
+
+        // when
+        bookmarkCounter.increase(1L);
+        bookmarkCounter.decrease(2L);
+
+        // then
+        verify(travelPlaceRepository).addBookmarkCnt(1L, 1);
+        verify(travelPlaceRepository).addBookmarkCnt(2L, -1);
+        verify(eventPublisher).publishEvent(TravelPlaceChangedEvent.bookmarkCounted(1L, 1));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("write-behind 활성화 시 증감분이 있는 여행지의 북마크 수를 한 번에 다시 계산")
+    @SuppressWarnings("unchecked")
+    void flush(){
+        // given
+        bookmarkCounter = createCounter(true);
+        runTransactionCallback();
+
+        bookmarkCounter.increase(1L);
+        bookmarkCounter.increase(1L);
+        bookmarkCounter.increase(2L);
+        bookmarkCounter.decrease(2L);
+        bookmarkCounter.decrease(3L);
+
+        // when
+        int response = bookmarkCounter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("SELECT COUNT(*) FROM bookmark"), captor.capture());
+
+        assertThat(response).isEqualTo(2);
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(new Object[]{1L, 1L}, new Object[]{3L, 3L});
+        verify(eventPublisher).publishEvent(TravelPlaceChangedEvent.bookmarkCounted(1L, 2));
+        verify(eventPublisher).publishEvent(TravelPlaceChangedEvent.bookmarkCounted(3L, -1));
+        verify(travelPlaceRepository, never()).addBookmarkCnt(anyLong(), anyInt());
+        assertThat(bookmarkCounter.flush()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감분을 다시 보관")
+    void flush_fail(){
+        // given
+        bookmarkCounter = createCounter(true);
+        doThrow(new IllegalStateException("DB 오류")).when(transactionTemplate).executeWithoutResult(any());
+
+        bookmarkCounter.increase(1L);
+
+        // when
+        assertThatThrownBy(() -> bookmarkCounter.flush()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        reset(transactionTemplate);
+        runTransactionCallback();
+        assertThat(bookmarkCounter.flush()).isEqualTo(1);
+    }
+
+}
@@ -8,6 +8,8 @@ import com.triptune.common.entity.*;
 import com.triptune.common.fixture.*;
 import com.triptune.common.repository.*;
 import com.triptune.global.config.QuerydslConfig;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import com.triptune.member.entity.Member;
 import com.triptune.member.fixture.MemberFixture;
@@ -184,5 +186,112 @@ class BookmarkRepositoryTest {
         assertThat(response.getContent()).isEmpty();
     }
 
+    @Test
+    @DisplayName("북마크로 등록된 여행지 데이터 조회 시 마지막 페이지를 넘긴 경우 전체 개수는 count 쿼리로 조회")
+    void getBookmarkTravelPlaces_pageOutOfRange(){
+        // given
+        Pageable pageable = PageUtils.bookmarkPageable(2);
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place1WithThumb));
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place2WithThumb));
+
+        // when
+        Page<PlaceBookmarkQueryDto> response = bookmarkRepository.findSortedMemberBookmarks(member.getMemberId(), pageable, BookmarkSortType.NEWEST);
+
+        // then
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("북마크로 등록된 여행지 커서 조회 - 최신순")
+    void findSortedMemberBookmarksByCursor_sortNewest() throws Exception{
+        // given
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place1WithThumb));
+        Thread.sleep(10);
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place2WithThumb));
+        Thread.sleep(10);
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place3WithoutThumb));
+
+        // when
+        CursorPage<PlaceBookmarkQueryDto> first = bookmarkRepository.findSortedMemberBookmarksByCursor(
+                member.getMemberId(),
+                new CursorPageable(null, 2),
+                BookmarkSortType.NEWEST
+        );
+        CursorPage<PlaceBookmarkQueryDto> second = bookmarkRepository.findSortedMemberBookmarksByCursor(
+                member.getMemberId(),
+                new CursorPageable(first.nextCursor(), 2),
+                BookmarkSortType.NEWEST
+        );
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.content()).extracting(PlaceBookmarkQueryDto::getPlaceName)
+                .containsExactly(place3WithoutThumb.getPlaceName(), place2WithThumb.getPlaceName());
+
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.content()).extracting(PlaceBookmarkQueryDto::getPlaceName)
+                .containsExactly(place1WithThumb.getPlaceName());
+    }
+
+    @Test
+    @DisplayName("북마크로 등록된 여행지 커서 조회 - 이름순")
+    void findSortedMemberBookmarksByCursor_sortName(){
+        // given
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place1WithThumb));
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place2WithThumb));
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place3WithoutThumb));
+
+        // when
+        CursorPage<PlaceBookmarkQueryDto> first = bookmarkRepository.findSortedMemberBookmarksByCursor(
+                member.getMemberId(),
+                new CursorPageable(null, 2),
+                BookmarkSortType.NAME
+        );
+        CursorPage<PlaceBookmarkQueryDto> second = bookmarkRepository.findSortedMemberBookmarksByCursor(
+                member.getMemberId(),
+                new CursorPageable(first.nextCursor(), 2),
+                BookmarkSortType.NAME
+        );
+
+        // then
+        assertThat(first.content()).extracting(PlaceBookmarkQueryDto::getPlaceName)
+                .containsExactly(place1WithThumb.getPlaceName(), place2WithThumb.getPlaceName());
+        assertThat(second.content()).extracting(PlaceBookmarkQueryDto::getPlaceName)
+                .containsExactly(place3WithoutThumb.getPlaceName());
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("여행지 ID 목록 중 회원이 북마크한 여행지 ID 조회")
+    void findBookmarkedPlaceIds(){
+        // given
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place1WithThumb));
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place3WithoutThumb));
+
+        // when
+        List<Long> response = bookmarkRepository.findBookmarkedPlaceIds(
+                member.getMemberId(),
+                List.of(place1WithThumb.getPlaceId(), place2WithThumb.getPlaceId())
+        );
+
+        // then
+        assertThat(response).containsExactly(place1WithThumb.getPlaceId());
+    }
+
+    @Test
+    @DisplayName("회원이 북마크한 여행지 ID 전체 조회")
+    void findPlaceIdsByMemberId(){
+        // given
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place1WithThumb));
+        bookmarkRepository.save(BookmarkFixture.createBookmark(member, place3WithoutThumb));
+
+        // when
+        List<Long> response = bookmarkRepository.findPlaceIdsByMemberId(member.getMemberId());
+
+        // then
+        assertThat(response).containsExactlyInAnyOrder(place1WithThumb.getPlaceId(), place3WithoutThumb.getPlaceId());
+    }
+
 
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.triptune.bookmark.service;
 
+import com.triptune.bookmark.counter.BookmarkCounter;
 import com.triptune.bookmark.fixture.BookmarkFixture;
 import com.triptune.bookmark.dto.request.BookmarkRequest;
+import com.triptune.bookmark.event.BookmarkChangedEvent;
 import com.triptune.bookmark.repository.BookmarkRepository;
 import com.triptune.common.entity.*;
 import com.triptune.common.fixture.*;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -40,6 +43,8 @@ public class BookmarkServiceTest  {
     @Mock private BookmarkRepository bookmarkRepository;
     @Mock private MemberRepository memberRepository;
     @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private BookmarkCounter bookmarkCounter;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Member member;
     private TravelPlace place1;
@@ -86,7 +91,8 @@ public class BookmarkServiceTest  {
         assertDoesNotThrow(() -> bookmarkService.createBookmark(1L, request));
 
         // then
-        assertThat(place1.getBookmarkCnt()).isEqualTo(1);
+        verify(bookmarkCounter).increase(place1.getPlaceId());
+        verify(eventPublisher).publishEvent(new BookmarkChangedEvent(1L));
     }
 
     @Test
@@ -148,8 +154,6 @@ public class BookmarkServiceTest  {
     @DisplayName("북마크 삭제")
     void deleteBookmark(){
         // given
-        int beforeBookmarkCnt = place2.getBookmarkCnt();
-
         when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(anyLong(), anyLong())).thenReturn(true);
         when(travelPlaceRepository.findById(anyLong())).thenReturn(Optional.of(place2));
 
@@ -158,7 +162,8 @@ public class BookmarkServiceTest  {
 
         // then
         verify(bookmarkRepository, times(1)).deleteByMember_MemberIdAndTravelPlace_PlaceId(anyLong(), anyLong());
-        assertThat(place2.getBookmarkCnt()).isEqualTo(beforeBookmarkCnt-1);
+        verify(bookmarkCounter).decrease(place2.getPlaceId());
+        verify(eventPublisher).publishEvent(new BookmarkChangedEvent(1L));
     }
 
     @Test
@@ -0,0 +1,99 @@
+package com.triptune.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchLoaderTest {
+
+    @Test
+    @DisplayName("중복, null 키를 제거하고 한 번에 조회")
+    void loadMany(){
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(recording(calls));
+
+        // when
+        Map<Long, String> response = loader.loadMany(Arrays.asList(1L, 2L, 1L, null, 3L));
+
+        // then
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactly(1L, 2L, 3L);
+        assertThat(response)
+                .hasSize(3)
+                .containsEntry(1L, "value1")
+                .containsEntry(3L, "value3");
+    }
+
+    @Test
+    @DisplayName("batchSize 단위로 나눠 조회 후 결과 합침")
+    void loadMany_chunked(){
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(recording(calls), 2);
+
+        // when
+        Map<Long, String> response = loader.loadMany(List.of(1L, 2L, 3L, 4L, 5L));
+
+        // then
+        assertThat(calls).hasSize(3);
+        assertThat(calls.get(2)).containsExactly(5L);
+        assertThat(response).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("키가 없는 경우 조회하지 않음")
+    void loadMany_emptyKeys(){
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(recording(calls));
+
+        // when
+        Map<Long, String> response = loader.loadMany(List.of());
+
+        // then
+        assertThat(calls).isEmpty();
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 항목에서 키를 꺼내 조회")
+    void loadFor(){
+        // given
+        List<Collection<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = BatchLoader.of(recording(calls));
+        List<String> items = List.of("1", "2", "2");
+
+        // when
+        Map<Long, String> response = loader.loadFor(items, Long::valueOf);
+
+        // then
+        assertThat(calls).hasSize(1);
+        assertThat(response.keySet()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("batchSize 가 1 미만인 경우 예외 발생")
+    void of_invalidBatchSize(){
+        // given, when, then
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.of(recording(new ArrayList<>()), 0));
+    }
+
+
+    private Function<Collection<Long>, Map<Long, String>> recording(List<Collection<Long>> calls){
+        return keys -> {
+            calls.add(List.copyOf(keys));
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> "value" + key));
+        };
+    }
+}
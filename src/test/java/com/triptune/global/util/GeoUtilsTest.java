@@ -0,0 +1,58 @@
+package com.triptune.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class GeoUtilsTest {
+
+    @Test
+    @DisplayName("두 좌표 사이 거리(km) 계산")
+    void calculateDistance(){
+        // given
+        double seoulLat = 37.5665;
+        double seoulLon = 126.9780;
+        double busanLat = 35.1796;
+        double busanLon = 129.0756;
+
+        // when
+        double response = GeoUtils.calculateDistance(seoulLat, seoulLon, busanLat, busanLon);
+
+        // then
+        assertThat(response).isCloseTo(325.0, within(5.0));
+    }
+
+    @Test
+    @DisplayName("같은 좌표의 거리 계산")
+    void calculateDistance_samePoint(){
+        // given, when
+        double response = GeoUtils.calculateDistance(37.5, 127.0, 37.5, 127.0);
+
+        // then
+        assertThat(response).isCloseTo(0.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("반경을 포함하는 위도/경도 범위 계산")
+    void boundingBox(){
+        // given
+        double latitude = 37.497;
+        double longitude = 127.0;
+        double radius = 5;
+
+        // when
+        GeoUtils.BoundingBox response = GeoUtils.boundingBox(latitude, longitude, radius);
+
+        // then
+        assertThat(response.minLatitude()).isCloseTo(37.452034, within(0.000001));
+        assertThat(response.maxLatitude()).isCloseTo(37.541966, within(0.000001));
+        assertThat(response.minLongitude()).isCloseTo(126.943324, within(0.000001));
+        assertThat(response.maxLongitude()).isCloseTo(127.056676, within(0.000001));
+
+        // 범위 경계의 좌표는 반경 이상 떨어져 있음
+        assertThat(GeoUtils.calculateDistance(latitude, longitude, response.maxLatitude(), longitude)).isCloseTo(radius, within(0.001));
+        assertThat(GeoUtils.calculateDistance(latitude, longitude, latitude, response.maxLongitude())).isGreaterThanOrEqualTo(radius);
+    }
+}
@@ -0,0 +1,83 @@
+package com.triptune.global.util;
+
+import com.triptune.global.exception.CustomIllegalArgumentException;
+import com.triptune.global.message.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageCursorTest {
+
+    @Test
+    @DisplayName("정렬 키를 커서로 인코딩 후 디코딩")
+    void encodeAndDecode(){
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000);
+
+        // when
+        String cursor = PageCursor.encode(updatedAt, 15L);
+        PageCursor response = PageCursor.decode(cursor, 2);
+
+        // then
+        assertThat(response.getDateTime(0)).isEqualTo(updatedAt);
+        assertThat(response.getLong(1)).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("마지막 문자열 정렬 키는 구분자를 포함해도 디코딩")
+    void decode_lastValueWithDelimiter(){
+        // given
+        String cursor = PageCursor.encode(3L, "여행지|테스트");
+
+        // when
+        PageCursor response = PageCursor.decode(cursor, 2);
+
+        // then
+        assertThat(response.getLong(0)).isEqualTo(3L);
+        assertThat(response.getString(1)).isEqualTo("여행지|테스트");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 요청")
+    void decode_emptyCursor(){
+        // given, when, then
+        assertThat(PageCursor.decode(null, 2)).isNull();
+        assertThat(PageCursor.decode(" ", 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서인 경우 예외 발생")
+    void decode_illegalCursor(){
+        // given
+        String cursor = PageCursor.encode(15L);
+
+        // when
+        CustomIllegalArgumentException fail = assertThrows(CustomIllegalArgumentException.class,
+                () -> PageCursor.decode(cursor, 2));
+
+        // then
+        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.ILLEGAL_CURSOR);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 항목으로 다음 커서 생성")
+    void createCursorPage(){
+        // given
+        CursorPageable pageable = new CursorPageable(null, 2);
+
+        // when
+        CursorPage<Long> hasNext = PageUtils.createCursorPage(List.of(1L, 2L, 3L), pageable, PageCursor::encode);
+        CursorPage<Long> last = PageUtils.createCursorPage(List.of(1L, 2L), pageable, PageCursor::encode);
+
+        // then
+        assertThat(hasNext.content()).containsExactly(1L, 2L);
+        assertThat(PageCursor.decode(hasNext.nextCursor(), 1).getLong(0)).isEqualTo(2L);
+        assertThat(last.content()).containsExactly(1L, 2L);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
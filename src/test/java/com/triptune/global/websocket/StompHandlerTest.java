@@ -0,0 +1,107 @@
+package com.triptune.global.websocket;
+
+import com.triptune.global.security.jwt.JwtUtils;
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.chat.ChatSessionContext;
+import com.triptune.schedule.chat.ChatSessionRegistry;
+import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.exception.chat.ForbiddenChatException;
+import com.triptune.schedule.service.ChatMessageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StompHandlerTest {
+
+    @InjectMocks private StompHandler stompHandler;
+    @Mock private JwtUtils jwtUtils;
+    @Mock private ChatMessageService chatMessageService;
+    @Mock private ChatSessionRegistry chatSessionRegistry;
+
+    private final ChatSessionContext context = new ChatSessionContext("session1", 1L, "member1", "https://test.com/profile.jpg");
+
+    private Message<byte[]> createSubscribeMessage(String destination, ChatSessionContext context){
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        if (context != null){
+            context.saveTo(sessionAttributes);
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(sessionAttributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+
+    @Test
+    @DisplayName("참석자는 채팅 구독 시 권한을 조회하고 구독 허용")
+    void preSend_subscribeAttendee(){
+        // given
+        Message<byte[]> message = createSubscribeMessage("/sub/schedules/1/chats", context);
+        when(chatSessionRegistry.getAccess(context, 1L))
+                .thenReturn(Optional.of(new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.READ)));
+
+        // when
+        Message<?> response = stompHandler.preSend(message, null);
+
+        // then
+        assertThat(response).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("참석자가 아닌 회원의 채팅 구독 거부")
+    void preSend_subscribeNotAttendee(){
+        // given
+        Message<byte[]> message = createSubscribeMessage("/sub/schedules/1/chats", context);
+        when(chatSessionRegistry.getAccess(context, 1L)).thenReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> stompHandler.preSend(message, null))
+                .isInstanceOf(ForbiddenChatException.class);
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없는 세션의 채팅 구독 거부")
+    void preSend_subscribeWithoutContext(){
+        // given
+        Message<byte[]> message = createSubscribeMessage("/sub/schedules/1/chats", null);
+
+        // when, then
+        assertThatThrownBy(() -> stompHandler.preSend(message, null))
+                .isInstanceOf(ForbiddenChatException.class);
+        verifyNoInteractions(chatSessionRegistry);
+    }
+
+    @Test
+    @DisplayName("채팅이 아닌 구독은 참석자 권한을 조회하지 않음")
+    void preSend_subscribeNotChatDestination(){
+        // given
+        Message<byte[]> message = createSubscribeMessage("/user/queue/errors", context);
+
+        // when
+        Message<?> response = stompHandler.preSend(message, null);
+
+        // then
+        assertThat(response).isSameAs(message);
+        verifyNoInteractions(chatSessionRegistry);
+    }
+}
@@ -33,6 +33,7 @@ import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
 import com.triptune.schedule.fixture.TravelAttendeeFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
+import com.triptune.schedule.counter.MemberScheduleCounter;
 import com.triptune.schedule.repository.ChatMessageRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
@@ -57,6 +58,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -83,9 +85,11 @@ public class MemberServiceTest {
     @Mock private ProfileImageService profileImageService;
     @Mock private TravelAttendeeRepository travelAttendeeRepository;
     @Mock private ChatMessageRepository chatMessageRepository;
+    @Mock private MemberScheduleCounter memberScheduleCounter;
     @Mock private TravelScheduleRepository travelScheduleRepository;
     @Mock private BookmarkRepository bookmarkRepository;
     @Mock private S3ObjectManager s3ObjectManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private final String accessToken = "MemberAccessToken";
     private final String refreshToken = "MemberRefreshToken";
@@ -1065,6 +1069,7 @@ public class MemberServiceTest {
         when(memberRepository.findByIdWithSocialMembers(anyLong())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(travelAttendeeRepository.findAllByMember_MemberId(anyLong())).thenReturn(attendees);
+        when(travelScheduleRepository.findByIdForUpdate(any())).thenReturn(Optional.of(schedule1), Optional.of(schedule2));
 
         // when
         assertDoesNotThrow(() -> memberService.deactivateMember(request, 1L, accessToken));
@@ -1098,6 +1103,7 @@ public class MemberServiceTest {
         when(memberRepository.findByIdWithSocialMembers(anyLong())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(travelAttendeeRepository.findAllByMember_MemberId(anyLong())).thenReturn(attendees);
+        when(travelScheduleRepository.findByIdForUpdate(any())).thenReturn(Optional.of(schedule1), Optional.of(schedule2));
 
         // when
         assertDoesNotThrow(
@@ -1133,6 +1139,7 @@ public class MemberServiceTest {
         when(memberRepository.findByIdWithSocialMembers(anyLong())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(travelAttendeeRepository.findAllByMember_MemberId(anyLong())).thenReturn(attendees);
+        when(travelScheduleRepository.findByIdForUpdate(any())).thenReturn(Optional.of(schedule1), Optional.of(schedule2));
 
         // when
         assertDoesNotThrow(
@@ -1145,6 +1152,35 @@ public class MemberServiceTest {
         assertThat(member.getNickname()).isEqualTo(DeactivateValue.DEACTIVATE.name());
         assertThat(member.getJoinType()).isEqualTo(JoinType.NATIVE);
         assertThat(member.isActive()).isFalse();
+        verify(travelScheduleRepository, times(2)).findByIdForUpdate(any());
+        verify(travelAttendeeRepository, times(2)).delete(any(TravelAttendee.class));
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 참석 중인 일정이 이미 삭제된 경우 건너뜀")
+    void deactivateMember_scheduleAlreadyDeleted(){
+        // given
+        TravelSchedule schedule = TravelScheduleFixture.createTravelSchedule("테스트1");
+        Member member = MemberFixture.createNativeTypeMember("member@email.com", profileImage);
+
+        List<TravelAttendee> attendees = List.of(
+                TravelAttendeeFixture.createGuestTravelAttendee(schedule, member, AttendeePermission.READ)
+        );
+
+        DeactivateRequest request = MemberFixture.createDeactivateRequest(member.getPassword());
+
+        when(memberRepository.findByIdWithSocialMembers(anyLong())).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(travelAttendeeRepository.findAllByMember_MemberId(anyLong())).thenReturn(attendees);
+        when(travelScheduleRepository.findByIdForUpdate(any())).thenReturn(Optional.empty());
+
+        // when
+        memberService.deactivateMember(request, 1L, accessToken);
+
+        // then
+        assertThat(member.isActive()).isFalse();
+        verify(travelAttendeeRepository, never()).delete(any(TravelAttendee.class));
+        verify(memberScheduleCounter, never()).attendeeRemoved(anyList(), anyLong());
     }
 
     @Test
@@ -1169,6 +1205,7 @@ public class MemberServiceTest {
         when(memberRepository.findByIdWithSocialMembers(anyLong())).thenReturn(Optional.of(member));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(travelAttendeeRepository.findAllByMember_MemberId(anyLong())).thenReturn(attendees);
+        when(travelScheduleRepository.findByIdForUpdate(any())).thenReturn(Optional.of(schedule1), Optional.of(schedule2));
 
         // when
         assertDoesNotThrow(
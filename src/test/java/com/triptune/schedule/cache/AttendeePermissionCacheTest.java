@@ -0,0 +1,121 @@
+package com.triptune.schedule.cache;
+
+import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.AttendeeChangedEvent;
+import com.triptune.schedule.properties.AttendeePermissionCacheProperties;
+import com.triptune.schedule.repository.TravelAttendeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AttendeePermissionCacheTest {
+
+    @Mock private TravelAttendeeRepository travelAttendeeRepository;
+
+    private final AttendeeAccess guestAccess = new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.READ);
+
+    private AttendeePermissionCache createCache(boolean enabled){
+        return new AttendeePermissionCache(
+                new AttendeePermissionCacheProperties(enabled, 100L, 60L),
+                travelAttendeeRepository,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown(){
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+
+    @Test
+    @DisplayName("캐시 활성화 시 같은 참석자는 한 번만 조회")
+    void get_localCache(){
+        // given
+        AttendeePermissionCache attendeePermissionCache = createCache(true);
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L)).thenReturn(Optional.of(guestAccess));
+
+        // when
+        attendeePermissionCache.get(1L, 1L);
+        Optional<AttendeeAccess> response = attendeePermissionCache.get(1L, 1L);
+
+        // then
+        assertThat(response).contains(guestAccess);
+        verify(travelAttendeeRepository, times(1)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("참석자가 아닌 경우 캐시하지 않음")
+    void get_notAttendee(){
+        // given
+        AttendeePermissionCache attendeePermissionCache = createCache(true);
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L)).thenReturn(Optional.empty());
+
+        // when
+        attendeePermissionCache.get(1L, 1L);
+        Optional<AttendeeAccess> response = attendeePermissionCache.get(1L, 1L);
+
+        // then
+        assertThat(response).isEmpty();
+        verify(travelAttendeeRepository, times(2)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시에도 같은 요청 안에서는 한 번만 조회")
+    void get_requestCache(){
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AttendeePermissionCache attendeePermissionCache = createCache(false);
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L)).thenReturn(Optional.of(guestAccess));
+
+        // when
+        attendeePermissionCache.get(1L, 1L);
+        attendeePermissionCache.get(1L, 1L);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        attendeePermissionCache.get(1L, 1L);
+
+        // then
+        verify(travelAttendeeRepository, times(2)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("참석자 변경 이벤트 수신 시 해당 일정 캐시 삭제")
+    void handleAttendeeChanged(){
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        AttendeePermissionCache attendeePermissionCache = createCache(true);
+        AttendeeAccess updatedAccess = new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.ALL);
+
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L))
+                .thenReturn(Optional.of(guestAccess))
+                .thenReturn(Optional.of(updatedAccess));
+        when(travelAttendeeRepository.findAttendeeAccess(2L, 1L)).thenReturn(Optional.of(guestAccess));
+
+        attendeePermissionCache.get(1L, 1L);
+        attendeePermissionCache.get(2L, 1L);
+
+        // when
+        attendeePermissionCache.handleAttendeeChanged(new AttendeeChangedEvent(1L));
+
+        // then
+        assertThat(attendeePermissionCache.get(1L, 1L)).contains(updatedAccess);
+        assertThat(attendeePermissionCache.get(2L, 1L)).contains(guestAccess);
+        verify(travelAttendeeRepository, times(2)).findAttendeeAccess(1L, 1L);
+        verify(travelAttendeeRepository, times(1)).findAttendeeAccess(2L, 1L);
+    }
+}
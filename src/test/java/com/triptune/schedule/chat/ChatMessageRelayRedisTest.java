@@ -0,0 +1,218 @@
+package com.triptune.schedule.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.properties.ChatRelayProperties;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 임베디드 Redis 로 서버 두 대를 구성해 채팅 메시지 중계 확인
+ */
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageRelayRedisTest {
+    private static final long TIMEOUT_MILLIS = 3_000;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @Mock private SimpMessagingTemplate messagingTemplate1;
+    @Mock private SimpMessagingTemplate messagingTemplate2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisMessageListenerContainer container1;
+    private RedisMessageListenerContainer container2;
+
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp(){
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        container1 = createContainer();
+        container2 = createContainer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container1.destroy();
+        container2.destroy();
+    }
+
+    private RedisMessageListenerContainer createContainer(){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+
+    private ChatMessageRelay createRelay(SimpMessagingTemplate messagingTemplate, RedisMessageListenerContainer container){
+        return new ChatMessageRelay(
+                new ChatRelayProperties(true, "chat:schedule:", null, null),
+                messagingTemplate,
+                stringRedisTemplate,
+                container,
+                objectMapper,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private ChatResponse createChatResponse(String message){
+        return ChatResponse.builder()
+                .messageId("messageId")
+                .nickname("member1")
+                .profileUrl("profileUrl")
+                .message(message)
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+    private SessionSubscribeEvent createSubscribeEvent(String sessionId, String subscriptionId, String destination){
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent createUnsubscribeEvent(String sessionId, String subscriptionId){
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    // 채널 구독은 비동기로 완료되므로 구독 수가 기대값이 될 때까지 대기
+    private void awaitSubscribers(String channel, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (countSubscribers(channel) != expected){
+            assertThat(System.currentTimeMillis()).as("channel=%s", channel).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private long countSubscribers(String channel){
+        Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            RedisClusterAsyncCommands<byte[], byte[]> commands = (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+
+            try {
+                Map<byte[], Long> result = commands.pubsubNumsub(channel.getBytes(StandardCharsets.UTF_8)).get();
+                return result.values().stream().findFirst().orElse(0L);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        return count == null ? 0 : count;
+    }
+
+
+    @Test
+    @DisplayName("다른 서버에서 보낸 메시지를 채널을 구독한 서버의 구독자에게만 전송")
+    @SuppressWarnings("unchecked")
+    void send_otherServer() throws Exception {
+        // given
+        ChatMessageRelay relay1 = createRelay(messagingTemplate1, container1);
+        ChatMessageRelay relay2 = createRelay(messagingTemplate2, container2);
+
+        relay1.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+        awaitSubscribers("chat:schedule:1", 1);
+
+        // when
+        relay2.send(1L, createChatResponse("hello"));
+
+        // then
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate1, timeout(TIMEOUT_MILLIS)).send(eq("/sub/schedules/1/chats"), captor.capture());
+
+        assertThat(objectMapper.readTree(captor.getValue().getPayload()).get("message").asText()).isEqualTo("hello");
+        verify(messagingTemplate2, never()).send(anyString(), any(Message.class));
+        verify(messagingTemplate2, never()).convertAndSend(anyString(), any(ChatResponse.class));
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독 해제 후에는 해당 일정 메시지를 받지 않음")
+    @SuppressWarnings("unchecked")
+    void send_afterUnsubscribe() throws Exception {
+        // given
+        ChatMessageRelay relay1 = createRelay(messagingTemplate1, container1);
+        ChatMessageRelay relay2 = createRelay(messagingTemplate2, container2);
+
+        relay1.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+        relay1.handleSessionSubscribe(createSubscribeEvent("session1", "sub-1", "/sub/schedules/2/chats"));
+        awaitSubscribers("chat:schedule:1", 1);
+        awaitSubscribers("chat:schedule:2", 1);
+
+        relay1.handleSessionUnsubscribe(createUnsubscribeEvent("session1", "sub-0"));
+        awaitSubscribers("chat:schedule:1", 0);
+
+        // when
+        relay2.send(1L, createChatResponse("unsubscribed"));
+        relay2.send(2L, createChatResponse("subscribed"));
+
+        // then
+        // 같은 연결로 받은 메시지는 발행 순서대로 전달되므로, 일정 2 메시지를 받은 시점에 일정 1 메시지는 오지 않은 것
+        verify(messagingTemplate1, timeout(TIMEOUT_MILLIS)).send(eq("/sub/schedules/2/chats"), any(Message.class));
+        verify(messagingTemplate1, never()).send(eq("/sub/schedules/1/chats"), any(Message.class));
+    }
+}
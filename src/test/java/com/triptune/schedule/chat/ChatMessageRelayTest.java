@@ -0,0 +1,290 @@
+package com.triptune.schedule.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.triptune.schedule.dto.response.ChatResponse;
+import com.triptune.schedule.properties.ChatRelayProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageRelayTest {
+
+    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ChatMessageRelay createRelay(boolean redisEnabled){
+        return createRelay(redisEnabled, messagingTemplate);
+    }
+
+    private ChatMessageRelay createRelay(boolean redisEnabled, SimpMessagingTemplate messagingTemplate){
+        return new ChatMessageRelay(
+                new ChatRelayProperties(redisEnabled, "chat:schedule:", null, null),
+                messagingTemplate,
+                stringRedisTemplate,
+                redisMessageListenerContainer,
+                objectMapper,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private ChatResponse createChatResponse(){
+        return ChatResponse.builder()
+                .messageId("messageId")
+                .nickname("member1")
+                .profileUrl("profileUrl")
+                .message("hello")
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+    // AbstractMessageBrokerConfiguration.brokerMessageConverter 와 같은 구성
+    private SimpMessagingTemplate createBrokerMessagingTemplate(List<Message<?>> sentMessages){
+        DefaultContentTypeResolver contentTypeResolver = new DefaultContentTypeResolver();
+        contentTypeResolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+
+        MappingJackson2MessageConverter jacksonConverter = new MappingJackson2MessageConverter();
+        jacksonConverter.setContentTypeResolver(contentTypeResolver);
+        jacksonConverter.setObjectMapper(objectMapper);
+
+        SimpMessagingTemplate brokerMessagingTemplate = new SimpMessagingTemplate((message, timeout) -> sentMessages.add(message));
+        brokerMessagingTemplate.setMessageConverter(new CompositeMessageConverter(List.of(
+                new StringMessageConverter(),
+                new ByteArrayMessageConverter(),
+                jacksonConverter
+        )));
+        return brokerMessagingTemplate;
+    }
+
+    private SessionSubscribeEvent createSubscribeEvent(String sessionId, String subscriptionId, String destination){
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent createUnsubscribeEvent(String sessionId, String subscriptionId){
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionDisconnectEvent createDisconnectEvent(String sessionId){
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), sessionId, CloseStatus.NORMAL);
+    }
+
+
+    @Test
+    @DisplayName("Redis 비활성화 시 같은 서버 구독자에게 바로 전송")
+    void send_redisDisabled(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(false);
+        ChatResponse response = createChatResponse();
+
+        // when
+        chatMessageRelay.send(1L, response);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/sub/schedules/1/chats", response);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 활성화 시 일정 채널로 발행하고, 채널로 받은 메시지를 구독자에게 전송")
+    void send_redisEnabled(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+        ChatResponse response = createChatResponse();
+
+        // when
+        chatMessageRelay.send(1L, response);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("chat:schedule:1"), captor.capture());
+
+        byte[] body = captor.getValue().getBytes(StandardCharsets.UTF_8);
+        chatMessageRelay.onMessage(new DefaultMessage("chat:schedule:1".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertThat(captor.getValue()).contains("\"message\":\"hello\"", "\"nickname\":\"member1\"");
+        ArgumentCaptor<Message<byte[]>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/sub/schedules/1/chats"), messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getPayload()).isEqualTo(body);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(ChatResponse.class));
+    }
+
+    @Test
+    @DisplayName("채널로 받은 메시지는 브로커 메시지 변환기를 거쳐도 로컬 전송과 같은 JSON 으로 전송")
+    void onMessage_brokerMessageConverter() throws Exception {
+        // given
+        List<Message<?>> sentMessages = new ArrayList<>();
+        SimpMessagingTemplate brokerMessagingTemplate = createBrokerMessagingTemplate(sentMessages);
+
+        ChatResponse response = createChatResponse();
+        byte[] body = objectMapper.writeValueAsBytes(response);
+
+        // when
+        createRelay(true, brokerMessagingTemplate)
+                .onMessage(new DefaultMessage("chat:schedule:1".getBytes(StandardCharsets.UTF_8), body), null);
+        createRelay(false, brokerMessagingTemplate).send(1L, response);
+
+        // then
+        Message<?> relayed = sentMessages.get(0);
+        Message<?> local = sentMessages.get(1);
+
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo("/sub/schedules/1/chats");
+        assertThat(relayed.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString()).isEqualTo(MimeTypeUtils.APPLICATION_JSON_VALUE);
+        assertThat(objectMapper.readTree((byte[]) relayed.getPayload()))
+                .isEqualTo(objectMapper.readTree((byte[]) local.getPayload()));
+        assertThat(objectMapper.readTree((byte[]) relayed.getPayload()).get("message").asText()).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("Redis 발행 실패 시 같은 서버 구독자에게 전송")
+    void send_publishFailure(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+        ChatResponse response = createChatResponse();
+
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        chatMessageRelay.send(1L, response);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/sub/schedules/1/chats", response);
+    }
+
+    @Test
+    @DisplayName("일정의 첫 로컬 구독 시에만 채널 구독, 마지막 구독 해제 시 채널 구독 해제")
+    void handleSessionSubscribe(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+        ChannelTopic topic = ChannelTopic.of("chat:schedule:1");
+
+        // when
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session2", "sub-0", "/sub/schedules/1/chats"));
+        chatMessageRelay.handleSessionUnsubscribe(createUnsubscribeEvent("session1", "sub-0"));
+
+        // then
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(chatMessageRelay, topic);
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        chatMessageRelay.handleSessionUnsubscribe(createUnsubscribeEvent("session2", "sub-0"));
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatMessageRelay, topic);
+    }
+
+    @Test
+    @DisplayName("채널 구독 실패 시 구독 수를 되돌려 다음 구독에서 다시 채널 구독")
+    void handleSessionSubscribe_subscribeFailure(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+        ChannelTopic topic = ChannelTopic.of("chat:schedule:1");
+
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .doNothing()
+                .when(redisMessageListenerContainer).addMessageListener(chatMessageRelay, topic);
+
+        // when
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session2", "sub-0", "/sub/schedules/1/chats"));
+        chatMessageRelay.handleSessionUnsubscribe(createUnsubscribeEvent("session1", "sub-0"));
+
+        // then
+        verify(redisMessageListenerContainer, times(2)).addMessageListener(chatMessageRelay, topic);
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        chatMessageRelay.handleSessionUnsubscribe(createUnsubscribeEvent("session2", "sub-0"));
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatMessageRelay, topic);
+    }
+
+    @Test
+    @DisplayName("채팅이 아닌 구독은 채널 구독하지 않음")
+    void handleSessionSubscribe_notChatDestination(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+
+        // when
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/user/queue/errors"));
+
+        // then
+        verifyNoInteractions(redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("연결 종료 시 세션의 구독 모두 해제")
+    void handleSessionDisconnect(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(true);
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-1", "/sub/schedules/2/chats"));
+
+        // when
+        chatMessageRelay.handleSessionDisconnect(createDisconnectEvent("session1"));
+        chatMessageRelay.handleSessionDisconnect(createDisconnectEvent("session1"));
+
+        // then
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatMessageRelay, ChannelTopic.of("chat:schedule:1"));
+        verify(redisMessageListenerContainer, times(1)).removeMessageListener(chatMessageRelay, ChannelTopic.of("chat:schedule:2"));
+    }
+
+    @Test
+    @DisplayName("Redis 비활성화 시 구독 이벤트 무시")
+    void handleSessionSubscribe_redisDisabled(){
+        // given
+        ChatMessageRelay chatMessageRelay = createRelay(false);
+
+        // when
+        chatMessageRelay.handleSessionSubscribe(createSubscribeEvent("session1", "sub-0", "/sub/schedules/1/chats"));
+
+        // then
+        verifyNoInteractions(redisMessageListenerContainer);
+    }
+}
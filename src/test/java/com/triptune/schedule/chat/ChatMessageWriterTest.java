@@ -0,0 +1,231 @@
+package com.triptune.schedule.chat;
+
+import com.triptune.schedule.entity.ChatMessage;
+import com.triptune.schedule.exception.chat.UnavailableChatException;
+import com.triptune.schedule.fixture.ChatMessageFixture;
+import com.triptune.schedule.properties.ChatMessageWriterProperties;
+import com.triptune.schedule.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatMessageWriterTest {
+
+    @Mock private ChatMessageRepository chatMessageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriter chatMessageWriter;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown(){
+        if (chatMessageWriter != null){
+            chatMessageWriter.shutdown();
+        }
+    }
+
+    private ChatMessageWriter createWriter(boolean writeBehind, int queueCapacity, int batchSize){
+        return new ChatMessageWriter(
+                new ChatMessageWriterProperties(writeBehind, queueCapacity, batchSize, 60_000L, 0L, 1_000L),
+                chatMessageRepository,
+                meterRegistry
+        );
+    }
+
+    private ChatMessage createChatMessage(String message){
+        return ChatMessageFixture.createChatMessage(1L, 1L, message);
+    }
+
+
+    @Test
+    @DisplayName("write-behind 비활성화 시 바로 저장")
+    void write_disabled(){
+        // given
+        chatMessageWriter = createWriter(false, 10, 10);
+        ChatMessage message = createChatMessage("hello1");
+
+        // when
+        chatMessageWriter.write(message);
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(message);
+    }
+
+    @Test
+    @DisplayName("write-behind 활성화 시 모아 두었다가 batchSize 단위로 저장")
+    @SuppressWarnings("unchecked")
+    void flush(){
+        // given
+        chatMessageWriter = createWriter(true, 10, 2);
+        chatMessageWriter.write(createChatMessage("hello1"));
+        chatMessageWriter.write(createChatMessage("hello2"));
+        chatMessageWriter.write(createChatMessage("hello3"));
+
+        // when
+        chatMessageWriter.flush();
+
+        // then
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository, atLeast(2)).insert(captor.capture());
+
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(3);
+        assertThat(captor.getAllValues()).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+        assertThat(meterRegistry.get("chat.message.writer.queue").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 경우 요청 스레드에서 바로 저장")
+    void write_overflow(){
+        // given
+        chatMessageWriter = createWriter(true, 1, 10);
+        ChatMessage message = createChatMessage("hello2");
+        chatMessageWriter.write(createChatMessage("hello1"));
+
+        // when
+        chatMessageWriter.write(message);
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(message);
+        assertThat(meterRegistry.get("chat.message.writer.overflow").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.message.writer.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 실패한 메시지는 다음 flush 에서 ID 기준으로 다시 저장")
+    @SuppressWarnings("unchecked")
+    void flush_retryFailedMessages(){
+        // given
+        chatMessageWriter = createWriter(true, 10, 10);
+        ChatMessage message = createChatMessage("hello1");
+        chatMessageWriter.write(message);
+
+        when(chatMessageRepository.insert(anyList())).thenThrow(new RuntimeException("mongo down"));
+        assertThatThrownBy(() -> chatMessageWriter.flush()).isInstanceOf(RuntimeException.class);
+
+        // when
+        int response = chatMessageWriter.flush();
+
+        // then
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository, times(1)).saveAll(captor.capture());
+
+        assertThat(response).isEqualTo(1);
+        assertThat(captor.getValue()).containsExactly(message);
+    }
+
+    @Test
+    @DisplayName("다시 저장에 실패하면 큐를 비우지 않고 실패한 메시지 수를 지표로 노출")
+    void flush_retryFailure(){
+        // given
+        chatMessageWriter = createWriter(true, 10, 10);
+        chatMessageWriter.write(createChatMessage("hello1"));
+
+        when(chatMessageRepository.insert(anyList())).thenThrow(new RuntimeException("mongo down"));
+        when(chatMessageRepository.saveAll(anyList())).thenThrow(new RuntimeException("mongo down"));
+        assertThatThrownBy(() -> chatMessageWriter.flush()).isInstanceOf(RuntimeException.class);
+
+        chatMessageWriter.write(createChatMessage("hello2"));
+
+        // when
+        assertThatThrownBy(() -> chatMessageWriter.flush()).isInstanceOf(RuntimeException.class);
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(anyList());
+        assertThat(meterRegistry.get("chat.message.writer.failed").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.message.writer.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 실패 상태에서 큐가 가득 찬 경우 요청 스레드에서 저장하지 않고 바로 예외")
+    void write_failing(){
+        // given
+        chatMessageWriter = createWriter(true, 1, 10);
+        ChatMessage message = createChatMessage("hello3");
+        chatMessageWriter.write(createChatMessage("hello1"));
+
+        when(chatMessageRepository.insert(anyList())).thenThrow(new RuntimeException("mongo down"));
+        assertThatThrownBy(() -> chatMessageWriter.flush()).isInstanceOf(RuntimeException.class);
+
+        chatMessageWriter.write(createChatMessage("hello2"));
+
+        // when, then
+        assertThatThrownBy(() -> chatMessageWriter.write(message)).isInstanceOf(UnavailableChatException.class);
+
+        verify(chatMessageRepository, never()).insert(message);
+        assertThat(meterRegistry.get("chat.message.writer.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.message.writer.overflow").counter().count()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("저장이 다시 성공하면 실패 상태 해제")
+    void flush_recovered(){
+        // given
+        chatMessageWriter = createWriter(true, 1, 10);
+        ChatMessage message = createChatMessage("hello3");
+        chatMessageWriter.write(createChatMessage("hello1"));
+
+        when(chatMessageRepository.insert(anyList()))
+                .thenThrow(new RuntimeException("mongo down"))
+                .thenReturn(List.of());
+        assertThatThrownBy(() -> chatMessageWriter.flush()).isInstanceOf(RuntimeException.class);
+
+        chatMessageWriter.flush();
+        chatMessageWriter.write(createChatMessage("hello2"));
+
+        // when
+        chatMessageWriter.write(message);
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(message);
+        assertThat(meterRegistry.get("chat.message.writer.failed").gauge().value()).isEqualTo(0);
+        assertThat(meterRegistry.get("chat.message.writer.rejected").counter().count()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("종료 시 저장에 실패해도 예외 없이 종료")
+    void shutdown_failure(){
+        // given
+        chatMessageWriter = createWriter(true, 10, 10);
+        chatMessageWriter.write(createChatMessage("hello1"));
+        when(chatMessageRepository.insert(anyList())).thenThrow(new RuntimeException("mongo down"));
+
+        // when
+        chatMessageWriter.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("chat.message.writer.failed").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 메시지 저장")
+    void shutdown(){
+        // given
+        chatMessageWriter = createWriter(true, 10, 10);
+        chatMessageWriter.write(createChatMessage("hello1"));
+
+        // when
+        chatMessageWriter.shutdown();
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(anyList());
+        assertThat(meterRegistry.get("chat.message.writer.batch.size").summary().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,148 @@
+package com.triptune.schedule.chat;
+
+import com.triptune.schedule.cache.AttendeeAccess;
+import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.AttendeeChangedEvent;
+import com.triptune.schedule.properties.AttendeePermissionCacheProperties;
+import com.triptune.schedule.repository.TravelAttendeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatSessionRegistryTest {
+
+    @Mock private TravelAttendeeRepository travelAttendeeRepository;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private ChatSessionRegistry chatSessionRegistry;
+
+    private final ChatSessionContext context = new ChatSessionContext("session1", 1L, "member1", "https://test.com/profile.jpg");
+    private final AttendeeAccess chatAccess = new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.CHAT);
+
+    @BeforeEach
+    void setUp(){
+        chatSessionRegistry = new ChatSessionRegistry(
+                travelAttendeeRepository,
+                new AttendeePermissionCacheProperties(true, 100L, 60L),
+                nanoClock::get
+        );
+    }
+
+
+    @Test
+    @DisplayName("같은 세션은 참석자 권한을 한 번만 조회")
+    void getAccess(){
+        // given
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L)).thenReturn(Optional.of(chatAccess));
+
+        // when
+        chatSessionRegistry.getAccess(context, 1L);
+        Optional<AttendeeAccess> response = chatSessionRegistry.getAccess(context, 1L);
+
+        // then
+        assertThat(response).contains(chatAccess);
+        verify(travelAttendeeRepository, times(1)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("참석자 변경 이벤트 수신 시 해당 일정의 권한 다시 조회")
+    void handleAttendeeChanged(){
+        // given
+        AttendeeAccess readAccess = new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.READ);
+
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L))
+                .thenReturn(Optional.of(chatAccess))
+                .thenReturn(Optional.of(readAccess));
+        when(travelAttendeeRepository.findAttendeeAccess(2L, 1L)).thenReturn(Optional.of(chatAccess));
+
+        chatSessionRegistry.getAccess(context, 1L);
+        chatSessionRegistry.getAccess(context, 2L);
+
+        // when
+        chatSessionRegistry.handleAttendeeChanged(new AttendeeChangedEvent(1L));
+
+        // then
+        assertThat(chatSessionRegistry.getAccess(context, 1L)).contains(readAccess);
+        assertThat(chatSessionRegistry.getAccess(context, 2L)).contains(chatAccess);
+        verify(travelAttendeeRepository, times(1)).findAttendeeAccess(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 권한은 다시 조회")
+    void getAccess_expired(){
+        // given
+        AttendeeAccess readAccess = new AttendeeAccess(1L, AttendeeRole.GUEST, AttendeePermission.READ);
+
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L))
+                .thenReturn(Optional.of(chatAccess))
+                .thenReturn(Optional.of(readAccess));
+
+        chatSessionRegistry.getAccess(context, 1L);
+        chatSessionRegistry.getAccess(context, 1L);
+
+        // when
+        nanoClock.addAndGet(Duration.ofSeconds(60).toNanos());
+        Optional<AttendeeAccess> response = chatSessionRegistry.getAccess(context, 1L);
+
+        // then
+        assertThat(response).contains(readAccess);
+        verify(travelAttendeeRepository, times(2)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("다시 조회했을 때 참석자가 아니면 저장된 권한 삭제")
+    void getAccess_expiredNotAttendee(){
+        // given
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L))
+                .thenReturn(Optional.of(chatAccess))
+                .thenReturn(Optional.empty());
+
+        chatSessionRegistry.getAccess(context, 1L);
+        nanoClock.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        // when
+        chatSessionRegistry.getAccess(context, 1L);
+        Optional<AttendeeAccess> response = chatSessionRegistry.getAccess(context, 1L);
+
+        // then
+        assertThat(response).isEmpty();
+        verify(travelAttendeeRepository, times(3)).findAttendeeAccess(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("세션 연결 종료 시 세션의 권한 삭제")
+    void handleSessionDisconnect(){
+        // given
+        when(travelAttendeeRepository.findAttendeeAccess(1L, 1L)).thenReturn(Optional.of(chatAccess));
+        chatSessionRegistry.getAccess(context, 1L);
+
+        SessionDisconnectEvent event = new SessionDisconnectEvent(
+                this,
+                MessageBuilder.withPayload(new byte[0]).build(),
+                context.getSessionId(),
+                CloseStatus.NORMAL
+        );
+
+        // when
+        chatSessionRegistry.handleSessionDisconnect(event);
+
+        // then
+        chatSessionRegistry.getAccess(context, 1L);
+        verify(travelAttendeeRepository, times(2)).findAttendeeAccess(1L, 1L);
+    }
+}
@@ -119,4 +119,25 @@ public class ChatMessageControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(0))
                 .andExpect(jsonPath("$.data.content").isEmpty());
     }
+
+    @Test
+    @DisplayName("채팅 내용 커서 조회")
+    void getChatMessagesByCursor() throws Exception {
+        // given
+        ChatMessage message1 = chatMessageRepository.save(ChatMessageFixture.createChatMessage(schedule.getScheduleId(), member1.getMemberId(), "hello1"));
+        ChatMessage message2 = chatMessageRepository.save(ChatMessageFixture.createChatMessage(schedule.getScheduleId(), member2.getMemberId(), "hello2"));
+
+        SecurityTestUtils.mockAuthentication(member1);
+
+        // when, then
+        mockMvc.perform(get("/api/schedules/{scheduleId}/chats/cursor", schedule.getScheduleId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.content[0].nickname").value(member1.getNickname()))
+                .andExpect(jsonPath("$.data.content[0].message").value(message1.getMessage()))
+                .andExpect(jsonPath("$.data.content[1].nickname").value(member2.getNickname()))
+                .andExpect(jsonPath("$.data.content[1].message").value(message2.getMessage()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.triptune.schedule.counter;
+
+import com.triptune.schedule.counter.MemberScheduleCounter.ScheduleCounts;
+import com.triptune.schedule.entity.MemberScheduleCount;
+import com.triptune.schedule.repository.MemberScheduleCountRepository;
+import com.triptune.schedule.repository.TravelScheduleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberScheduleCounterTest {
+
+    @InjectMocks private MemberScheduleCounter memberScheduleCounter;
+    @Mock private MemberScheduleCountRepository memberScheduleCountRepository;
+    @Mock private TravelScheduleRepository travelScheduleRepository;
+
+
+    @Test
+    @DisplayName("회원 일정 수 조회")
+    void getCounts(){
+        // given
+        when(memberScheduleCountRepository.findById(anyLong()))
+                .thenReturn(Optional.of(MemberScheduleCount.createMemberScheduleCount(1L, 3, 2)));
+
+        // when
+        ScheduleCounts response = memberScheduleCounter.getCounts(1L);
+
+        // then
+        assertThat(response).isEqualTo(new ScheduleCounts(3, 2));
+        verify(travelScheduleRepository, never()).countTravelSchedules(anyLong());
+        verify(travelScheduleRepository, never()).countSharedTravelSchedules(anyLong());
+    }
+
+    @Test
+    @DisplayName("회원 일정 수 조회 시 카운터가 없어 일정 수 쿼리로 조회")
+    void getCounts_noCount(){
+        // given
+        when(memberScheduleCountRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(3);
+        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(1);
+
+        // when
+        ScheduleCounts response = memberScheduleCounter.getCounts(1L);
+
+        // then
+        assertThat(response).isEqualTo(new ScheduleCounts(3, 1));
+    }
+
+    @Test
+    @DisplayName("일정 생성 시 작성자 전체 일정 수 증가")
+    void scheduleCreated(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(MemberScheduleCount.createMemberScheduleCount(1L, 0, 0)));
+
+        // when
+        memberScheduleCounter.scheduleCreated(1L);
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L), 1, 0);
+        verify(memberScheduleCountRepository, never()).insertIfAbsent(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("일정 생성 시 카운터가 없는 회원은 현재 일정 수로 카운터 생성 후 증가")
+    void scheduleCreated_noCount(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
+        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(1);
+
+        // when
+        memberScheduleCounter.scheduleCreated(1L);
+
+        // then
+        verify(memberScheduleCountRepository).insertIfAbsent(1L, 2, 1);
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L), 1, 0);
+    }
+
+    @Test
+    @DisplayName("혼자 보던 일정에 참석자 추가 시 작성자와 참석자 공유 일정 수 증가")
+    void attendeeAdded_becomeShared(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.attendeeAdded(List.of(1L), 2L);
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(2L), 1, 1);
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L), 0, 1);
+    }
+
+    @Test
+    @DisplayName("이미 공유된 일정에 참석자 추가 시 추가된 참석자만 증가")
+    void attendeeAdded_alreadyShared(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.attendeeAdded(List.of(1L, 2L), 3L);
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(3L), 1, 1);
+        verify(memberScheduleCountRepository, times(1)).addCounts(anyCollection(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("참석자가 2명인 일정에서 나가기 시 남은 참석자 공유 일정 수 감소")
+    void attendeeRemoved_becomePrivate(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.attendeeRemoved(List.of(1L, 2L), 2L);
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(2L), -1, -1);
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L), 0, -1);
+    }
+
+    @Test
+    @DisplayName("참석자가 3명 이상인 일정에서 나가기 시 나간 참석자만 감소")
+    void attendeeRemoved_stillShared(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.attendeeRemoved(List.of(1L, 2L, 3L), 3L);
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(3L), -1, -1);
+        verify(memberScheduleCountRepository, times(1)).addCounts(anyCollection(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("공유된 일정 삭제 시 모든 참석자 전체, 공유 일정 수 감소")
+    void scheduleDeleted_shared(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.scheduleDeleted(List.of(1L, 2L));
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L, 2L), -1, -1);
+    }
+
+    @Test
+    @DisplayName("혼자 보던 일정 삭제 시 전체 일정 수만 감소")
+    void scheduleDeleted_private(){
+        // given
+        when(memberScheduleCountRepository.findAllById(anyCollection())).thenAnswer(invocation -> existingCounts(invocation.getArgument(0)));
+
+        // when
+        memberScheduleCounter.scheduleDeleted(List.of(1L));
+
+        // then
+        verify(memberScheduleCountRepository, times(1)).addCounts(List.of(1L), -1, 0);
+    }
+
+    @Test
+    @DisplayName("참석자가 없는 일정 삭제 시 카운터 변경 없음")
+    void scheduleDeleted_noAttendee(){
+        // given, when
+        memberScheduleCounter.scheduleDeleted(List.of());
+
+        // then
+        verifyNoInteractions(memberScheduleCountRepository);
+    }
+
+
+    private List<MemberScheduleCount> existingCounts(Iterable<Long> memberIds){
+        List<MemberScheduleCount> counts = new ArrayList<>();
+        memberIds.forEach(memberId -> counts.add(MemberScheduleCount.createMemberScheduleCount(memberId, 1, 1)));
+        return counts;
+    }
+}
@@ -0,0 +1,92 @@
+package com.triptune.schedule.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AttendeeChangeBroadcasterTest {
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AttendeeChangeBroadcaster createBroadcaster(){
+        return new AttendeeChangeBroadcaster(stringRedisTemplate, redisMessageListenerContainer, eventPublisher, meterRegistry);
+    }
+
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 참석자 변경 채널 구독")
+    void subscribe(){
+        // given
+        AttendeeChangeBroadcaster broadcaster = createBroadcaster();
+
+        // when
+        broadcaster.subscribe();
+
+        // then
+        verify(redisMessageListenerContainer).addMessageListener(broadcaster, ChannelTopic.of(AttendeeChangeBroadcaster.CHANNEL));
+    }
+
+    @Test
+    @DisplayName("참석자 변경 커밋 후 Redis 채널로 일정 ID 발행")
+    void handleAttendeeChanged(){
+        // given
+        AttendeeChangeBroadcaster broadcaster = createBroadcaster();
+
+        // when
+        broadcaster.handleAttendeeChanged(new AttendeeChangedEvent(1L));
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(AttendeeChangeBroadcaster.CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("참석자 변경 발행 실패 시 예외 없이 실패 지표 증가")
+    void handleAttendeeChanged_publishFailure(){
+        // given
+        AttendeeChangeBroadcaster broadcaster = createBroadcaster();
+        when(stringRedisTemplate.convertAndSend(AttendeeChangeBroadcaster.CHANNEL, "1"))
+                .thenThrow(new RedisConnectionFailureException("fail"));
+
+        // when
+        broadcaster.handleAttendeeChanged(new AttendeeChangedEvent(1L));
+
+        // then
+        assertThat(meterRegistry.counter("attendee.change.publish.failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 채널로 받은 일정 ID 로 참석자 변경 이벤트 발행")
+    void onMessage(){
+        // given
+        AttendeeChangeBroadcaster broadcaster = createBroadcaster();
+        DefaultMessage message = new DefaultMessage(
+                AttendeeChangeBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        broadcaster.onMessage(message, null);
+
+        // then
+        verify(eventPublisher).publishEvent(new AttendeeChangedEvent(1L));
+    }
+}
@@ -1,5 +1,7 @@
 package com.triptune.schedule.fixture;
 
+import com.triptune.member.entity.Member;
+import com.triptune.schedule.chat.ChatSessionContext;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
 import com.triptune.schedule.entity.ChatMessage;
 
@@ -20,4 +22,8 @@ public class ChatMessageFixture {
                 .build();
 
     }
+
+    public static ChatSessionContext createChatSessionContext(Member member, String profileUrl) {
+        return new ChatSessionContext("session" + member.getMemberId(), member.getMemberId(), member.getNickname(), profileUrl);
+    }
 }
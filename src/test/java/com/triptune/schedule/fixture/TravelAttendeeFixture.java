@@ -1,11 +1,13 @@
 package com.triptune.schedule.fixture;
 
 import com.triptune.member.entity.Member;
+import com.triptune.schedule.cache.AttendeeAccess;
 import com.triptune.schedule.dto.request.AttendeePermissionRequest;
 import com.triptune.schedule.dto.request.AttendeeRequest;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class TravelAttendeeFixture {
@@ -43,4 +45,17 @@ public class TravelAttendeeFixture {
         return AttendeePermissionRequest.builder().permission(permission).build();
     }
 
+
+    public static AttendeeAccess createAttendeeAccess(TravelAttendee attendee){
+        return new AttendeeAccess(attendee.getAttendeeId(), attendee.getRole(), attendee.getPermission());
+    }
+
+    public static AttendeeAccess createAuthorAttendeeAccess(){
+        return new AttendeeAccess(1L, AttendeeRole.AUTHOR, AttendeePermission.ALL);
+    }
+
+    public static AttendeeAccess createGuestAttendeeAccess(AttendeePermission permission){
+        return new AttendeeAccess(2L, AttendeeRole.GUEST, permission);
+    }
+
 }
@@ -5,6 +5,7 @@ import com.triptune.schedule.dto.request.RouteRequest;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
 import com.triptune.travel.entity.TravelPlace;
 
 public class TravelRouteFixture {
@@ -43,4 +44,15 @@ public class TravelRouteFixture {
                 .thumbnailS3ObjectKey(thumbnailS3ObjectKey)
                 .build();
     }
+
+    public static RouteStopQueryDto createRouteStopQueryDto(TravelRoute route) {
+        TravelPlace place = route.getTravelPlace();
+
+        return RouteStopQueryDto.builder()
+                .routeOrder(route.getRouteOrder())
+                .placeId(place.getPlaceId())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .build();
+    }
 }
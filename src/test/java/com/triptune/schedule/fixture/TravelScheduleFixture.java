@@ -7,6 +7,7 @@ import com.triptune.schedule.dto.request.ScheduleCreateRequest;
 import com.triptune.schedule.dto.request.ScheduleUpdateRequest;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.dto.OverviewScheduleQueryDto;
 import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
 import com.triptune.travel.entity.TravelImage;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -69,4 +70,14 @@ public class TravelScheduleFixture {
                 .authorS3ObjectKey(author.getMember().getProfileImage().getS3ObjectKey())
                 .build();
     }
+
+    public static OverviewScheduleQueryDto createOverviewScheduleQueryDto(TravelSchedule schedule, Member author) {
+        return OverviewScheduleQueryDto.builder()
+                .scheduleId(schedule.getScheduleId())
+                .scheduleName(schedule.getScheduleName())
+                .startDate(schedule.getStartDate())
+                .endDate(schedule.getEndDate())
+                .authorNickname(author.getNickname())
+                .build();
+    }
 }
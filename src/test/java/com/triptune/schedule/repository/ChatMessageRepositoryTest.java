@@ -1,6 +1,8 @@
 package com.triptune.schedule.repository;
 
 import com.triptune.global.config.QuerydslConfig;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.PageUtils;
 import com.triptune.member.entity.Member;
 import com.triptune.member.fixture.MemberFixture;
 import com.triptune.member.repository.MemberRepository;
@@ -20,6 +22,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,6 +79,45 @@ public class ChatMessageRepositoryTest {
         assertThat(response.size()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("일정 id를 통해 채팅 목록 커서 조회")
+    void findAllByScheduleIdByCursor(){
+        // given
+        ProfileImage profileImage = profileImageRepository.save(ProfileImageFixture.createProfileImage("member1"));
+        Member member = memberRepository.save(MemberFixture.createNativeTypeMember("member1@email.com", profileImage));
+
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            messages.add(chatMessageRepository.save(ChatMessageFixture.createChatMessage(schedule.getScheduleId(), member.getMemberId(), "hello" + i)));
+        }
+
+        // when
+        CursorPage<ChatMessage> firstPage = chatMessageRepository.findAllByScheduleIdByCursor(PageUtils.chatCursorPageable(null), schedule.getScheduleId());
+        CursorPage<ChatMessage> secondPage = chatMessageRepository.findAllByScheduleIdByCursor(PageUtils.chatCursorPageable(firstPage.nextCursor()), schedule.getScheduleId());
+
+        // then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(firstPage.content()).hasSize(20);
+        assertThat(firstPage.content().get(0).getMessage()).isEqualTo("hello25");
+        assertThat(firstPage.content().get(19).getMessage()).isEqualTo("hello6");
+
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.content())
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("hello5", "hello4", "hello3", "hello2", "hello1");
+    }
+
+    @Test
+    @DisplayName("일정 id를 통해 채팅 목록 커서 조회 시 채팅 데이터 없는 경우")
+    void findAllByScheduleIdByCursor_emptyMessages(){
+        // given, when
+        CursorPage<ChatMessage> response = chatMessageRepository.findAllByScheduleIdByCursor(PageUtils.chatCursorPageable(null), schedule.getScheduleId());
+
+        // then
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.content()).isEmpty();
+    }
+
     @Test
     @DisplayName("일정 id를 통해 채팅 삭제")
     void deleteAllByScheduleId(){
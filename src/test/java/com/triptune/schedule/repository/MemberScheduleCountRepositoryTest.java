@@ -0,0 +1,76 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.global.config.QuerydslConfig;
+import com.triptune.schedule.entity.MemberScheduleCount;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@Import({QuerydslConfig.class})
+@ActiveProfiles("h2")
+public class MemberScheduleCountRepositoryTest {
+    @Autowired private MemberScheduleCountRepository memberScheduleCountRepository;
+    @Autowired private EntityManager entityManager;
+
+
+    @Test
+    @DisplayName("카운터 행이 없으면 생성")
+    void insertIfAbsent(){
+        // given, when
+        int response = memberScheduleCountRepository.insertIfAbsent(1L, 3, 1);
+        entityManager.clear();
+
+        // then
+        MemberScheduleCount count = memberScheduleCountRepository.findById(1L).orElseThrow();
+        assertThat(response).isEqualTo(1);
+        assertThat(count.getTotalCount()).isEqualTo(3);
+        assertThat(count.getSharedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 이미 있으면 기존 값 유지")
+    void insertIfAbsent_exists(){
+        // given
+        memberScheduleCountRepository.insertIfAbsent(1L, 3, 1);
+
+        // when
+        int response = memberScheduleCountRepository.insertIfAbsent(1L, 5, 2);
+        entityManager.clear();
+
+        // then
+        MemberScheduleCount count = memberScheduleCountRepository.findById(1L).orElseThrow();
+        assertThat(response).isEqualTo(0);
+        assertThat(count.getTotalCount()).isEqualTo(3);
+        assertThat(count.getSharedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터 일괄 증감")
+    void addCounts(){
+        // given
+        memberScheduleCountRepository.insertIfAbsent(1L, 3, 1);
+        memberScheduleCountRepository.insertIfAbsent(2L, 1, 0);
+
+        // when
+        memberScheduleCountRepository.addCounts(List.of(1L, 2L), 1, 1);
+        entityManager.clear();
+
+        // then
+        assertThat(memberScheduleCountRepository.findAllById(List.of(1L, 2L)))
+                .extracting(MemberScheduleCount::getTotalCount, MemberScheduleCount::getSharedCount)
+                .containsExactlyInAnyOrder(
+                        tuple(4, 2),
+                        tuple(2, 1)
+                );
+    }
+}
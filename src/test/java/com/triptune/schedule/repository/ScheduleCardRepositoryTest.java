@@ -0,0 +1,292 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.common.entity.*;
+import com.triptune.common.fixture.*;
+import com.triptune.common.repository.*;
+import com.triptune.global.config.QuerydslConfig;
+import com.triptune.global.util.PageUtils;
+import com.triptune.member.entity.Member;
+import com.triptune.member.event.MemberChangedEvent;
+import com.triptune.member.fixture.MemberFixture;
+import com.triptune.member.repository.MemberRepository;
+import com.triptune.profile.entity.ProfileImage;
+import com.triptune.profile.fixture.ProfileImageFixture;
+import com.triptune.profile.repository.ProfileImageRepository;
+import com.triptune.schedule.card.ScheduleCardProjector;
+import com.triptune.schedule.entity.ScheduleCard;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.ScheduleChangedEvent;
+import com.triptune.schedule.fixture.TravelAttendeeFixture;
+import com.triptune.schedule.fixture.TravelRouteFixture;
+import com.triptune.schedule.fixture.TravelScheduleFixture;
+import com.triptune.schedule.properties.ScheduleCardProperties;
+import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
+import com.triptune.travel.entity.TravelImage;
+import com.triptune.travel.entity.TravelPlace;
+import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.fixture.TravelImageFixture;
+import com.triptune.travel.fixture.TravelPlaceFixture;
+import com.triptune.travel.repository.TravelImageRepository;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.triptune.schedule.enums.AttendeePermission.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@Import({QuerydslConfig.class})
+@ActiveProfiles("h2")
+public class ScheduleCardRepositoryTest {
+    @Autowired private ScheduleCardRepository scheduleCardRepository;
+    @Autowired private TravelScheduleRepository travelScheduleRepository;
+    @Autowired private TravelAttendeeRepository travelAttendeeRepository;
+    @Autowired private TravelRouteRepository travelRouteRepository;
+    @Autowired private TravelPlaceRepository travelPlaceRepository;
+    @Autowired private TravelImageRepository travelImageRepository;
+    @Autowired private CityRepository cityRepository;
+    @Autowired private CountryRepository countryRepository;
+    @Autowired private DistrictRepository districtRepository;
+    @Autowired private ApiContentTypeRepository apiContentTypeRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private ProfileImageRepository profileImageRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private ScheduleCardProjector scheduleCardProjector;
+
+    private TravelPlace placeWithThumb;
+    private TravelImage placeThumb;
+
+    private Member member1;
+    private Member member2;
+
+
+    @BeforeEach
+    void setUp(){
+        Country country = countryRepository.save(CountryFixture.createCountry());
+        City city = cityRepository.save(CityFixture.createSeoul(country));
+        District district = districtRepository.save(DistrictFixture.createDistrict(city, "강남구"));
+        ApiContentType apiContentType = apiContentTypeRepository.save(ApiContentTypeFixture.createApiContentType(ThemeType.ATTRACTIONS));
+
+        placeWithThumb = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, district, apiContentType, "여행지1")
+        );
+        placeThumb = travelImageRepository.save(TravelImageFixture.createTravelImage(placeWithThumb, "test1", true));
+
+        ProfileImage profileImage1 = profileImageRepository.save(ProfileImageFixture.createProfileImage("member1"));
+        member1 = memberRepository.save(MemberFixture.createNativeTypeMember("member1@email.com", profileImage1));
+
+        ProfileImage profileImage2 = profileImageRepository.save(ProfileImageFixture.createProfileImage("member2"));
+        member2 = memberRepository.save(MemberFixture.createNativeTypeMember("member2@email.com", profileImage2));
+
+        scheduleCardProjector = new ScheduleCardProjector(new ScheduleCardProperties(true, null, null, null), jdbcTemplate, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown(){
+        scheduleCardProjector.shutdown();
+    }
+
+    private void project(TravelSchedule... schedules){
+        entityManager.flush();
+
+        for (TravelSchedule schedule : schedules) {
+            scheduleCardProjector.handleScheduleChanged(new ScheduleChangedEvent(schedule.getScheduleId()));
+        }
+
+        scheduleCardProjector.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    @DisplayName("일정 변경 시 참석자마다 일정 카드 생성")
+    void flush_createScheduleCards(){
+        // given
+        TravelSchedule schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member1));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule, member2, READ));
+        travelRouteRepository.save(TravelRouteFixture.createTravelRoute(schedule, placeWithThumb, 1));
+
+        // when
+        project(schedule);
+
+        // then
+        List<ScheduleCard> response = scheduleCardRepository.findAllByScheduleId(schedule.getScheduleId());
+        assertThat(response)
+                .extracting(ScheduleCard::getMemberId, ScheduleCard::getRole)
+                .containsExactlyInAnyOrder(
+                        tuple(member1.getMemberId(), AttendeeRole.AUTHOR),
+                        tuple(member2.getMemberId(), AttendeeRole.GUEST)
+                );
+        assertThat(response).allSatisfy(card -> {
+            assertThat(card.getScheduleName()).isEqualTo(schedule.getScheduleName());
+            assertThat(card.getThumbnailS3ObjectKey()).isEqualTo(placeThumb.getS3ObjectKey());
+            assertThat(card.getAuthorMemberId()).isEqualTo(member1.getMemberId());
+            assertThat(card.getAuthorNickname()).isEqualTo(member1.getNickname());
+            assertThat(card.getAuthorS3ObjectKey()).isEqualTo(member1.getProfileImage().getS3ObjectKey());
+            assertThat(card.getAttendeeCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("일정 삭제 후 일정 카드 삭제")
+    void flush_deletedSchedule(){
+        // given
+        TravelSchedule schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member1));
+        project(schedule);
+
+        // when
+        travelScheduleRepository.deleteById(schedule.getScheduleId());
+        project(schedule);
+
+        // then
+        assertThat(scheduleCardRepository.findAllByScheduleId(schedule.getScheduleId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자 닉네임 변경 시 일정 카드 작성자 정보 갱신")
+    void flush_memberChanged(){
+        // given
+        TravelSchedule schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member1));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule, member2, READ));
+        project(schedule);
+
+        Member author = memberRepository.findById(member1.getMemberId()).orElseThrow();
+        author.updateNickname("변경된닉네임");
+        entityManager.flush();
+
+        // when
+        scheduleCardProjector.handleMemberChanged(new MemberChangedEvent(author.getMemberId()));
+        scheduleCardProjector.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(scheduleCardRepository.findAllByScheduleId(schedule.getScheduleId()))
+                .extracting(ScheduleCard::getAuthorNickname)
+                .containsOnly("변경된닉네임");
+    }
+
+    @Test
+    @DisplayName("첫 번째 루트 여행지의 대표 이미지 변경 시 일정 카드 썸네일 갱신")
+    void flush_placeChanged(){
+        // given
+        TravelSchedule schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member1));
+        travelRouteRepository.save(TravelRouteFixture.createTravelRoute(schedule, placeWithThumb, 1));
+        project(schedule);
+
+        TravelPlace place = travelPlaceRepository.findById(placeWithThumb.getPlaceId()).orElseThrow();
+        TravelImage newThumb = travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test2", true));
+        entityManager.flush();
+
+        // when
+        scheduleCardProjector.handlePlaceChanged(TravelPlaceChangedEvent.saved(placeWithThumb.getPlaceId()));
+        scheduleCardProjector.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(scheduleCardRepository.findAllByScheduleId(schedule.getScheduleId()))
+                .extracting(ScheduleCard::getThumbnailS3ObjectKey)
+                .containsOnly(newThumb.getS3ObjectKey());
+    }
+
+    @Test
+    @DisplayName("일정 ID 구간의 일정 카드를 원본 테이블 기준으로 다시 생성")
+    void rebuild(){
+        // given
+        TravelSchedule schedule1 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule1, member2, READ));
+
+        TravelSchedule schedule2 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트2"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member2));
+        project(schedule1, schedule2);
+
+        // 이벤트가 유실된 변경
+        travelScheduleRepository.deleteById(schedule2.getScheduleId());
+        entityManager.flush();
+
+        // when
+        int response = scheduleCardProjector.rebuild(1, scheduleCardProjector.findMaxScheduleId());
+        entityManager.clear();
+
+        // then
+        assertThat(response).isEqualTo(2);
+        assertThat(scheduleCardRepository.findAllByScheduleId(schedule1.getScheduleId())).hasSize(2);
+        assertThat(scheduleCardRepository.findAllByScheduleId(schedule2.getScheduleId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일정 카드로 내 일정, 공유 일정 목록 조회")
+    void findScheduleCards(){
+        // given
+        TravelSchedule schedule1 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule1, member2, CHAT));
+
+        TravelSchedule schedule2 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트2"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member1));
+
+        TravelSchedule schedule3 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트3"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member2));
+
+        project(schedule1, schedule2, schedule3);
+        Pageable pageable = PageUtils.schedulePageable(1);
+
+        // when
+        Page<ScheduleInfoQueryDto> allResponse = scheduleCardRepository.findScheduleCards(pageable, member1.getMemberId());
+        Page<ScheduleInfoQueryDto> sharedResponse = scheduleCardRepository.findSharedScheduleCards(pageable, member1.getMemberId());
+
+        // then
+        assertThat(allResponse.getTotalElements()).isEqualTo(2);
+        assertThat(allResponse.getContent())
+                .extracting(ScheduleInfoQueryDto::getScheduleName)
+                .containsExactlyInAnyOrder(schedule1.getScheduleName(), schedule2.getScheduleName());
+
+        assertThat(sharedResponse.getTotalElements()).isEqualTo(1);
+        assertThat(sharedResponse.getContent().get(0).getScheduleName()).isEqualTo(schedule1.getScheduleName());
+    }
+
+    @Test
+    @DisplayName("일정 카드로 일정 검색")
+    void searchScheduleCards(){
+        // given
+        TravelSchedule schedule1 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("서울 여행"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+
+        TravelSchedule schedule2 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("부산 여행"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member1));
+
+        project(schedule1, schedule2);
+        Pageable pageable = PageUtils.schedulePageable(1);
+
+        // when
+        Page<ScheduleInfoQueryDto> response = scheduleCardRepository.searchScheduleCards(pageable, "서울", member1.getMemberId());
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(response.getContent().get(0).getScheduleName()).isEqualTo(schedule1.getScheduleName());
+        assertThat(response.getContent().get(0).getAttendeeRole()).isEqualTo(AttendeeRole.AUTHOR);
+    }
+}
@@ -6,11 +6,13 @@ import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.profile.fixture.ProfileImageFixture;
 import com.triptune.profile.repository.ProfileImageRepository;
+import com.triptune.schedule.cache.AttendeeAccess;
 import com.triptune.schedule.fixture.TravelAttendeeFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.enums.AttendeeRole;
 import com.triptune.global.config.QuerydslConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,10 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static com.triptune.schedule.enums.AttendeePermission.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -117,5 +123,56 @@ public class TravelAttendeeRepositoryTest {
         assertThat(response).isEqualTo(member1.getNickname());
     }
 
+    @Test
+    @DisplayName("여러 일정의 작성자 닉네임을 한 번에 조회")
+    void findAuthorNicknamesByScheduleIds(){
+        // given
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule1, member2, READ));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member2));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member1));
+
+        // when
+        Map<Long, String> response = travelAttendeeRepository.findAuthorNicknamesByScheduleIds(
+                List.of(schedule1.getScheduleId(), schedule2.getScheduleId())
+        );
+
+        // then
+        assertThat(response)
+                .hasSize(2)
+                .containsEntry(schedule1.getScheduleId(), member1.getNickname())
+                .containsEntry(schedule2.getScheduleId(), member2.getNickname());
+    }
+
+    @Test
+    @DisplayName("일정 참석자의 역할, 권한 조회")
+    void findAttendeeAccess(){
+        // given
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+        TravelAttendee guest = travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule1, member2, READ));
+
+        // when
+        Optional<AttendeeAccess> response = travelAttendeeRepository.findAttendeeAccess(schedule1.getScheduleId(), member2.getMemberId());
+
+        // then
+        assertThat(response).isPresent();
+        assertThat(response.get().attendeeId()).isEqualTo(guest.getAttendeeId());
+        assertThat(response.get().role()).isEqualTo(AttendeeRole.GUEST);
+        assertThat(response.get().permission()).isEqualTo(READ);
+    }
+
+    @Test
+    @DisplayName("일정 참석자의 역할, 권한 조회 시 참석자가 아닌 경우")
+    void findAttendeeAccess_notAttendee(){
+        // given
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+
+        // when
+        Optional<AttendeeAccess> response = travelAttendeeRepository.findAttendeeAccess(schedule1.getScheduleId(), member2.getMemberId());
+
+        // then
+        assertThat(response).isEmpty();
+    }
+
 
 }
@@ -0,0 +1,81 @@
+package com.triptune.schedule.repository;
+
+import com.triptune.common.entity.*;
+import com.triptune.common.fixture.*;
+import com.triptune.common.repository.*;
+import com.triptune.global.config.QuerydslConfig;
+import com.triptune.schedule.entity.TravelRoute;
+import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.fixture.TravelRouteFixture;
+import com.triptune.schedule.fixture.TravelScheduleFixture;
+import com.triptune.schedule.repository.TravelRouteBatchRepository.RouteRow;
+import com.triptune.travel.entity.TravelPlace;
+import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.fixture.TravelPlaceFixture;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, TravelRouteBatchRepository.class})
+@ActiveProfiles("h2")
+public class TravelRouteBatchRepositoryTest {
+    @Autowired private TravelRouteBatchRepository travelRouteBatchRepository;
+    @Autowired private TravelRouteRepository travelRouteRepository;
+    @Autowired private TravelScheduleRepository travelScheduleRepository;
+    @Autowired private TravelPlaceRepository travelPlaceRepository;
+    @Autowired private CityRepository cityRepository;
+    @Autowired private CountryRepository countryRepository;
+    @Autowired private DistrictRepository districtRepository;
+    @Autowired private ApiContentTypeRepository apiContentTypeRepository;
+    @Autowired private EntityManager entityManager;
+
+    private TravelSchedule schedule;
+    private TravelPlace place1;
+    private TravelPlace place2;
+
+
+    @BeforeEach
+    void setUp(){
+        Country country = countryRepository.save(CountryFixture.createCountry());
+        City city = cityRepository.save(CityFixture.createSeoul(country));
+        District district = districtRepository.save(DistrictFixture.createDistrict(city, "강남구"));
+        ApiContentType apiContentType = apiContentTypeRepository.save(ApiContentTypeFixture.createApiContentType(ThemeType.ATTRACTIONS));
+
+        place1 = travelPlaceRepository.save(TravelPlaceFixture.createTravelPlace(country, city, district, apiContentType, "여행지1"));
+        place2 = travelPlaceRepository.save(TravelPlaceFixture.createTravelPlace(country, city, district, apiContentType, "여행지2"));
+
+        schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+    }
+
+    @Test
+    @DisplayName("여행 루트 일괄 수정, 삭제")
+    void updateAndDeleteRoutes(){
+        // given
+        TravelRoute route1 = travelRouteRepository.save(TravelRouteFixture.createTravelRoute(schedule, place1, 1));
+        TravelRoute route2 = travelRouteRepository.save(TravelRouteFixture.createTravelRoute(schedule, place1, 2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        travelRouteBatchRepository.deleteRoutes(List.of(route1.getRouteId()));
+        travelRouteBatchRepository.updateRoutePlaces(List.of(new RouteRow(route2.getRouteId(), 2, place2.getPlaceId())));
+
+        // then
+        List<RouteRow> response = travelRouteBatchRepository.findRoutes(schedule.getScheduleId());
+        assertThat(response)
+                .extracting(RouteRow::routeOrder, RouteRow::placeId)
+                .containsExactly(tuple(2, place2.getPlaceId()));
+    }
+}
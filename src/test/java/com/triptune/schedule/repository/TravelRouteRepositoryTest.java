@@ -4,10 +4,13 @@ import com.triptune.common.entity.*;
 import com.triptune.common.fixture.*;
 import com.triptune.common.repository.*;
 import com.triptune.global.config.QuerydslConfig;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.schedule.fixture.TravelRouteFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.dto.RouteQueryDto;
 import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.enums.ThemeType;
 import com.triptune.travel.fixture.TravelPlaceFixture;
@@ -65,4 +68,32 @@ class TravelRouteRepositoryTest  {
         assertThat(route.getCreatedAt()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("여행 루트 커서 조회")
+    void findAllByScheduleIdByCursor() {
+        // given
+        TravelSchedule schedule = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트"));
+        Country country = countryRepository.save(CountryFixture.createCountry());
+        City city = cityRepository.save(CityFixture.createSeoul(country));
+        District district = districtRepository.save(DistrictFixture.createDistrict(city, "부암동"));
+        ApiContentType apiContentType = apiContentTypeRepository.save(ApiContentTypeFixture.createApiContentType(ATTRACTIONS));
+
+        for (int routeOrder = 1; routeOrder <= 3; routeOrder++) {
+            TravelPlace place = travelPlaceRepository.save(
+                    TravelPlaceFixture.createTravelPlace(country, city, district, apiContentType, "여행지" + routeOrder)
+            );
+            travelRouteRepository.save(TravelRouteFixture.createTravelRoute(schedule, place, routeOrder));
+        }
+
+        // when
+        CursorPage<RouteQueryDto> first = travelRouteRepository.findAllByScheduleIdByCursor(new CursorPageable(null, 2), schedule.getScheduleId());
+        CursorPage<RouteQueryDto> second = travelRouteRepository.findAllByScheduleIdByCursor(new CursorPageable(first.nextCursor(), 2), schedule.getScheduleId());
+
+        // then
+        assertThat(first.content()).extracting(RouteQueryDto::getRouteOrder).containsExactly(1, 2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(RouteQueryDto::getRouteOrder).containsExactly(3);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+}
@@ -15,6 +15,7 @@ import com.triptune.schedule.fixture.TravelRouteFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.repository.dto.OverviewScheduleQueryDto;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
 import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
 import com.triptune.travel.entity.TravelImage;
@@ -25,6 +26,8 @@ import com.triptune.travel.fixture.TravelPlaceFixture;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.global.config.QuerydslConfig;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +45,7 @@ import java.util.Optional;
 import static com.triptune.schedule.enums.AttendeePermission.*;
 import static java.lang.Thread.sleep;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 
 @DataJpaTest
 @Import({QuerydslConfig.class})
@@ -184,6 +188,37 @@ public class TravelScheduleRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("전체 일정 목록 커서 조회")
+    void findTravelSchedulesByCursor() throws Exception{
+        // given
+        TravelSchedule schedule1 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+        sleep(10);
+
+        TravelSchedule schedule2 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트2"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member2));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule2, member1, CHAT));
+        sleep(10);
+
+        TravelSchedule schedule3 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트3"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member1));
+
+        // when
+        CursorPage<ScheduleInfoQueryDto> first = travelScheduleRepository.findTravelSchedulesByCursor(new CursorPageable(null, 2), member1.getMemberId());
+        CursorPage<ScheduleInfoQueryDto> second = travelScheduleRepository.findTravelSchedulesByCursor(new CursorPageable(first.nextCursor(), 2), member1.getMemberId());
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.content()).extracting(ScheduleInfoQueryDto::getScheduleName)
+                .containsExactly(schedule3.getScheduleName(), schedule2.getScheduleName());
+        assertThat(first.content().get(1).getAuthorNickname()).isEqualTo(member2.getNickname());
+
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.content()).extracting(ScheduleInfoQueryDto::getScheduleName)
+                .containsExactly(schedule1.getScheduleName());
+    }
+
     @Test
     @DisplayName("전체 일정 목록 조회 시 데이터가 없는 경우")
     void findTravelSchedules_emptyResult(){
@@ -422,6 +457,37 @@ public class TravelScheduleRepositoryTest {
     }
 
 
+    @Test
+    @DisplayName("수정 권한 있는 일정 목록을 작성자 닉네임과 함께 조회")
+    void findEnableEditTravelSchedules(){
+        // given
+        TravelSchedule schedule1 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트1"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule1, member1));
+
+        TravelSchedule schedule2 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트2"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule2, member2));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule2, member1, EDIT));
+
+        TravelSchedule schedule3 = travelScheduleRepository.save(TravelScheduleFixture.createTravelSchedule("테스트3"));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member2));
+        travelAttendeeRepository.save(TravelAttendeeFixture.createGuestTravelAttendee(schedule3, member1, READ));
+
+        Pageable pageable = PageUtils.scheduleModalPageable(1);
+
+        // when
+        Page<OverviewScheduleQueryDto> response = travelScheduleRepository.findEnableEditTravelSchedules(pageable, member1.getMemberId());
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        assertThat(response.getContent())
+                .extracting(OverviewScheduleQueryDto::getScheduleName, OverviewScheduleQueryDto::getAuthorNickname)
+                .containsExactlyInAnyOrder(
+                        tuple(schedule1.getScheduleName(), member1.getNickname()),
+                        tuple(schedule2.getScheduleName(), member2.getNickname())
+                );
+    }
+
+
     @Test
     @DisplayName("일정 삭제")
     void deleteById(){
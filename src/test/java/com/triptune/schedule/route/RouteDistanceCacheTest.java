@@ -0,0 +1,81 @@
+package com.triptune.schedule.route;
+
+import com.triptune.schedule.properties.RouteDistanceCacheProperties;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouteDistanceCacheTest {
+
+    private RouteDistanceCache routeDistanceCache;
+
+    @BeforeEach
+    void setUp(){
+        routeDistanceCache = new RouteDistanceCache(new RouteDistanceCacheProperties(null, null), new SimpleMeterRegistry());
+    }
+
+    private Supplier<List<RouteStopQueryDto>> countingLoader(AtomicInteger loadCount){
+        return () -> {
+            loadCount.incrementAndGet();
+            return List.of(
+                    RouteStopQueryDto.builder().routeOrder(1).placeId(1L).latitude(37.5665).longitude(126.9780).build(),
+                    RouteStopQueryDto.builder().routeOrder(2).placeId(2L).latitude(37.4563).longitude(126.7052).build()
+            );
+        };
+    }
+
+
+    @Test
+    @DisplayName("루트 버전이 같으면 지점을 다시 조회하지 않음")
+    void get_sameVersion(){
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        RouteLegDistances cached = routeDistanceCache.get(1L, 0L, countingLoader(loadCount));
+
+        // when
+        RouteLegDistances response = routeDistanceCache.get(1L, 0L, countingLoader(loadCount));
+
+        // then
+        assertThat(response).isSameAs(cached);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("루트 버전이 바뀌면 지점을 다시 조회해 계산")
+    void get_versionChanged(){
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        RouteLegDistances cached = routeDistanceCache.get(1L, 0L, countingLoader(loadCount));
+
+        // when
+        RouteLegDistances response = routeDistanceCache.get(1L, 1L, countingLoader(loadCount));
+
+        // then
+        assertThat(response).isNotSameAs(cached);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이전 버전으로 늦게 계산한 결과는 더 높은 버전의 캐시를 덮어쓰지 않음")
+    void get_olderVersion(){
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        RouteLegDistances latest = routeDistanceCache.get(1L, 2L, countingLoader(loadCount));
+        routeDistanceCache.get(1L, 1L, countingLoader(loadCount));
+
+        // when
+        RouteLegDistances response = routeDistanceCache.get(1L, 2L, countingLoader(loadCount));
+
+        // then
+        assertThat(response).isSameAs(latest);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,76 @@
+package com.triptune.schedule.route;
+
+import com.triptune.global.util.GeoUtils;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class RouteLegDistancesTest {
+
+    private final RouteStopQueryDto seoul = createStop(1, 1L, 37.5665, 126.9780);
+    private final RouteStopQueryDto incheon = createStop(2, 2L, 37.4563, 126.7052);
+    private final RouteStopQueryDto suwon = createStop(3, 3L, 37.2636, 127.0286);
+
+
+    @Test
+    @DisplayName("연속된 루트 지점 간 구간 거리 계산")
+    void build(){
+        // given, when
+        RouteLegDistances response = RouteLegDistances.build(List.of(seoul, incheon, suwon));
+
+        // then
+        double seoulToIncheon = distance(seoul, incheon);
+        double incheonToSuwon = distance(incheon, suwon);
+
+        assertThat(response.size()).isEqualTo(3);
+        assertThat(response.legDistance(1)).isEqualTo(0.0);
+        assertThat(response.legDistance(2)).isEqualTo(seoulToIncheon);
+        assertThat(response.legDistance(3)).isEqualTo(incheonToSuwon);
+        assertThat(response.legDistance(4)).isNull();
+        assertThat(response.totalDistance()).isCloseTo(seoulToIncheon + incheonToSuwon, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("같은 여행지가 연속된 경우 구간 거리 0")
+    void build_samePlace(){
+        // given
+        RouteStopQueryDto seoulAgain = createStop(2, 1L, 37.5665, 126.9780);
+
+        // when
+        RouteLegDistances response = RouteLegDistances.build(List.of(seoul, seoulAgain));
+
+        // then
+        assertThat(response.legDistance(2)).isEqualTo(0.0);
+        assertThat(response.totalDistance()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("루트가 없는 경우")
+    void build_empty(){
+        // given, when
+        RouteLegDistances response = RouteLegDistances.build(List.of());
+
+        // then
+        assertThat(response.size()).isEqualTo(0);
+        assertThat(response.totalDistance()).isEqualTo(0.0);
+    }
+
+
+    private double distance(RouteStopQueryDto from, RouteStopQueryDto to){
+        return GeoUtils.calculateDistance(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    private RouteStopQueryDto createStop(int routeOrder, Long placeId, double latitude, double longitude){
+        return RouteStopQueryDto.builder()
+                .routeOrder(routeOrder)
+                .placeId(placeId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
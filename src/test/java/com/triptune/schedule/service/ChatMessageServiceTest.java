@@ -8,25 +8,30 @@ import com.triptune.member.fixture.MemberFixture;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.fixture.ProfileImageFixture;
+import com.triptune.schedule.chat.ChatMessageWriter;
+import com.triptune.schedule.chat.ChatSessionContext;
+import com.triptune.schedule.chat.ChatSessionRegistry;
 import com.triptune.schedule.fixture.ChatMessageFixture;
 import com.triptune.schedule.fixture.TravelAttendeeFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
 import com.triptune.schedule.dto.request.ChatMessageRequest;
 import com.triptune.schedule.dto.response.ChatResponse;
 import com.triptune.schedule.entity.ChatMessage;
-import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.exception.chat.DataNotFoundChatException;
 import com.triptune.schedule.exception.chat.ForbiddenChatException;
 import com.triptune.schedule.repository.ChatMessageRepository;
-import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.global.message.ErrorCode;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.CursorPageable;
 import com.triptune.global.util.PageUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,6 +44,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +54,8 @@ class ChatMessageServiceTest {
     @InjectMocks private ChatMessageService chatMessageService;
     @Mock private ChatMessageRepository chatMessageRepository;
     @Mock private MemberRepository memberRepository;
-    @Mock private TravelAttendeeRepository travelAttendeeRepository;
+    @Mock private ChatSessionRegistry chatSessionRegistry;
+    @Mock private ChatMessageWriter chatMessageWriter;
     @Mock private TravelScheduleRepository travelScheduleRepository;
     @Mock private S3ObjectManager s3ObjectManager;
 
@@ -277,54 +285,128 @@ class ChatMessageServiceTest {
 
     }
 
+    @Test
+    @DisplayName("채팅 메시지 커서 조회 시 오래된 순으로 반환")
+    void getChatMessagesByCursor(){
+        // given
+        ChatMessage message1 = ChatMessageFixture.createChatMessage(1L, member1.getMemberId(), "hello1");
+        ChatMessage message2 = ChatMessageFixture.createChatMessage(1L, member2.getMemberId(), "hello2");
+        ChatMessage message3 = ChatMessageFixture.createChatMessage(1L, member1.getMemberId(), "hello3");
+
+        CursorPage<ChatMessage> chatPage = new CursorPage<>(List.of(message3, message2, message1), 20, "nextCursor");
+
+        when(chatMessageRepository.findAllByScheduleIdByCursor(any(CursorPageable.class), anyLong())).thenReturn(chatPage);
+        when(memberRepository.findByIds(any())).thenReturn(new ArrayList<>(List.of(member1, member2)));
+        when(s3ObjectManager.generateS3ObjectUrl(member1.getProfileImage().getS3ObjectKey()))
+                .thenReturn(member1ProfileUrl);
+        when(s3ObjectManager.generateS3ObjectUrl(member2.getProfileImage().getS3ObjectKey()))
+                .thenReturn(member2ProfileUrl);
+
+        // when
+        CursorPage<ChatResponse> response = chatMessageService.getChatMessagesByCursor(1L, null);
+
+        // then
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo("nextCursor");
+        assertThat(response.content())
+                .extracting(
+                        ChatResponse::getNickname,
+                        ChatResponse::getProfileUrl,
+                        ChatResponse::getMessage
+                )
+                .containsExactly(
+                        tuple(member1.getNickname(), member1ProfileUrl, message1.getMessage()),
+                        tuple(member2.getNickname(), member2ProfileUrl, message2.getMessage()),
+                        tuple(member1.getNickname(), member1ProfileUrl, message3.getMessage())
+                );
+    }
 
     @Test
-    @DisplayName("채팅 메시지 저장")
-    void sendChatMessage(){
+    @DisplayName("채팅 메시지 커서 조회 시 메시지가 없는 경우")
+    void getChatMessagesByCursor_emptyMessages(){
         // given
-        ProfileImage profileImage = ProfileImageFixture.createProfileImage("memberImage");
-        Member member = MemberFixture.createNativeTypeMemberWithId(1L, "member@email.com", profileImage);
-        String memberProfileUrl = S3Fixture.createS3ObjectUrl(profileImage.getS3ObjectKey());
+        CursorPage<ChatMessage> chatPage = new CursorPage<>(List.of(), 20, null);
 
-        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member.getNickname(), "hello1");
-        TravelAttendee author = TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member);
+        when(chatMessageRepository.findAllByScheduleIdByCursor(any(CursorPageable.class), anyLong())).thenReturn(chatPage);
 
-        ChatMessage message = ChatMessageFixture.createChatMessage(1L, member1.getMemberId(), request.getMessage());
+        // when
+        CursorPage<ChatResponse> response = chatMessageService.getChatMessagesByCursor(1L, "cursor");
+
+        // then
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.content()).isEmpty();
+    }
 
-        when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
-        when(chatMessageRepository.save(any())).thenReturn(message);
-        when(s3ObjectManager.generateS3ObjectUrl(anyString())).thenReturn(memberProfileUrl);
 
+    @Test
+    @DisplayName("채팅 세션 회원 정보 조회")
+    void createChatSessionContext(){
+        // given
+        when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member1));
+        when(s3ObjectManager.generateS3ObjectUrl(anyString())).thenReturn(member1ProfileUrl);
 
         // when
-        ChatResponse response = chatMessageService.sendChatMessage(request);
+        ChatSessionContext response = chatMessageService.createChatSessionContext("session1", member1.getMemberId());
 
         // then
-        assertThat(response.getNickname()).isEqualTo(member.getNickname());
-        assertThat(response.getProfileUrl()).isEqualTo(memberProfileUrl);
-        assertThat(response.getMessage()).isEqualTo(message.getMessage());
+        assertThat(response.getSessionId()).isEqualTo("session1");
+        assertThat(response.getMemberId()).isEqualTo(member1.getMemberId());
+        assertThat(response.getNickname()).isEqualTo(member1.getNickname());
+        assertThat(response.getProfileUrl()).isEqualTo(member1ProfileUrl);
+    }
+
+    @Test
+    @DisplayName("채팅 세션 회원 정보 조회 시 회원 정보가 없어 예외 발생")
+    void createChatSessionContext_memberNotFound(){
+        // given
+        when(memberRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // when
+        DataNotFoundChatException fail = assertThrows(DataNotFoundChatException.class,
+                () -> chatMessageService.createChatSessionContext("session1", 0L));
+
+        // then
+        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+
+    @Test
+    @DisplayName("채팅 메시지 저장")
+    void sendChatMessage(){
+        // given
+        ChatSessionContext context = ChatMessageFixture.createChatSessionContext(member1, member1ProfileUrl);
+        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member1.getNickname(), "hello1");
+
+        when(chatSessionRegistry.getAccess(any(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
+
+        // when
+        ChatResponse response = chatMessageService.sendChatMessage(context, request);
+
+        // then
+        ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageWriter).write(captor.capture());
+
+        assertThat(response.getMessageId()).isEqualTo(captor.getValue().getMessageId());
+        assertThat(response.getNickname()).isEqualTo(member1.getNickname());
+        assertThat(response.getProfileUrl()).isEqualTo(member1ProfileUrl);
+        assertThat(response.getMessage()).isEqualTo(request.getMessage());
+        assertThat(captor.getValue().getMemberId()).isEqualTo(member1.getMemberId());
+        verifyNoInteractions(memberRepository, travelScheduleRepository, s3ObjectManager);
     }
 
     @Test
     @DisplayName("채팅 메시지 저장 시 채팅 권한이 없어 예외 발생")
     void sendChatMessage_ForbiddenChatException1(){
         // given
-        ProfileImage profileImage = ProfileImageFixture.createProfileImage("memberImage");
-        Member member = MemberFixture.createNativeTypeMemberWithId(1L, "member@email.com", profileImage);
+        ChatSessionContext context = ChatMessageFixture.createChatSessionContext(member1, member1ProfileUrl);
+        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member1.getNickname(), "hello1");
 
-        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member.getNickname(), "hello1");
-        TravelAttendee guest = TravelAttendeeFixture.createGuestTravelAttendee(schedule, member, AttendeePermission.EDIT);
-
-        when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(guest));
+        when(chatSessionRegistry.getAccess(any(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createGuestAttendeeAccess(AttendeePermission.EDIT)));
 
         // when
-        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatMessageService.sendChatMessage(request));
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatMessageService.sendChatMessage(context, request));
 
         // then
         assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE);
@@ -334,22 +416,50 @@ class ChatMessageServiceTest {
     @DisplayName("채팅 메시지 저장 시 채팅 권한이 없어 예외 발생")
     void sendChatMessage_ForbiddenChatException2(){
         // given
-        ProfileImage profileImage = ProfileImageFixture.createProfileImage("memberImage");
-        Member member = MemberFixture.createNativeTypeMemberWithId(1L, "member@email.com", profileImage);
+        ChatSessionContext context = ChatMessageFixture.createChatSessionContext(member1, member1ProfileUrl);
+        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member1.getNickname(), "hello1");
 
-        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member.getNickname(), "hello1");
-        TravelAttendee guest = TravelAttendeeFixture.createGuestTravelAttendee(schedule, member, AttendeePermission.READ);
+        when(chatSessionRegistry.getAccess(any(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createGuestAttendeeAccess(AttendeePermission.READ)));
 
+        // when
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatMessageService.sendChatMessage(context, request));
+        // then
+        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE);
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 시 참석자가 아니여서 예외 발생")
+    void sendChatMessage_notAttendee(){
+        // given
+        ChatSessionContext context = ChatMessageFixture.createChatSessionContext(member1, member1ProfileUrl);
+        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1L, member1.getNickname(), "hello1");
+
+        when(chatSessionRegistry.getAccess(any(), anyLong())).thenReturn(Optional.empty());
         when(travelScheduleRepository.existsById(anyLong())).thenReturn(true);
-        when(memberRepository.findByNickname(anyString())).thenReturn(Optional.of(member));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(guest));
 
+        // when
+        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatMessageService.sendChatMessage(context, request));
+
+        // then
+        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN_ACCESS_SCHEDULE);
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 저장 시 일정이 없어 예외 발생")
+    void sendChatMessage_scheduleNotFound(){
+        // given
+        ChatSessionContext context = ChatMessageFixture.createChatSessionContext(member1, member1ProfileUrl);
+        ChatMessageRequest request = ChatMessageFixture.createChatMessageRequest(1000L, member1.getNickname(), "hello1");
+
+        when(chatSessionRegistry.getAccess(any(), anyLong())).thenReturn(Optional.empty());
+        when(travelScheduleRepository.existsById(anyLong())).thenReturn(false);
 
         // when
-        ForbiddenChatException fail = assertThrows(ForbiddenChatException.class, () -> chatMessageService.sendChatMessage(request));
+        DataNotFoundChatException fail = assertThrows(DataNotFoundChatException.class, () -> chatMessageService.sendChatMessage(context, request));
+
         // then
-        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN_CHAT_ATTENDEE);
+        assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND);
     }
 
 
@@ -9,6 +9,8 @@ import com.triptune.member.fixture.MemberFixture;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.profile.fixture.ProfileImageFixture;
+import com.triptune.schedule.cache.AttendeePermissionCache;
+import com.triptune.schedule.counter.MemberScheduleCounter;
 import com.triptune.schedule.fixture.TravelAttendeeFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
 import com.triptune.schedule.dto.request.AttendeePermissionRequest;
@@ -18,6 +20,7 @@ import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
 import com.triptune.schedule.enums.AttendeeRole;
+import com.triptune.schedule.event.AttendeeChangedEvent;
 import com.triptune.schedule.exception.ConflictAttendeeException;
 import com.triptune.schedule.exception.ForbiddenAttendeeException;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -48,6 +52,9 @@ public class TravelAttendeeServiceTest {
     @Mock private TravelScheduleRepository travelScheduleRepository;
     @Mock private MemberRepository memberRepository;
     @Mock private S3ObjectManager s3ObjectManager;
+    @Mock private MemberScheduleCounter memberScheduleCounter;
+    @Mock private AttendeePermissionCache attendeePermissionCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private TravelSchedule schedule;
 
@@ -138,17 +145,21 @@ public class TravelAttendeeServiceTest {
 
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(newMember.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(true);
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(newMember));
         when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong())).thenReturn(false);
+        when(travelAttendeeRepository.findMemberIdsByScheduleId(anyLong())).thenReturn(List.of(2L));
 
 
         // when, then
         assertDoesNotThrow(
                 () ->  travelAttendeeService.createAttendee(1L, 1L, attendeeRequest));
 
+        verify(memberScheduleCounter, times(1)).attendeeAdded(List.of(2L), newMember.getMemberId());
+        assertThat(schedule.getAttendeeCount()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new AttendeeChangedEvent(1L));
     }
 
     @Test
@@ -157,7 +168,7 @@ public class TravelAttendeeServiceTest {
         // given
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(member3.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.empty());
 
         // when, then
         DataNotFoundException fail = assertThrows(DataNotFoundException.class,
@@ -171,10 +182,14 @@ public class TravelAttendeeServiceTest {
     @DisplayName("일정 참석자 추가 시 참석자 5명 넘어 예외 발생")
     void createAttendee_overFiveAttendee() {
         // given
+        TravelAttendeeFixture.createAuthorTravelAttendee(schedule, member1);
+        for (int i = 0; i < 4; i++) {
+            TravelAttendeeFixture.createGuestTravelAttendee(schedule, member2, AttendeePermission.READ);
+        }
+
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(member3.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.countByTravelSchedule_ScheduleId(anyLong())).thenReturn(5);
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
 
         // when, then
         ConflictAttendeeException fail = assertThrows(ConflictAttendeeException.class,
@@ -190,10 +205,9 @@ public class TravelAttendeeServiceTest {
         // given
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(member3.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.countByTravelSchedule_ScheduleId(anyLong())).thenReturn(4);
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(false);
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createGuestAttendeeAccess(AttendeePermission.ALL)));
 
         // when, then
         ForbiddenAttendeeException fail = assertThrows(ForbiddenAttendeeException.class,
@@ -209,10 +223,9 @@ public class TravelAttendeeServiceTest {
         // given
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(member3.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.countByTravelSchedule_ScheduleId(anyLong())).thenReturn(4);
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(true);
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
 
         // when, then
@@ -232,10 +245,9 @@ public class TravelAttendeeServiceTest {
 
         AttendeeRequest attendeeRequest = TravelAttendeeFixture.createAttendeeRequest(newMember.getEmail(), AttendeePermission.CHAT);
 
-        when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.countByTravelSchedule_ScheduleId(anyLong())).thenReturn(4);
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(true);
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(newMember));
         when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong())).thenReturn(true);
 
@@ -258,8 +270,8 @@ public class TravelAttendeeServiceTest {
 
         AttendeePermissionRequest request = TravelAttendeeFixture.createAttendeePermissionRequest(AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndAttendeeId(anyLong(), anyLong()))
                 .thenReturn(Optional.of(guest));
 
@@ -275,6 +287,7 @@ public class TravelAttendeeServiceTest {
 
         // then
         assertThat(guest.getPermission()).isEqualTo(AttendeePermission.READ);
+        verify(eventPublisher).publishEvent(new AttendeeChangedEvent(1L));
     }
 
 
@@ -286,7 +299,8 @@ public class TravelAttendeeServiceTest {
 
         AttendeePermissionRequest request = TravelAttendeeFixture.createAttendeePermissionRequest(AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any())).thenReturn(false);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createGuestAttendeeAccess(AttendeePermission.ALL)));
 
         // when
         ForbiddenAttendeeException fail = assertThrows(ForbiddenAttendeeException.class,
@@ -308,8 +322,8 @@ public class TravelAttendeeServiceTest {
         // given
         AttendeePermissionRequest request = TravelAttendeeFixture.createAttendeePermissionRequest(AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any()))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndAttendeeId(anyLong(), anyLong()))
                 .thenReturn(Optional.empty());
 
@@ -337,8 +351,8 @@ public class TravelAttendeeServiceTest {
 
         AttendeePermissionRequest request = TravelAttendeeFixture.createAttendeePermissionRequest(AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any()))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndAttendeeId(anyLong(), anyLong()))
                 .thenReturn(Optional.of(author));
 
@@ -366,12 +380,16 @@ public class TravelAttendeeServiceTest {
 
         when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
                 .thenReturn(Optional.of(guest));
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(travelAttendeeRepository.findMemberIdsByScheduleId(anyLong())).thenReturn(List.of(1L, 2L));
 
         // when
         travelAttendeeService.leaveAttendee(1L, 2L);
 
         // then
+        verify(memberScheduleCounter, times(1)).attendeeRemoved(List.of(1L, 2L), 2L);
         verify(travelAttendeeRepository, times(1)).deleteById(any());
+        assertThat(schedule.getAttendeeCount()).isEqualTo(0);
     }
 
     @Test
@@ -414,9 +432,11 @@ public class TravelAttendeeServiceTest {
         Member guestMember = MemberFixture.createNativeTypeMemberWithId(2L, "guestMember@email.com", profileImage);
         TravelAttendee guest = TravelAttendeeFixture.createGuestTravelAttendeeWithId(1L, schedule, guestMember, AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any()))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findById(anyLong())).thenReturn(Optional.of(guest));
+        when(travelScheduleRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(schedule));
+        when(travelAttendeeRepository.findMemberIdsByScheduleId(anyLong())).thenReturn(List.of(1L, 2L));
 
         // when, then
         assertDoesNotThrow(() -> travelAttendeeService.removeAttendee(
@@ -424,6 +444,9 @@ public class TravelAttendeeServiceTest {
                 1L,
                 guest.getAttendeeId()
         ));
+
+        verify(memberScheduleCounter, times(1)).attendeeRemoved(List.of(1L, 2L), guestMember.getMemberId());
+        assertThat(schedule.getAttendeeCount()).isEqualTo(0);
     }
 
     @Test
@@ -432,8 +455,8 @@ public class TravelAttendeeServiceTest {
         // given
         TravelAttendee guest = TravelAttendeeFixture.createGuestTravelAttendee(schedule, member2, AttendeePermission.READ);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any()))
-                .thenReturn(false);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createGuestAttendeeAccess(AttendeePermission.ALL)));
 
         // when
         ForbiddenAttendeeException fail = assertThrows(ForbiddenAttendeeException.class,
@@ -451,8 +474,8 @@ public class TravelAttendeeServiceTest {
     @DisplayName("일정 내보내기 시 참석자를 찾을 수 없어 예외 발생")
     void removeAttendee_attendeeNotFound(){
         // given
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any()))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // when
@@ -475,8 +498,8 @@ public class TravelAttendeeServiceTest {
         Member removeMember = MemberFixture.createNativeTypeMemberWithId(1L, "removeMember@email.com", profileImage);
         TravelAttendee author = TravelAttendeeFixture.createAuthorTravelAttendeeWithId(1L, schedule, removeMember);
 
-        when(travelAttendeeRepository.existsByTravelSchedule_ScheduleIdAndMember_MemberIdAndRole(anyLong(), anyLong(), any(AttendeeRole.class)))
-                .thenReturn(true);
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAuthorAttendeeAccess()));
         when(travelAttendeeRepository.findById(anyLong())).thenReturn(Optional.of(author));
 
         // when
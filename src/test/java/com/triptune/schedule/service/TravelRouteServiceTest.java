@@ -17,11 +17,17 @@ import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelRoute;
 import com.triptune.schedule.entity.TravelSchedule;
 import com.triptune.schedule.enums.AttendeePermission;
+import com.triptune.schedule.event.ScheduleChangedEvent;
+import com.triptune.schedule.cache.AttendeePermissionCache;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
-import com.triptune.schedule.repository.TravelAttendeeRepository;
+import com.triptune.schedule.repository.TravelRouteBatchRepository;
+import com.triptune.schedule.repository.TravelRouteBatchRepository.RouteRow;
 import com.triptune.schedule.repository.TravelRouteRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
 import com.triptune.schedule.repository.dto.RouteQueryDto;
+import com.triptune.schedule.repository.dto.RouteStopQueryDto;
+import com.triptune.schedule.route.RouteDistanceCache;
+import com.triptune.schedule.route.RouteLegDistances;
 import com.triptune.travel.entity.TravelImage;
 import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.enums.ThemeType;
@@ -35,17 +41,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,8 +68,11 @@ public class TravelRouteServiceTest {
     @Mock private TravelRouteRepository travelRouteRepository;
     @Mock private TravelScheduleRepository travelScheduleRepository;
     @Mock private TravelPlaceRepository travelPlaceRepository;
-    @Mock private TravelAttendeeRepository travelAttendeeRepository;
+    @Mock private AttendeePermissionCache attendeePermissionCache;
+    @Mock private TravelRouteBatchRepository travelRouteBatchRepository;
+    @Mock private RouteDistanceCache routeDistanceCache;
     @Mock private S3ObjectManager s3ObjectManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private TravelSchedule schedule;
 
@@ -145,8 +162,17 @@ public class TravelRouteServiceTest {
         );
         Page<RouteQueryDto> routePage = PageUtils.createPage(routes, pageable, routes.size());
 
+        List<RouteStopQueryDto> stops = List.of(
+                TravelRouteFixture.createRouteStopQueryDto(route1),
+                TravelRouteFixture.createRouteStopQueryDto(route2),
+                TravelRouteFixture.createRouteStopQueryDto(route3)
+        );
+        RouteLegDistances legDistances = RouteLegDistances.build(stops);
+
         when(travelRouteRepository.findAllByScheduleId(pageable, schedule.getScheduleId()))
                 .thenReturn(routePage);
+        when(travelScheduleRepository.findRouteVersion(schedule.getScheduleId())).thenReturn(Optional.of(3L));
+        when(routeDistanceCache.get(eq(schedule.getScheduleId()), eq(3L), any())).thenReturn(legDistances);
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
         when(s3ObjectManager.generateS3ObjectUrl(place2Thumb.getS3ObjectKey())).thenReturn(place2ThumbUrl);
 
@@ -169,6 +195,11 @@ public class TravelRouteServiceTest {
                         route2.getRouteOrder(),
                         route3.getRouteOrder()
                 );
+        assertThat(content)
+                .extracting(RouteResponse::getLegDistance)
+                .containsExactly(0.0, 0.0, legDistances.legDistance(3));
+        assertThat(content).allSatisfy(route ->
+                assertThat(route.getTotalDistance()).isEqualTo(legDistances.totalDistance()));
     }
 
     @Test
@@ -186,6 +217,7 @@ public class TravelRouteServiceTest {
         // then
         assertThat(response.getTotalElements()).isEqualTo(0);
         assertThat(response.getContent()).isEmpty();
+        verify(travelRouteRepository, never()).findRouteStops(anyLong());
     }
 
     @Test
@@ -199,8 +231,8 @@ public class TravelRouteServiceTest {
         RouteCreateRequest request = TravelRouteFixture.createRouteCreateRequest(place3WithoutThumb.getPlaceId());
 
         when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(author)));
         when(travelPlaceRepository.findById(anyLong())).thenReturn(Optional.of(place3WithoutThumb));
 
         // when
@@ -212,7 +244,7 @@ public class TravelRouteServiceTest {
         assertThat(routes.size()).isEqualTo(4);
         assertThat(routes.get(routes.size() - 1).getTravelPlace().getPlaceName())
                 .isEqualTo(place3WithoutThumb.getPlaceName());
-
+        verify(travelScheduleRepository).increaseRouteVersion(1L);
     }
 
     @Test
@@ -222,8 +254,8 @@ public class TravelRouteServiceTest {
         RouteCreateRequest request = TravelRouteFixture.createRouteCreateRequest(place3WithoutThumb.getPlaceId());
 
         when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(author)));
         when(travelPlaceRepository.findById(anyLong())).thenReturn(Optional.of(place3WithoutThumb));
 
         // when
@@ -259,7 +291,7 @@ public class TravelRouteServiceTest {
         RouteCreateRequest request = TravelRouteFixture.createRouteCreateRequest(place3WithoutThumb.getPlaceId());
 
         when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
                 .thenReturn(Optional.empty());
 
 
@@ -279,8 +311,8 @@ public class TravelRouteServiceTest {
         RouteCreateRequest request = TravelRouteFixture.createRouteCreateRequest(place3WithoutThumb.getPlaceId());
 
         when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(guest));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(guest)));
 
         // when
         ForbiddenScheduleException fail = assertThrows(ForbiddenScheduleException.class,
@@ -299,8 +331,8 @@ public class TravelRouteServiceTest {
         RouteCreateRequest request = TravelRouteFixture.createRouteCreateRequest(place3WithoutThumb.getPlaceId());
 
         when(travelScheduleRepository.findById(anyLong())).thenReturn(Optional.of(schedule));
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(author)));
         when(travelPlaceRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // when
@@ -316,31 +348,88 @@ public class TravelRouteServiceTest {
     @Test
     @DisplayName("여행 루트 수정 시 기존에 저장된 여행 루트가 존재하는 경우")
     void updateTravelRoute_existedTravelRoute(){
-        TravelRouteFixture.createTravelRoute(schedule, place1WithThumb, 1);
-        TravelRouteFixture.createTravelRoute(schedule, place1WithThumb, 2);
-        TravelRouteFixture.createTravelRoute(schedule, place2WithThumb, 3);
-
-        RouteRequest routeRequest1 = TravelRouteFixture.createRouteRequest(1, place1WithThumb.getPlaceId());
-        RouteRequest routeRequest2 = TravelRouteFixture.createRouteRequest(2, place2WithThumb.getPlaceId());
+        // given
+        List<RouteRow> savedRoutes = List.of(
+                new RouteRow(10L, 1, place1WithThumb.getPlaceId()),
+                new RouteRow(11L, 2, place1WithThumb.getPlaceId()),
+                new RouteRow(12L, 3, place2WithThumb.getPlaceId())
+        );
 
         List<RouteRequest> routeRequests = new ArrayList<>(List.of(
-                routeRequest1,
-                routeRequest2
+                TravelRouteFixture.createRouteRequest(1, place1WithThumb.getPlaceId()),
+                TravelRouteFixture.createRouteRequest(2, place2WithThumb.getPlaceId()),
+                TravelRouteFixture.createRouteRequest(4, place3WithoutThumb.getPlaceId())
         ));
 
-        when(travelPlaceRepository.findById(anyLong()))
-                .thenReturn(Optional.of(place1WithThumb))
-                .thenReturn(Optional.of(place2WithThumb));
+        when(travelPlaceRepository.findExistingPlaceIds(anyCollection()))
+                .thenReturn(List.of(place1WithThumb.getPlaceId(), place2WithThumb.getPlaceId(), place3WithoutThumb.getPlaceId()));
+        when(travelRouteBatchRepository.findRoutes(anyLong())).thenReturn(savedRoutes);
+        when(travelPlaceRepository.getReferenceById(anyLong())).thenReturn(place3WithoutThumb);
 
         // when
         assertDoesNotThrow(
                 () -> travelRouteService.updateTravelRouteInSchedule(schedule, routeRequests));
 
         // then
-        assertThat(schedule.getTravelRoutes()).hasSize(2);
-        assertThat(schedule.getTravelRoutes())
-                .extracting(TravelRoute::getRouteOrder)
-                .containsExactly(1, 2);
+        verify(travelRouteBatchRepository).deleteRoutes(List.of(12L));
+        verify(travelRouteBatchRepository).updateRoutePlaces(List.of(new RouteRow(11L, 2, place2WithThumb.getPlaceId())));
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(schedule.getScheduleId()));
+        verify(travelScheduleRepository).increaseRouteVersion(schedule.getScheduleId());
+
+        ArgumentCaptor<List<TravelRoute>> captor = ArgumentCaptor.forClass(List.class);
+        verify(travelRouteRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(TravelRoute::getRouteOrder, TravelRoute::getTravelPlace)
+                .containsExactly(tuple(4, place3WithoutThumb));
+    }
+
+    @Test
+    @DisplayName("여행 루트 수정 시 변경된 루트가 없는 경우")
+    void updateTravelRoute_notChanged(){
+        // given
+        List<RouteRow> savedRoutes = List.of(
+                new RouteRow(10L, 1, place1WithThumb.getPlaceId()),
+                new RouteRow(11L, 2, place2WithThumb.getPlaceId())
+        );
+
+        List<RouteRequest> routeRequests = new ArrayList<>(List.of(
+                TravelRouteFixture.createRouteRequest(1, place1WithThumb.getPlaceId()),
+                TravelRouteFixture.createRouteRequest(2, place2WithThumb.getPlaceId())
+        ));
+
+        when(travelPlaceRepository.findExistingPlaceIds(anyCollection()))
+                .thenReturn(List.of(place1WithThumb.getPlaceId(), place2WithThumb.getPlaceId()));
+        when(travelRouteBatchRepository.findRoutes(anyLong())).thenReturn(savedRoutes);
+
+        // when
+        travelRouteService.updateTravelRouteInSchedule(schedule, routeRequests);
+
+        // then
+        verify(travelRouteBatchRepository, never()).deleteRoutes(any());
+        verify(travelRouteBatchRepository, never()).updateRoutePlaces(any());
+        verify(travelRouteRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(travelScheduleRepository, never()).increaseRouteVersion(anyLong());
+    }
+
+    @Test
+    @DisplayName("여행 루트 수정 시 요청 루트가 없어 저장된 루트 전체 삭제")
+    void updateTravelRoute_emptyRequest(){
+        // given
+        List<RouteRow> savedRoutes = List.of(
+                new RouteRow(10L, 1, place1WithThumb.getPlaceId()),
+                new RouteRow(11L, 2, place2WithThumb.getPlaceId())
+        );
+
+        when(travelRouteBatchRepository.findRoutes(anyLong())).thenReturn(savedRoutes);
+
+        // when
+        travelRouteService.updateTravelRouteInSchedule(schedule, null);
+
+        // then
+        verify(travelPlaceRepository, never()).findExistingPlaceIds(any());
+        verify(travelRouteBatchRepository).deleteRoutes(List.of(10L, 11L));
+        verify(travelRouteRepository, never()).saveAll(any());
     }
 
 
@@ -355,9 +444,8 @@ public class TravelRouteServiceTest {
                 TravelRouteFixture.createRouteRequest(2, place2WithThumb.getPlaceId())
         ));
 
-        when(travelPlaceRepository.findById(anyLong()))
-                .thenReturn(Optional.ofNullable(place1WithThumb))
-                .thenReturn(Optional.empty());
+        when(travelPlaceRepository.findExistingPlaceIds(anyCollection()))
+                .thenReturn(List.of(place1WithThumb.getPlaceId()));
 
         // when
         DataNotFoundException fail = assertThrows(DataNotFoundException.class,
@@ -365,6 +453,7 @@ public class TravelRouteServiceTest {
 
         // then
         assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.PLACE_NOT_FOUND);
+        verify(travelRouteBatchRepository, never()).findRoutes(any());
     }
 
 }
@@ -8,10 +8,14 @@ import com.triptune.member.fixture.MemberFixture;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.member.repository.MemberRepository;
 import com.triptune.profile.fixture.ProfileImageFixture;
+import com.triptune.schedule.cache.AttendeePermissionCache;
+import com.triptune.schedule.counter.MemberScheduleCounter;
+import com.triptune.schedule.counter.MemberScheduleCounter.ScheduleCounts;
 import com.triptune.schedule.fixture.ChatMessageFixture;
 import com.triptune.schedule.fixture.TravelAttendeeFixture;
 import com.triptune.schedule.fixture.TravelRouteFixture;
 import com.triptune.schedule.fixture.TravelScheduleFixture;
+import com.triptune.schedule.repository.dto.OverviewScheduleQueryDto;
 import com.triptune.schedule.repository.dto.ScheduleInfoQueryDto;
 import com.triptune.schedule.dto.request.ScheduleCreateRequest;
 import com.triptune.schedule.dto.request.RouteRequest;
@@ -23,10 +27,13 @@ import com.triptune.schedule.dto.response.ScheduleInfoResponse;
 import com.triptune.schedule.entity.ChatMessage;
 import com.triptune.schedule.entity.TravelAttendee;
 import com.triptune.schedule.entity.TravelSchedule;
+import com.triptune.schedule.event.AttendeeChangedEvent;
 import com.triptune.schedule.enums.AttendeePermission;
 import com.triptune.schedule.enums.AttendeeRole;
 import com.triptune.schedule.exception.ForbiddenScheduleException;
+import com.triptune.schedule.properties.ScheduleCardProperties;
 import com.triptune.schedule.repository.ChatMessageRepository;
+import com.triptune.schedule.repository.ScheduleCardRepository;
 import com.triptune.schedule.repository.TravelAttendeeRepository;
 import com.triptune.schedule.repository.TravelRouteRepository;
 import com.triptune.schedule.repository.TravelScheduleRepository;
@@ -35,7 +42,7 @@ import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.enums.ThemeType;
 import com.triptune.travel.fixture.TravelImageFixture;
 import com.triptune.travel.fixture.TravelPlaceFixture;
-import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.service.JungGuPlaceQueryService;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.response.page.SchedulePageResponse;
@@ -48,6 +55,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -68,11 +76,16 @@ public class TravelScheduleServiceTest {
     @Mock private TravelScheduleRepository travelScheduleRepository;
     @Mock private MemberRepository memberRepository;
     @Mock private TravelAttendeeRepository travelAttendeeRepository;
-    @Mock private TravelPlaceRepository travelPlaceRepository;
     @Mock private TravelRouteRepository travelRouteRepository;
     @Mock private ChatMessageRepository chatMessageRepository;
     @Mock private TravelRouteService travelRouteService;
     @Mock private S3ObjectManager s3ObjectManager;
+    @Mock private JungGuPlaceQueryService jungGuPlaceQueryService;
+    @Mock private MemberScheduleCounter memberScheduleCounter;
+    @Mock private ScheduleCardProperties scheduleCardProperties;
+    @Mock private ScheduleCardRepository scheduleCardRepository;
+    @Mock private AttendeePermissionCache attendeePermissionCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private TravelPlace place1WithThumb;
     private TravelPlace place2WithThumb;
@@ -165,7 +178,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, PageUtils.schedulePageable(1), schedules.size());
 
         when(travelScheduleRepository.findTravelSchedules(pageable, 1L)).thenReturn(schedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
         // when
@@ -215,7 +228,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findTravelSchedules(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(0);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(1, 0));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getAllSchedules(1, currentMember.getMemberId());
@@ -238,7 +251,7 @@ public class TravelScheduleServiceTest {
 
         when(travelScheduleRepository.findTravelSchedules(pageable, 1L))
                 .thenReturn(emptySchedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getAllSchedules(1, 1L);
@@ -251,6 +264,32 @@ public class TravelScheduleServiceTest {
         verify(travelRouteRepository, times(0)).findAllByScheduleId(any(), any());
     }
 
+    @Test
+    @DisplayName("내 일정 목록 조회 시 일정 카드 읽기 모델 사용")
+    void getAllSchedules_scheduleCard(){
+        // given
+        Member currentMember = MemberFixture.createNativeTypeMemberWithId(1L, "currentMember@email.com", defaultImage);
+
+        TravelSchedule schedule = TravelScheduleFixture.createTravelSchedule("역사 여행");
+        TravelAttendee author = TravelAttendeeFixture.createAuthorTravelAttendee(schedule, currentMember);
+
+        Pageable pageable = PageUtils.schedulePageable(1);
+        List<ScheduleInfoQueryDto> schedules = List.of(TravelScheduleFixture.createScheduleInfoQueryDto(schedule, author, author, null));
+        Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
+
+        when(scheduleCardProperties.enabled()).thenReturn(true);
+        when(scheduleCardRepository.findScheduleCards(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(1, 0));
+
+        // when
+        SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getAllSchedules(1, currentMember.getMemberId());
+
+        // then
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(response.getContent().get(0).getScheduleName()).isEqualTo(schedule.getScheduleName());
+        verify(travelScheduleRepository, never()).findTravelSchedules(any(), anyLong());
+    }
+
     @Test
     @DisplayName("내 일정 목록 조회 시 이미지 썸네일 없는 경우")
     void getAllSchedules_noImageThumbnail(){
@@ -281,7 +320,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findTravelSchedules(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getAllSchedules(1, currentMember.getMemberId());
@@ -346,7 +385,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findTravelSchedules(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getAllSchedules(1, currentMember.getMemberId());
@@ -412,7 +451,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findSharedTravelSchedules(pageable, 1L)).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(3);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
         // when
@@ -450,7 +489,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> emptySchedulePage = PageUtils.createPage(Collections.emptyList(), pageable, 0);
 
         when(travelScheduleRepository.findSharedTravelSchedules(pageable, 1L)).thenReturn(emptySchedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 0));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getSharedSchedules(1, 1L);
@@ -487,7 +526,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findSharedTravelSchedules(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(3);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getSharedSchedules(1, currentMember.getMemberId());
@@ -540,7 +579,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findSharedTravelSchedules(pageable, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(3);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.getSharedSchedules(1, currentMember.getMemberId());
@@ -588,11 +627,10 @@ public class TravelScheduleServiceTest {
         TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member1);
 
         Pageable pageable = PageUtils.scheduleModalPageable(1);
-        List<TravelSchedule> schedules = List.of(schedule1);
-        Page<TravelSchedule> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
+        List<OverviewScheduleQueryDto> schedules = List.of(TravelScheduleFixture.createOverviewScheduleQueryDto(schedule1, member1));
+        Page<OverviewScheduleQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.findEnableEditTravelSchedules(any(), anyLong())).thenReturn(schedulePage);
-        when(travelAttendeeRepository.findAuthorNicknameByScheduleId(anyLong())).thenReturn(member1.getNickname());
 
         // when
         Page<OverviewScheduleResponse> response = travelScheduleService.getEnableEditSchedules(1, 1L);
@@ -624,7 +662,7 @@ public class TravelScheduleServiceTest {
         TravelAttendeeFixture.createAuthorTravelAttendee(schedule3, member1);
 
         Pageable pageable = PageUtils.scheduleModalPageable(1);
-        Page<TravelSchedule> schedulePage = PageUtils.createPage(Collections.emptyList(), pageable, 0);
+        Page<OverviewScheduleQueryDto> schedulePage = PageUtils.createPage(Collections.emptyList(), pageable, 0);
 
         when(travelScheduleRepository.findEnableEditTravelSchedules(any(), anyLong())).thenReturn(schedulePage);
 
@@ -661,8 +699,7 @@ public class TravelScheduleServiceTest {
 
         when(travelScheduleRepository.searchTravelSchedules(pageable, keyword, currentMember.getMemberId()))
                 .thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 2));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
         // when
@@ -708,8 +745,7 @@ public class TravelScheduleServiceTest {
 
         when(travelScheduleRepository.searchTravelSchedules(pageable, keyword, currentMember.getMemberId()))
                 .thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(1);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(0);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(1, 0));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
         // when
@@ -736,7 +772,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> emptySchedulePage = PageUtils.createPage(Collections.emptyList(), pageable, 0);
 
         when(travelScheduleRepository.searchTravelSchedules(pageable, keyword, 1L)).thenReturn(emptySchedulePage);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(0, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.searchAllSchedules(1, keyword, 1L);
@@ -775,8 +811,7 @@ public class TravelScheduleServiceTest {
 
         when(travelScheduleRepository.searchTravelSchedules(pageable, keyword, currentMember.getMemberId()))
                 .thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response
@@ -826,8 +861,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.searchTravelSchedules(pageable, keyword, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(1);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(1);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(1, 1));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response
@@ -872,8 +906,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 2));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
         // when
@@ -913,7 +946,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> emptySchedulePage = PageUtils.createPage(Collections.emptyList(), pageable, 0);
 
         when(travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, 1L)).thenReturn(emptySchedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(2, 0));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response = travelScheduleService.searchSharedSchedules(1, keyword, 1L);
@@ -951,8 +984,7 @@ public class TravelScheduleServiceTest {
         Page<ScheduleInfoQueryDto> schedulePage = PageUtils.createPage(schedules, pageable, schedules.size());
 
         when(travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, currentMember.getMemberId())).thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(3);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(2);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(3, 2));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response
@@ -1004,8 +1036,7 @@ public class TravelScheduleServiceTest {
 
         when(travelScheduleRepository.searchSharedTravelSchedules(pageable, keyword, currentMember.getMemberId()))
                 .thenReturn(schedulePage);
-        when(travelScheduleRepository.countTravelSchedules(anyLong())).thenReturn(1);
-        when(travelScheduleRepository.countSharedTravelSchedules(anyLong())).thenReturn(1);
+        when(memberScheduleCounter.getCounts(anyLong())).thenReturn(new ScheduleCounts(1, 1));
 
         // when
         SchedulePageResponse<ScheduleInfoResponse> response
@@ -1045,6 +1076,7 @@ public class TravelScheduleServiceTest {
         // then
         verify(memberRepository, times(1)).findById(anyLong());
         verify(travelScheduleRepository, times(1)).save(any());
+        verify(memberScheduleCounter, times(1)).scheduleCreated(1L);
     }
 
     @Test
@@ -1088,7 +1120,7 @@ public class TravelScheduleServiceTest {
         Pageable pageable = PageUtils.defaultPageable(1);
 
         when(travelScheduleRepository.findById(any())).thenReturn(Optional.of(schedule));
-        when(travelPlaceRepository.findNearbyTravelPlacesFromJungGu(any()))
+        when(jungGuPlaceQueryService.findNearbyTravelPlaces(any()))
                 .thenReturn(PageUtils.createPage(places, pageable, 1));
         when(s3ObjectManager.generateS3ObjectUrl(place1Thumb.getS3ObjectKey())).thenReturn(place1ThumbUrl);
 
@@ -1119,7 +1151,7 @@ public class TravelScheduleServiceTest {
         Pageable pageable = PageUtils.defaultPageable(1);
 
         when(travelScheduleRepository.findById(any())).thenReturn(Optional.of(schedule));
-        when(travelPlaceRepository.findNearbyTravelPlacesFromJungGu(any()))
+        when(jungGuPlaceQueryService.findNearbyTravelPlaces(any()))
                 .thenReturn(PageUtils.createPage(Collections.emptyList(), pageable, 0));
 
         // when
@@ -1375,15 +1407,18 @@ public class TravelScheduleServiceTest {
         ChatMessage message3 = ChatMessageFixture.createChatMessage(1L, 2L, "hello3");
         List<ChatMessage> chatMessages = List.of(message1, message2, message3);
 
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(author)));
+        when(travelAttendeeRepository.findMemberIdsByScheduleId(anyLong())).thenReturn(List.of(1L, 2L));
         when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(chatMessages);
 
         // when
         assertDoesNotThrow(() -> travelScheduleService.deleteSchedule(1L, 1L));
 
         // then
+        verify(memberScheduleCounter, times(1)).scheduleDeleted(List.of(1L, 2L));
         verify(chatMessageRepository, times(1)).deleteAllByScheduleId(1L);
+        verify(eventPublisher, times(1)).publishEvent(new AttendeeChangedEvent(1L));
     }
 
     @Test
@@ -1399,8 +1434,8 @@ public class TravelScheduleServiceTest {
         TravelRouteFixture.createTravelRoute(schedule, placeWithoutThumb, 2);
         TravelRouteFixture.createTravelRoute(schedule, place2WithThumb, 3);
 
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(author));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(author)));
         when(chatMessageRepository.findAllByScheduleId(anyLong())).thenReturn(Collections.emptyList());
 
         // when
@@ -1423,8 +1458,8 @@ public class TravelScheduleServiceTest {
         TravelRouteFixture.createTravelRoute(schedule, placeWithoutThumb, 2);
         TravelRouteFixture.createTravelRoute(schedule, place2WithThumb, 3);
 
-        when(travelAttendeeRepository.findByTravelSchedule_ScheduleIdAndMember_MemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(guest));
+        when(attendeePermissionCache.get(anyLong(), anyLong()))
+                .thenReturn(Optional.of(TravelAttendeeFixture.createAttendeeAccess(guest)));
 
         // when
         ForbiddenScheduleException fail = assertThrows(ForbiddenScheduleException.class,
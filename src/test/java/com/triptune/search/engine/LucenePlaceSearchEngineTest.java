@@ -0,0 +1,121 @@
+package com.triptune.search.engine;
+
+import com.triptune.search.enums.SearchEngineType;
+import com.triptune.search.properties.PlaceSearchProperties;
+import com.triptune.travel.repository.dto.PlaceSearchDocumentQueryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LucenePlaceSearchEngineTest {
+
+    @TempDir
+    Path indexPath;
+
+    private LucenePlaceSearchEngine lucenePlaceSearchEngine;
+
+    @BeforeEach
+    void setUp(){
+        lucenePlaceSearchEngine = new LucenePlaceSearchEngine(new PlaceSearchProperties(SearchEngineType.LUCENE, indexPath.toString()));
+
+        lucenePlaceSearchEngine.rebuild(List.of(
+                createDocument(1L, "서울", "종로구", "관광지", "경복궁", "조선 왕조의 법궁", 37.5796, 126.9770),
+                createDocument(2L, "서울", "종로구", "음식점", "경복궁 근처 카페", "커피와 디저트", 37.5800, 126.9750),
+                createDocument(3L, "부산", "해운대구", "관광지", "해운대 해수욕장", "여름 바다", 35.1587, 129.1604)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        lucenePlaceSearchEngine.close();
+    }
+
+    private PlaceSearchDocumentQueryDto createDocument(Long placeId, String city, String district, String contentTypeName, String placeName, String description, double latitude, double longitude){
+        return PlaceSearchDocumentQueryDto.builder()
+                .placeId(placeId)
+                .country("대한민국")
+                .city(city)
+                .district(district)
+                .contentTypeName(contentTypeName)
+                .placeName(placeName)
+                .address(city + " " + district + " 테스트 주소")
+                .detailAddress("테스트 상세주소")
+                .description(description)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("여행지명 완전 일치 여행지를 먼저 조회")
+    void search_exactMatchFirst(){
+        // given, when
+        PlaceSearchResult response = lucenePlaceSearchEngine.search(PlaceSearchQuery.of("경복궁"), 0, 5);
+
+        // then
+        assertThat(lucenePlaceSearchEngine.isReady()).isTrue();
+        assertThat(response.totalHits()).isEqualTo(2);
+        assertThat(response.placeIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("지역명으로 조회")
+    void search_region(){
+        // given, when
+        PlaceSearchResult response = lucenePlaceSearchEngine.search(PlaceSearchQuery.of("부산"), 0, 5);
+
+        // then
+        assertThat(response.totalHits()).isEqualTo(1);
+        assertThat(response.placeIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("페이지 범위를 벗어난 경우 전체 건수만 반환")
+    void search_outOfPage(){
+        // given, when
+        PlaceSearchResult response = lucenePlaceSearchEngine.search(PlaceSearchQuery.of("경복궁"), 5, 5);
+
+        // then
+        assertThat(response.totalHits()).isEqualTo(2);
+        assertThat(response.placeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("위치와 함께 조회 시 점수가 같은 여행지는 가까운 순으로 조회")
+    void search_withLocation(){
+        // given
+        lucenePlaceSearchEngine.index(createDocument(4L, "서울", "중구", "관광지", "남산 전망대", "서울 전망", 37.5512, 126.9882));
+        lucenePlaceSearchEngine.index(createDocument(5L, "서울", "중구", "관광지", "남산 전망대", "서울 전망", 37.5600, 126.9900));
+
+        // when
+        PlaceSearchResult response = lucenePlaceSearchEngine.search(
+                PlaceSearchQuery.withLocation("남산 전망대", 37.5601, 126.9901), 0, 5);
+
+        // then
+        assertThat(response.totalHits()).isEqualTo(2);
+        assertThat(response.placeIds()).containsExactly(5L, 4L);
+    }
+
+    @Test
+    @DisplayName("여행지 변경, 삭제 시 색인 반영")
+    void indexAndDelete(){
+        // given, when
+        lucenePlaceSearchEngine.index(createDocument(3L, "부산", "해운대구", "관광지", "광안리 해수욕장", "여름 바다", 35.1532, 129.1187));
+        lucenePlaceSearchEngine.delete(1L);
+
+        // then
+        assertThat(lucenePlaceSearchEngine.search(PlaceSearchQuery.of("광안리"), 0, 5).placeIds()).containsExactly(3L);
+        assertThat(lucenePlaceSearchEngine.search(PlaceSearchQuery.of("해수욕장"), 0, 5).placeIds()).containsExactly(3L);
+        assertThat(lucenePlaceSearchEngine.search(PlaceSearchQuery.of("경복궁"), 0, 5).placeIds()).containsExactly(2L);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.triptune.travel.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.global.s3.S3ObjectManager;
+import com.triptune.travel.enums.CityType;
+import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.properties.PlaceCarouselProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceSimpleQueryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceCarouselCacheTest {
+
+    private PlaceCarouselCache placeCarouselCache;
+
+    @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private S3ObjectManager s3ObjectManager;
+
+    @BeforeEach
+    void setUp(){
+        placeCarouselCache = new PlaceCarouselCache(
+                new PlaceCarouselProperties(true, 60L),
+                travelPlaceRepository,
+                s3ObjectManager,
+                new ObjectMapper()
+        );
+    }
+
+    @AfterEach
+    void tearDown(){
+        placeCarouselCache.shutdown();
+    }
+
+    private PlaceSimpleQueryDto createPlaceSimpleQueryDto(Long placeId, String placeName, String thumbnailS3ObjectKey){
+        return PlaceSimpleQueryDto.builder()
+                .placeId(placeId)
+                .address("테스트 주소")
+                .detailAddress("테스트 상세주소")
+                .placeName(placeName)
+                .thumbnailS3ObjectKey(thumbnailS3ObjectKey)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("스냅샷 생성 전에는 조회 결과 없음")
+    void find_beforeRefresh(){
+        // given, when, then
+        assertThat(placeCarouselCache.findPopular(CityType.SEOUL)).isEmpty();
+        assertThat(placeCarouselCache.findRecommend(ThemeType.FOOD)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 지역, 테마의 캐러셀을 미리 만들어 조회")
+    void refresh(){
+        // given
+        when(travelPlaceRepository.findPopularTravelPlaces(any())).thenReturn(List.of());
+        when(travelPlaceRepository.findPopularTravelPlaces(CityType.SEOUL))
+                .thenReturn(List.of(createPlaceSimpleQueryDto(1L, "여행지1", "img/test/test1.jpg")));
+        when(travelPlaceRepository.findRecommendTravelPlaces(any())).thenReturn(List.of());
+        when(s3ObjectManager.generateS3ObjectUrl("img/test/test1.jpg")).thenReturn("https://test.com/img/test/test1.jpg");
+
+        // when
+        placeCarouselCache.refresh();
+
+        // then
+        PlaceCarouselCache.Carousel seoul = placeCarouselCache.findPopular(CityType.SEOUL).orElseThrow();
+        assertThat(seoul.places()).hasSize(1);
+        assertThat(seoul.places().get(0).getThumbnailUrl()).isEqualTo("https://test.com/img/test/test1.jpg");
+        assertThat(new String(seoul.body(), StandardCharsets.UTF_8))
+                .contains("\"success\":true")
+                .contains("\"placeName\":\"여행지1\"");
+
+        assertThat(placeCarouselCache.findRecommend(ThemeType.FOOD).orElseThrow().places()).isEmpty();
+        verify(travelPlaceRepository, times(CityType.values().length)).findPopularTravelPlaces(any());
+        verify(travelPlaceRepository, times(ThemeType.values().length)).findRecommendTravelPlaces(any());
+    }
+
+}
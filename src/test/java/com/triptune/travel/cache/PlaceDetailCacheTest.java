@@ -0,0 +1,270 @@
+package com.triptune.travel.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.triptune.common.event.RegionChangedEvent;
+import com.triptune.travel.dto.response.PlaceDetailResponse;
+import com.triptune.travel.dto.response.TravelImageResponse;
+import com.triptune.travel.event.TravelPlaceChangedEvent;
+import com.triptune.travel.properties.PlaceDetailCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceDetailCacheTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final List<String> LOOKUP_KEYS = List.of("place:detail:1", "place:detail-gen:1", "place:detail-gen:all");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp(){
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private PlaceDetailCache createCache(boolean enabled){
+        return new PlaceDetailCache(
+                new PlaceDetailCacheProperties(enabled, 100L, 60L, 600L),
+                redisTemplate,
+                redisMessageListenerContainer,
+                objectMapper,
+                meterRegistry
+        );
+    }
+
+    private PlaceDetailResponse createPlaceDetailResponse(Long placeId){
+        return PlaceDetailResponse.builder()
+                .placeId(placeId)
+                .placeType("관광지")
+                .country("대한민국")
+                .city("서울")
+                .district("강남구")
+                .placeName("여행지" + placeId)
+                .latitude(37.5)
+                .longitude(127.0)
+                .imageList(List.of(new TravelImageResponse(1L, "test1", "https://test.com/img/test1.jpg")))
+                .build();
+    }
+
+    private Function<Long, PlaceDetailResponse> countingLoader(AtomicInteger loadCount){
+        return placeId -> {
+            loadCount.incrementAndGet();
+            return createPlaceDetailResponse(placeId);
+        };
+    }
+
+
+    @Test
+    @DisplayName("캐시 비활성화 시 매번 loader 호출")
+    void get_disabled(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(false);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        placeDetailCache.get(1L, countingLoader(loadCount));
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("L1, L2 모두 없으면 DB 조회 후 Redis 에 저장하고, 이후에는 L1 에서 조회")
+    void get_loadAndCache(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(LOOKUP_KEYS)).thenReturn(Arrays.asList(null, "3", null));
+
+        // when
+        PlaceDetailResponse first = placeDetailCache.get(1L, countingLoader(loadCount));
+        PlaceDetailResponse second = placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(LOOKUP_KEYS), anyString(), eq("600"), eq("3"), eq(""));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PlaceDetailCache.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("place.detail.cache.redis").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1 에 없으면 Redis 에 저장된 JSON 으로 조회")
+    void get_redisHit() throws Exception {
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        String cached = objectMapper.writeValueAsString(createPlaceDetailResponse(1L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(LOOKUP_KEYS)).thenReturn(Arrays.asList(cached, null, null));
+
+        // when
+        PlaceDetailResponse response = placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isZero();
+        assertThat(response.getPlaceName()).isEqualTo("여행지1");
+        assertThat(response.getCity()).isEqualTo("서울");
+        assertThat(response.getImageList()).hasSize(1);
+        assertThat(response.getImageList().get(0).getImageUrl()).isEqualTo("https://test.com/img/test1.jpg");
+        assertThat(meterRegistry.get("place.detail.cache.redis").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회 결과 반환하고, 세대를 알 수 없으므로 Redis 에 저장하지 않음")
+    void get_redisFailure(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        // when
+        PlaceDetailResponse response = placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(response.getPlaceId()).isEqualTo(1L);
+        verify(redisTemplate).opsForValue();
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("여행지 변경 시 L1, L2 캐시 삭제")
+    void handlePlaceChanged(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // when
+        placeDetailCache.handlePlaceChanged(TravelPlaceChangedEvent.saved(1L));
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("place:detail:1", "place:detail-gen:1")), eq("600"));
+        verify(redisTemplate).convertAndSend(PlaceDetailCache.EVICT_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("북마크 수 변경은 상세 캐시를 삭제하지 않음")
+    void handlePlaceChanged_bookmarkCounted(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+
+        // when
+        placeDetailCache.handlePlaceChanged(TravelPlaceChangedEvent.bookmarkCounted(1L, 1));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("여행지 이미지 변경 시 L1, L2 캐시 삭제")
+    void handlePlaceChanged_imageChanged(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+
+        // when
+        placeDetailCache.handlePlaceChanged(TravelPlaceChangedEvent.imageChanged(1L));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("place:detail:1", "place:detail-gen:1")), eq("600"));
+    }
+
+    @Test
+    @DisplayName("지역 변경 시 L1, L2 캐시 전체 삭제")
+    @SuppressWarnings("unchecked")
+    void handleRegionChanged(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        Cursor<String> cursor = mock(Cursor.class, CALLS_REAL_METHODS);
+        doReturn(true, true, false).when(cursor).hasNext();
+        doReturn("place:detail:1", "place:detail:2").when(cursor).next();
+        doNothing().when(cursor).close();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        // when
+        placeDetailCache.handleRegionChanged(new RegionChangedEvent());
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(valueOperations).increment("place:detail-gen:all");
+        verify(redisTemplate).delete(List.of("place:detail:1", "place:detail:2"));
+        verify(redisTemplate).convertAndSend(PlaceDetailCache.EVICT_CHANNEL, "*");
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 L1 삭제 채널 구독")
+    void subscribe(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+
+        // when
+        placeDetailCache.subscribe();
+
+        // then
+        verify(redisMessageListenerContainer).addMessageListener(placeDetailCache, ChannelTopic.of(PlaceDetailCache.EVICT_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파한 삭제 메시지 수신 시 L1 만 삭제")
+    void onMessage(){
+        // given
+        PlaceDetailCache placeDetailCache = createCache(true);
+        AtomicInteger loadCount = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        DefaultMessage message = new DefaultMessage(
+                PlaceDetailCache.EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        placeDetailCache.onMessage(message, null);
+        placeDetailCache.get(1L, countingLoader(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
@@ -407,6 +407,25 @@ public class TravelControllerTest {
     }
 
 
+    @Test
+    @DisplayName("여행지 검색어 자동완성")
+    void getPlaceSuggestions() throws Exception {
+        // given
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, gangnam, attractionContentType, "여행지1", 1));
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, gangnam, attractionContentType, "여행지2", 5));
+
+        // when, then
+        mockMvc.perform(get("/api/travels/autocomplete")
+                        .param("keyword", "여행"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].name").value("여행지2"))
+                .andExpect(jsonPath("$.data[0].type").value("PLACE"))
+                .andExpect(jsonPath("$.data[1].name").value("여행지1"));
+    }
+
+
     @Test
     @DisplayName("회원의 위치를 기반하지 않고 여행지를 검색할 때, 검색 결과가 존재하는 경우")
     void searchTravelPlacesWithoutLocation_member() throws Exception {
@@ -0,0 +1,128 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JungGuDistanceIndexTest {
+
+    private JungGuDistanceIndex jungGuDistanceIndex;
+
+    @BeforeEach
+    void setUp(){
+        jungGuDistanceIndex = new JungGuDistanceIndex();
+    }
+
+    private PlaceIndexQueryDto createPlaceIndex(Long placeId, Double latitude, Double longitude){
+        return PlaceIndexQueryDto.builder()
+                .placeId(placeId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("전체 여행지 적재 후 중구 기준 거리순 조회")
+    void findPlaceIds(){
+        // given
+        jungGuDistanceIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.49850, 127.02820),      // 강남
+                createPlaceIndex(2L, 35.15830, 129.06010),      // 부산
+                createPlaceIndex(3L, 37.56420, 126.99800),      // 중구
+                createPlaceIndex(4L, null, null)
+        ));
+
+        // when
+        List<Long> response = jungGuDistanceIndex.findPlaceIds(0, 5);
+
+        // then
+        assertThat(jungGuDistanceIndex.isReady()).isTrue();
+        assertThat(jungGuDistanceIndex.size()).isEqualTo(3);
+        assertThat(response).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("거리가 같은 경우 여행지 ID 내림차순으로 조회")
+    void findPlaceIds_sameDistance(){
+        // given
+        jungGuDistanceIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.5, 127.0),
+                createPlaceIndex(2L, 37.5, 127.0)
+        ));
+
+        // when
+        List<Long> response = jungGuDistanceIndex.findPlaceIds(0, 5);
+
+        // then
+        assertThat(response).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("페이지 구간만큼 잘라서 조회")
+    void findPlaceIds_slice(){
+        // given
+        jungGuDistanceIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.56420, 126.99800),
+                createPlaceIndex(2L, 37.49850, 127.02820),
+                createPlaceIndex(3L, 35.15830, 129.06010)
+        ));
+
+        // when
+        List<Long> secondPage = jungGuDistanceIndex.findPlaceIds(2, 2);
+        List<Long> outOfRange = jungGuDistanceIndex.findPlaceIds(4, 2);
+
+        // then
+        assertThat(secondPage).containsExactly(3L);
+        assertThat(outOfRange).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여행지 추가 및 위치 변경 시 정렬 위치 반영")
+    void upsert(){
+        // given
+        jungGuDistanceIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.56420, 126.99800),
+                createPlaceIndex(2L, 37.49850, 127.02820)
+        ));
+
+        // when
+        jungGuDistanceIndex.upsert(createPlaceIndex(3L, 37.56400, 126.99770));
+        jungGuDistanceIndex.upsert(createPlaceIndex(1L, 35.15830, 129.06010));
+
+        // then
+        assertThat(jungGuDistanceIndex.size()).isEqualTo(3);
+        assertThat(jungGuDistanceIndex.findPlaceIds(0, 5)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("여행지 삭제 시 인덱스에서 제거")
+    void remove(){
+        // given
+        jungGuDistanceIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.56420, 126.99800),
+                createPlaceIndex(2L, 37.49850, 127.02820)
+        ));
+
+        // when
+        jungGuDistanceIndex.remove(1L);
+
+        // then
+        assertThat(jungGuDistanceIndex.size()).isEqualTo(1);
+        assertThat(jungGuDistanceIndex.findPlaceIds(0, 5)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전체 적재 전 인덱스 미준비 상태")
+    void isReady_beforeLoad(){
+        // given, when, then
+        assertThat(jungGuDistanceIndex.isReady()).isFalse();
+        assertThat(jungGuDistanceIndex.findPlaceIds(0, 5)).isEmpty();
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.enums.SuggestionType;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class PlaceAutocompleteIndexTest {
+
+    private PlaceAutocompleteIndex placeAutocompleteIndex;
+
+    @BeforeEach
+    void setUp(){
+        placeAutocompleteIndex = new PlaceAutocompleteIndex();
+    }
+
+    @AfterEach
+    void tearDown(){
+        placeAutocompleteIndex.shutdown();
+    }
+
+    private PlaceIndexQueryDto createPlaceIndex(Long placeId, String city, String district, String placeName, int bookmarkCnt){
+        return PlaceIndexQueryDto.builder()
+                .placeId(placeId)
+                .country("대한민국")
+                .city(city)
+                .district(district)
+                .placeName(placeName)
+                .latitude(37.5)
+                .longitude(127.0)
+                .bookmarkCnt(bookmarkCnt)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("접두사로 시작하는 여행지, 도시, 지역을 북마크 수 순으로 조회")
+    void suggest(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울특별시", "중구", "서울타워", 10),
+                createPlaceIndex(2L, "서울특별시", "종로구", "서울숲", 3),
+                createPlaceIndex(3L, "서울특별시", "서초구", "서초 공원", 1),
+                createPlaceIndex(4L, "부산광역시", "해운대구", "해운대 해수욕장", 100)
+        ));
+
+        // when
+        List<PlaceSuggestion> response = placeAutocompleteIndex.suggest("서");
+
+        // then
+        assertThat(placeAutocompleteIndex.isReady()).isTrue();
+        assertThat(response).extracting(PlaceSuggestion::name)
+                .containsExactly("서울특별시", "서울타워", "서울숲", "서초 공원", "서초구");
+        assertThat(response.get(0).type()).isEqualTo(SuggestionType.CITY);
+        assertThat(response.get(0).weight()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("압축된 간선 중간까지만 입력한 경우")
+    void suggest_partialEdge(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(
+                createPlaceIndex(1L, "부산광역시", "해운대구", "해운대 해수욕장", 100)
+        ));
+
+        // when
+        List<PlaceSuggestion> partial = placeAutocompleteIndex.suggest("해운");
+        List<PlaceSuggestion> full = placeAutocompleteIndex.suggest("해운대 해수욕장");
+        List<PlaceSuggestion> mismatch = placeAutocompleteIndex.suggest("해운대 바다");
+
+        // then
+        assertThat(partial).extracting(PlaceSuggestion::name).containsExactly("해운대 해수욕장", "해운대구");
+        assertThat(full).extracting(PlaceSuggestion::name).containsExactly("해운대 해수욕장");
+        assertThat(mismatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문 검색어는 대소문자 구분 없이 조회")
+    void suggest_ignoreCase(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(createPlaceIndex(1L, "서울특별시", "중구", "N Seoul Tower", 1)));
+
+        // when
+        List<PlaceSuggestion> response = placeAutocompleteIndex.suggest("n seoul");
+
+        // then
+        assertThat(response).extracting(PlaceSuggestion::name).containsExactly("N Seoul Tower");
+    }
+
+    @Test
+    @DisplayName("추천어는 최대 개수까지만 조회")
+    void suggest_limit(){
+        // given
+        List<PlaceIndexQueryDto> places = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            places.add(createPlaceIndex(i, "부산광역시", "해운대구", "여행지" + i, (int) i));
+        }
+        placeAutocompleteIndex.loadAll(places);
+
+        // when
+        List<PlaceSuggestion> response = placeAutocompleteIndex.suggest("여행지");
+
+        // then
+        assertThat(response).hasSize(PlaceAutocompleteIndex.SUGGESTION_LIMIT);
+        assertThat(response.get(0).name()).isEqualTo("여행지20");
+    }
+
+    @Test
+    @DisplayName("여행지 변경, 삭제 후 재생성 시 반영")
+    void upsertAndRemove(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울특별시", "중구", "남산타워", 1),
+                createPlaceIndex(2L, "서울특별시", "중구", "남산공원", 5)
+        ));
+
+        // when
+        placeAutocompleteIndex.upsert(createPlaceIndex(1L, "서울특별시", "중구", "남산서울타워", 10));
+        placeAutocompleteIndex.remove(2L);
+        placeAutocompleteIndex.rebuild();
+
+        // then
+        assertThat(placeAutocompleteIndex.suggest("남산")).extracting(PlaceSuggestion::name)
+                .containsExactly("남산서울타워");
+    }
+
+    @Test
+    @DisplayName("북마크 수 증감분을 가중치에 반영")
+    void addBookmarkCnt(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울특별시", "중구", "남산타워", 1),
+                createPlaceIndex(2L, "서울특별시", "중구", "남산공원", 5)
+        ));
+
+        // when
+        placeAutocompleteIndex.addBookmarkCnt(1L, 10);
+        placeAutocompleteIndex.addBookmarkCnt(3L, 10);
+        placeAutocompleteIndex.rebuild();
+
+        // then
+        assertThat(placeAutocompleteIndex.suggest("남산")).extracting(PlaceSuggestion::name, PlaceSuggestion::weight)
+                .containsExactly(tuple("남산타워", 11L), tuple("남산공원", 5L));
+    }
+
+    @Test
+    @DisplayName("일치하는 추천어가 없는 경우")
+    void suggest_emptyResult(){
+        // given
+        placeAutocompleteIndex.loadAll(List.of(createPlaceIndex(1L, "서울특별시", "중구", "남산타워", 1)));
+
+        // when
+        List<PlaceSuggestion> response = placeAutocompleteIndex.suggest("제주");
+
+        // then
+        assertThat(response).isEmpty();
+    }
+
+}
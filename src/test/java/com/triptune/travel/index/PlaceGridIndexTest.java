@@ -0,0 +1,139 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlaceGridIndexTest {
+
+    private PlaceGridIndex placeGridIndex;
+
+    @BeforeEach
+    void setUp(){
+        placeGridIndex = new PlaceGridIndex();
+    }
+
+    private PlaceIndexQueryDto createPlaceIndex(Long placeId, Double latitude, Double longitude){
+        return PlaceIndexQueryDto.builder()
+                .placeId(placeId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("전체 여행지 적재 후 반경 이내 여행지를 거리순으로 조회")
+    void findWithinRadius(){
+        // given
+        placeGridIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.5, 127.0281573537),
+                createPlaceIndex(2L, 37.477, 127.0),
+                createPlaceIndex(3L, 35.1796, 129.0756),        // 부산
+                createPlaceIndex(4L, null, null)
+        ));
+
+        // when
+        List<PlaceDistance> response = placeGridIndex.findWithinRadius(37.497, 127.0, 5);
+
+        // then
+        assertThat(placeGridIndex.isReady()).isTrue();
+        assertThat(placeGridIndex.size()).isEqualTo(3);
+        assertThat(response).extracting(PlaceDistance::placeId).containsExactly(2L, 1L);
+        assertThat(response.get(0).distance()).isLessThan(response.get(1).distance());
+    }
+
+    @Test
+    @DisplayName("거리가 같은 경우 여행지 ID 내림차순으로 조회")
+    void findWithinRadius_sameDistance(){
+        // given
+        placeGridIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.5, 127.0),
+                createPlaceIndex(2L, 37.5, 127.0)
+        ));
+
+        // when
+        List<PlaceDistance> response = placeGridIndex.findWithinRadius(37.5, 127.0, 5);
+
+        // then
+        assertThat(response).extracting(PlaceDistance::placeId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("격자 경계를 넘는 반경 내 여행지 조회")
+    void findWithinRadius_acrossCells(){
+        // given
+        placeGridIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.549, 126.999),
+                createPlaceIndex(2L, 37.551, 127.001)
+        ));
+
+        // when
+        List<PlaceDistance> response = placeGridIndex.findWithinRadius(37.55, 127.0, 1);
+
+        // then
+        assertThat(response).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("반경 이내 여행지가 없는 경우")
+    void findWithinRadius_emptyResult(){
+        // given
+        placeGridIndex.loadAll(List.of(createPlaceIndex(1L, 37.5, 127.0)));
+
+        // when
+        List<PlaceDistance> response = placeGridIndex.findWithinRadius(35.1796, 129.0756, 5);
+
+        // then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여행지 위치 변경 시 인덱스 반영")
+    void upsert(){
+        // given
+        placeGridIndex.loadAll(List.of(createPlaceIndex(1L, 37.5, 127.0)));
+
+        // when
+        placeGridIndex.upsert(createPlaceIndex(1L, 35.1796, 129.0756));
+
+        // then
+        assertThat(placeGridIndex.size()).isEqualTo(1);
+        assertThat(placeGridIndex.findWithinRadius(37.5, 127.0, 5)).isEmpty();
+        assertThat(placeGridIndex.findWithinRadius(35.1796, 129.0756, 5))
+                .extracting(PlaceDistance::placeId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("여행지 삭제 시 인덱스에서 제거")
+    void remove(){
+        // given
+        placeGridIndex.loadAll(List.of(
+                createPlaceIndex(1L, 37.5, 127.0),
+                createPlaceIndex(2L, 37.501, 127.0)
+        ));
+
+        // when
+        placeGridIndex.remove(1L);
+
+        // then
+        assertThat(placeGridIndex.size()).isEqualTo(1);
+        assertThat(placeGridIndex.findWithinRadius(37.5, 127.0, 5))
+                .extracting(PlaceDistance::placeId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전체 적재 전 인덱스 미준비 상태")
+    void isReady_beforeLoad(){
+        // given, when, then
+        assertThat(placeGridIndex.isReady()).isFalse();
+    }
+
+}
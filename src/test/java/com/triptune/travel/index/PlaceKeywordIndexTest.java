@@ -0,0 +1,136 @@
+package com.triptune.travel.index;
+
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlaceKeywordIndexTest {
+
+    private PlaceKeywordIndex placeKeywordIndex;
+
+    @BeforeEach
+    void setUp(){
+        placeKeywordIndex = new PlaceKeywordIndex();
+    }
+
+    private PlaceIndexQueryDto createPlaceIndex(Long placeId, String city, String district, String placeName){
+        return PlaceIndexQueryDto.builder()
+                .placeId(placeId)
+                .country("대한민국")
+                .city(city)
+                .district(district)
+                .placeName(placeName)
+                .latitude(37.5)
+                .longitude(127.0)
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("검색어를 포함하는 여행지를 정확도 순으로 조회")
+    void search(){
+        // given
+        placeKeywordIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울", "강남구", "강남 맛집"),
+                createPlaceIndex(2L, "서울", "중구", "강남"),
+                createPlaceIndex(3L, "서울", "강남구", "여행지"),
+                createPlaceIndex(4L, "서울", "중구", "역삼 강남역"),
+                createPlaceIndex(5L, "부산", "금정구", "여행지")
+        ));
+
+        // when
+        List<Long> response = placeKeywordIndex.search("강남");
+
+        // then
+        assertThat(placeKeywordIndex.isReady()).isTrue();
+        assertThat(response).containsExactly(2L, 1L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("정확도가 같은 경우 여행지 ID 내림차순으로 조회")
+    void search_sameAccuracy(){
+        // given
+        placeKeywordIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울", "중구", "여행지1"),
+                createPlaceIndex(2L, "서울", "중구", "여행지2")
+        ));
+
+        // when
+        List<Long> response = placeKeywordIndex.search("여행");
+
+        // then
+        assertThat(response).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("한 글자, 세 글자 초과 검색어로 조회")
+    void search_keywordLength(){
+        // given
+        placeKeywordIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울", "중구", "남산서울타워"),
+                createPlaceIndex(2L, "서울", "중구", "서울역"),
+                createPlaceIndex(3L, "부산", "해운대구", "해운대해수욕장")
+        ));
+
+        // when
+        List<Long> oneLetter = placeKeywordIndex.search("탑");
+        List<Long> longKeyword = placeKeywordIndex.search("남산서울타");
+        List<Long> notContinuous = placeKeywordIndex.search("남산타워");
+
+        // then
+        assertThat(oneLetter).isEmpty();
+        assertThat(longKeyword).containsExactly(1L);
+        assertThat(notContinuous).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문 검색 시 대소문자 구분 없이 조회")
+    void search_ignoreCase(){
+        // given
+        placeKeywordIndex.loadAll(List.of(createPlaceIndex(1L, "서울", "중구", "N Seoul Tower")));
+
+        // when
+        List<Long> response = placeKeywordIndex.search("seoul");
+
+        // then
+        assertThat(response).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("여행지 이름 변경 시 인덱스 반영")
+    void upsert(){
+        // given
+        placeKeywordIndex.loadAll(List.of(createPlaceIndex(1L, "서울", "중구", "남산타워")));
+
+        // when
+        placeKeywordIndex.upsert(createPlaceIndex(1L, "서울", "중구", "서울타워"));
+        placeKeywordIndex.upsert(createPlaceIndex(2L, "서울", "중구", "남산공원"));
+
+        // then
+        assertThat(placeKeywordIndex.search("남산")).containsExactly(2L);
+        assertThat(placeKeywordIndex.search("서울타워")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("여행지 삭제 시 인덱스에서 제거")
+    void remove(){
+        // given
+        placeKeywordIndex.loadAll(List.of(
+                createPlaceIndex(1L, "서울", "중구", "남산타워"),
+                createPlaceIndex(2L, "서울", "중구", "남산공원")
+        ));
+
+        // when
+        placeKeywordIndex.remove(1L);
+
+        // then
+        assertThat(placeKeywordIndex.search("남산")).containsExactly(2L);
+        assertThat(placeKeywordIndex.search("타워")).isEmpty();
+    }
+
+}
@@ -16,8 +16,10 @@ import com.triptune.travel.fixture.TravelPlaceFixture;
 import com.triptune.travel.repository.TravelImageRepository;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.travel.repository.dto.PlaceDistanceQueryDto;
+import com.triptune.travel.repository.dto.PlaceIndexQueryDto;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
 import com.triptune.travel.repository.dto.PlaceSimpleQueryDto;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -42,6 +45,7 @@ public class TravelPlaceRepositoryTest {
     @Autowired private DistrictRepository districtRepository;
     @Autowired private TravelImageRepository travelImageRepository;
     @Autowired private ApiContentTypeRepository apiContentTypeRepository;
+    @Autowired private EntityManager em;
 
     private Country country;
     private City city;
@@ -304,6 +308,49 @@ public class TravelPlaceRepositoryTest {
     }
 
 
+    @Test
+    @DisplayName("기본 여행지(중구) 조회 시 반경 내 여행지로 페이지가 채워지는 경우")
+    void findDefaultTravelPlacesByJungGu_withinPrefilterRadius(){
+        // given
+        TravelPlace jungguPlace = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlaceWithLocation(
+                        country,
+                        city,
+                        junggu,
+                        sportsContentType,
+                        "여행지1",
+                        37.56420,
+                        126.99800
+                )
+        );
+
+        City busan = cityRepository.save(CityFixture.createBusan(country));
+        District busanDistrict = districtRepository.save(DistrictFixture.createDistrict(busan, "금정구"));
+        travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlaceWithLocation(
+                        country,
+                        busan,
+                        busanDistrict,
+                        attractionContentType,
+                        "부산 여행지",
+                        35.15830,
+                        129.06010
+                )
+        );
+
+        Pageable pageable = PageRequest.of(0, 1);
+
+        // when
+        Page<PlaceQueryDto> response = travelPlaceRepository.findNearbyTravelPlacesFromJungGu(pageable);
+
+        // then
+        List<PlaceQueryDto> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        assertThat(content).hasSize(1);
+        assertThat(content.get(0).getPlaceName()).isEqualTo(jungguPlace.getPlaceName());
+    }
+
+
     @Test
     @DisplayName("기본 여행지(중구) 조회 시 검색결과가 존재하지 않는 경우")
     void findDefaultTravelPlacesByJungGu_emptyResult(){
@@ -739,4 +786,224 @@ public class TravelPlaceRepositoryTest {
         assertThat(response).isEmpty();
 
     }
+
+
+    @Test
+    @DisplayName("여행지 ID 목록으로 여행지 조회 시 요청한 ID 순서대로 반환")
+    void findTravelPlacesByIds(){
+        // given
+        TravelPlace gangnamPlace = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(
+                        country,
+                        city,
+                        gangnam,
+                        attractionContentType,
+                        "여행지1"
+                )
+        );
+        TravelImage gangnamThumb = travelImageRepository.save(TravelImageFixture.createTravelImage(gangnamPlace, "test1", true));
+        travelImageRepository.save(TravelImageFixture.createTravelImage(gangnamPlace, "test2", false));
+
+        TravelPlace jungguPlace = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(
+                        country,
+                        city,
+                        junggu,
+                        sportsContentType,
+                        "여행지2"
+                )
+        );
+
+        travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(
+                        country,
+                        city,
+                        junggu,
+                        sportsContentType,
+                        "여행지3"
+                )
+        );
+
+        // when
+        List<PlaceQueryDto> response = travelPlaceRepository.findTravelPlacesByIds(
+                List.of(jungguPlace.getPlaceId(), gangnamPlace.getPlaceId())
+        );
+
+        // then
+        assertThat(response).hasSize(2);
+        assertThat(response).extracting(PlaceQueryDto::getPlaceName)
+                .containsExactly(jungguPlace.getPlaceName(), gangnamPlace.getPlaceName());
+        assertThat(response).extracting(PlaceQueryDto::getThumbnailS3ObjectKey)
+                .containsExactly(null, gangnamThumb.getS3ObjectKey());
+    }
+
+    @Test
+    @DisplayName("여행지 ID 목록이 비어있는 경우")
+    void findTravelPlacesByIds_emptyIds(){
+        // given, when
+        List<PlaceQueryDto> response = travelPlaceRepository.findTravelPlacesByIds(List.of());
+
+        // then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 적재용 여행지 위치 정보 조회")
+    void findAllPlaceIndexes(){
+        // given
+        TravelPlace gangnamPlace = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlaceWithLocation(
+                        country,
+                        city,
+                        gangnam,
+                        attractionContentType,
+                        "여행지1",
+                        37.5,
+                        127.0281573537
+                )
+        );
+
+        // when
+        List<PlaceIndexQueryDto> response = travelPlaceRepository.findAllPlaceIndexes();
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getPlaceId()).isEqualTo(gangnamPlace.getPlaceId());
+        assertThat(response.get(0).getLatitude()).isEqualTo(gangnamPlace.getLatitude());
+        assertThat(response.get(0).getLongitude()).isEqualTo(gangnamPlace.getLongitude());
+    }
+
+    @Test
+    @DisplayName("검색어로 시작하는 여행지명을 북마크 수가 많은 순으로 조회")
+    void findPlaceNamesStartingWith(){
+        // given
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, gangnam, attractionContentType, "서울숲", 3));
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, junggu, attractionContentType, "서울타워", 10));
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, junggu, attractionContentType, "남산서울타워", 20));
+        travelPlaceRepository.save(TravelPlaceFixture.createTravelPlaceWithBookmarkCnt(country, city, gangnam, attractionContentType, "서울공원", 1));
+
+        // when
+        List<String> response = travelPlaceRepository.findPlaceNamesStartingWith("서울", 2);
+
+        // then
+        assertThat(response).containsExactly("서울타워", "서울숲");
+    }
+
+    @Test
+    @DisplayName("썸네일 이미지 등록 시 여행지 대표 이미지 반영")
+    void thumbnailS3ObjectKey(){
+        // given
+        TravelPlace place = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지1")
+        );
+        travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test1", false));
+        TravelImage thumbnail = travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test2", true));
+
+        // when
+        List<PlaceSimpleQueryDto> response = travelPlaceRepository.findPopularTravelPlaces(CityType.ALL);
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getThumbnailS3ObjectKey()).isEqualTo(thumbnail.getS3ObjectKey());
+    }
+
+    @Test
+    @DisplayName("대표 이미지가 비어있는 여행지에 썸네일 이미지 백필")
+    void backfillThumbnailS3ObjectKeys(){
+        // given
+        TravelPlace place1 = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지1")
+        );
+        TravelImage thumbnail = travelImageRepository.save(TravelImageFixture.createTravelImage(place1, "test1", true));
+
+        TravelPlace place2 = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지2")
+        );
+        travelImageRepository.save(TravelImageFixture.createTravelImage(place2, "test2", false));
+
+        em.flush();
+        em.createQuery("update TravelPlace p set p.thumbnailS3ObjectKey = null").executeUpdate();
+        em.clear();
+
+        // when
+        long response = travelPlaceRepository.backfillThumbnailS3ObjectKeys(place1.getPlaceId(), place2.getPlaceId());
+
+        // then
+        assertThat(response).isEqualTo(2);
+        assertThat(travelPlaceRepository.findById(place1.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isEqualTo(thumbnail.getS3ObjectKey());
+        assertThat(travelPlaceRepository.findById(place2.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("대표 이미지와 일치하지 않는 여행지의 썸네일 이미지 백필")
+    void backfillThumbnailS3ObjectKeys_staleKey(){
+        // given
+        TravelPlace place1 = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지1")
+        );
+        TravelImage thumbnail = travelImageRepository.save(TravelImageFixture.createTravelImage(place1, "test1", true));
+
+        TravelPlace place2 = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지2")
+        );
+        TravelImage synced = travelImageRepository.save(TravelImageFixture.createTravelImage(place2, "test2", true));
+
+        em.flush();
+        em.createQuery("update TravelPlace p set p.thumbnailS3ObjectKey = 'img/test/deleted.jpg' where p.placeId = :placeId")
+                .setParameter("placeId", place1.getPlaceId())
+                .executeUpdate();
+        em.clear();
+
+        // when
+        long response = travelPlaceRepository.backfillThumbnailS3ObjectKeys(place1.getPlaceId(), place2.getPlaceId());
+
+        // then
+        assertThat(response).isEqualTo(1);
+        assertThat(travelPlaceRepository.findById(place1.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isEqualTo(thumbnail.getS3ObjectKey());
+        assertThat(travelPlaceRepository.findById(place2.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isEqualTo(synced.getS3ObjectKey());
+    }
+
+    @Test
+    @DisplayName("대표 이미지 삭제 시 남은 썸네일 이미지로 교체")
+    void deleteThumbnailImage(){
+        // given
+        TravelPlace place = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지1")
+        );
+        TravelImage thumbnail1 = travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test1", true));
+        TravelImage thumbnail2 = travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test2", true));
+
+        // when
+        travelImageRepository.delete(thumbnail2);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(travelPlaceRepository.findById(place.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isEqualTo(thumbnail1.getS3ObjectKey());
+    }
+
+    @Test
+    @DisplayName("마지막 대표 이미지 삭제 시 대표 이미지 비움")
+    void deleteThumbnailImage_lastThumbnail(){
+        // given
+        TravelPlace place = travelPlaceRepository.save(
+                TravelPlaceFixture.createTravelPlace(country, city, gangnam, attractionContentType, "여행지1")
+        );
+        TravelImage thumbnail = travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test1", true));
+        travelImageRepository.save(TravelImageFixture.createTravelImage(place, "test2", false));
+
+        // when
+        travelImageRepository.delete(thumbnail);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(travelPlaceRepository.findById(place.getPlaceId()).orElseThrow().getThumbnailS3ObjectKey())
+                .isNull();
+    }
 }
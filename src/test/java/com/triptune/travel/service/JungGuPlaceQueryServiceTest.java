@@ -0,0 +1,69 @@
+package com.triptune.travel.service;
+
+import com.triptune.global.util.PageUtils;
+import com.triptune.travel.index.JungGuDistanceIndex;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import com.triptune.travel.repository.dto.PlaceQueryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JungGuPlaceQueryServiceTest {
+
+    @InjectMocks private JungGuPlaceQueryService jungGuPlaceQueryService;
+    @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private JungGuDistanceIndex jungGuDistanceIndex;
+
+
+    @Test
+    @DisplayName("거리순 인덱스가 준비된 경우 인덱스 구간의 여행지 조회")
+    void findNearbyTravelPlaces_withIndex(){
+        // given
+        Pageable pageable = PageUtils.travelPageable(1);
+        List<PlaceQueryDto> places = List.of(mock(PlaceQueryDto.class), mock(PlaceQueryDto.class));
+
+        when(jungGuDistanceIndex.isReady()).thenReturn(true);
+        when(jungGuDistanceIndex.findPlaceIds(0L, pageable.getPageSize())).thenReturn(List.of(2L, 1L));
+        when(jungGuDistanceIndex.size()).thenReturn(6);
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(2L, 1L))).thenReturn(places);
+
+        // when
+        Page<PlaceQueryDto> response = jungGuPlaceQueryService.findNearbyTravelPlaces(pageable);
+
+        // then
+        assertThat(response.getContent()).isEqualTo(places);
+        assertThat(response.getTotalElements()).isEqualTo(6);
+        assertThat(response.getTotalPages()).isEqualTo(2);
+        verify(travelPlaceRepository, never()).findNearbyTravelPlacesFromJungGu(any());
+    }
+
+    @Test
+    @DisplayName("거리순 인덱스가 준비되지 않은 경우 DB 에서 조회")
+    void findNearbyTravelPlaces_withoutIndex(){
+        // given
+        Pageable pageable = PageUtils.travelPageable(1);
+        Page<PlaceQueryDto> placePage = PageUtils.createPage(List.of(mock(PlaceQueryDto.class)), pageable, 1);
+
+        when(jungGuDistanceIndex.isReady()).thenReturn(false);
+        when(travelPlaceRepository.findNearbyTravelPlacesFromJungGu(pageable)).thenReturn(placePage);
+
+        // when
+        Page<PlaceQueryDto> response = jungGuPlaceQueryService.findNearbyTravelPlaces(pageable);
+
+        // then
+        assertThat(response).isSameAs(placePage);
+        verify(jungGuDistanceIndex, never()).findPlaceIds(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,70 @@
+package com.triptune.travel.service;
+
+import com.triptune.travel.properties.ThumbnailBackfillProperties;
+import com.triptune.travel.repository.TravelPlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ThumbnailBackfillServiceTest {
+
+    private ThumbnailBackfillService thumbnailBackfillService;
+
+    @Mock private TravelPlaceRepository travelPlaceRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp(){
+        thumbnailBackfillService = new ThumbnailBackfillService(
+                new ThumbnailBackfillProperties(true, 100),
+                travelPlaceRepository,
+                transactionTemplate
+        );
+    }
+
+
+    @Test
+    @DisplayName("여행지 ID 구간 단위로 대표 이미지 백필")
+    void backfill(){
+        // given
+        when(travelPlaceRepository.findMaxPlaceId()).thenReturn(250L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Long>>getArgument(0).doInTransaction(null));
+        when(travelPlaceRepository.backfillThumbnailS3ObjectKeys(anyLong(), anyLong())).thenReturn(10L);
+
+        // when
+        long response = thumbnailBackfillService.backfill();
+
+        // then
+        assertThat(response).isEqualTo(30);
+        verify(travelPlaceRepository).backfillThumbnailS3ObjectKeys(1L, 100L);
+        verify(travelPlaceRepository).backfillThumbnailS3ObjectKeys(101L, 200L);
+        verify(travelPlaceRepository).backfillThumbnailS3ObjectKeys(201L, 300L);
+    }
+
+    @Test
+    @DisplayName("여행지가 없는 경우 백필하지 않음")
+    void backfill_emptyPlace(){
+        // given
+        when(travelPlaceRepository.findMaxPlaceId()).thenReturn(null);
+
+        // when
+        long response = thumbnailBackfillService.backfill();
+
+        // then
+        assertThat(response).isEqualTo(0);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+}
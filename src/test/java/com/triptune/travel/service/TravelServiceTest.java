@@ -1,16 +1,23 @@
 package com.triptune.travel.service;
 
-import com.triptune.bookmark.repository.BookmarkRepository;
+import com.triptune.bookmark.cache.MemberBookmarkCache;
 import com.triptune.common.entity.*;
 import com.triptune.common.fixture.*;
 import com.triptune.global.message.ErrorCode;
 import com.triptune.global.exception.DataNotFoundException;
 import com.triptune.global.s3.S3ObjectManager;
+import com.triptune.global.util.CursorPage;
+import com.triptune.global.util.PageCursor;
 import com.triptune.global.util.PageUtils;
 import com.triptune.member.entity.Member;
 import com.triptune.member.fixture.MemberFixture;
 import com.triptune.profile.entity.ProfileImage;
 import com.triptune.profile.fixture.ProfileImageFixture;
+import com.triptune.search.engine.LucenePlaceSearchEngine;
+import com.triptune.search.engine.PlaceSearchQuery;
+import com.triptune.search.engine.PlaceSearchResult;
+import com.triptune.travel.cache.PlaceCarouselCache;
+import com.triptune.travel.cache.PlaceDetailCache;
 import com.triptune.travel.dto.response.*;
 import com.triptune.travel.fixture.TravelImageFixture;
 import com.triptune.travel.fixture.TravelPlaceFixture;
@@ -20,6 +27,12 @@ import com.triptune.travel.entity.TravelImage;
 import com.triptune.travel.entity.TravelPlace;
 import com.triptune.travel.enums.CityType;
 import com.triptune.travel.enums.ThemeType;
+import com.triptune.travel.enums.SuggestionType;
+import com.triptune.travel.index.PlaceDistance;
+import com.triptune.travel.index.PlaceAutocompleteIndex;
+import com.triptune.travel.index.PlaceGridIndex;
+import com.triptune.travel.index.PlaceKeywordIndex;
+import com.triptune.travel.index.PlaceSuggestion;
 import com.triptune.travel.repository.TravelPlaceRepository;
 import com.triptune.travel.repository.dto.PlaceDistanceQueryDto;
 import com.triptune.travel.repository.dto.PlaceQueryDto;
@@ -37,18 +50,27 @@ import org.springframework.data.domain.Pageable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class TravelServiceTest  {
     @InjectMocks private TravelService travelService;
     @Mock private TravelPlaceRepository travelPlaceRepository;
-    @Mock private BookmarkRepository bookmarkRepository;
+    @Mock private MemberBookmarkCache memberBookmarkCache;
     @Mock private S3ObjectManager s3ObjectManager;
+    @Mock private PlaceGridIndex placeGridIndex;
+    @Mock private JungGuPlaceQueryService jungGuPlaceQueryService;
+    @Mock private PlaceKeywordIndex placeKeywordIndex;
+    @Mock private LucenePlaceSearchEngine lucenePlaceSearchEngine;
+    @Mock private PlaceAutocompleteIndex placeAutocompleteIndex;
+    @Mock private PlaceCarouselCache placeCarouselCache;
+    @Mock private PlaceDetailCache placeDetailCache;
 
     private Country country;
     private City seoul;
@@ -62,6 +84,10 @@ public class TravelServiceTest  {
 
     @BeforeEach
     void setUp(){
+        // 캐시 미적용 시와 동일하게 loader 호출
+        lenient().when(placeDetailCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Function<Long, PlaceDetailResponse>>getArgument(1).apply(invocation.getArgument(0)));
+
         country = CountryFixture.createCountry();
         seoul = CityFixture.createSeoul(country);
         gangnam = DistrictFixture.createDistrict(seoul, "강남구");
@@ -112,8 +138,8 @@ public class TravelServiceTest  {
 
         when(travelPlaceRepository.findNearByTravelPlaces(pageable, request, 5)).thenReturn(mockResponse);
         when(s3ObjectManager.generateS3ObjectUrl(placeThumb.getS3ObjectKey())).thenReturn(placeThumbUrl);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithThumb.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithoutThumb.getPlaceId())).thenReturn(false);
+        when(memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(placeWithThumb.getPlaceId(), placeWithoutThumb.getPlaceId())))
+                .thenReturn(Set.of(placeWithThumb.getPlaceId()));
 
 
         // when
@@ -156,6 +182,98 @@ public class TravelServiceTest  {
         assertThat(response.getTotalElements()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("여행지 인덱스가 적재된 경우 인덱스로 반경 내 여행지를 찾고 페이지 데이터만 조회")
+    void getNearByTravelPlaces_withIndex(){
+        // given
+        TravelPlace nearPlace = TravelPlaceFixture.createTravelPlaceWithId(
+                1L,
+                country,
+                seoul,
+                gangnam,
+                attractionContentType,
+                "여행지1"
+        );
+        TravelImage nearThumb = TravelImageFixture.createTravelImage(nearPlace, "test1", true);
+        String nearThumbUrl = S3Fixture.createS3ObjectUrl(nearThumb.getS3ObjectKey());
+
+        TravelPlace farPlace = TravelPlaceFixture.createTravelPlaceWithId(
+                2L,
+                country,
+                seoul,
+                gangnam,
+                sportsContentType,
+                "여행지2"
+        );
+
+        PlaceLocationRequest request = TravelPlaceFixture.createTravelLocationRequest(37.4970465429, 127.0281573537);
+
+        when(placeGridIndex.isReady()).thenReturn(true);
+        when(placeGridIndex.findWithinRadius(request.getLatitude(), request.getLongitude(), 5)).thenReturn(List.of(
+                new PlaceDistance(nearPlace.getPlaceId(), 0.3),
+                new PlaceDistance(farPlace.getPlaceId(), 1.2)
+        ));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(1L, 2L))).thenReturn(List.of(
+                TravelPlaceFixture.createPlaceQueryDto(farPlace, null),
+                TravelPlaceFixture.createPlaceQueryDto(nearPlace, nearThumb.getS3ObjectKey())
+        ));
+        when(s3ObjectManager.generateS3ObjectUrl(nearThumb.getS3ObjectKey())).thenReturn(nearThumbUrl);
+
+        // when
+        Page<PlaceDistanceResponse> response = travelService.getNearByTravelPlaces(1, null, request);
+
+        // then
+        List<PlaceDistanceResponse> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(2);
+
+        assertThat(content.get(0).getPlaceId()).isEqualTo(nearPlace.getPlaceId());
+        assertThat(content.get(0).getDistance()).isEqualTo(0.3);
+        assertThat(content.get(0).getThumbnailUrl()).isEqualTo(nearThumbUrl);
+
+        assertThat(content.get(1).getPlaceId()).isEqualTo(farPlace.getPlaceId());
+        assertThat(content.get(1).getDistance()).isEqualTo(1.2);
+        assertThat(content.get(1).getThumbnailUrl()).isNull();
+
+        verify(travelPlaceRepository, never()).findNearByTravelPlaces(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여행지 인덱스가 적재된 경우 커서 이후 반경 내 여행지만 조회")
+    void getNearByTravelPlacesByCursor_withIndex(){
+        // given
+        TravelPlace farPlace = TravelPlaceFixture.createTravelPlaceWithId(
+                2L,
+                country,
+                seoul,
+                gangnam,
+                sportsContentType,
+                "여행지2"
+        );
+
+        PlaceLocationRequest request = TravelPlaceFixture.createTravelLocationRequest(37.4970465429, 127.0281573537);
+        String cursor = PageCursor.encode(0.3, 1L);
+
+        when(placeGridIndex.isReady()).thenReturn(true);
+        when(placeGridIndex.findWithinRadius(request.getLatitude(), request.getLongitude(), 5)).thenReturn(List.of(
+                new PlaceDistance(1L, 0.3),
+                new PlaceDistance(farPlace.getPlaceId(), 1.2)
+        ));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(2L))).thenReturn(List.of(
+                TravelPlaceFixture.createPlaceQueryDto(farPlace, null)
+        ));
+
+        // when
+        CursorPage<PlaceDistanceResponse> response = travelService.getNearByTravelPlacesByCursor(cursor, null, request);
+
+        // then
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.content().get(0).getPlaceId()).isEqualTo(farPlace.getPlaceId());
+        assertThat(response.content().get(0).getDistance()).isEqualTo(1.2);
+        assertThat(response.hasNext()).isFalse();
+
+        verify(travelPlaceRepository, never()).findNearByTravelPlacesByCursor(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("비회원의 위치를 기반으로 여행지 목록을 조회")
     void getNearByTravelPlaces_nonMember(){
@@ -270,8 +388,8 @@ public class TravelServiceTest  {
 
         when(travelPlaceRepository.searchTravelPlacesWithLocation(pageable, request)).thenReturn(mockResponse);
         when(s3ObjectManager.generateS3ObjectUrl(placeThumb.getS3ObjectKey())).thenReturn(placeThumbUrl);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithThumb.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithoutThumb.getPlaceId())).thenReturn(false);
+        when(memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(placeWithThumb.getPlaceId(), placeWithoutThumb.getPlaceId())))
+                .thenReturn(Set.of(placeWithThumb.getPlaceId()));
 
         // when
         Page<PlaceDistanceResponse> response = travelService.searchTravelPlacesWithLocation(1, 1L, request);
@@ -419,8 +537,8 @@ public class TravelServiceTest  {
 
         when(travelPlaceRepository.searchTravelPlacesWithoutLocation(pageable, request.getKeyword())).thenReturn(mockResponse);
         when(s3ObjectManager.generateS3ObjectUrl(placeThumb.getS3ObjectKey())).thenReturn(placeThumbUrl);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithThumb.getPlaceId())).thenReturn(true);
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, placeWithoutThumb.getPlaceId())).thenReturn(false);
+        when(memberBookmarkCache.findBookmarkedPlaceIds(1L, List.of(placeWithThumb.getPlaceId(), placeWithoutThumb.getPlaceId())))
+                .thenReturn(Set.of(placeWithThumb.getPlaceId()));
 
         // when
         Page<PlaceDistanceResponse> response = travelService.searchTravelPlacesWithoutLocation(1, 1L, request);
@@ -540,7 +658,7 @@ public class TravelServiceTest  {
         TravelImageFixture.createTravelImage(attractionPlace, "test2", false);
 
         when(travelPlaceRepository.findById(1L)).thenReturn(Optional.of(attractionPlace));
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, 1L)).thenReturn(true);
+        when(memberBookmarkCache.isBookmarked(1L, 1L)).thenReturn(true);
 
         // when
         PlaceDetailResponse response = travelService.getTravelPlaceDetails(1L, 1L);
@@ -596,7 +714,7 @@ public class TravelServiceTest  {
         TravelImageFixture.createTravelImage(lodgingPlace, "test1", true);
 
         when(travelPlaceRepository.findById(1L)).thenReturn(Optional.of(lodgingPlace));
-        when(bookmarkRepository.existsByMember_MemberIdAndTravelPlace_PlaceId(1L, 1L)).thenReturn(true);
+        when(memberBookmarkCache.isBookmarked(1L, 1L)).thenReturn(true);
 
 
         // when
@@ -659,6 +777,29 @@ public class TravelServiceTest  {
         assertThat(fail.getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("캐시된 여행지 상세 정보에 회원의 북마크 여부를 붙여 반환")
+    void getTravelDetails_cached(){
+        // given
+        PlaceDetailResponse cached = PlaceDetailResponse.builder()
+                .placeId(1L)
+                .placeName("여행지1")
+                .bookmarkStatus(false)
+                .build();
+
+        when(placeDetailCache.get(eq(1L), any())).thenReturn(cached);
+        when(memberBookmarkCache.isBookmarked(1L, 1L)).thenReturn(true);
+
+        // when
+        PlaceDetailResponse response = travelService.getTravelPlaceDetails(1L, 1L);
+
+        // then
+        assertThat(response.getPlaceName()).isEqualTo("여행지1");
+        assertThat(response.isBookmarkStatus()).isTrue();
+        assertThat(cached.isBookmarkStatus()).isFalse();
+        verify(travelPlaceRepository, never()).findById(anyLong());
+    }
+
 
 
     @Test
@@ -690,7 +831,7 @@ public class TravelServiceTest  {
                 TravelPlaceFixture.createPlaceQueryDto(placeWithoutThumb, null)
         );
 
-        when(travelPlaceRepository.findNearbyTravelPlacesFromJungGu(any()))
+        when(jungGuPlaceQueryService.findNearbyTravelPlaces(any()))
                 .thenReturn(PageUtils.createPage(mockResponse, pageable, mockResponse.size()));
         when(s3ObjectManager.generateS3ObjectUrl(placeThumb.getS3ObjectKey())).thenReturn(placeThumbUrl);
 
@@ -712,7 +853,7 @@ public class TravelServiceTest  {
         // given
         Pageable pageable = PageUtils.travelPageable(1);
 
-        when(travelPlaceRepository.findNearbyTravelPlacesFromJungGu(any()))
+        when(jungGuPlaceQueryService.findNearbyTravelPlaces(any()))
                 .thenReturn(PageUtils.createPage(Collections.emptyList(), pageable, 0));
 
         // when
@@ -772,6 +913,105 @@ public class TravelServiceTest  {
         assertThat(content.get(1).getThumbnailUrl()).isNull();
     }
 
+    @Test
+    @DisplayName("여행지 검색 시 키워드 인덱스 사용")
+    void searchTravelPlaces_withIndex(){
+        // given
+        String keyword = "여행";
+
+        TravelPlace place1 = TravelPlaceFixture.createTravelPlaceWithId(1L, country, seoul, gangnam, attractionContentType, "여행지1");
+        TravelPlace place2 = TravelPlaceFixture.createTravelPlaceWithId(2L, country, seoul, gangnam, attractionContentType, "여행지2");
+
+        when(placeKeywordIndex.isReady()).thenReturn(true);
+        when(placeKeywordIndex.search(keyword)).thenReturn(List.of(2L, 1L, 3L, 4L, 5L));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(2L, 1L, 3L, 4L))).thenReturn(List.of(
+                TravelPlaceFixture.createPlaceQueryDto(place2, null),
+                TravelPlaceFixture.createPlaceQueryDto(place1, null)
+        ));
+
+        // when
+        Page<PlaceResponse> response = travelService.searchTravelPlaces(1, keyword);
+
+        // then
+        List<PlaceResponse> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(content.get(0).getPlaceName()).isEqualTo(place2.getPlaceName());
+        assertThat(content.get(1).getPlaceName()).isEqualTo(place1.getPlaceName());
+        verify(travelPlaceRepository, never()).searchTravelPlaces(any(), any());
+    }
+
+    @Test
+    @DisplayName("위치 정보와 함께 여행지 검색 시 키워드 인덱스 사용")
+    void searchTravelPlacesWithLocation_withIndex(){
+        // given
+        TravelPlace place = TravelPlaceFixture.createTravelPlaceWithId(1L, country, seoul, gangnam, attractionContentType, "여행지1");
+        PlaceSearchRequest request = TravelPlaceFixture.createTravelSearchRequest(37.49, 127.0, "여행지");
+
+        when(placeKeywordIndex.isReady()).thenReturn(true);
+        when(placeKeywordIndex.search(request.getKeyword())).thenReturn(List.of(1L));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(1L)))
+                .thenReturn(List.of(TravelPlaceFixture.createPlaceQueryDto(place, null)));
+
+        // when
+        Page<PlaceDistanceResponse> response = travelService.searchTravelPlacesWithLocation(1, null, request);
+
+        // then
+        List<PlaceDistanceResponse> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(content.get(0).getPlaceName()).isEqualTo(place.getPlaceName());
+        assertThat(content.get(0).getDistance()).isNotNull();
+        verify(travelPlaceRepository, never()).searchTravelPlacesWithLocation(any(), any());
+    }
+
+    @Test
+    @DisplayName("위치 정보와 함께 여행지 검색 시 Lucene 검색 엔진에 위치 전달")
+    void searchTravelPlacesWithLocation_withLucene(){
+        // given
+        TravelPlace place = TravelPlaceFixture.createTravelPlaceWithId(1L, country, seoul, gangnam, attractionContentType, "여행지1");
+        PlaceSearchRequest request = TravelPlaceFixture.createTravelSearchRequest(37.49, 127.0, "여행지");
+
+        when(lucenePlaceSearchEngine.isReady()).thenReturn(true);
+        when(lucenePlaceSearchEngine.search(PlaceSearchQuery.withLocation(request.getKeyword(), 37.49, 127.0), 0L, 5))
+                .thenReturn(new PlaceSearchResult(List.of(1L), 1));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(1L)))
+                .thenReturn(List.of(TravelPlaceFixture.createPlaceQueryDto(place, null)));
+
+        // when
+        Page<PlaceDistanceResponse> response = travelService.searchTravelPlacesWithLocation(1, null, request);
+
+        // then
+        List<PlaceDistanceResponse> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        assertThat(content.get(0).getPlaceName()).isEqualTo(place.getPlaceName());
+        assertThat(content.get(0).getDistance()).isNotNull();
+        verify(travelPlaceRepository, never()).searchTravelPlacesWithLocation(any(), any());
+    }
+
+    @Test
+    @DisplayName("위치 정보 없이 여행지 검색 시 Lucene 검색 엔진 사용")
+    void searchTravelPlacesWithoutLocation_withLucene(){
+        // given
+        TravelPlace place = TravelPlaceFixture.createTravelPlaceWithId(1L, country, seoul, gangnam, attractionContentType, "여행지1");
+        PlaceSearchRequest request = TravelPlaceFixture.createTravelSearchRequest("여행지");
+
+        when(lucenePlaceSearchEngine.isReady()).thenReturn(true);
+        when(lucenePlaceSearchEngine.search(PlaceSearchQuery.of(request.getKeyword()), 0L, 5))
+                .thenReturn(new PlaceSearchResult(List.of(1L), 11));
+        when(travelPlaceRepository.findTravelPlacesByIds(List.of(1L)))
+                .thenReturn(List.of(TravelPlaceFixture.createPlaceQueryDto(place, null)));
+
+        // when
+        Page<PlaceDistanceResponse> response = travelService.searchTravelPlacesWithoutLocation(1, null, request);
+
+        // then
+        List<PlaceDistanceResponse> content = response.getContent();
+        assertThat(response.getTotalElements()).isEqualTo(11);
+        assertThat(content.get(0).getPlaceName()).isEqualTo(place.getPlaceName());
+        assertThat(content.get(0).getDistance()).isNull();
+        verify(placeKeywordIndex, never()).search(any());
+        verify(travelPlaceRepository, never()).searchTravelPlacesWithoutLocation(any(), any());
+    }
+
     @Test
     @DisplayName("여행지 검색 시 검색 결과 존재하지 않는 경우")
     void searchTravelPlacesWithLocationWithoutData(){
@@ -791,6 +1031,53 @@ public class TravelServiceTest  {
     }
 
 
+    @Test
+    @DisplayName("자동완성 인덱스로 검색어 추천")
+    void getPlaceSuggestions_withIndex(){
+        // given
+        when(placeAutocompleteIndex.isReady()).thenReturn(true);
+        when(placeAutocompleteIndex.suggest("서울")).thenReturn(List.of(
+                new PlaceSuggestion("서울특별시", SuggestionType.CITY, 14),
+                new PlaceSuggestion("서울타워", SuggestionType.PLACE, 10)
+        ));
+
+        // when
+        List<PlaceSuggestionResponse> response = travelService.getPlaceSuggestions("서울");
+
+        // then
+        assertThat(response).extracting(PlaceSuggestionResponse::getName).containsExactly("서울특별시", "서울타워");
+        assertThat(response).extracting(PlaceSuggestionResponse::getType).containsExactly(SuggestionType.CITY, SuggestionType.PLACE);
+        verify(travelPlaceRepository, never()).findPlaceNamesStartingWith(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동완성 인덱스가 준비되지 않은 경우 여행지명으로 검색어 추천")
+    void getPlaceSuggestions_withoutIndex(){
+        // given
+        when(placeAutocompleteIndex.isReady()).thenReturn(false);
+        when(travelPlaceRepository.findPlaceNamesStartingWith("서울", PlaceAutocompleteIndex.SUGGESTION_LIMIT))
+                .thenReturn(List.of("서울타워", "서울숲"));
+
+        // when
+        List<PlaceSuggestionResponse> response = travelService.getPlaceSuggestions(" 서울 ");
+
+        // then
+        assertThat(response).extracting(PlaceSuggestionResponse::getName).containsExactly("서울타워", "서울숲");
+        assertThat(response).extracting(PlaceSuggestionResponse::getType).containsOnly(SuggestionType.PLACE);
+    }
+
+    @Test
+    @DisplayName("검색어가 비어있는 경우 빈 목록 반환")
+    void getPlaceSuggestions_blankKeyword(){
+        // given, when
+        List<PlaceSuggestionResponse> response = travelService.getPlaceSuggestions(" ");
+
+        // then
+        assertThat(response).isEmpty();
+        verifyNoInteractions(placeAutocompleteIndex);
+    }
+
+
     @Test
     @DisplayName("인기 여행지 조회 - 전체")
     void findPopularTravelPlacesByCity_ALL(){
@@ -910,6 +1197,45 @@ public class TravelServiceTest  {
     }
 
 
+    @Test
+    @DisplayName("인기 여행지 조회 시 캐러셀 스냅샷 사용")
+    void findPopularTravelPlacesByCity_snapshot(){
+        // given
+        PlaceSimpleResponse place = PlaceSimpleResponse.builder()
+                .placeId(1L)
+                .placeName("여행지1")
+                .build();
+        byte[] body = "{\"success\":true}".getBytes();
+
+        when(placeCarouselCache.findPopular(CityType.SEOUL))
+                .thenReturn(Optional.of(new PlaceCarouselCache.Carousel(List.of(place), body)));
+
+        // when
+        List<PlaceSimpleResponse> response = travelService.getPopularTravelPlacesByCity(CityType.SEOUL);
+        byte[] responseBody = travelService.getPopularTravelPlacesBody(CityType.SEOUL);
+
+        // then
+        assertThat(response).containsExactly(place);
+        assertThat(responseBody).isSameAs(body);
+        verifyNoInteractions(travelPlaceRepository);
+    }
+
+    @Test
+    @DisplayName("캐러셀 스냅샷이 없는 경우 조회 결과를 직렬화")
+    void findRecommendTravelPlacesByTheme_withoutSnapshot(){
+        // given
+        byte[] body = "{\"success\":true}".getBytes();
+
+        when(travelPlaceRepository.findRecommendTravelPlaces(ThemeType.FOOD)).thenReturn(Collections.emptyList());
+        when(placeCarouselCache.serialize(Collections.emptyList())).thenReturn(body);
+
+        // when
+        byte[] response = travelService.getRecommendTravelPlacesBody(ThemeType.FOOD);
+
+        // then
+        assertThat(response).isSameAs(body);
+    }
+
     @Test
     @DisplayName("인기 여행지 조회 시 데이터 없는 경우")
     void findPopularTravelPlacesByCity_empty(){